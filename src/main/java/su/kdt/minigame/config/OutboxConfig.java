@@ -0,0 +1,21 @@
+package su.kdt.minigame.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+import lombok.Data;
+
+@Configuration
+@ConfigurationProperties(prefix = "app.outbox")
+@Data
+public class OutboxConfig {
+    /** 발행을 기다리는 세션 대기열 최대 수 - 가득 차면 이벤트를 넣은 스레드가 그 세션 대기열을 직접 비운다 (순서 유지) */
+    private int queueCapacity = 10_000;
+    /** 세션 대기열을 비우는 relay 스레드 수 (한 세션은 한 번에 한 스레드만 처리) */
+    private int relayThreads = 2;
+    /** relay가 한 번에 꺼내 발행하는 최대 이벤트 수 */
+    private int batchSize = 64;
+    /** 발행 실패 시 최대 시도 횟수 */
+    private int maxAttempts = 3;
+    /** 재시도 간격 (시도마다 배수로 증가) */
+    private long retryBackoffMs = 100;
+}
@@ -0,0 +1,29 @@
+package su.kdt.minigame.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+import lombok.Data;
+
+@Configuration
+@ConfigurationProperties(prefix = "app.quiz")
+@Data
+public class QuizConfig {
+    /** 점수판 갱신 요청을 모아 한 번에 보내는 시간 창 */
+    private long scoreboardWindowMs = 75;
+    /** 점수판 생성/전송 스레드 수 */
+    private int scoreboardThreads = 2;
+    /** 문제 은행 변경 확인 주기 (변경이 감지되면 스냅샷을 다시 만든다) */
+    private long questionBankRefreshMs = 30_000;
+    /** 변경 감지와 관계없이 문제 은행을 통째로 다시 읽는 주기 (건수/최대 id가 그대로인 내용 수정 반영) */
+    private long questionBankFullReloadMs = 600_000;
+    /** 답변 쓰기 지연 버퍼를 배치로 저장하는 주기 */
+    private long answerFlushMs = 200;
+    /** 답변 쓰기 지연 버퍼 최대 행 수 - 가득 차면 요청 스레드에서 바로 저장 */
+    private int answerBufferCapacity = 10_000;
+    /** 답변 쓰기 지연 저널 디렉터리 (상대 경로는 실행 디렉터리 기준, 비우면 저널 없이 메모리에만 보관) */
+    private String answerJournalDir = "data/write-behind";
+    /** 저널에 행을 쓸 때마다 디스크까지 동기화(fsync)할지 - false면 프로세스 종료만 견디고 OS/전원 장애 시 유실될 수 있다 */
+    private boolean answerJournalFsync = true;
+    /** 라운드 종료 처리가 이미 접수된 답변의 기록(커밋/저널)을 기다리는 최대 시간 */
+    private long answerSettleTimeoutMs = 2_000;
+}
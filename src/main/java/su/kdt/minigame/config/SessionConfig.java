@@ -9,4 +9,14 @@ import lombok.Data;
 @Data
 public class SessionConfig {
     private int maxPlayers = 10;
+    /** 세션별 직렬 실행기(라운드 전환 등)의 공유 스레드 수 */
+    private int serialExecutorThreads = 16;
+    /** 게임 마감 타이밍 휠의 틱 간격 */
+    private long deadlineTickMs = 100;
+    /** 게임 마감 타이밍 휠의 버킷 수 (2의 거듭제곱으로 올림) */
+    private int deadlineWheelSize = 512;
+    /** 로비 델타/스냅샷 전송 스레드 수 */
+    private int lobbyBroadcastThreads = 2;
+    /** 전송 대기 세션 수 한도 (세션당 대기 작업은 최대 1개로 합쳐짐) */
+    private int lobbyBroadcastQueueCapacity = 1024;
 }
\ No newline at end of file
@@ -0,0 +1,58 @@
+package su.kdt.minigame.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+import lombok.Data;
+import su.kdt.minigame.sse.SseDeliveryPolicy;
+
+import java.util.HashMap;
+import java.util.Map;
+
+@Configuration
+@ConfigurationProperties(prefix = "app.sse")
+@Data
+public class SseConfig {
+    /** 구독자별 송신 큐 최대 길이 - 초과 시 즉시 퇴출 */
+    private int queueCapacity = 256;
+    /** 이 길이 이상이면 DROP 정책 적용 + 지연 구독자로 간주 */
+    private int highWaterMark = 32;
+    /** high-water mark 이상 상태가 이 시간 동안 지속되면 퇴출 */
+    private long evictAfterMs = 10_000;
+    /** 송신 전용 writer 스레드 수 */
+    private int writerThreads = 4;
+    /** writer가 한 번에 비우는 최대 프레임 수 (구독자 간 공정성) */
+    private int drainBatchSize = 16;
+    /** 연결마다 하트비트를 보내는 주기 */
+    private long heartbeatIntervalMs = 5_000;
+    /** 하트비트 타이밍 휠 슬롯 수 - 틱마다 한 슬롯의 연결만 처리 */
+    private int heartbeatSlots = 25;
+    /** 세션별 재전송 버퍼에 보관하는 최근 이벤트 수 (Last-Event-ID) */
+    private int replayCapacity = 128;
+    /** 발행/재접속이 없는 세션의 재전송 버퍼 보관 시간 */
+    private long replayRetentionMs = 600_000;
+    /** 노드 간 이벤트 버스 (local: 단일 노드, redis: Redis pub/sub) */
+    private String bus = "local";
+    /** Redis 이벤트 버스 토픽 */
+    private String busTopic = "minigame:sse:events";
+    /** 이벤트 이름별 정책 (미지정 시 QUEUE) */
+    private Map<String, SseDeliveryPolicy> policies = new HashMap<>(Map.of(
+            "heartbeat", SseDeliveryPolicy.DROP,
+            "scoreboard", SseDeliveryPolicy.COALESCE,
+            "lobby-update", SseDeliveryPolicy.COALESCE,
+            "members-update", SseDeliveryPolicy.COALESCE,
+            "ready-status", SseDeliveryPolicy.COALESCE,
+            "session-state", SseDeliveryPolicy.COALESCE
+    ));
+
+    /** 휠의 틱 간격 (주기 / 슬롯 수) */
+    public long getHeartbeatTickMs() {
+        return Math.max(1, heartbeatIntervalMs / Math.max(1, heartbeatSlots));
+    }
+
+    public SseDeliveryPolicy policyFor(String eventName) {
+        if (eventName == null) {
+            return SseDeliveryPolicy.DROP; // 주석 프레임
+        }
+        return policies.getOrDefault(eventName, SseDeliveryPolicy.QUEUE);
+    }
+}
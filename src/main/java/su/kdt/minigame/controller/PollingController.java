@@ -34,7 +34,7 @@ public class PollingController {
     public ResponseEntity<Map<String, Object>> getSessionState(@PathVariable Long sessionId) {
         try {
             Map<String, Object> sessionState = gameLifecycleService.syncGameState(sessionId, "polling-client");
-            Map<String, Object> sseStatus = sseService.getSessionStatus(sessionId);
+            SSEService.SessionStatus sseStatus = sseService.getSessionStatus(sessionId);
             
             Map<String, Object> response = new HashMap<>();
             response.put("session", sessionState);
@@ -11,6 +11,7 @@ import org.springframework.web.bind.annotation.*;
 import su.kdt.minigame.domain.ReactionResult;
 import su.kdt.minigame.domain.ReactionRound;
 import su.kdt.minigame.service.ReactionGameService;
+import su.kdt.minigame.support.RequestIngressTimeFilter;
 import su.kdt.minigame.support.UidResolverFilter;
 
 import java.util.List;
@@ -51,10 +52,10 @@ public class ReactionGameController {
     ) {
         String userUidStr = (String) httpRequest.getAttribute(UidResolverFilter.ATTR_UID);
         Long userId = Long.valueOf(userUidStr);
-        ReactionResult result = reactionGameService.registerClick(roundId, userId);
+        ReactionResult result = reactionGameService.registerClick(roundId, userId, RequestIngressTimeFilter.ingressNanos(httpRequest));
         
+        // 결과는 라운드 종료 때 한 번에 저장되므로 클릭 응답에는 결과 id가 없다
         Map<String, Object> response = Map.of(
-            "resultId", result.getResultId(),
             "userUid", result.getUserUid(),
             "clickedAt", result.getClickedAt() != null ? result.getClickedAt().toEpochMilli() : 0,
             "deltaMs", result.getDeltaMs() != null ? result.getDeltaMs() : -1,
@@ -72,10 +73,10 @@ public class ReactionGameController {
     ) {
         String userUidStr = (String) httpRequest.getAttribute(UidResolverFilter.ATTR_UID);
         Long userId = Long.valueOf(userUidStr);
-        ReactionResult result = reactionGameService.registerSessionClick(sessionId, userId);
+        ReactionResult result = reactionGameService.registerSessionClick(sessionId, userId, RequestIngressTimeFilter.ingressNanos(httpRequest));
         
+        // 결과는 라운드 종료 때 한 번에 저장되므로 클릭 응답에는 결과 id가 없다
         Map<String, Object> response = Map.of(
-            "resultId", result.getResultId(),
             "userUid", result.getUserUid(),
             "clickedAt", result.getClickedAt() != null ? result.getClickedAt().toEpochMilli() : 0,
             "deltaMs", result.getDeltaMs() != null ? result.getDeltaMs() : -1,
@@ -6,7 +6,9 @@ import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import su.kdt.minigame.service.LobbyBroadcastService;
 import su.kdt.minigame.service.SSEService;
+import su.kdt.minigame.sse.SseChannel;
 import su.kdt.minigame.support.UidResolverFilter;
 
 import jakarta.servlet.http.HttpServletRequest;
@@ -19,25 +21,32 @@ import java.io.IOException;
 public class SSEController {
 
     private final SSEService sseService;
+    private final LobbyBroadcastService lobbyBroadcastService;
 
     @GetMapping(value = "/sessions/{sessionId}/subscribe", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
     public SseEmitter subscribeToSession(
             @PathVariable Long sessionId,
+            @RequestHeader(value = "Last-Event-ID", required = false) String lastEventId,
             HttpServletRequest request) {
         
         String userUid = (String) request.getAttribute(UidResolverFilter.ATTR_UID);
         
-        log.info("[SSE] User {} subscribing to session {}", userUid, sessionId);
+        log.info("[SSE] User {} subscribing to session {} (Last-Event-ID: {})", userUid, sessionId, lastEventId);
         
         SseEmitter emitter = new SseEmitter(600_000L); // 10분 타임아웃
         
         try {
-            sseService.addSubscriber(sessionId, userUid, emitter);
-            
             // 초기 연결 확인 메시지
             emitter.send(SseEmitter.event()
                     .name("connected")
                     .data("{ \"status\": \"connected\", \"sessionId\": " + sessionId + " }"));
+
+            // 재접속이면 Last-Event-ID 이후 누락 이벤트를 이어서 전송
+            sseService.addSubscriber(sessionId, userUid, emitter, lastEventId);
+            // 최초 구독이면 로비 전체 스냅샷 1회 (이후 변경은 lobby-delta로 전송)
+            if (lastEventId == null) {
+                lobbyBroadcastService.sendSnapshot(sessionId, userUid, SseChannel.SESSION);
+            }
                     
         } catch (IOException e) {
             log.error("[SSE] Failed to send initial message to user {} in session {}", userUid, sessionId, e);
@@ -65,6 +74,7 @@ public class SSEController {
     @GetMapping(value = "/reaction/{sessionId}/subscribe", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
     public SseEmitter subscribeToReactionGame(
             @PathVariable Long sessionId,
+            @RequestHeader(value = "Last-Event-ID", required = false) String lastEventId,
             HttpServletRequest request) {
         
         String userUid = (String) request.getAttribute(UidResolverFilter.ATTR_UID);
@@ -74,11 +84,15 @@ public class SSEController {
         SseEmitter emitter = new SseEmitter(600_000L); // 10분 타임아웃
         
         try {
-            sseService.addReactionSubscriber(sessionId, userUid, emitter);
-            
             emitter.send(SseEmitter.event()
                     .name("reaction-connected")
                     .data("{ \"status\": \"connected\", \"sessionId\": " + sessionId + ", \"type\": \"reaction\" }"));
+
+            sseService.addReactionSubscriber(sessionId, userUid, emitter, lastEventId);
+            // 최초 구독이면 로비 전체 스냅샷 1회 (이후 변경은 lobby-delta로 전송)
+            if (lastEventId == null) {
+                lobbyBroadcastService.sendSnapshot(sessionId, userUid, SseChannel.REACTION);
+            }
                     
         } catch (IOException e) {
             log.error("[SSE] Failed to send initial reaction message to user {} in session {}", userUid, sessionId, e);
@@ -95,6 +109,7 @@ public class SSEController {
     @GetMapping(value = "/quiz/{sessionId}/subscribe", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
     public SseEmitter subscribeToQuizGame(
             @PathVariable Long sessionId,
+            @RequestHeader(value = "Last-Event-ID", required = false) String lastEventId,
             HttpServletRequest request) {
         
         String userUid = (String) request.getAttribute(UidResolverFilter.ATTR_UID);
@@ -104,11 +119,15 @@ public class SSEController {
         SseEmitter emitter = new SseEmitter(600_000L); // 10분 타임아웃
         
         try {
-            sseService.addQuizSubscriber(sessionId, userUid, emitter);
-            
             emitter.send(SseEmitter.event()
                     .name("quiz-connected")
                     .data("{ \"status\": \"connected\", \"sessionId\": " + sessionId + ", \"type\": \"quiz\" }"));
+
+            sseService.addQuizSubscriber(sessionId, userUid, emitter, lastEventId);
+            // 최초 구독이면 로비 전체 스냅샷 1회 (이후 변경은 lobby-delta로 전송)
+            if (lastEventId == null) {
+                lobbyBroadcastService.sendSnapshot(sessionId, userUid, SseChannel.QUIZ);
+            }
                     
         } catch (IOException e) {
             log.error("[SSE] Failed to send initial quiz message to user {} in session {}", userUid, sessionId, e);
@@ -122,6 +141,26 @@ public class SSEController {
         return emitter;
     }
 
+    /**
+     * 클라이언트가 lobby-delta 버전 누락을 감지했을 때 호출 - 전체 스냅샷을 요청자에게만 다시 보낸다.
+     */
+    @PostMapping("/sessions/{sessionId}/lobby/resync")
+    public ResponseEntity<Void> resyncLobby(
+            @PathVariable Long sessionId,
+            @RequestParam(value = "type", required = false) String type,
+            @RequestParam(value = "version", required = false) Long version,
+            HttpServletRequest request) {
+
+        String userUid = (String) request.getAttribute(UidResolverFilter.ATTR_UID);
+        log.info("[SSE] User {} reported lobby version gap in session {} (client version: {})", userUid, sessionId, version);
+
+        SseChannel channel = "quiz".equalsIgnoreCase(type) ? SseChannel.QUIZ
+                : "reaction".equalsIgnoreCase(type) ? SseChannel.REACTION
+                : SseChannel.SESSION;
+        lobbyBroadcastService.sendSnapshot(sessionId, userUid, channel);
+        return ResponseEntity.accepted().build();
+    }
+
     @GetMapping("/sessions/{sessionId}/status")
     public ResponseEntity<Object> getSessionStatus(@PathVariable Long sessionId) {
         try {
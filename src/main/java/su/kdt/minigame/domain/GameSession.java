@@ -64,6 +64,10 @@ public class GameSession {
     @Column(name = "pin_hash")
     private String pinHash;
 
+    // 퀴즈 문제 덱: 라운드 순서대로 문제 id를 쉼표로 이어 붙인 값
+    @Column(name = "question_deck", columnDefinition = "TEXT")
+    private String questionDeck;
+
     // 생성자에서 totalRounds와 category를 받도록 수정
     public GameSession(Long appointmentId, GameType gameType, Long hostId, Long selectedPenaltyId, String penaltyText, Integer totalRounds, String category) {
         this.appointmentId = appointmentId;
@@ -84,6 +88,10 @@ public class GameSession {
         this.pinHash = pinHash;
     }
 
+    public void assignQuestionDeck(String questionDeck) {
+        this.questionDeck = questionDeck;
+    }
+
     public void start() {
         if (this.status == Status.WAITING) {
             this.status = Status.IN_PROGRESS;
@@ -13,7 +13,8 @@ import java.time.Instant;
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class QuizAnswer {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "quiz_answer_seq")
+    @SequenceGenerator(name = "quiz_answer_seq", sequenceName = "quiz_answer_seq", allocationSize = 50) // id를 미리 받아 INSERT 배치 가능
     @Column(name = "answer_id") // ERD에 명시된 컬럼명과 일치
     private Long id;
 
@@ -65,6 +66,21 @@ public class QuizAnswer {
         }
     }
 
+    // 쓰기 지연 버퍼에서 복원 (제출 시각/채점 결과 그대로)
+    public static QuizAnswer restore(QuizRound round, Long userId, Integer choiceIndex, String answerText,
+                                     Instant submittedAt, boolean isCorrect, int score, Long responseTimeMs) {
+        QuizAnswer answer = new QuizAnswer();
+        answer.round = round;
+        answer.userId = userId;
+        answer.choiceIndex = choiceIndex;
+        answer.answerText = answerText;
+        answer.submittedAt = submittedAt;
+        answer.isCorrect = isCorrect;
+        answer.score = score;
+        answer.responseTimeMs = responseTimeMs;
+        return answer;
+    }
+
     // 점수 부여 메서드
     public void grade(boolean isCorrect, int score) {
         this.isCorrect = isCorrect;
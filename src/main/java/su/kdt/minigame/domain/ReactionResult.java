@@ -17,7 +17,8 @@ import java.time.Instant;
 public class ReactionResult {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "reaction_result_seq")
+    @SequenceGenerator(name = "reaction_result_seq", sequenceName = "reaction_result_seq", allocationSize = 50) // id를 미리 받아 INSERT 배치 가능
     @Column(name = "result_id")
     private Long resultId;
 
@@ -0,0 +1,126 @@
+package su.kdt.minigame.event;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import su.kdt.minigame.sse.SseChannel;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 게임 이벤트 트랜잭션 아웃박스
+ *
+ * 트랜잭션 안에서 발행한 이벤트는 해당 트랜잭션에 묶어 기록만 해 두고,
+ * 커밋이 끝난 뒤 OutboxRelay의 세션 대기열에 넣어 배치로 발행한다. 롤백되면 이벤트도 버려진다.
+ * 따라서 DB 커넥션을 잡은 동안에는 SSE 팬아웃이 일어나지 않고,
+ * 클라이언트가 아직 커밋되지 않은 상태를 먼저 보는 일도 없다.
+ *
+ * 트랜잭션 밖(타이머 스레드 등)에서 호출하거나 committed로 기록한 이벤트는 기다리지 않고 같은 세션 대기열에 바로 넣으므로,
+ * 한 세션의 모든 이벤트(점수판/로비 델타 포함)는 대기열에 들어간 순서대로 나간다.
+ */
+@Slf4j
+@Component
+public class GameEventOutbox {
+
+    private static final Object RESOURCE_KEY = GameEventOutbox.class.getName() + ".PENDING";
+
+    private final OutboxRelay relay;
+    private final Timer transactionTimer;
+    private final Counter discardedCounter;
+
+    public GameEventOutbox(OutboxRelay relay, MeterRegistry meterRegistry) {
+        this.relay = relay;
+        this.transactionTimer = Timer.builder("outbox.tx.open")
+                .description("첫 이벤트 기록부터 커밋까지 걸린 트랜잭션 시간")
+                .register(meterRegistry);
+        this.discardedCounter = Counter.builder("outbox.discarded")
+                .description("롤백으로 폐기된 이벤트 수")
+                .register(meterRegistry);
+    }
+
+    public void session(Long sessionId, String eventName, Object data) {
+        record(sessionId, SseChannel.SESSION, eventName, data, null);
+    }
+
+    public void reaction(Long sessionId, String eventName, Object data) {
+        record(sessionId, SseChannel.REACTION, eventName, data, null);
+    }
+
+    public void quiz(Long sessionId, String eventName, Object data) {
+        record(sessionId, SseChannel.QUIZ, eventName, data, null);
+    }
+
+    /**
+     * 같은 세션/채널/이벤트 이름의 미발행 이벤트가 있으면 최신 것만 발행한다 (상태 스냅샷형 이벤트용).
+     */
+    public void latest(Long sessionId, SseChannel channel, String eventName, Object data) {
+        record(sessionId, channel, eventName, data, eventName);
+    }
+
+    /**
+     * 이미 커밋된 상태로 만든 이벤트(점수판, 로비 델타 등)를 트랜잭션에 묶지 않고 세션 대기열에 바로 넣는다.
+     * 커밋 후 콜백 안에서도 유실되지 않는다. dedup이 true이면 아직 발행되지 않은 같은 이벤트는 최신 것만 나간다.
+     */
+    public void committed(Long sessionId, SseChannel channel, String eventName, Object data, boolean dedup) {
+        relay.publishNow(new OutboxEvent(sessionId, channel, eventName, data, dedup ? eventName : null));
+    }
+
+    /**
+     * 세션의 한 사용자에게만 보낼 이미 커밋된 상태의 이벤트 (로비 스냅샷 등). 같은 세션 대기열 순서를 따른다.
+     */
+    public void committedToUser(Long sessionId, String userUid, SseChannel channel, String eventName, Object data) {
+        relay.publishNow(new OutboxEvent(sessionId, userUid, channel, eventName, data, null));
+    }
+
+    private void record(Long sessionId, SseChannel channel, String eventName, Object data, String dedupKey) {
+        OutboxEvent event = new OutboxEvent(sessionId, channel, eventName, data, dedupKey);
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            relay.publishNow(event);
+            return;
+        }
+
+        PendingEvents pending = (PendingEvents) TransactionSynchronizationManager.getResource(RESOURCE_KEY);
+        if (pending == null) {
+            pending = new PendingEvents();
+            TransactionSynchronizationManager.bindResource(RESOURCE_KEY, pending);
+            TransactionSynchronizationManager.registerSynchronization(pending);
+        }
+        pending.add(event);
+    }
+
+    /**
+     * 트랜잭션 하나에 묶인 이벤트 목록
+     * afterCommit 콜백 안에서 새로 기록된 이벤트까지 포함하도록 afterCompletion에서 넘긴다.
+     */
+    private final class PendingEvents implements TransactionSynchronization {
+        private final List<OutboxEvent> events = new ArrayList<>();
+        private final long openedNanos = System.nanoTime();
+
+        void add(OutboxEvent event) {
+            if (event.hasDedupKey()) {
+                events.removeIf(event::sameDedupKey);
+            }
+            events.add(event);
+        }
+
+        @Override
+        public void afterCompletion(int status) {
+            TransactionSynchronizationManager.unbindResourceIfPossible(RESOURCE_KEY);
+            long now = System.nanoTime();
+            transactionTimer.record(now - openedNanos, TimeUnit.NANOSECONDS);
+
+            if (status == STATUS_COMMITTED) {
+                relay.submit(events, now);
+            } else {
+                discardedCounter.increment(events.size());
+                log.info("[OUTBOX] Discarded {} events after rollback", events.size());
+            }
+        }
+    }
+}
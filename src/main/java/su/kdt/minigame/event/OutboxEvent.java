@@ -0,0 +1,88 @@
+package su.kdt.minigame.event;
+
+import su.kdt.minigame.sse.SseChannel;
+
+import java.util.Objects;
+
+/**
+ * 발행 대기 이벤트 (userUid가 있으면 그 사용자에게만 보낸다)
+ */
+final class OutboxEvent {
+
+    private final Long sessionId;
+    private final String userUid;
+    private final SseChannel channel;
+    private final String eventName;
+    private final Object data;
+    private final String dedupKey;
+    private long committedNanos;
+    private int attempts;
+
+    OutboxEvent(Long sessionId, SseChannel channel, String eventName, Object data, String dedupKey) {
+        this(sessionId, null, channel, eventName, data, dedupKey);
+    }
+
+    OutboxEvent(Long sessionId, String userUid, SseChannel channel, String eventName, Object data, String dedupKey) {
+        this.sessionId = sessionId;
+        this.userUid = userUid;
+        this.channel = channel;
+        this.eventName = eventName;
+        this.data = data;
+        this.dedupKey = dedupKey;
+    }
+
+    /**
+     * 같은 키를 가진 이벤트는 마지막 것만 발행한다 (dedupKey가 없으면 중복 제거 대상 아님).
+     */
+    Object dedupIdentity() {
+        return dedupKey != null ? new DedupIdentity(sessionId, userUid, channel, dedupKey) : this;
+    }
+
+    boolean hasDedupKey() {
+        return dedupKey != null;
+    }
+
+    boolean sameDedupKey(OutboxEvent other) {
+        return dedupKey != null && dedupKey.equals(other.dedupKey)
+                && channel == other.channel && sessionId.equals(other.sessionId)
+                && Objects.equals(userUid, other.userUid);
+    }
+
+    Long sessionId() {
+        return sessionId;
+    }
+
+    String userUid() {
+        return userUid;
+    }
+
+    SseChannel channel() {
+        return channel;
+    }
+
+    String eventName() {
+        return eventName;
+    }
+
+    Object data() {
+        return data;
+    }
+
+    long committedNanos() {
+        return committedNanos;
+    }
+
+    void markCommitted(long nanos) {
+        this.committedNanos = nanos;
+    }
+
+    int incrementAttempts() {
+        return ++attempts;
+    }
+
+    int attempts() {
+        return attempts;
+    }
+
+    private record DedupIdentity(Long sessionId, String userUid, SseChannel channel, String dedupKey) {}
+}
@@ -0,0 +1,228 @@
+package su.kdt.minigame.event;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+import su.kdt.minigame.config.OutboxConfig;
+import su.kdt.minigame.service.SSEService;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 아웃박스 relay - 커밋된 이벤트를 세션별 대기열에서 순서대로 꺼내 SSE로 발행한다.
+ *
+ * - 순서: 트랜잭션 이벤트와 트랜잭션 밖 이벤트가 같은 세션 대기열에 넣은 순서대로 나가며, 한 세션은 한 번에 한 스레드만 처리한다.
+ * - 배치: 세션 대기열에서 최대 batchSize개를 한 번에 꺼낸다.
+ * - 중복 제거: 배치 안에서 같은 dedup 키를 가진 이벤트는 마지막 것만 발행한다.
+ * - 재시도: 발행 중 예외가 나면 그 이벤트를 대기열 맨 앞에 둔 채 backoff 후 다시 시도하고(뒤 이벤트는 기다린다),
+ *   maxAttempts를 넘으면 버리고 다음 이벤트로 넘어간다.
+ */
+@Slf4j
+@Component
+public class OutboxRelay {
+
+    private final SSEService sseService;
+    private final OutboxConfig outboxConfig;
+    private final ThreadPoolExecutor executor;
+    private final ScheduledExecutorService retryScheduler;
+    private final Map<Long, SessionLane> lanes = new ConcurrentHashMap<>();
+
+    private final Timer lagTimer;
+    private final DistributionSummary batchSummary;
+    private final Counter publishedCounter;
+    private final Counter deduplicatedCounter;
+    private final Counter retriedCounter;
+    private final Counter droppedCounter;
+
+    public OutboxRelay(SSEService sseService, OutboxConfig outboxConfig, MeterRegistry meterRegistry) {
+        this.sseService = sseService;
+        this.outboxConfig = outboxConfig;
+
+        this.lagTimer = Timer.builder("outbox.relay.lag")
+                .description("커밋부터 발행까지 걸린 시간")
+                .register(meterRegistry);
+        this.batchSummary = DistributionSummary.builder("outbox.relay.batch")
+                .description("relay 배치당 이벤트 수")
+                .register(meterRegistry);
+        this.publishedCounter = Counter.builder("outbox.published").register(meterRegistry);
+        this.deduplicatedCounter = Counter.builder("outbox.deduplicated").register(meterRegistry);
+        this.retriedCounter = Counter.builder("outbox.retried").register(meterRegistry);
+        this.droppedCounter = Counter.builder("outbox.dropped").register(meterRegistry);
+        Gauge.builder("outbox.relay.lanes", lanes, Map::size)
+                .description("발행 대기 중인 이벤트가 있는 세션 수")
+                .register(meterRegistry);
+
+        CustomizableThreadFactory retryThreads = new CustomizableThreadFactory("outbox-retry-");
+        retryThreads.setDaemon(true);
+        this.retryScheduler = Executors.newSingleThreadScheduledExecutor(retryThreads);
+
+        CustomizableThreadFactory relayThreads = new CustomizableThreadFactory("outbox-relay-");
+        relayThreads.setDaemon(true);
+        int threads = Math.max(1, outboxConfig.getRelayThreads());
+        // 대기열이 가득 차면 이벤트를 넣은 스레드에서 그 세션 대기열을 직접 비운다 (세션 안의 순서는 그대로)
+        this.executor = new ThreadPoolExecutor(threads, threads, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(Math.max(1, outboxConfig.getQueueCapacity())),
+                relayThreads, new ThreadPoolExecutor.CallerRunsPolicy());
+    }
+
+    /**
+     * 커밋된 트랜잭션의 이벤트를 세션 대기열에 넣는다 (커밋 스레드에서 호출).
+     */
+    void submit(List<OutboxEvent> events, long committedNanos) {
+        for (OutboxEvent event : events) {
+            event.markCommitted(committedNanos);
+            enqueue(event);
+        }
+    }
+
+    /**
+     * 트랜잭션 밖에서 기록된 이벤트 - 같은 세션 대기열에 바로 넣는다.
+     */
+    void publishNow(OutboxEvent event) {
+        event.markCommitted(System.nanoTime());
+        enqueue(event);
+    }
+
+    private void enqueue(OutboxEvent event) {
+        while (true) {
+            SessionLane lane = lanes.computeIfAbsent(event.sessionId(), SessionLane::new);
+            synchronized (lane) {
+                if (lane.retired) {
+                    continue; // 방금 정리된 대기열 - 새로 만든다
+                }
+                lane.events.addLast(event);
+                if (lane.scheduled) {
+                    return; // 처리 중이거나 재시도 대기 중 - 이어서 처리된다
+                }
+                lane.scheduled = true;
+            }
+            schedule(lane);
+            return;
+        }
+    }
+
+    private void schedule(SessionLane lane) {
+        try {
+            executor.execute(() -> drain(lane));
+        } catch (RejectedExecutionException e) {
+            // 종료 중 - 남은 이벤트는 버린다
+            log.warn("[OUTBOX] Relay rejected session {}: {}", lane.sessionId, e.getMessage());
+        }
+    }
+
+    private void drain(SessionLane lane) {
+        List<OutboxEvent> drained = new ArrayList<>(outboxConfig.getBatchSize());
+        while (true) {
+            synchronized (lane) {
+                if (lane.events.isEmpty()) {
+                    // 더 이상 이벤트가 없으면 대기열을 정리 (이후 이벤트는 새 대기열로)
+                    lane.scheduled = false;
+                    lane.retired = true;
+                    lanes.remove(lane.sessionId, lane);
+                    return;
+                }
+                int batchSize = Math.max(1, outboxConfig.getBatchSize());
+                while (drained.size() < batchSize && !lane.events.isEmpty()) {
+                    drained.add(lane.events.pollFirst());
+                }
+            }
+            batchSummary.record(drained.size());
+
+            List<OutboxEvent> batch = deduplicate(drained);
+            for (int i = 0; i < batch.size(); i++) {
+                OutboxEvent event = batch.get(i);
+                if (!deliver(event)) {
+                    // 실패한 이벤트부터 다시 대기열 앞에 두고, 뒤 이벤트는 재시도가 끝날 때까지 기다린다
+                    synchronized (lane) {
+                        for (int j = batch.size() - 1; j >= i; j--) {
+                            lane.events.addFirst(batch.get(j));
+                        }
+                    }
+                    long backoffMs = outboxConfig.getRetryBackoffMs() * event.attempts();
+                    retryScheduler.schedule(() -> schedule(lane), backoffMs, TimeUnit.MILLISECONDS);
+                    return;
+                }
+            }
+            drained.clear();
+        }
+    }
+
+    private List<OutboxEvent> deduplicate(List<OutboxEvent> batch) {
+        Map<Object, OutboxEvent> latest = new LinkedHashMap<>();
+        for (OutboxEvent event : batch) {
+            Object identity = event.dedupIdentity();
+            // 이전 것을 지우고 다시 넣어 최신 이벤트의 순서를 따른다
+            if (latest.remove(identity) != null) {
+                deduplicatedCounter.increment();
+            }
+            latest.put(identity, event);
+        }
+        return new ArrayList<>(latest.values());
+    }
+
+    /**
+     * 이벤트 하나를 발행한다. 다시 시도해야 하면 false (시도 횟수를 넘겨 버린 경우는 true).
+     */
+    private boolean deliver(OutboxEvent event) {
+        try {
+            if (event.userUid() != null) {
+                sseService.sendToUser(event.sessionId(), event.userUid(), event.channel(), event.eventName(), event.data());
+            } else {
+                sseService.broadcast(event.sessionId(), event.channel(), event.eventName(), event.data());
+            }
+            publishedCounter.increment();
+            lagTimer.record(System.nanoTime() - event.committedNanos(), TimeUnit.NANOSECONDS);
+            return true;
+        } catch (Exception e) {
+            int attempts = event.incrementAttempts();
+            if (attempts >= outboxConfig.getMaxAttempts()) {
+                droppedCounter.increment();
+                log.error("[OUTBOX] Dropping {} event for session {} after {} attempts: {}",
+                        event.eventName(), event.sessionId(), attempts, e.getMessage());
+                return true;
+            }
+            retriedCounter.increment();
+            log.warn("[OUTBOX] Failed to publish {} event for session {} (attempt {}), retrying in {}ms: {}",
+                    event.eventName(), event.sessionId(), attempts, outboxConfig.getRetryBackoffMs() * attempts, e.getMessage());
+            return false;
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        retryScheduler.shutdownNow();
+        executor.shutdownNow();
+    }
+
+    /**
+     * 세션별 발행 대기열 - 한 번에 한 스레드만 처리하므로 세션 안의 이벤트 순서가 유지된다.
+     */
+    private static final class SessionLane {
+        private final long sessionId;
+        // guarded by this
+        private final ArrayDeque<OutboxEvent> events = new ArrayDeque<>();
+        private boolean scheduled; // 처리 중이거나 재시도 대기 중
+        private boolean retired;
+
+        private SessionLane(long sessionId) {
+            this.sessionId = sessionId;
+        }
+    }
+}
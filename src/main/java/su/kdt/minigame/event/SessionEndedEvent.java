@@ -0,0 +1,8 @@
+package su.kdt.minigame.event;
+
+/**
+ * 세션 종료 이벤트 - 트랜잭션 커밋 후 세션 단위 메모리 상태(로비 버전, 브로드캐스트 대기열 등)를 정리하기 위해 발행
+ */
+public record SessionEndedEvent(
+    Long sessionId
+) {}
@@ -0,0 +1,124 @@
+package su.kdt.minigame.quiz;
+
+import su.kdt.minigame.dto.response.QuizQuestionResp;
+
+import java.text.Normalizer;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.Locale;
+import java.util.Set;
+
+/**
+ * 문제 1개의 채점 기준 (불변)
+ *
+ * 유효한 옵션 id, 정답 옵션 id, 정규화해 둔 정답 텍스트를 미리 계산해 두어
+ * 답변 채점이 옵션 조회나 정규식 없이 메모리 조회만으로 끝나도록 한다.
+ */
+public final class QuizAnswerKey {
+
+    private final long questionId;
+    private final long[] optionIds;        // 정렬됨
+    private final long[] correctOptionIds; // 정렬됨
+    private final Set<String> correctTexts;
+
+    private QuizAnswerKey(long questionId, long[] optionIds, long[] correctOptionIds, Set<String> correctTexts) {
+        this.questionId = questionId;
+        this.optionIds = optionIds;
+        this.correctOptionIds = correctOptionIds;
+        this.correctTexts = correctTexts;
+    }
+
+    public static QuizAnswerKey of(long questionId, Collection<QuizQuestionResp.Option> options) {
+        long[] optionIds = options.stream()
+                .mapToLong(QuizQuestionResp.Option::optionId)
+                .sorted()
+                .toArray();
+        long[] correctOptionIds = options.stream()
+                .filter(QuizQuestionResp.Option::isCorrect)
+                .mapToLong(QuizQuestionResp.Option::optionId)
+                .sorted()
+                .toArray();
+        Set<String> correctTexts = new HashSet<>();
+        for (QuizQuestionResp.Option option : options) {
+            if (option.isCorrect()) {
+                correctTexts.add(normalize(option.optionText()));
+            }
+        }
+        return new QuizAnswerKey(questionId, optionIds, correctOptionIds, Set.copyOf(correctTexts));
+    }
+
+    public static QuizAnswerKey of(QuizQuestionResp question) {
+        return of(question.questionId(), question.options());
+    }
+
+    public long questionId() {
+        return questionId;
+    }
+
+    /**
+     * 옵션이 이 문제에 속하는지 확인한다.
+     */
+    public boolean isValidOption(long optionId) {
+        return Arrays.binarySearch(optionIds, optionId) >= 0;
+    }
+
+    public boolean isCorrectOption(long optionId) {
+        return Arrays.binarySearch(correctOptionIds, optionId) >= 0;
+    }
+
+    public boolean isCorrectText(String answerText) {
+        return correctTexts.contains(normalize(answerText));
+    }
+
+    /**
+     * 대표 정답 옵션 id (라운드 종료 시 정답 공개용). 정답이 없으면 null.
+     */
+    public Long firstCorrectOptionId() {
+        return correctOptionIds.length > 0 ? correctOptionIds[0] : null;
+    }
+
+    /**
+     * 비교용 정규화: 앞뒤/중간 공백(\s) 제거 → 소문자 → NFKC.
+     * 공백이 없고 이미 정규화된 입력은 새 문자열을 만들지 않는다.
+     */
+    public static String normalize(String s) {
+        if (s == null) {
+            return "";
+        }
+        String compact = stripWhitespace(s.trim()).toLowerCase(Locale.ROOT);
+        return Normalizer.isNormalized(compact, Normalizer.Form.NFKC)
+                ? compact
+                : Normalizer.normalize(compact, Normalizer.Form.NFKC);
+    }
+
+    private static String stripWhitespace(String s) {
+        int first = indexOfWhitespace(s);
+        if (first < 0) {
+            return s;
+        }
+        StringBuilder sb = new StringBuilder(s.length());
+        sb.append(s, 0, first);
+        for (int i = first + 1; i < s.length(); i++) {
+            char c = s.charAt(i);
+            if (!isRegexWhitespace(c)) {
+                sb.append(c);
+            }
+        }
+        return sb.toString();
+    }
+
+    private static int indexOfWhitespace(String s) {
+        for (int i = 0; i < s.length(); i++) {
+            if (isRegexWhitespace(s.charAt(i))) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    // 정규식 \s와 같은 문자 집합 ([ \t\n\x0B\f\r])
+    private static boolean isRegexWhitespace(char c) {
+        return c == ' ' || c == '\t' || c == '\n' || c == '\u000B' || c == '\f' || c == '\r';
+    }
+}
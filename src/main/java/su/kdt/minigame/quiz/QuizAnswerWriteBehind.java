@@ -0,0 +1,313 @@
+package su.kdt.minigame.quiz;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import su.kdt.minigame.config.QuizConfig;
+import su.kdt.minigame.domain.QuizAnswer;
+import su.kdt.minigame.repository.QuizAnswerRepository;
+import su.kdt.minigame.repository.QuizRoundRepo;
+import su.kdt.minigame.support.TransactionCallbacks;
+import su.kdt.minigame.support.WriteBehindBuffer;
+
+import java.io.UncheckedIOException;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 퀴즈 답변 쓰기 지연 저장
+ *
+ * 메모리 비트셋으로 중복이 걸러지고 채점까지 끝난 답변은 요청 트랜잭션에서 INSERT하지 않고,
+ * 커밋 직전에 이 버퍼(저널 파일 + 세션별 대기열)에 넣은 뒤 클라이언트에 응답한다 (응답 전에 저널에 기록된다).
+ * 커밋되지 못하면 버퍼에서 다시 뺀다.
+ * 버퍼는 answerFlushMs마다, 또는 라운드가 끝날 때 세션 단위로 꺼내 JDBC 배치 INSERT로 저장된다.
+ * 배치 저장이 실패하면 한 건씩 다시 저장해 이미 있는 답변(유니크 제약)은 건너뛰고, 나머지는 다음 주기에 재시도한다.
+ */
+@Slf4j
+@Component
+public class QuizAnswerWriteBehind {
+
+    private final QuizAnswerRepository answerRepo;
+    private final QuizRoundRepo roundRepo;
+    private final TransactionTemplate transactionTemplate;
+    private final WriteBehindBuffer<PendingAnswer> buffer;
+    private final ScheduledExecutorService flusher;
+
+    private final Counter bufferedCounter;
+    private final Counter persistedCounter;
+    private final Counter directCounter;
+    private final Counter duplicateCounter;
+    private final Timer batchTimer;
+
+    public QuizAnswerWriteBehind(QuizAnswerRepository answerRepo, QuizRoundRepo roundRepo,
+                                 TransactionTemplate transactionTemplate, ObjectMapper objectMapper,
+                                 QuizConfig quizConfig, MeterRegistry meterRegistry) {
+        this.answerRepo = answerRepo;
+        this.roundRepo = roundRepo;
+        this.transactionTemplate = transactionTemplate;
+
+        String journalDir = quizConfig.getAnswerJournalDir();
+        this.buffer = new WriteBehindBuffer<>(
+                journalDir == null || journalDir.isBlank() ? null : Path.of(journalDir),
+                "quiz-answer",
+                quizConfig.getAnswerBufferCapacity(),
+                quizConfig.isAnswerJournalFsync(),
+                new JsonCodec(objectMapper),
+                PendingAnswer::sessionId);
+
+        Gauge.builder("quiz.answer.writebehind.pending", buffer, WriteBehindBuffer::size)
+                .description("아직 DB에 저장되지 않은 답변 수")
+                .register(meterRegistry);
+        this.bufferedCounter = Counter.builder("quiz.answer.writebehind.buffered")
+                .description("쓰기 지연 버퍼에 들어간 답변 수")
+                .register(meterRegistry);
+        this.persistedCounter = Counter.builder("quiz.answer.writebehind.persisted")
+                .description("버퍼에서 DB로 저장된 답변 수")
+                .register(meterRegistry);
+        this.directCounter = Counter.builder("quiz.answer.writebehind.direct")
+                .description("버퍼가 가득 차 바로 저장한 답변 수")
+                .register(meterRegistry);
+        this.duplicateCounter = Counter.builder("quiz.answer.writebehind.duplicates")
+                .description("이미 저장되어 있어 건너뛴 답변 수")
+                .register(meterRegistry);
+        this.batchTimer = Timer.builder("quiz.answer.writebehind.batch")
+                .description("답변 배치 저장 시간")
+                .register(meterRegistry);
+
+        CustomizableThreadFactory threadFactory = new CustomizableThreadFactory("quiz-answer-flush-");
+        threadFactory.setDaemon(true);
+        this.flusher = Executors.newSingleThreadScheduledExecutor(threadFactory);
+        long flushMs = Math.max(10, quizConfig.getAnswerFlushMs());
+        flusher.scheduleWithFixedDelay(this::flushQuietly, flushMs, flushMs, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * 직전 프로세스가 저장하지 못한 답변을 저널에서 되살려 저장한다.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void recover() {
+        WriteBehindBuffer.Batch<PendingAnswer> batch = buffer.recover();
+        if (batch.isEmpty()) {
+            buffer.complete(batch, List.of());
+            return;
+        }
+        List<PendingAnswer> missing = new ArrayList<>();
+        for (PendingAnswer row : batch.rows()) {
+            if (!answerRepo.existsByRoundRoundIdAndUserId(row.roundId(), row.userId())) {
+                missing.add(row);
+            }
+        }
+        log.info("[QUIZ-WRITE-BEHIND] Recovered {} journaled answers, {} not yet persisted", batch.rows().size(), missing.size());
+        buffer.complete(batch, persistEach(missing));
+    }
+
+    /**
+     * 채점이 끝난 답변을 요청 트랜잭션이 커밋되기 직전에 저널에 기록하고, 커밋된 뒤에 버퍼 대기열에 넣도록 등록한다.
+     * 버퍼가 가득 차면 그 트랜잭션에서 바로 저장하고, 트랜잭션이 커밋되지 못하면 저널에 취소 줄을 남긴다.
+     * 트랜잭션이 없으면 바로 넣는다.
+     */
+    public void enqueueBeforeCommit(Long sessionId, QuizAnswer answer) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            enqueue(sessionId, answer);
+            return;
+        }
+        PendingAnswer row = PendingAnswer.of(sessionId, answer);
+        TransactionCallbacks.beforeCommit(() -> {
+            if (!buffer.prepare(row)) {
+                directCounter.increment();
+                answerRepo.saveAndFlush(answer);
+                return;
+            }
+            // 접수 직후 등록된 기록 완료(settle)보다 먼저 대기열에 넣어야 라운드 종료 처리가 이 답변까지 저장한다
+            TransactionCallbacks.afterCompletion(TransactionCallbacks.FIRST, committed -> {
+                if (committed) {
+                    buffer.commit(row);
+                    bufferedCounter.increment();
+                } else {
+                    buffer.abort(row);
+                    log.debug("[QUIZ-WRITE-BEHIND] Discarded answer of rolled back request: rid={}, uid={}",
+                            row.roundId(), row.userId());
+                }
+            });
+        });
+    }
+
+    /**
+     * 채점이 끝난 답변을 바로 버퍼에 넣는다. 버퍼가 가득 차면 바로 저장한다.
+     */
+    public void enqueue(Long sessionId, QuizAnswer answer) {
+        PendingAnswer row = PendingAnswer.of(sessionId, answer);
+        if (buffer.offer(row)) {
+            bufferedCounter.increment();
+            return;
+        }
+        directCounter.increment();
+        List<PendingAnswer> unsaved = persistEach(List.of(row));
+        if (!unsaved.isEmpty()) {
+            log.error("[QUIZ-WRITE-BEHIND] Failed to persist answer directly: sid={}, rid={}, uid={}",
+                    sessionId, row.roundId(), row.userId());
+        }
+    }
+
+    /**
+     * 세션의 아직 저장되지 않은 답변 (점수판/라운드 상태 복구용)
+     */
+    public List<PendingAnswer> pending(Long sessionId) {
+        return buffer.pending(sessionId);
+    }
+
+    /**
+     * 세션의 대기 중인 답변을 지금 저장한다 (라운드 종료/게임 종료).
+     * 트랜잭션 안에서 호출하면 그 트랜잭션에 함께 저장되고, 롤백되면 답변은 버퍼로 돌아간다.
+     */
+    public void persistSession(Long sessionId) {
+        WriteBehindBuffer.Batch<PendingAnswer> batch = buffer.drain(sessionId);
+        if (batch.isEmpty()) {
+            buffer.complete(batch, List.of());
+            return;
+        }
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            persistBatch(batch);
+            return;
+        }
+        answerRepo.saveAll(toEntities(batch.rows()));
+        TransactionCallbacks.afterCompletion(committed -> {
+            if (committed) {
+                persistedCounter.increment(batch.rows().size());
+            }
+            buffer.complete(batch, committed ? List.of() : batch.rows());
+        });
+        log.debug("[QUIZ-WRITE-BEHIND] Persisting {} answers with round end: sid={}", batch.rows().size(), sessionId);
+    }
+
+    /**
+     * 대기 중인 모든 답변을 배치로 저장한다.
+     */
+    public void flush() {
+        WriteBehindBuffer.Batch<PendingAnswer> batch = buffer.drainAll();
+        if (batch.isEmpty()) {
+            buffer.complete(batch, List.of());
+            return;
+        }
+        persistBatch(batch);
+    }
+
+    private void flushQuietly() {
+        try {
+            flush();
+        } catch (Exception e) {
+            log.error("[QUIZ-WRITE-BEHIND] Flush failed: {}", e.getMessage(), e);
+        }
+    }
+
+    private void persistBatch(WriteBehindBuffer.Batch<PendingAnswer> batch) {
+        List<PendingAnswer> rows = batch.rows();
+        long started = System.nanoTime();
+        try {
+            transactionTemplate.executeWithoutResult(status -> answerRepo.saveAll(toEntities(rows)));
+            persistedCounter.increment(rows.size());
+            buffer.complete(batch, List.of());
+        } catch (Exception e) {
+            // 이미 저장된 답변이 섞였거나 일시 오류 - 한 건씩 저장해 중복은 건너뛰고 나머지는 다음 주기에 재시도
+            log.warn("[QUIZ-WRITE-BEHIND] Batch of {} answers failed, retrying one by one: {}", rows.size(), e.getMessage());
+            buffer.complete(batch, persistEach(rows));
+        } finally {
+            batchTimer.record(System.nanoTime() - started, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    // 저장하지 못한 행을 돌려준다 (중복은 저장된 것으로 본다)
+    private List<PendingAnswer> persistEach(List<PendingAnswer> rows) {
+        List<PendingAnswer> unsaved = new ArrayList<>();
+        for (PendingAnswer row : rows) {
+            try {
+                transactionTemplate.executeWithoutResult(status -> answerRepo.save(toEntity(row)));
+                persistedCounter.increment();
+            } catch (DataIntegrityViolationException e) {
+                duplicateCounter.increment();
+                log.info("[QUIZ-WRITE-BEHIND] Answer already persisted: rid={}, uid={}", row.roundId(), row.userId());
+            } catch (Exception e) {
+                log.warn("[QUIZ-WRITE-BEHIND] Failed to persist answer: rid={}, uid={}, error={}",
+                        row.roundId(), row.userId(), e.getMessage());
+                unsaved.add(row);
+            }
+        }
+        return unsaved;
+    }
+
+    private List<QuizAnswer> toEntities(List<PendingAnswer> rows) {
+        List<QuizAnswer> answers = new ArrayList<>(rows.size());
+        for (PendingAnswer row : rows) {
+            answers.add(toEntity(row));
+        }
+        return answers;
+    }
+
+    private QuizAnswer toEntity(PendingAnswer row) {
+        return QuizAnswer.restore(roundRepo.getReferenceById(row.roundId()), row.userId(), row.choiceIndex(),
+                row.answerText(), row.submittedAt(), row.correct(), row.score(), row.responseTimeMs());
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        flusher.shutdownNow();
+        try {
+            flush();
+        } catch (Exception e) {
+            log.error("[QUIZ-WRITE-BEHIND] Final flush failed, {} answers remain in journal: {}", buffer.size(), e.getMessage());
+        }
+        buffer.close();
+    }
+
+    /**
+     * 저장 대기 중인 답변 1건 (저널에 그대로 기록된다)
+     */
+    public record PendingAnswer(long sessionId, long roundId, long userId, Integer choiceIndex, String answerText,
+                                Instant submittedAt, boolean correct, int score, Long responseTimeMs) {
+
+        static PendingAnswer of(Long sessionId, QuizAnswer answer) {
+            return new PendingAnswer(sessionId, answer.getRound().getRoundId(), answer.getUserId(),
+                    answer.getChoiceIndex(), answer.getAnswerText(), answer.getSubmittedAt(),
+                    Boolean.TRUE.equals(answer.getIsCorrect()),
+                    answer.getScore() != null ? answer.getScore() : 0,
+                    answer.getResponseTimeMs());
+        }
+    }
+
+    private record JsonCodec(ObjectMapper objectMapper) implements WriteBehindBuffer.Codec<PendingAnswer> {
+        @Override
+        public String encode(PendingAnswer row) {
+            try {
+                return objectMapper.writeValueAsString(row);
+            } catch (JsonProcessingException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+
+        @Override
+        public PendingAnswer decode(String line) {
+            try {
+                return objectMapper.readValue(line, PendingAnswer.class);
+            } catch (JsonProcessingException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+    }
+}
@@ -0,0 +1,193 @@
+package su.kdt.minigame.quiz;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+import su.kdt.minigame.config.QuizConfig;
+import su.kdt.minigame.domain.QuizQuestion;
+import su.kdt.minigame.dto.response.QuizQuestionResp;
+import su.kdt.minigame.repository.QuizQuestionOptionRepo;
+import su.kdt.minigame.repository.QuizQuestionRepo;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 퀴즈 문제 은행 (메모리 캐시)
+ *
+ * quiz_question / quiz_question_option 전체를 한 번에 읽어 옵션이 붙은 QuizQuestionResp로 만들어 두고,
+ * 카테고리별 목록, id 색인, 문제별 채점 기준(QuizAnswerKey)을 불변 스냅샷 하나로 묶어 보관한다.
+ * 라운드 시작과 답변 채점 시 문제/옵션 조회 쿼리가 필요 없다.
+ * 주기적으로 두 테이블의 건수/최대 id를 비교해 바뀌었으면 새 스냅샷을 만들어 통째로 교체한다.
+ * 건수/최대 id로는 기존 행의 내용 수정(문구, 정답 변경)을 알 수 없으므로 questionBankFullReloadMs마다 무조건 다시 읽는다.
+ */
+@Slf4j
+@Component
+public class QuizQuestionBank {
+
+    private final QuizQuestionRepo questionRepo;
+    private final QuizQuestionOptionRepo optionRepo;
+    private final ScheduledExecutorService refresher;
+    private final long fullReloadMs;
+    private volatile Snapshot snapshot; // 첫 조회 또는 애플리케이션 준비 시 로딩
+
+    private final Counter reloadCounter;
+
+    public QuizQuestionBank(QuizQuestionRepo questionRepo, QuizQuestionOptionRepo optionRepo,
+                            QuizConfig quizConfig, MeterRegistry meterRegistry) {
+        this.questionRepo = questionRepo;
+        this.optionRepo = optionRepo;
+        this.fullReloadMs = quizConfig.getQuestionBankFullReloadMs();
+
+        Gauge.builder("quiz.question.bank.size", this, bank -> bank.snapshot != null ? bank.snapshot.all().size() : 0)
+                .description("메모리에 적재된 퀴즈 문제 수")
+                .register(meterRegistry);
+        this.reloadCounter = Counter.builder("quiz.question.bank.reloads")
+                .description("문제 은행 스냅샷 교체 횟수")
+                .register(meterRegistry);
+
+        CustomizableThreadFactory threadFactory = new CustomizableThreadFactory("quiz-bank-");
+        threadFactory.setDaemon(true);
+        this.refresher = Executors.newSingleThreadScheduledExecutor(threadFactory);
+        long refreshMs = Math.max(1000, quizConfig.getQuestionBankRefreshMs());
+        refresher.scheduleWithFixedDelay(this::refreshIfChanged, refreshMs, refreshMs, TimeUnit.MILLISECONDS);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void preload() {
+        try {
+            reload();
+        } catch (Exception e) {
+            log.error("[QUIZ-BANK] Failed to preload question bank: {}", e.getMessage(), e);
+        }
+    }
+
+    /**
+     * id로 문제를 찾는다.
+     */
+    public Optional<QuizQuestionResp> find(Long questionId) {
+        return Optional.ofNullable(snapshot().byId().get(questionId));
+    }
+
+    /**
+     * 문제의 채점 기준을 찾는다.
+     */
+    public Optional<QuizAnswerKey> answerKey(Long questionId) {
+        return Optional.ofNullable(snapshot().answerKeys().get(questionId));
+    }
+
+    /**
+     * 카테고리의 전체 문제 목록 (category가 null이면 전체). 반환 목록은 불변이다.
+     */
+    public List<QuizQuestionResp> questions(String category) {
+        Snapshot current = snapshot();
+        if (category == null) {
+            return current.all();
+        }
+        return current.byCategory().getOrDefault(category, List.of());
+    }
+
+    /**
+     * 카테고리에서 문제 하나를 무작위로 고른다.
+     */
+    public Optional<QuizQuestionResp> random(String category) {
+        List<QuizQuestionResp> candidates = questions(category);
+        if (candidates.isEmpty()) {
+            return Optional.empty();
+        }
+        return Optional.of(candidates.get(ThreadLocalRandom.current().nextInt(candidates.size())));
+    }
+
+    public int size() {
+        return snapshot().all().size();
+    }
+
+    /**
+     * DB에서 문제 은행 전체를 다시 읽어 스냅샷을 교체한다.
+     */
+    public synchronized void reload() {
+        Fingerprint fingerprint = fingerprint();
+        List<QuizQuestion> questions = questionRepo.findAllWithOptions();
+
+        List<QuizQuestionResp> all = new ArrayList<>(questions.size());
+        Map<String, List<QuizQuestionResp>> byCategory = new LinkedHashMap<>();
+        Map<Long, QuizQuestionResp> byId = new HashMap<>();
+        Map<Long, QuizAnswerKey> answerKeys = new HashMap<>();
+        for (QuizQuestion question : questions) {
+            QuizQuestionResp loaded = QuizQuestionResp.from(question);
+            QuizQuestionResp resp = new QuizQuestionResp(loaded.questionId(), loaded.questionText(),
+                    loaded.category(), List.copyOf(loaded.options()));
+            all.add(resp);
+            byId.put(resp.questionId(), resp);
+            answerKeys.put(resp.questionId(), QuizAnswerKey.of(resp));
+            if (resp.category() != null) {
+                byCategory.computeIfAbsent(resp.category(), c -> new ArrayList<>()).add(resp);
+            }
+        }
+        byCategory.replaceAll((category, list) -> List.copyOf(list));
+
+        this.snapshot = new Snapshot(List.copyOf(all), Map.copyOf(byCategory), Map.copyOf(byId),
+                Map.copyOf(answerKeys), fingerprint, System.currentTimeMillis());
+        reloadCounter.increment();
+        log.info("[QUIZ-BANK] Loaded {} questions in {} categories", all.size(), byCategory.size());
+    }
+
+    private void refreshIfChanged() {
+        try {
+            Snapshot current = this.snapshot;
+            boolean expired = current != null && System.currentTimeMillis() - current.loadedAtMs() >= fullReloadMs;
+            if (current == null || expired || !current.fingerprint().equals(fingerprint())) {
+                reload();
+            }
+        } catch (Exception e) {
+            log.warn("[QUIZ-BANK] Refresh check failed, keeping current snapshot: {}", e.getMessage());
+        }
+    }
+
+    private Snapshot snapshot() {
+        Snapshot current = this.snapshot;
+        if (current == null) {
+            synchronized (this) {
+                if (this.snapshot == null) {
+                    reload();
+                }
+                current = this.snapshot;
+            }
+        }
+        return current;
+    }
+
+    private Fingerprint fingerprint() {
+        return new Fingerprint(questionRepo.count(), questionRepo.findMaxId(),
+                optionRepo.count(), optionRepo.findMaxOptionId());
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        refresher.shutdownNow();
+    }
+
+    private record Snapshot(List<QuizQuestionResp> all,
+                            Map<String, List<QuizQuestionResp>> byCategory,
+                            Map<Long, QuizQuestionResp> byId,
+                            Map<Long, QuizAnswerKey> answerKeys,
+                            Fingerprint fingerprint,
+                            long loadedAtMs) {}
+
+    // 문제/옵션 추가·삭제를 감지하기 위한 값 (건수 + 최대 id, 내용 수정은 주기적 전체 재로딩으로 반영)
+    private record Fingerprint(long questions, long maxQuestionId, long options, long maxOptionId) {}
+}
@@ -0,0 +1,112 @@
+package su.kdt.minigame.quiz;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import su.kdt.minigame.domain.GameSession;
+import su.kdt.minigame.dto.response.QuizQuestionResp;
+import su.kdt.minigame.event.SessionEndedEvent;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+
+/**
+ * 세션별 퀴즈 문제 덱
+ *
+ * 세션 생성 시 totalRounds개의 문제 id를 미리 섞어 game_session.question_deck에 저장해 두고,
+ * 라운드 N은 덱의 N번째 문제를 배열 인덱스로 바로 꺼낸다.
+ * 한 라운드를 꺼낼 때 다음 라운드 문제의 응답 객체를 미리 찾아 두어 다음 전환에서는 조회할 것이 없다.
+ */
+@Slf4j
+@Component
+public class QuizQuestionDeckStore {
+
+    private static final long[] EMPTY = new long[0];
+
+    private final QuizQuestionBank questionBank;
+    private final Map<Long, Deck> decks = new ConcurrentHashMap<>();
+
+    public QuizQuestionDeckStore(QuizQuestionBank questionBank, MeterRegistry meterRegistry) {
+        this.questionBank = questionBank;
+
+        Gauge.builder("quiz.question.decks", decks, Map::size)
+                .description("메모리에 올라와 있는 세션별 문제 덱 수")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 덱에 저장할 문자열로 만든다 (라운드 순서대로 문제 id, 쉼표 구분).
+     */
+    public static String encode(List<QuizQuestionResp> questions) {
+        return questions.stream()
+                .map(q -> String.valueOf(q.questionId()))
+                .collect(Collectors.joining(","));
+    }
+
+    static long[] decode(String questionDeck) {
+        if (questionDeck == null || questionDeck.isBlank()) {
+            return EMPTY;
+        }
+        return Arrays.stream(questionDeck.split(","))
+                .map(String::trim)
+                .filter(s -> !s.isEmpty())
+                .mapToLong(Long::parseLong)
+                .toArray();
+    }
+
+    /**
+     * 세션 덱에서 roundNo(1부터) 번째 문제를 꺼낸다.
+     * 덱이 없는 이전 세션이거나, 덱보다 라운드가 많거나, 문제가 은행에서 사라졌으면 비어 있다.
+     */
+    public Optional<QuizQuestionResp> questionFor(GameSession session, int roundNo) {
+        Deck deck = decks.computeIfAbsent(session.getId(), id -> new Deck(decode(session.getQuestionDeck())));
+        return Optional.ofNullable(deck.take(roundNo));
+    }
+
+    public void evictSession(Long sessionId) {
+        decks.remove(sessionId);
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onSessionEnded(SessionEndedEvent event) {
+        evictSession(event.sessionId());
+    }
+
+    private final class Deck {
+        private final long[] questionIds;
+        private volatile Prefetched prefetched;
+
+        private Deck(long[] questionIds) {
+            this.questionIds = questionIds;
+        }
+
+        private QuizQuestionResp take(int roundNo) {
+            if (roundNo < 1 || roundNo > questionIds.length) {
+                return null;
+            }
+            Prefetched ready = this.prefetched;
+            QuizQuestionResp question = ready != null && ready.roundNo() == roundNo
+                    ? ready.question()
+                    : questionBank.find(questionIds[roundNo - 1]).orElse(null);
+            prefetch(roundNo + 1);
+            return question;
+        }
+
+        private void prefetch(int roundNo) {
+            if (roundNo > questionIds.length) {
+                return;
+            }
+            questionBank.find(questionIds[roundNo - 1])
+                    .ifPresent(question -> this.prefetched = new Prefetched(roundNo, question));
+        }
+    }
+
+    private record Prefetched(int roundNo, QuizQuestionResp question) {}
+}
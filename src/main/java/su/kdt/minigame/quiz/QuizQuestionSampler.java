@@ -0,0 +1,72 @@
+package su.kdt.minigame.quiz;
+
+import org.springframework.stereotype.Component;
+import su.kdt.minigame.dto.response.QuizQuestionResp;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Predicate;
+import java.util.random.RandomGenerator;
+
+/**
+ * 퀴즈 문제 무작위 추출기
+ *
+ * 카테고리 전체(문제 은행 목록)에서 서로 다른 문제 k개를 균등하게 뽑는다.
+ * 부분 Fisher–Yates를 쓰되 배열을 복사하지 않고 자리 바꿈 기록만 맵에 남기므로
+ * 카테고리 크기와 무관하게 O(k) 시간/메모리로 동작한다 (제외 대상을 건너뛴 횟수만큼 추가).
+ */
+@Component
+public class QuizQuestionSampler {
+
+    private final QuizQuestionBank questionBank;
+
+    public QuizQuestionSampler(QuizQuestionBank questionBank) {
+        this.questionBank = questionBank;
+    }
+
+    /**
+     * 카테고리에서 excludedIds에 없는 문제를 최대 count개 뽑는다 (category가 null이면 전체).
+     */
+    public List<QuizQuestionResp> sample(String category, int count, Set<Long> excludedIds) {
+        return sample(questionBank.questions(category), count,
+                q -> excludedIds.contains(q.questionId()), ThreadLocalRandom.current());
+    }
+
+    /**
+     * 카테고리에서 excludedIds에 없는 문제 하나를 뽑는다. 모두 제외되었으면 비어 있다.
+     */
+    public Optional<QuizQuestionResp> pick(String category, Set<Long> excludedIds) {
+        List<QuizQuestionResp> picked = sample(category, 1, excludedIds);
+        return picked.isEmpty() ? Optional.empty() : Optional.of(picked.get(0));
+    }
+
+    /**
+     * items에서 excluded에 해당하지 않는 원소를 최대 count개, 순서까지 균등하게 뽑는다.
+     * items는 임의 접근이 빠른 목록이어야 한다.
+     */
+    static <T> List<T> sample(List<T> items, int count, Predicate<T> excluded, RandomGenerator random) {
+        int n = items.size();
+        int k = Math.min(Math.max(0, count), n);
+        List<T> picked = new ArrayList<>(k);
+        // 가상 배열 a[i] = i 위에서의 부분 Fisher–Yates: 바뀐 자리만 기록
+        Map<Integer, Integer> swapped = new HashMap<>();
+        for (int i = 0; i < n && picked.size() < k; i++) {
+            int j = i + random.nextInt(n - i);
+            int atJ = swapped.getOrDefault(j, j);
+            int atI = swapped.getOrDefault(i, i);
+            swapped.put(j, atI);
+            swapped.remove(i); // i 자리는 다시 읽지 않음
+
+            T item = items.get(atJ);
+            if (!excluded.test(item)) {
+                picked.add(item);
+            }
+        }
+        return picked;
+    }
+}
@@ -0,0 +1,216 @@
+package su.kdt.minigame.quiz;
+
+import su.kdt.minigame.support.GameDeadlineService;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * 진행 중인 퀴즈 라운드 1개의 메모리 상태
+ *
+ * 참여 예정자 목록(정렬된 userId 배열)의 인덱스를 비트로 삼아 답변 여부를 기록한다.
+ * 중복 제출 판정과 전원 제출 판정은 CAS만으로 처리되며 DB 조회가 필요 없다.
+ * DB(quiz_answer)는 여전히 영속 기록이며, 이 상태는 언제든 DB에서 다시 만들 수 있다.
+ * 접수(ACCEPTED)했지만 아직 기록(커밋 또는 쓰기 지연 저널)이 끝나지 않은 답변 수도 세어, 라운드 종료 처리가
+ * 그 답변들이 기록될 때까지 기다린 뒤 집계하게 한다.
+ */
+public final class QuizRoundState {
+
+    public enum Mark { ACCEPTED, DUPLICATE, NOT_PARTICIPANT, CLOSED }
+
+    private final long roundId;
+    private final long sessionId;
+    private final int roundNo;
+    private final long deadlineMillis;
+    private final long[] participants; // 정렬됨 - 인덱스가 비트 위치
+    private final AtomicLongArray answered;
+    private final AtomicInteger answeredCount = new AtomicInteger();
+    private final AtomicBoolean completed = new AtomicBoolean();
+    private final AtomicInteger unsettled = new AtomicInteger(); // 접수 후 아직 기록되지 않은 답변 수
+    private volatile GameDeadlineService.Handle deadlineHandle;
+
+    QuizRoundState(long roundId, long sessionId, int roundNo, long deadlineMillis, Collection<Long> participantIds) {
+        this.roundId = roundId;
+        this.sessionId = sessionId;
+        this.roundNo = roundNo;
+        this.deadlineMillis = deadlineMillis;
+        this.participants = participantIds.stream().mapToLong(Long::longValue).distinct().sorted().toArray();
+        this.answered = new AtomicLongArray(Math.max(1, (participants.length + 63) >>> 6));
+    }
+
+    /**
+     * 답변 제출을 기록한다. 참여자별로 한 번만 ACCEPTED가 반환된다.
+     * ACCEPTED를 받은 쪽은 답변 기록이 끝나거나 롤백될 때 반드시 settle()을 호출해야 한다.
+     */
+    public Mark tryMarkAnswered(long userId) {
+        int index = Arrays.binarySearch(participants, userId);
+        if (index < 0) {
+            return completed.get() ? Mark.CLOSED : Mark.NOT_PARTICIPANT;
+        }
+        // 종료 확인보다 먼저 세어 두어, 종료 처리 쪽(tryComplete 후 awaitSettled)이 이 답변을 놓치지 않게 한다
+        unsettled.incrementAndGet();
+        if (completed.get()) {
+            settle();
+            return Mark.CLOSED;
+        }
+        int word = index >>> 6;
+        long bit = 1L << (index & 63);
+        while (true) {
+            long current = answered.get(word);
+            if ((current & bit) != 0) {
+                settle();
+                return Mark.DUPLICATE;
+            }
+            if (answered.compareAndSet(word, current, current | bit)) {
+                answeredCount.incrementAndGet();
+                return Mark.ACCEPTED;
+            }
+        }
+    }
+
+    /**
+     * 이미 기록된 답변을 반영한다 (DB/쓰기 지연 버퍼에서 상태를 다시 만들 때).
+     */
+    void markRecorded(long userId) {
+        if (tryMarkAnswered(userId) == Mark.ACCEPTED) {
+            settle();
+        }
+    }
+
+    /**
+     * 답변 저장 트랜잭션이 롤백되었을 때 기록을 되돌린다.
+     */
+    public void unmarkAnswered(long userId) {
+        int index = Arrays.binarySearch(participants, userId);
+        if (index < 0) {
+            return;
+        }
+        int word = index >>> 6;
+        long bit = 1L << (index & 63);
+        while (true) {
+            long current = answered.get(word);
+            if ((current & bit) == 0) {
+                return;
+            }
+            if (answered.compareAndSet(word, current, current & ~bit)) {
+                answeredCount.decrementAndGet();
+                return;
+            }
+        }
+    }
+
+    /**
+     * 접수한 답변의 기록(커밋/저널)이 끝났거나 롤백되었음을 알린다.
+     */
+    public void settle() {
+        if (unsettled.decrementAndGet() <= 1) {
+            synchronized (unsettled) {
+                unsettled.notifyAll();
+            }
+        }
+    }
+
+    /**
+     * 아직 기록되지 않은 답변이 allowed개 이하가 될 때까지 기다린다 (라운드 종료 처리 - 자기 트랜잭션의 답변은 allowed로 뺀다).
+     * 시간 안에 끝나지 않으면 false.
+     */
+    public boolean awaitSettled(int allowed, long timeoutMs) {
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(timeoutMs);
+        synchronized (unsettled) {
+            while (unsettled.get() > allowed) {
+                long remainingMs = TimeUnit.NANOSECONDS.toMillis(deadline - System.nanoTime());
+                if (remainingMs <= 0) {
+                    return false;
+                }
+                try {
+                    unsettled.wait(remainingMs);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return false;
+                }
+            }
+        }
+        return true;
+    }
+
+    public int unsettledCount() {
+        return unsettled.get();
+    }
+
+    public boolean hasAnswered(long userId) {
+        int index = Arrays.binarySearch(participants, userId);
+        return index >= 0 && (answered.get(index >>> 6) & (1L << (index & 63))) != 0;
+    }
+
+    public boolean isAllAnswered() {
+        return participants.length > 0 && answeredCount.get() >= participants.length;
+    }
+
+    /**
+     * 라운드 종료 처리를 맡을 스레드를 하나로 정한다 (전원 제출/시간 초과 중 먼저 도착한 쪽만 true).
+     */
+    public boolean tryComplete() {
+        return completed.compareAndSet(false, true);
+    }
+
+    /**
+     * 종료 처리 트랜잭션이 롤백되었을 때 다시 진행 상태로 되돌린다.
+     */
+    public void reopen() {
+        completed.set(false);
+    }
+
+    /**
+     * 라운드 제한 시간 마감 작업을 연결한다 (전원 제출로 끝나면 cancelDeadline으로 취소).
+     */
+    public void attachDeadline(GameDeadlineService.Handle handle) {
+        GameDeadlineService.Handle previous = this.deadlineHandle;
+        this.deadlineHandle = handle;
+        if (previous != null && previous != handle) {
+            previous.cancel();
+        }
+    }
+
+    public void cancelDeadline() {
+        GameDeadlineService.Handle handle = this.deadlineHandle;
+        if (handle != null) {
+            handle.cancel();
+        }
+    }
+
+    public boolean isCompleted() {
+        return completed.get();
+    }
+
+    public boolean isExpired(long nowMillis) {
+        return nowMillis >= deadlineMillis;
+    }
+
+    public long roundId() {
+        return roundId;
+    }
+
+    public long sessionId() {
+        return sessionId;
+    }
+
+    public int roundNo() {
+        return roundNo;
+    }
+
+    public long deadlineMillis() {
+        return deadlineMillis;
+    }
+
+    public int answeredCount() {
+        return answeredCount.get();
+    }
+
+    public int expectedCount() {
+        return participants.length;
+    }
+}
@@ -0,0 +1,135 @@
+package su.kdt.minigame.quiz;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import su.kdt.minigame.domain.QuizRound;
+import su.kdt.minigame.event.SessionEndedEvent;
+import su.kdt.minigame.repository.GameSessionMemberRepo;
+import su.kdt.minigame.repository.QuizAnswerRepository;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 진행 중인 퀴즈 라운드 상태 저장소
+ *
+ * 라운드 생성 커밋 직후 참여자 목록으로 상태를 열고, 세션마다 가장 최근 라운드 하나만 유지한다.
+ * 노드 재시작 등으로 상태가 없으면 DB(세션 멤버 + 이미 제출된 답변)와 쓰기 지연 버퍼에서 다시 만든다.
+ */
+@Slf4j
+@Component
+public class QuizRoundStateStore {
+
+    private final GameSessionMemberRepo memberRepo;
+    private final QuizAnswerRepository answerRepo;
+    private final QuizAnswerWriteBehind answerWriteBehind;
+    private final Map<Long, QuizRoundState> rounds = new ConcurrentHashMap<>();
+    private final Map<Long, Long> currentRoundBySession = new ConcurrentHashMap<>();
+
+    private final Counter reconciledCounter;
+
+    public QuizRoundStateStore(GameSessionMemberRepo memberRepo, QuizAnswerRepository answerRepo,
+                               QuizAnswerWriteBehind answerWriteBehind, MeterRegistry meterRegistry) {
+        this.memberRepo = memberRepo;
+        this.answerRepo = answerRepo;
+        this.answerWriteBehind = answerWriteBehind;
+
+        Gauge.builder("quiz.round.states", rounds, Map::size)
+                .description("메모리에 유지 중인 퀴즈 라운드 상태 수")
+                .register(meterRegistry);
+        this.reconciledCounter = Counter.builder("quiz.round.state.reconciled")
+                .description("DB에서 다시 만든 라운드 상태 수")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 새 라운드 상태를 연다. 같은 세션의 이전 라운드 상태는 정리된다.
+     */
+    public QuizRoundState open(QuizRound round, Collection<Long> participantIds) {
+        QuizRoundState created = new QuizRoundState(round.getRoundId(), round.getSessionId(), round.getRoundNo(),
+                deadlineOf(round.getExpiresAt()), participantIds);
+        // 첫 답변이 먼저 도착해 DB에서 복구한 상태가 있으면 답변 기록을 잃지 않도록 그대로 둔다
+        QuizRoundState existing = rounds.putIfAbsent(created.roundId(), created);
+        QuizRoundState state = existing != null ? existing : created;
+
+        Long previous = currentRoundBySession.put(state.sessionId(), state.roundId());
+        if (previous != null && previous != state.roundId()) {
+            rounds.remove(previous);
+        }
+        log.debug("[QUIZ-STATE] Opened round state: sid={}, rid={}, expected={}",
+                state.sessionId(), state.roundId(), state.expectedCount());
+        return state;
+    }
+
+    public QuizRoundState find(Long roundId) {
+        return rounds.get(roundId);
+    }
+
+    /**
+     * 라운드 상태를 조회하고, 없으면 DB 기록으로 복구한다.
+     */
+    public QuizRoundState getOrLoad(QuizRound round) {
+        QuizRoundState state = rounds.get(round.getRoundId());
+        if (state != null) {
+            return state;
+        }
+
+        List<Long> participants = memberRepo.findUserIdsBySessionId(round.getSessionId());
+        List<Long> answeredUsers = answerRepo.findAnsweredUserIdsByRoundId(round.getRoundId());
+        QuizRoundState loaded = new QuizRoundState(round.getRoundId(), round.getSessionId(), round.getRoundNo(),
+                deadlineOf(round.getExpiresAt()), participants);
+        for (Long userId : answeredUsers) {
+            loaded.markRecorded(userId);
+        }
+        // 아직 쓰기 지연 버퍼에 있는 답변도 제출된 것으로 본다
+        for (QuizAnswerWriteBehind.PendingAnswer pending : answerWriteBehind.pending(round.getSessionId())) {
+            if (pending.roundId() == round.getRoundId()) {
+                loaded.markRecorded(pending.userId());
+            }
+        }
+        if (round.getEndedAt() != null) {
+            loaded.tryComplete();
+        }
+
+        QuizRoundState existing = rounds.putIfAbsent(loaded.roundId(), loaded);
+        if (existing != null) {
+            return existing;
+        }
+        currentRoundBySession.merge(loaded.sessionId(), loaded.roundId(), Math::max);
+        reconciledCounter.increment();
+        log.info("[QUIZ-STATE] Reconciled round state from DB: sid={}, rid={}, answered={}/{}",
+                loaded.sessionId(), loaded.roundId(), loaded.answeredCount(), loaded.expectedCount());
+        return loaded;
+    }
+
+    public void evictSession(Long sessionId) {
+        Long roundId = currentRoundBySession.remove(sessionId);
+        if (roundId != null) {
+            rounds.remove(roundId);
+        }
+        rounds.values().removeIf(state -> state.sessionId() == sessionId);
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onSessionEnded(SessionEndedEvent event) {
+        evictSession(event.sessionId());
+    }
+
+    public int size() {
+        return rounds.size();
+    }
+
+    private static long deadlineOf(LocalDateTime expiresAt) {
+        // QuizRound는 LocalDateTime.now() (시스템 기본 시간대) 기준으로 만료 시각을 저장한다
+        return expiresAt != null ? expiresAt.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli() : Long.MAX_VALUE;
+    }
+}
@@ -0,0 +1,151 @@
+package su.kdt.minigame.quiz;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 퀴즈 세션 1개의 점수판 (메모리 읽기 모델)
+ *
+ * 참가자마다 좌석 번호를 붙이고 점수/정답 수/답변 수/정답 응답시간 합계를 좌석 인덱스의 기본형 배열에 누적한다.
+ * 답변이 채점될 때마다 해당 좌석만 갱신하고, 순위 목록은 내용이 바뀐 뒤 처음 읽힐 때 한 번만 다시 만든다.
+ * 같은 답변(라운드 + 참가자)은 두 번 반영되지 않으므로 DB 적재와 커밋 후 반영이 겹쳐도 안전하다.
+ */
+public final class QuizScoreboard {
+
+    private static final int INITIAL_SEATS = 8;
+
+    private final long sessionId;
+
+    // guarded by this
+    private final Map<Long, Integer> seats = new HashMap<>();
+    private final Set<AnswerKey> countedAnswers = new HashSet<>();
+    private long[] userIds = new long[INITIAL_SEATS];
+    private String[] nicknames = new String[INITIAL_SEATS];
+    private int[] scores = new int[INITIAL_SEATS];
+    private int[] correctCounts = new int[INITIAL_SEATS];
+    private int[] answeredCounts = new int[INITIAL_SEATS];
+    private long[] correctTimeMs = new long[INITIAL_SEATS];
+    private int size;
+
+    private volatile long version;
+    private volatile RankedView view = new RankedView(0, List.of());
+
+    public QuizScoreboard(long sessionId) {
+        this.sessionId = sessionId;
+    }
+
+    public long sessionId() {
+        return sessionId;
+    }
+
+    /**
+     * 참가자 좌석을 만든다. 이미 있으면 아무것도 하지 않는다.
+     */
+    public synchronized void addSeat(long userId, String nickname) {
+        if (!seats.containsKey(userId)) {
+            newSeat(userId, nickname);
+            version++;
+        }
+    }
+
+    /**
+     * 채점된 답변 1건을 반영한다. 같은 라운드의 같은 참가자 답변을 이미 반영했으면 false.
+     * 좌석이 없는 참가자(중간 입장 등)는 좌석을 새로 만든다.
+     */
+    public synchronized boolean recordAnswer(long roundId, long userId, boolean correct, int score, long responseTimeMs) {
+        if (!countedAnswers.add(new AnswerKey(roundId, userId))) {
+            return false;
+        }
+        Integer existing = seats.get(userId);
+        int seat = existing != null ? existing : newSeat(userId, String.valueOf(userId));
+        answeredCounts[seat]++;
+        scores[seat] += score;
+        if (correct) {
+            correctCounts[seat]++;
+            correctTimeMs[seat] += Math.max(0L, responseTimeMs);
+        }
+        version++;
+        return true;
+    }
+
+    /**
+     * 순위 목록 (정답 수 → 점수 → 정답 응답시간 합계 오름차순 → 입장 순). 반환 목록은 불변이다.
+     */
+    public List<Entry> ranked() {
+        RankedView current = this.view;
+        if (current.version() == this.version) {
+            return current.entries();
+        }
+        synchronized (this) {
+            if (view.version() != version) {
+                view = new RankedView(version, rank());
+            }
+            return view.entries();
+        }
+    }
+
+    public synchronized int seatCount() {
+        return size;
+    }
+
+    // guarded by this
+    private List<Entry> rank() {
+        Integer[] order = new Integer[size];
+        for (int i = 0; i < size; i++) {
+            order[i] = i;
+        }
+        Arrays.sort(order, (a, b) -> {
+            if (correctCounts[a] != correctCounts[b]) {
+                return Integer.compare(correctCounts[b], correctCounts[a]);
+            }
+            if (scores[a] != scores[b]) {
+                return Integer.compare(scores[b], scores[a]);
+            }
+            if (correctTimeMs[a] != correctTimeMs[b]) {
+                return Long.compare(correctTimeMs[a], correctTimeMs[b]);
+            }
+            return Integer.compare(a, b);
+        });
+
+        List<Entry> entries = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            int seat = order[i];
+            entries.add(new Entry(userIds[seat], nicknames[seat], scores[seat], correctCounts[seat],
+                    answeredCounts[seat], correctTimeMs[seat], i + 1));
+        }
+        return List.copyOf(entries);
+    }
+
+    // guarded by this
+    private int newSeat(long userId, String nickname) {
+        if (size == userIds.length) {
+            int capacity = size * 2;
+            userIds = Arrays.copyOf(userIds, capacity);
+            nicknames = Arrays.copyOf(nicknames, capacity);
+            scores = Arrays.copyOf(scores, capacity);
+            correctCounts = Arrays.copyOf(correctCounts, capacity);
+            answeredCounts = Arrays.copyOf(answeredCounts, capacity);
+            correctTimeMs = Arrays.copyOf(correctTimeMs, capacity);
+        }
+        int seat = size++;
+        userIds[seat] = userId;
+        nicknames[seat] = nickname;
+        seats.put(userId, seat);
+        return seat;
+    }
+
+    /**
+     * 순위 목록의 한 줄
+     */
+    public record Entry(long userId, String nickname, int score, int correctCount,
+                        int totalAnswered, long correctTimeMs, int rank) {}
+
+    private record RankedView(long version, List<Entry> entries) {}
+
+    private record AnswerKey(long roundId, long userId) {}
+}
@@ -0,0 +1,138 @@
+package su.kdt.minigame.quiz;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import su.kdt.minigame.domain.GameSession;
+import su.kdt.minigame.domain.GameSessionMember;
+import su.kdt.minigame.event.SessionEndedEvent;
+import su.kdt.minigame.repository.GameRepo;
+import su.kdt.minigame.repository.GameSessionMemberRepo;
+import su.kdt.minigame.repository.QuizAnswerRepository;
+
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 세션별 퀴즈 점수판 저장소
+ *
+ * 진행 중인 세션의 점수판을 메모리에 두고 답변이 커밋될 때마다 recordAnswer로 증분 반영한다.
+ * 세션당 처음 한 번만 멤버 목록과 답변 목록(아직 쓰기 지연 버퍼에 있는 답변 포함)을 읽어 적재하고,
+ * 이후 점수판 조회/전송은 쿼리 없이 메모리에서 끝난다.
+ * 종료된 세션은 캐시하지 않고 조회 때마다 DB에서 새로 만든다.
+ */
+@Slf4j
+@Component
+public class QuizScoreboardStore {
+
+    private final GameRepo gameRepo;
+    private final GameSessionMemberRepo memberRepo;
+    private final QuizAnswerRepository answerRepo;
+    private final QuizAnswerWriteBehind answerWriteBehind;
+    private final Map<Long, Slot> boards = new ConcurrentHashMap<>();
+
+    private final Counter loadCounter;
+
+    public QuizScoreboardStore(GameRepo gameRepo, GameSessionMemberRepo memberRepo,
+                               QuizAnswerRepository answerRepo, QuizAnswerWriteBehind answerWriteBehind,
+                               MeterRegistry meterRegistry) {
+        this.gameRepo = gameRepo;
+        this.memberRepo = memberRepo;
+        this.answerRepo = answerRepo;
+        this.answerWriteBehind = answerWriteBehind;
+
+        Gauge.builder("quiz.scoreboard.boards", boards, Map::size)
+                .description("메모리에 올라와 있는 세션별 점수판 수")
+                .register(meterRegistry);
+        this.loadCounter = Counter.builder("quiz.scoreboard.loads")
+                .description("DB에서 점수판을 적재한 횟수")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 세션 점수판. 세션이 없으면 비어 있다.
+     */
+    public Optional<QuizScoreboard> scoreboard(Long sessionId) {
+        Slot slot = boards.computeIfAbsent(sessionId, id -> new Slot(new QuizScoreboard(id)));
+        if (!slot.loaded) {
+            synchronized (slot) {
+                if (!slot.loaded) {
+                    // 적재 중에도 슬롯이 맵에 있으므로 그 사이 커밋된 답변은 recordAnswer로 들어오고, 라운드+참가자로 중복이 걸러진다
+                    Optional<GameSession> session = gameRepo.findById(sessionId);
+                    if (session.isEmpty()) {
+                        boards.remove(sessionId, slot);
+                        return Optional.empty();
+                    }
+                    load(slot.board, sessionId);
+                    slot.loaded = true;
+                    if (!isLive(session.get())) {
+                        boards.remove(sessionId, slot);
+                    }
+                }
+            }
+        }
+        return Optional.of(slot.board);
+    }
+
+    /**
+     * 커밋된 답변 1건을 점수판에 반영한다. 메모리에 점수판이 없으면 다음 조회 때 DB에서 읽으므로 무시한다.
+     */
+    public void recordAnswer(Long sessionId, Long roundId, Long userId, boolean correct, int score, long responseTimeMs) {
+        if (sessionId == null || roundId == null || userId == null) {
+            return;
+        }
+        Slot slot = boards.get(sessionId);
+        if (slot != null) {
+            slot.board.recordAnswer(roundId, userId, correct, score, responseTimeMs);
+        }
+    }
+
+    public void evictSession(Long sessionId) {
+        boards.remove(sessionId);
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onSessionEnded(SessionEndedEvent event) {
+        evictSession(event.sessionId());
+    }
+
+    private void load(QuizScoreboard board, Long sessionId) {
+        for (GameSessionMember member : memberRepo.findBySessionId(sessionId)) {
+            if (member.getUserId() != null) {
+                board.addSeat(member.getUserId(), member.getNickname());
+            }
+        }
+        // 버퍼를 DB보다 먼저 읽는다 - 그 사이 저장된 답변은 DB 쪽에서 보인다
+        for (QuizAnswerWriteBehind.PendingAnswer row : answerWriteBehind.pending(sessionId)) {
+            board.recordAnswer(row.roundId(), row.userId(), row.correct(), row.score(),
+                    row.responseTimeMs() != null ? row.responseTimeMs() : 0L);
+        }
+        for (QuizAnswerRepository.AnswerScoreRow row : answerRepo.findAnswerScoresBySessionId(sessionId)) {
+            boolean correct = Boolean.TRUE.equals(row.getIsCorrect());
+            board.recordAnswer(row.getRoundId(), row.getUserId(), correct,
+                    row.getScore() != null ? row.getScore() : 0,
+                    row.getResponseTimeMs() != null ? row.getResponseTimeMs() : 0L);
+        }
+        loadCounter.increment();
+        log.debug("[QUIZ-SCOREBOARD] Loaded scoreboard: sessionId={}, seats={}", sessionId, board.seatCount());
+    }
+
+    private static boolean isLive(GameSession session) {
+        return session.getStatus() == GameSession.Status.WAITING
+                || session.getStatus() == GameSession.Status.IN_PROGRESS;
+    }
+
+    private static final class Slot {
+        private final QuizScoreboard board;
+        private volatile boolean loaded;
+
+        private Slot(QuizScoreboard board) {
+            this.board = board;
+        }
+    }
+}
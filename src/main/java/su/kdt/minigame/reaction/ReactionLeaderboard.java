@@ -0,0 +1,167 @@
+package su.kdt.minigame.reaction;
+
+import su.kdt.minigame.domain.ReactionResult;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListSet;
+
+/**
+ * 반응속도 세션 1개의 순위표 (메모리 읽기 모델)
+ *
+ * 클릭(또는 시간 초과) 결과가 기록될 때마다 (부정출발, 반응시간, userId) 순서의 정렬 집합에 O(log n)으로 넣는다.
+ * 정상 클릭이 반응시간 오름차순으로 앞에, 반응시간 없는 시간 초과가 그 뒤에, 부정출발이 맨 뒤에 온다.
+ * 최종 순위/승자/벌칙 대상/결과 페이로드를 다시 정렬하지 않고 바로 만든다.
+ */
+public final class ReactionLeaderboard {
+
+    public static final int NO_DELTA = -1;
+
+    static final Comparator<Entry> ORDER = (a, b) -> {
+        if (a.falseStart() != b.falseStart()) {
+            return a.falseStart() ? 1 : -1;
+        }
+        int byDelta = Long.compare(sortKey(a.deltaMs()), sortKey(b.deltaMs()));
+        if (byDelta != 0) {
+            return byDelta;
+        }
+        int byUser = Long.compare(a.userId(), b.userId());
+        return byUser != 0 ? byUser : Long.compare(a.roundId(), b.roundId());
+    };
+
+    /**
+     * 결과 엔티티 정렬 (순위표와 같은 순서)
+     */
+    public static final Comparator<ReactionResult> RESULT_ORDER = Comparator.comparing(Entry::of, ORDER);
+
+    private final long sessionId;
+    private final ConcurrentSkipListSet<Entry> entries = new ConcurrentSkipListSet<>(ORDER);
+    private final Map<Long, String> displayNames = new ConcurrentHashMap<>();
+
+    public ReactionLeaderboard(long sessionId) {
+        this.sessionId = sessionId;
+    }
+
+    /**
+     * 이미 저장된 결과들로 순위표를 만든다 (종료된 세션 조회/노드 재시작 후 복구).
+     */
+    public static ReactionLeaderboard of(long sessionId, Collection<ReactionResult> results) {
+        ReactionLeaderboard board = new ReactionLeaderboard(sessionId);
+        for (ReactionResult result : results) {
+            board.record(result);
+        }
+        return board;
+    }
+
+    /**
+     * 결과 1건을 반영한다. 같은 라운드의 같은 참가자 결과를 이미 반영했으면 false.
+     */
+    public boolean record(ReactionResult result) {
+        return entries.add(Entry.of(result));
+    }
+
+    /**
+     * 순위 순서의 결과 목록 (조회 시점의 스냅샷)
+     */
+    public List<Entry> ranked() {
+        return new ArrayList<>(entries);
+    }
+
+    /**
+     * 라운드 안에서의 순위 (userId → 1부터 시작하는 순위)
+     */
+    public Map<Long, Integer> roundRanks(long roundId) {
+        Map<Long, Integer> ranks = new HashMap<>();
+        int rank = 1;
+        for (Entry entry : entries) {
+            if (entry.roundId() == roundId) {
+                ranks.put(entry.userId(), rank++);
+            }
+        }
+        return ranks;
+    }
+
+    public boolean isEmpty() {
+        return entries.isEmpty();
+    }
+
+    public int size() {
+        return entries.size();
+    }
+
+    /**
+     * 표시 이름이 아직 없는 참가자 목록
+     */
+    public List<Long> missingDisplayNames() {
+        List<Long> missing = new ArrayList<>();
+        for (Entry entry : entries) {
+            if (!displayNames.containsKey(entry.userId()) && !missing.contains(entry.userId())) {
+                missing.add(entry.userId());
+            }
+        }
+        return missing;
+    }
+
+    public void putDisplayNames(Map<Long, String> names) {
+        displayNames.putAll(names);
+    }
+
+    /**
+     * 최종 결과 페이로드 (overallRanking / winnerUid / loserUid / penalty). 결과가 없으면 빈 맵.
+     */
+    public Map<String, Object> toPayload(Long penaltyId, String penaltyText) {
+        List<Entry> ranked = ranked();
+        if (ranked.isEmpty()) {
+            return Map.of();
+        }
+
+        List<Map<String, Object>> overallRanking = new ArrayList<>(ranked.size());
+        for (int i = 0; i < ranked.size(); i++) {
+            Entry entry = ranked.get(i);
+            Map<String, Object> rankData = new HashMap<>();
+            rankData.put("userId", entry.userId());
+            rankData.put("displayName", displayNames.getOrDefault(entry.userId(), String.valueOf(entry.userId())));
+            rankData.put("deltaMs", entry.deltaMs());
+            rankData.put("falseStart", entry.falseStart());
+            rankData.put("rank", i + 1);
+            overallRanking.add(rankData);
+        }
+
+        Map<String, Object> penaltyData = new HashMap<>();
+        if (penaltyId != null) {
+            penaltyData.put("code", "P" + penaltyId);
+            penaltyData.put("text", penaltyText);
+        }
+
+        Map<String, Object> payload = new HashMap<>();
+        payload.put("sessionId", sessionId);
+        payload.put("overallRanking", overallRanking);
+        payload.put("winnerUid", ranked.get(0).userId());
+        payload.put("loserUid", ranked.get(ranked.size() - 1).userId());
+        payload.put("penalty", penaltyData);
+        return payload;
+    }
+
+    public long sessionId() {
+        return sessionId;
+    }
+
+    private static long sortKey(int deltaMs) {
+        return deltaMs >= 0 ? deltaMs : Long.MAX_VALUE;
+    }
+
+    /**
+     * 순위표의 한 줄. deltaMs가 NO_DELTA이면 반응시간 없음(부정출발/시간 초과).
+     */
+    public record Entry(long roundId, long userId, boolean falseStart, int deltaMs) {
+        static Entry of(ReactionResult result) {
+            return new Entry(result.getRoundId(), result.getUserId(), Boolean.TRUE.equals(result.getFalseStart()),
+                    result.getDeltaMs() != null ? result.getDeltaMs() : NO_DELTA);
+        }
+    }
+}
@@ -0,0 +1,87 @@
+package su.kdt.minigame.reaction;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import su.kdt.minigame.config.SessionConfig;
+import su.kdt.minigame.event.LobbyEvents;
+import su.kdt.minigame.event.SessionEndedEvent;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 반응속도 세션별 준비 완료 집합 저장소
+ *
+ * 요청 스레드들이 동시에 준비/해제해도 갱신이 유실되지 않으며, 세션 종료 커밋 후 정리된다.
+ * 나간 참가자는 준비 목록에서 빠진다.
+ */
+@Slf4j
+@Component
+public class ReactionReadyRegistry {
+
+    private final int maxPlayers;
+    private final Map<Long, ReactionReadySet> sessions = new ConcurrentHashMap<>();
+
+    public ReactionReadyRegistry(SessionConfig sessionConfig, MeterRegistry meterRegistry) {
+        this.maxPlayers = sessionConfig.getMaxPlayers();
+
+        Gauge.builder("reaction.ready.sessions", sessions, Map::size)
+                .description("준비 상태를 메모리에 유지 중인 반응속도 세션 수")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 준비 상태를 바꾸고 바뀐 뒤의 집합을 반환한다.
+     */
+    public ReactionReadySet mark(Long sessionId, Long userId, boolean ready) {
+        ReactionReadySet set = ready
+                ? sessions.computeIfAbsent(sessionId, id -> new ReactionReadySet(id, maxPlayers))
+                : sessions.get(sessionId);
+        if (set != null) {
+            set.mark(userId, ready);
+        }
+        return set;
+    }
+
+    public int count(Long sessionId) {
+        ReactionReadySet set = sessions.get(sessionId);
+        return set != null ? set.count() : 0;
+    }
+
+    public List<Long> readyUserIds(Long sessionId) {
+        ReactionReadySet set = sessions.get(sessionId);
+        return set != null ? set.readyUserIds() : List.of();
+    }
+
+    public void evictSession(Long sessionId) {
+        sessions.remove(sessionId);
+    }
+
+    public int size() {
+        return sessions.size();
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onSessionEnded(SessionEndedEvent event) {
+        evictSession(event.sessionId());
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onMemberLeft(LobbyEvents.MemberLeftEvent event) {
+        ReactionReadySet set = sessions.get(event.getSessionId());
+        if (set == null) {
+            return;
+        }
+        try {
+            set.mark(Long.parseLong(event.getUserUid()), false);
+        } catch (NumberFormatException e) {
+            log.debug("[REACTION-READY] Ignoring non-numeric uid on leave: sid={}, uid={}",
+                    event.getSessionId(), event.getUserUid());
+        }
+    }
+}
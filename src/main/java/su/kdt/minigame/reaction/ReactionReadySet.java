@@ -0,0 +1,143 @@
+package su.kdt.minigame.reaction;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * 반응속도 세션 1개의 준비 완료 집합
+ *
+ * 참가자마다 처음 준비할 때 좌석 번호를 한 번 배정하고, 준비 여부는 좌석 비트에 CAS로 기록한다.
+ * 준비/해제는 락 없이 O(1)이며, 준비 인원 수는 비트가 실제로 바뀐 경우에만 증감하므로 항상 비트와 일치한다.
+ * 좌석 수(SessionConfig.maxPlayers를 64 단위로 올림)를 넘는 참가자는 입퇴장이 반복된 경우뿐이므로 보조 집합에 기록한다.
+ */
+public final class ReactionReadySet {
+
+    private final long sessionId;
+    private final int capacity;
+    private final AtomicLongArray ready;
+    private final AtomicLongArray seatUsers; // 좌석 → userId
+    private final Map<Long, Integer> seats = new ConcurrentHashMap<>();
+    private final Set<Long> overflow = ConcurrentHashMap.newKeySet();
+    private final AtomicInteger readyCount = new AtomicInteger();
+    private int nextSeat; // guarded by this
+
+    public ReactionReadySet(long sessionId, int maxPlayers) {
+        this.sessionId = sessionId;
+        int words = Math.max(1, (maxPlayers + 63) >>> 6);
+        this.capacity = words << 6;
+        this.ready = new AtomicLongArray(words);
+        this.seatUsers = new AtomicLongArray(capacity);
+    }
+
+    /**
+     * 준비 상태를 바꾼다.
+     *
+     * @return 이번 호출로 상태가 바뀌었으면 true (이미 같은 상태면 false)
+     */
+    public boolean mark(long userId, boolean isReady) {
+        int seat = isReady ? seatOrAssign(userId) : seatOf(userId);
+        boolean changed;
+        if (seat >= 0) {
+            changed = isReady ? setBit(seat) : clearBit(seat);
+        } else if (isReady) {
+            changed = overflow.add(userId);
+        } else {
+            changed = overflow.remove(userId);
+        }
+        if (changed) {
+            readyCount.addAndGet(isReady ? 1 : -1);
+        }
+        return changed;
+    }
+
+    public boolean isReady(long userId) {
+        int seat = seatOf(userId);
+        if (seat >= 0) {
+            return (ready.get(seat >>> 6) & (1L << (seat & 63))) != 0;
+        }
+        return overflow.contains(userId);
+    }
+
+    public int count() {
+        return readyCount.get();
+    }
+
+    /**
+     * 준비한 참가자 목록 (좌석 순, 즉 처음 준비한 순서)
+     */
+    public List<Long> readyUserIds() {
+        List<Long> userIds = new ArrayList<>(Math.max(0, readyCount.get()));
+        for (int word = 0; word < ready.length(); word++) {
+            long bits = ready.get(word);
+            while (bits != 0) {
+                int seat = (word << 6) + Long.numberOfTrailingZeros(bits);
+                userIds.add(seatUsers.get(seat));
+                bits &= bits - 1;
+            }
+        }
+        userIds.addAll(overflow);
+        return userIds;
+    }
+
+    public long sessionId() {
+        return sessionId;
+    }
+
+    private int seatOf(long userId) {
+        Integer seat = seats.get(userId);
+        return seat != null ? seat : -1;
+    }
+
+    private int seatOrAssign(long userId) {
+        Integer seat = seats.get(userId);
+        if (seat != null) {
+            return seat;
+        }
+        synchronized (this) {
+            seat = seats.get(userId);
+            if (seat != null) {
+                return seat;
+            }
+            if (nextSeat >= capacity) {
+                return -1;
+            }
+            int assigned = nextSeat++;
+            seatUsers.set(assigned, userId); // 좌석 공개(seats.put) 전에 기록
+            seats.put(userId, assigned);
+            return assigned;
+        }
+    }
+
+    private boolean setBit(int seat) {
+        int word = seat >>> 6;
+        long bit = 1L << (seat & 63);
+        while (true) {
+            long current = ready.get(word);
+            if ((current & bit) != 0) {
+                return false;
+            }
+            if (ready.compareAndSet(word, current, current | bit)) {
+                return true;
+            }
+        }
+    }
+
+    private boolean clearBit(int seat) {
+        int word = seat >>> 6;
+        long bit = 1L << (seat & 63);
+        while (true) {
+            long current = ready.get(word);
+            if ((current & bit) == 0) {
+                return false;
+            }
+            if (ready.compareAndSet(word, current, current & ~bit)) {
+                return true;
+            }
+        }
+    }
+}
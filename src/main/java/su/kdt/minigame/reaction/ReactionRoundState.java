@@ -0,0 +1,243 @@
+package su.kdt.minigame.reaction;
+
+import su.kdt.minigame.domain.ReactionResult;
+import su.kdt.minigame.support.GameDeadlineService;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * 진행 중인 반응속도 라운드 1개의 메모리 상태 (WAITING → PREPARING → RED → FINISHED)
+ *
+ * 타이머는 DB를 읽지 않고 이 상태만 CAS로 전이시킨 뒤 바로 브로드캐스트한다.
+ * RED 시각은 단조 시계(nanoTime)와 벽시계(epoch ms)로 함께 기록해, 반응 시간 계산은 nanoTime으로 하고
+ * 클라이언트 전송/DB 저장에는 epoch 값을 쓴다. DB(reaction_round)는 상태 전이 뒤 비동기로 따라온다.
+ *
+ * 클릭(과 시간 초과 결과)은 참가자별로 putIfAbsent 한 번으로 기록되어 중복 클릭이 쿼리 없이 걸러진다.
+ * 클릭은 엔티티가 아닌 값으로 보관하고 조회할 때마다 새 ReactionResult를 만들어 준다.
+ * 클릭은 저널 없이 이 노드 메모리에만 있으므로, 종료 처리 전에 노드가 죽으면 진행 중 라운드의 클릭은 사라진다
+ * (RED 시각과 전이 타이머도 메모리에만 있어 그 라운드는 어차피 다시 진행해야 하므로 클릭만 따로 남기지 않는다).
+ * 결과는 종료 처리 때 한 번에 저장되며(실패 후 재시도해도 이전 시도에서 id를 받은 엔티티를 다시 쓰지 않는다), 순위 계산/종료 처리는 전원의 결과가 모인 뒤 tryComplete에 성공한 한 곳에서만 실행된다.
+ */
+public final class ReactionRoundState {
+
+    public enum Phase { WAITING, PREPARING, RED, FINISHED }
+
+    private final long roundId;
+    private final long sessionId;
+    private final AtomicReference<Snapshot> snapshot;
+    private final Map<Long, Click> clicks = new ConcurrentHashMap<>();
+    private final AtomicBoolean completed = new AtomicBoolean();
+    private volatile int expectedCount;
+    private volatile ScheduledFuture<?> phaseTimer;
+    private volatile GameDeadlineService.Handle deadlineHandle;
+
+    ReactionRoundState(long roundId, long sessionId, int expectedCount, Phase phase, long redAtNanos, long redAtEpochMs) {
+        this.roundId = roundId;
+        this.sessionId = sessionId;
+        this.expectedCount = expectedCount;
+        this.snapshot = new AtomicReference<>(new Snapshot(phase, redAtNanos, redAtEpochMs));
+    }
+
+    /**
+     * WAITING → PREPARING. 이미 전이되었거나 종료된 라운드면 false.
+     */
+    public boolean tryPrepare() {
+        Snapshot current = snapshot.get();
+        return current.phase() == Phase.WAITING
+                && snapshot.compareAndSet(current, new Snapshot(Phase.PREPARING, 0L, 0L));
+    }
+
+    /**
+     * PREPARING → RED. 전이에 성공한 호출의 시각이 RED 시각이 된다.
+     */
+    public boolean tryRed(long nowNanos, long nowEpochMs) {
+        Snapshot current = snapshot.get();
+        return current.phase() == Phase.PREPARING
+                && snapshot.compareAndSet(current, new Snapshot(Phase.RED, nowNanos, nowEpochMs));
+    }
+
+    /**
+     * 라운드를 종료 상태로 바꾸고 남은 타이머를 취소한다. RED 시각은 유지된다.
+     */
+    public void finish() {
+        while (true) {
+            Snapshot current = snapshot.get();
+            if (current.phase() == Phase.FINISHED
+                    || snapshot.compareAndSet(current, new Snapshot(Phase.FINISHED, current.redAtNanos(), current.redAtEpochMs()))) {
+                break;
+            }
+        }
+        cancelTimers();
+    }
+
+    /**
+     * 참가자의 클릭(또는 시간 초과 결과)을 기록한다. 참가자별로 처음 한 번만 기록된다.
+     *
+     * @return 처음 기록했으면 null, 이미 기록이 있으면 기존 결과
+     */
+    public ReactionResult tryClick(long userId, ReactionResult result) {
+        Click existing = clicks.putIfAbsent(userId, Click.of(result));
+        return existing != null ? existing.toResult(roundId, userId) : null;
+    }
+
+    public ReactionResult clickOf(long userId) {
+        Click click = clicks.get(userId);
+        return click != null ? click.toResult(roundId, userId) : null;
+    }
+
+    public int clickCount() {
+        return clicks.size();
+    }
+
+    /**
+     * 기록된 결과 목록 - 호출할 때마다 새로 만든(아직 저장되지 않은) 엔티티
+     */
+    public List<ReactionResult> results() {
+        List<ReactionResult> results = new ArrayList<>(clicks.size());
+        clicks.forEach((userId, click) -> results.add(click.toResult(roundId, userId)));
+        return results;
+    }
+
+    /**
+     * 참여 예정자 전원의 결과가 기록되었는지
+     */
+    public boolean isAllClicked() {
+        int expected = expectedCount;
+        return expected > 0 && clicks.size() >= expected;
+    }
+
+    /**
+     * 참여 예정자 수를 현재 멤버 수로 맞춘다 (중간 입장/퇴장).
+     */
+    public void updateExpectedCount(int expectedCount) {
+        this.expectedCount = expectedCount;
+    }
+
+    public int expectedCount() {
+        return expectedCount;
+    }
+
+    /**
+     * 순위 계산/종료 처리를 맡을 곳을 하나로 정한다 (마지막 클릭/시간 초과 중 먼저 도착한 쪽만 true).
+     */
+    public boolean tryComplete() {
+        return completed.compareAndSet(false, true);
+    }
+
+    /**
+     * 종료 조건이 맞지 않았거나 처리에 실패했을 때 다시 진행 상태로 되돌린다.
+     */
+    public void reopen() {
+        completed.set(false);
+    }
+
+    /**
+     * PREPARING/RED 전이 타이머를 연결한다 (이전 타이머는 이미 실행된 것이므로 교체만 한다).
+     */
+    public void attachPhaseTimer(ScheduledFuture<?> timer) {
+        this.phaseTimer = timer;
+    }
+
+    /**
+     * 미제출자 시간 초과 마감 작업을 연결한다.
+     */
+    public void attachDeadline(GameDeadlineService.Handle handle) {
+        GameDeadlineService.Handle previous = this.deadlineHandle;
+        this.deadlineHandle = handle;
+        if (previous != null && previous != handle) {
+            previous.cancel();
+        }
+    }
+
+    public void cancelTimers() {
+        ScheduledFuture<?> timer = this.phaseTimer;
+        if (timer != null) {
+            timer.cancel(false);
+        }
+        GameDeadlineService.Handle handle = this.deadlineHandle;
+        if (handle != null) {
+            handle.cancel();
+        }
+    }
+
+    public Phase phase() {
+        return snapshot.get().phase();
+    }
+
+    /**
+     * DB와 클라이언트가 쓰는 상태 문자열
+     */
+    public String status() {
+        return phase().name();
+    }
+
+    public boolean isActive() {
+        return phase() != Phase.FINISHED;
+    }
+
+    /**
+     * 종료되었거나 종료 처리가 진행 중이어서 새 결과를 받지 않는지
+     */
+    public boolean isClosed() {
+        return completed.get() || !isActive();
+    }
+
+    /**
+     * RED 신호가 나갔는지 (종료된 라운드도 RED를 거쳤으면 true)
+     */
+    public boolean hasRedSignal() {
+        return snapshot.get().redAtEpochMs() != 0L;
+    }
+
+    /**
+     * RED 시각 (nanoTime 기준). RED 전이면 0.
+     */
+    public long redAtNanos() {
+        return snapshot.get().redAtNanos();
+    }
+
+    /**
+     * RED 시각 (epoch ms). RED 전이면 0.
+     */
+    public long redAtEpochMs() {
+        return snapshot.get().redAtEpochMs();
+    }
+
+    public Instant redAt() {
+        long epochMs = redAtEpochMs();
+        return epochMs != 0L ? Instant.ofEpochMilli(epochMs) : null;
+    }
+
+    public long roundId() {
+        return roundId;
+    }
+
+    public long sessionId() {
+        return sessionId;
+    }
+
+    private record Snapshot(Phase phase, long redAtNanos, long redAtEpochMs) {}
+
+    /**
+     * 참가자 한 명의 클릭 값 (deltaMs는 부정출발/시간 초과면 null)
+     */
+    private record Click(Instant clickedAt, Integer deltaMs, boolean falseStart) {
+
+        static Click of(ReactionResult result) {
+            return new Click(result.getClickedAt(), result.getDeltaMs(), Boolean.TRUE.equals(result.getFalseStart()));
+        }
+
+        ReactionResult toResult(long roundId, long userId) {
+            ReactionResult result = new ReactionResult(roundId, userId);
+            result.recordClick(clickedAt, deltaMs, falseStart);
+            return result;
+        }
+    }
+}
@@ -0,0 +1,196 @@
+package su.kdt.minigame.reaction;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import su.kdt.minigame.domain.ReactionResult;
+import su.kdt.minigame.domain.ReactionRound;
+import su.kdt.minigame.event.SessionEndedEvent;
+import su.kdt.minigame.repository.GameSessionMemberRepo;
+import su.kdt.minigame.repository.ReactionResultRepo;
+import su.kdt.minigame.repository.ReactionRoundRepo;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 진행 중인 반응속도 라운드 상태 저장소
+ *
+ * 라운드가 만들어질 때 현재 멤버 수를 참여 예정자 수로 삼아 WAITING 상태로 열고, 세션마다 가장 최근 라운드 하나만 유지한다.
+ * 노드 재시작 등으로 상태가 없으면 DB에 저장된 상태/RED 시각과 이미 저장된 결과로 다시 만든다.
+ * 세션별 순위표({@link ReactionLeaderboard})도 함께 유지하며, 세션 종료 시 라운드 상태와 같이 정리된다.
+ */
+@Slf4j
+@Component
+public class ReactionRoundStateStore {
+
+    private final GameSessionMemberRepo memberRepo;
+    private final ReactionResultRepo resultRepo;
+    private final ReactionRoundRepo roundRepo;
+    private final Map<Long, ReactionRoundState> rounds = new ConcurrentHashMap<>();
+    private final Map<Long, Long> currentRoundBySession = new ConcurrentHashMap<>();
+    private final Map<Long, ReactionLeaderboard> leaderboards = new ConcurrentHashMap<>();
+
+    private final Counter reconciledCounter;
+
+    public ReactionRoundStateStore(GameSessionMemberRepo memberRepo, ReactionResultRepo resultRepo,
+                                   ReactionRoundRepo roundRepo, MeterRegistry meterRegistry) {
+        this.memberRepo = memberRepo;
+        this.resultRepo = resultRepo;
+        this.roundRepo = roundRepo;
+
+        Gauge.builder("reaction.round.states", rounds, Map::size)
+                .description("메모리에 유지 중인 반응속도 라운드 상태 수")
+                .register(meterRegistry);
+        this.reconciledCounter = Counter.builder("reaction.round.state.reconciled")
+                .description("DB에서 다시 만든 반응속도 라운드 상태 수")
+                .register(meterRegistry);
+        Gauge.builder("reaction.leaderboards", leaderboards, Map::size)
+                .description("메모리에 유지 중인 반응속도 세션 순위표 수")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 새 라운드 상태를 연다. 같은 세션의 이전 라운드 상태는 타이머와 함께 정리된다.
+     */
+    public ReactionRoundState open(ReactionRound round) {
+        ReactionRoundState created = fromEntity(round, (int) memberRepo.countBySessionId(round.getSessionId()));
+        ReactionRoundState existing = rounds.putIfAbsent(created.roundId(), created);
+        ReactionRoundState state = existing != null ? existing : created;
+        leaderboard(state.sessionId());
+
+        Long previous = currentRoundBySession.put(state.sessionId(), state.roundId());
+        if (previous != null && previous != state.roundId()) {
+            ReactionRoundState removed = rounds.remove(previous);
+            if (removed != null) {
+                removed.cancelTimers();
+            }
+        }
+        log.debug("[REACTION-STATE] Opened round state: sid={}, rid={}, phase={}",
+                state.sessionId(), state.roundId(), state.phase());
+        return state;
+    }
+
+    public ReactionRoundState find(Long roundId) {
+        return roundId != null ? rounds.get(roundId) : null;
+    }
+
+    /**
+     * 세션의 가장 최근 라운드 상태. 메모리에 없으면 null.
+     */
+    public ReactionRoundState current(Long sessionId) {
+        Long roundId = currentRoundBySession.get(sessionId);
+        return roundId != null ? rounds.get(roundId) : null;
+    }
+
+    /**
+     * 라운드 상태를 조회하고, 없으면 DB 기록으로 복구한다.
+     */
+    public ReactionRoundState getOrLoad(ReactionRound round) {
+        ReactionRoundState state = rounds.get(round.getRoundId());
+        if (state != null) {
+            return state;
+        }
+
+        List<ReactionResult> results = resultRepo.findByRoundIdOrderByPerformance(round.getRoundId());
+        ReactionRoundState loaded = fromEntity(round, (int) memberRepo.countBySessionId(round.getSessionId()));
+        ReactionLeaderboard board = leaderboard(round.getSessionId());
+        for (ReactionResult result : results) {
+            if (loaded.tryClick(result.getUserId(), result) == null) {
+                board.record(result);
+            }
+        }
+        if ("FINISHED".equals(round.getStatus())) {
+            loaded.tryComplete();
+        }
+
+        ReactionRoundState existing = rounds.putIfAbsent(loaded.roundId(), loaded);
+        if (existing != null) {
+            return existing;
+        }
+        currentRoundBySession.merge(loaded.sessionId(), loaded.roundId(), Math::max);
+        reconciledCounter.increment();
+        log.info("[REACTION-STATE] Reconciled round state from DB: sid={}, rid={}, phase={}, clicked={}/{}",
+                loaded.sessionId(), loaded.roundId(), loaded.phase(), loaded.clickCount(), loaded.expectedCount());
+        return loaded;
+    }
+
+    /**
+     * 세션 순위표. 메모리에 없으면 세션의 저장된 결과로 만든다.
+     */
+    public ReactionLeaderboard leaderboard(Long sessionId) {
+        ReactionLeaderboard board = leaderboards.get(sessionId);
+        if (board != null) {
+            return board;
+        }
+        // DB 조회를 맵 잠금 밖에서 하고, 동시에 만든 쪽이 있으면 먼저 들어간 순위표를 쓴다
+        ReactionLeaderboard loaded = loadLeaderboard(sessionId);
+        ReactionLeaderboard existing = leaderboards.putIfAbsent(sessionId, loaded);
+        return existing != null ? existing : loaded;
+    }
+
+    /**
+     * 메모리에 있는 세션 순위표. 없으면 null.
+     */
+    public ReactionLeaderboard findLeaderboard(Long sessionId) {
+        return leaderboards.get(sessionId);
+    }
+
+    /**
+     * 저장된 결과로 순위표를 만든다 (메모리에 보관하지 않음, 종료된 세션 조회용).
+     */
+    public ReactionLeaderboard loadLeaderboard(Long sessionId) {
+        List<Long> roundIds = roundRepo.findBySessionId(sessionId).stream()
+                .map(ReactionRound::getRoundId)
+                .toList();
+        List<ReactionResult> results = roundIds.isEmpty() ? List.of() : resultRepo.findByRoundIdIn(roundIds);
+        return ReactionLeaderboard.of(sessionId, results);
+    }
+
+    public void evictSession(Long sessionId) {
+        currentRoundBySession.remove(sessionId);
+        leaderboards.remove(sessionId);
+        rounds.values().removeIf(state -> {
+            if (state.sessionId() != sessionId) {
+                return false;
+            }
+            state.cancelTimers();
+            return true;
+        });
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onSessionEnded(SessionEndedEvent event) {
+        evictSession(event.sessionId());
+    }
+
+    public int size() {
+        return rounds.size();
+    }
+
+    private static ReactionRoundState fromEntity(ReactionRound round, int expectedCount) {
+        ReactionRoundState.Phase phase;
+        try {
+            phase = ReactionRoundState.Phase.valueOf(round.getStatus());
+        } catch (IllegalArgumentException | NullPointerException e) {
+            phase = ReactionRoundState.Phase.WAITING;
+        }
+
+        long redAtNanos = 0L;
+        long redAtEpochMs = 0L;
+        Instant redAt = round.getRedAt();
+        if (redAt != null) {
+            // 저장된 벽시계 시각을 현재 nanoTime 축으로 옮긴다 (복구된 라운드에서만 쓰임)
+            redAtEpochMs = redAt.toEpochMilli();
+            redAtNanos = System.nanoTime() - TimeUnit.MILLISECONDS.toNanos(System.currentTimeMillis() - redAtEpochMs);
+        }
+        return new ReactionRoundState(round.getRoundId(), round.getSessionId(), expectedCount, phase, redAtNanos, redAtEpochMs);
+    }
+}
@@ -23,6 +23,9 @@ public interface GameSessionMemberRepo extends JpaRepository<GameSessionMember,
     List<GameSessionMember> findBySessionIdOrderByJoinedAt(@Param("sessionId") Long sessionId);
     
     Optional<GameSessionMember> findBySessionIdAndUserId(Long sessionId, Long userId);
+
+    @Query("SELECT gsm.userId FROM GameSessionMember gsm WHERE gsm.sessionId = :sessionId")
+    List<Long> findUserIdsBySessionId(@Param("sessionId") Long sessionId);
     
     @Modifying
     @Transactional
@@ -5,6 +5,7 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import su.kdt.minigame.domain.QuizAnswer;
 import su.kdt.minigame.domain.QuizRound;
+import java.util.List;
 import java.util.Optional;
 
 public interface QuizAnswerRepository extends JpaRepository<QuizAnswer, Long> {
@@ -30,6 +31,12 @@ public interface QuizAnswerRepository extends JpaRepository<QuizAnswer, Long> {
     @Query("SELECT COUNT(DISTINCT qa.userId) FROM QuizAnswer qa WHERE qa.round = :round")
     long countDistinctUserUidsByRound(@Param("round") QuizRound round);
     
+    /**
+     * 특정 라운드에 답변을 제출한 사용자 ID 목록 (메모리 라운드 상태 복구용)
+     */
+    @Query("SELECT DISTINCT qa.userId FROM QuizAnswer qa WHERE qa.round.roundId = :roundId")
+    List<Long> findAnsweredUserIdsByRoundId(@Param("roundId") Long roundId);
+
     /**
      * 특정 라운드에 답변을 제출한 사용자 수를 계산합니다 (round ID 기준).
      */
@@ -65,4 +72,22 @@ public interface QuizAnswerRepository extends JpaRepository<QuizAnswer, Long> {
      * 특정 라운드와 사용자의 답변을 조회합니다.
      */
     Optional<QuizAnswer> findByRoundAndUserId(QuizRound round, Long userId);
+
+    /**
+     * 세션의 채점된 답변 전체를 한 번에 조회합니다 (메모리 점수판 적재용).
+     */
+    @Query("SELECT qr.roundId AS roundId, qa.userId AS userId, qa.isCorrect AS isCorrect, " +
+           "qa.score AS score, qa.responseTimeMs AS responseTimeMs " +
+           "FROM QuizAnswer qa JOIN qa.round qr " +
+           "WHERE qr.sessionId = :sessionId AND qa.userId IS NOT NULL " +
+           "ORDER BY qr.roundId")
+    List<AnswerScoreRow> findAnswerScoresBySessionId(@Param("sessionId") Long sessionId);
+
+    interface AnswerScoreRow {
+        Long getRoundId();
+        Long getUserId();
+        Boolean getIsCorrect();
+        Integer getScore();
+        Long getResponseTimeMs();
+    }
 }
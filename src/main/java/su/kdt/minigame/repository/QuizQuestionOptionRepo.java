@@ -18,4 +18,7 @@ public interface QuizQuestionOptionRepo extends JpaRepository<QuizQuestionOption
            "JOIN QuizRound r ON r.question.id = q.id " +
            "WHERE r.roundId = :roundId AND qo.optionId = :optionId")
     boolean existsByRoundIdAndOptionId(@Param("roundId") Long roundId, @Param("optionId") Long optionId);
+
+    @Query("SELECT COALESCE(MAX(qo.optionId), 0) FROM QuizQuestionOption qo")
+    long findMaxOptionId();
 }
\ No newline at end of file
@@ -47,4 +47,11 @@ public interface QuizQuestionRepo extends JpaRepository<QuizQuestion, Long> {
   Page<QuizQuestion> searchWithOptions(@Param("placeId") Long placeId,
                                        @Param("category") String category,
                                        Pageable pageable);
+
+  @EntityGraph(attributePaths = "options")
+  @Query("SELECT DISTINCT q FROM QuizQuestion q ORDER BY q.id")
+  List<QuizQuestion> findAllWithOptions();
+
+  @Query("SELECT COALESCE(MAX(q.id), 0) FROM QuizQuestion q")
+  long findMaxId();
 }
\ No newline at end of file
@@ -1,6 +1,8 @@
 package su.kdt.minigame.repository;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import su.kdt.minigame.domain.QuizRound;
 
 import java.util.List;
@@ -17,4 +19,10 @@ public interface QuizRoundRepo extends JpaRepository<QuizRound, Long> {
      * 세션의 라운드를 시작시간 내림차순으로 조회 (최신순)
      */
     List<QuizRound> findBySessionIdOrderByStartsAtDesc(Long sessionId);
-}
\ No newline at end of file
+
+    /**
+     * 세션에서 이미 출제된 문제 id 목록
+     */
+    @Query("SELECT r.question.id FROM QuizRound r WHERE r.sessionId = :sessionId")
+    List<Long> findQuestionIdsBySessionId(@Param("sessionId") Long sessionId);
+}
@@ -1,8 +1,13 @@
 package su.kdt.minigame.repository;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 import su.kdt.minigame.domain.ReactionRound;
 
+import java.time.Instant;
 import java.util.List;
 import java.util.Optional;
 
@@ -22,4 +27,12 @@ public interface ReactionRoundRepo extends JpaRepository<ReactionRound, Long> {
      * 세션의 모든 라운드 조회
      */
     List<ReactionRound> findBySessionId(Long sessionId);
-}
\ No newline at end of file
+
+    /**
+     * 메모리 상태 전이(PREPARING/RED)를 DB에 반영한다. 이미 종료된 라운드는 되돌리지 않는다.
+     */
+    @Modifying
+    @Transactional
+    @Query("UPDATE ReactionRound r SET r.status = :status, r.redAt = :redAt WHERE r.roundId = :roundId AND r.status <> 'FINISHED'")
+    int updatePhase(@Param("roundId") Long roundId, @Param("status") String status, @Param("redAt") Instant redAt);
+}
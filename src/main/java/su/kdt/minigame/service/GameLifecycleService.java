@@ -2,14 +2,17 @@ package su.kdt.minigame.service;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import su.kdt.minigame.domain.GameSession;
 import su.kdt.minigame.domain.GameSessionMember;
+import su.kdt.minigame.event.SessionEndedEvent;
 import su.kdt.minigame.repository.GameRepo;
 import su.kdt.minigame.repository.GameSessionMemberRepo;
 import su.kdt.minigame.service.QuizService;
 import su.kdt.minigame.service.ReactionGameService;
+import su.kdt.minigame.support.TransactionCallbacks;
 
 import java.time.Instant;
 import java.util.*;
@@ -28,6 +31,7 @@ public class GameLifecycleService {
 
     private final GameRepo gameRepo;
     private final GameSessionMemberRepo memberRepo;
+    private final ApplicationEventPublisher eventPublisher;
     private final SSEService sseService;
     private final QuizService quizService;
     private final ReactionGameService reactionGameService;
@@ -260,22 +264,15 @@ public class GameLifecycleService {
             // 게임 시작 브로드캐스트
             broadcastGameStart(sessionId, session);
             
-            // 🚀 퀴즈 게임인 경우 첫 번째 라운드를 같은 트랜잭션에서 즉시 생성
+            // 🚀 퀴즈 게임인 경우 게임 시작이 커밋된 직후 세션 메일박스에서 첫 번째 라운드 생성
+            // (라운드 생성은 별도 트랜잭션이므로 이 트랜잭션 안에서 기다리면 세션 행 잠금을 서로 기다리게 됨)
             if (session.getGameType() == GameSession.GameType.QUIZ) {
                 final String category = session.getCategory() != null ? session.getCategory() : "상식";
-                try {
+                // 실패하면 재시도하고, 끝내 실패하면 세션을 대기 상태로 되돌린다
+                TransactionCallbacks.afterCommit(() -> {
                     log.info("[LIFECYCLE] ⚡ Creating first quiz round for session {} with category {}", sessionId, category);
-                    quizService.startRoundForSession(sessionId);
-                    log.info("[LIFECYCLE] ✅ First quiz round created successfully for session {} with category {}", sessionId, category);
-                } catch (org.springframework.dao.DataIntegrityViolationException e) {
-                    // 🔒 중복 라운드 생성 시도 → 멱등성 처리
-                    log.warn("[LIFECYCLE] ⚠️ Duplicate round creation detected for session {} - proceeding as idempotent success", sessionId);
-                    // 중복 생성은 정상적인 멱등성 시나리오로 처리 (오류 아님)
-                } catch (Exception e) {
-                    log.error("[LIFECYCLE] ❌ Failed to create first quiz round atomically for session {}: {}", sessionId, e.getMessage(), e);
-                    // 다른 예외는 실제 오류이므로 롤백
-                    throw new IllegalStateException("첫 번째 퀴즈 라운드 생성에 실패했습니다: " + e.getMessage(), e);
-                }
+                    quizService.startFirstRound(sessionId, () -> revertToWaiting(sessionId));
+                });
             }
             
             // 🚀 리액션 게임인 경우 첫 번째 라운드를 같은 트랜잭션에서 즉시 생성
@@ -325,6 +322,7 @@ public class GameLifecycleService {
             // 게임 종료
             session.finish("게임 완료");
             gameRepo.save(session);
+            eventPublisher.publishEvent(new SessionEndedEvent(session.getId()));
             
             state.setStatus(GameSession.Status.FINISHED);
             state.getGameData().put("results", results);
@@ -375,6 +373,26 @@ public class GameLifecycleService {
         }
     }
 
+    /**
+     * 첫 라운드를 만들지 못한 세션을 대기 상태로 되돌리고 에러를 알린다 (참가자가 다시 시작할 수 있도록)
+     */
+    private void revertToWaiting(Long sessionId) {
+        try {
+            gameRepo.findById(sessionId).ifPresent(session -> {
+                if (session.getStatus() == GameSession.Status.IN_PROGRESS) {
+                    session.setStatus(GameSession.Status.WAITING);
+                    session.setStartedAt(null);
+                    gameRepo.save(session);
+                }
+            });
+            getOrCreateSessionState(sessionId).setStatus(GameSession.Status.WAITING);
+            log.warn("[LIFECYCLE] Session {} reverted to WAITING after first round creation failed", sessionId);
+        } catch (Exception e) {
+            log.error("[LIFECYCLE] Failed to revert session {} to WAITING: {}", sessionId, e.getMessage(), e);
+        }
+        handleGameError(sessionId, "FIRST_ROUND_FAILED", "첫 라운드를 만들지 못해 대기 상태로 돌아갑니다. 다시 시작해 주세요", false);
+    }
+
     /**
      * 에러 처리
      */
@@ -604,4 +622,4 @@ public class GameLifecycleService {
         Set<String> sessionReadyPlayers = readyPlayers.get(sessionId);
         return sessionReadyPlayers != null && sessionReadyPlayers.contains(userUid);
     }
-}
\ No newline at end of file
+}
@@ -190,8 +190,8 @@ public class GameSessionService {
         }
 
         // 6. 멤버 추가 (중복 방지를 위해 try-catch 사용)
+        GameSessionMember newMember = new GameSessionMember(sessionId, userId);
         try {
-            GameSessionMember newMember = new GameSessionMember(sessionId, userId);
             
             // REACTION 게임의 경우 자동으로 ready 상태로 설정
             if (session.getGameType() == GameSession.GameType.REACTION) {
@@ -214,9 +214,9 @@ public class GameSessionService {
         eventPublisher.publishEvent(new LobbyEvents.MemberJoinedEvent(sessionId, String.valueOf(userId), gameType));
         log.info("✅ [JOIN-EVENT] Event published successfully");
         
-        // 8. 즉시 강제 브로드캐스트 (이벤트 리스너 실패 시 백업)
-        log.info("🔥 [FORCE-SYNC] Triggering immediate lobby broadcast as fallback");
-        lobbyBroadcastService.delayedBroadcast(sessionId, gameType);
+        // 8. 로비 델타 브로드캐스트 (새 멤버 한 명만 전송)
+        LobbyQueryService.MemberInfo addedMember = lobbyQueryService.toMemberInfo(session, newMember);
+        lobbyBroadcastService.publishMemberAdded(sessionId, gameType, addedMember);
         
         // 세션 상태 브로드캐스트 (참가자 입장) - 즉시 필요한 부분만
         broadcastSessionState(sessionId, "PLAYER_JOINED");
@@ -315,9 +315,8 @@ public class GameSessionService {
         String gameType = session.getGameType().name();
         eventPublisher.publishEvent(new LobbyEvents.MemberLeftEvent(sessionId, String.valueOf(userId), gameType));
         
-        // 즉시 강제 브로드캐스트 (이벤트 리스너 실패 시 백업)
-        log.info("🔥 [FORCE-SYNC] Triggering immediate lobby broadcast for member leave");
-        lobbyBroadcastService.delayedBroadcast(sessionId, gameType);
+        // 로비 델타 브로드캐스트 (나간 멤버만 전송)
+        lobbyBroadcastService.publishMemberRemoved(sessionId, gameType, String.valueOf(userId), "LEFT");
         
         // 세션 상태 브로드캐스트 (참가자 퇴장) - 즉시 필요한 부분만
         broadcastSessionState(sessionId, "PLAYER_LEFT");
@@ -459,17 +458,9 @@ public class GameSessionService {
         sseService.sendToUser(sessionId, String.valueOf(targetUserId), "player-kicked", 
                 Map.of("message", "방장에 의해 강퇴되었습니다."));
         
-        // 업데이트된 멤버 목록 SSE 브로드캐스트
-        LobbyQueryService.LobbySnapshot updatedSnapshot = lobbyQueryService.getLobbySnapshot(sessionId);
-        String gameType = session.getGameType().name().toLowerCase();
-        
-        if ("quiz".equals(gameType)) {
-            sseService.broadcastToQuizGame(sessionId, "members-update", updatedSnapshot.members());
-        } else if ("reaction".equals(gameType)) {
-            sseService.broadcastToReactionGame(sessionId, "members-update", updatedSnapshot.members());
-        } else {
-            sseService.broadcastToSession(sessionId, "members-update", updatedSnapshot.members());
-        }
+        // 로비 델타 브로드캐스트 (강퇴된 멤버만 전송)
+        lobbyBroadcastService.publishMemberRemoved(sessionId, session.getGameType().name(),
+                String.valueOf(targetUserId), "KICKED");
     }
 
     @Transactional  
@@ -487,21 +478,13 @@ public class GameSessionService {
         member.setReady(!member.isReady());
         memberRepo.save(member);
         
-        // 업데이트된 멤버 목록 SSE 브로드캐스트
-        LobbyQueryService.LobbySnapshot snapshot = lobbyQueryService.getLobbySnapshot(sessionId);
-        String gameType = session.getGameType().name().toLowerCase();
-        
-        if ("quiz".equals(gameType)) {
-            sseService.broadcastToQuizGame(sessionId, "members-update", snapshot.members());
-        } else if ("reaction".equals(gameType)) {
-            sseService.broadcastToReactionGame(sessionId, "members-update", snapshot.members());
-        } else {
-            sseService.broadcastToSession(sessionId, "members-update", snapshot.members());
-        }
+        // 로비 델타 브로드캐스트 (준비 상태가 바뀐 멤버만 전송)
+        lobbyBroadcastService.publishReadyChanged(sessionId, session.getGameType().name(),
+                member.getUserUid(), member.isReady());
         
         // 자동 시작 로직 제거 - 호스트가 명시적으로 시작해야 함
-        log.debug("[READY] Session {} ready status updated: members.size() = {}", 
-                sessionId, snapshot.count());
+        log.debug("[READY] Session {} ready status updated: user = {}, ready = {}", 
+                sessionId, userId, member.isReady());
     }
 
 
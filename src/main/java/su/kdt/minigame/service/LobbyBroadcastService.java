@@ -1,75 +1,239 @@
 package su.kdt.minigame.service;
 
-import lombok.RequiredArgsConstructor;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import su.kdt.minigame.config.SessionConfig;
+import su.kdt.minigame.event.GameEventOutbox;
+import su.kdt.minigame.event.SessionEndedEvent;
+import su.kdt.minigame.sse.SseChannel;
+import su.kdt.minigame.support.TransactionCallbacks;
+
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 /**
- * 강제 로비 동기화 서비스 - 이벤트 리스너가 작동하지 않을 경우 대비책
+ * 로비 이벤트 스트림 서비스
+ * 입장/퇴장/강퇴/준비 변경은 세션 버전이 붙은 델타(lobby-delta)로만 전송하고,
+ * 전체 스냅샷(lobby-update)은 최초 구독 시와 클라이언트가 버전 누락을 알렸을 때만 해당 사용자에게 보낸다.
+ *
+ * 델타는 실제 트랜잭션 커밋 시점에 세션별 대기열에 들어가고, 고정 크기 전송 풀이 세션 단위로 순서대로 처리한다.
+ * 버전을 붙인 델타와 스냅샷은 아웃박스의 세션 대기열로 넘겨, 같은 세션의 게임 이벤트와 한 순서로 전송된다.
+ * 같은 세션의 스냅샷 요청이 몰리면 스냅샷을 한 번만 만들어 요청한 사용자 모두에게 보낸다.
+ * 스냅샷에 이미 보이는 변경의 델타가 스냅샷 뒤에 올 수 있으므로 클라이언트는 델타를 멱등하게 적용한다 (LobbyQueryService.LobbyDelta).
  */
 @Slf4j
 @Service
-@RequiredArgsConstructor
 public class LobbyBroadcastService {
-    
-    private final SSEService sseService;
+
+    private final GameEventOutbox eventOutbox;
     private final LobbyQueryService lobbyQueryService;
-    
-    // 마지막 브로드캐스트 버전을 세션별로 추적
-    private final java.util.concurrent.ConcurrentHashMap<Long, Long> lastBroadcastVersions = 
-            new java.util.concurrent.ConcurrentHashMap<>();
-    
+    private final ThreadPoolExecutor executor;
+    private final Map<Long, SessionLane> lanes = new ConcurrentHashMap<>();
+
+    private final Counter snapshotRequestedCounter;
+    private final Counter snapshotBuiltCounter;
+
+    public LobbyBroadcastService(GameEventOutbox eventOutbox, LobbyQueryService lobbyQueryService,
+                                 SessionConfig sessionConfig, MeterRegistry meterRegistry) {
+        this.eventOutbox = eventOutbox;
+        this.lobbyQueryService = lobbyQueryService;
+
+        CustomizableThreadFactory threadFactory = new CustomizableThreadFactory("lobby-broadcast-");
+        threadFactory.setDaemon(true);
+        int threads = Math.max(1, sessionConfig.getLobbyBroadcastThreads());
+        // 대기열이 가득 차면 호출 스레드에서 직접 처리 (스레드/작업 무한 증가 방지)
+        this.executor = new ThreadPoolExecutor(threads, threads, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(sessionConfig.getLobbyBroadcastQueueCapacity()),
+                threadFactory, new ThreadPoolExecutor.CallerRunsPolicy());
+
+        this.snapshotRequestedCounter = Counter.builder("lobby.snapshot.requests")
+                .description("로비 스냅샷 전송 요청 수")
+                .register(meterRegistry);
+        this.snapshotBuiltCounter = Counter.builder("lobby.snapshot.builds")
+                .description("실제로 조회된 로비 스냅샷 수")
+                .register(meterRegistry);
+    }
+
+    public void publishMemberAdded(Long sessionId, String gameType, LobbyQueryService.MemberInfo member) {
+        afterCommit(sessionId, () -> publish(sessionId, gameType, LobbyQueryService.LobbyDelta.memberAdded(
+                sessionId, lobbyQueryService.nextVersion(sessionId), member)));
+    }
+
+    public void publishMemberRemoved(Long sessionId, String gameType, String uid, String reason) {
+        afterCommit(sessionId, () -> publish(sessionId, gameType, LobbyQueryService.LobbyDelta.memberRemoved(
+                sessionId, lobbyQueryService.nextVersion(sessionId), uid, reason)));
+    }
+
+    public void publishReadyChanged(Long sessionId, String gameType, String uid, boolean ready) {
+        afterCommit(sessionId, () -> publish(sessionId, gameType, LobbyQueryService.LobbyDelta.readyChanged(
+                sessionId, lobbyQueryService.nextVersion(sessionId), uid, ready)));
+    }
+
+    private void publish(Long sessionId, String gameType, LobbyQueryService.LobbyDelta delta) {
+        try {
+            String type = gameType.toLowerCase();
+            SseChannel channel = "quiz".equals(type) ? SseChannel.QUIZ
+                    : "reaction".equals(type) ? SseChannel.REACTION : SseChannel.SESSION;
+            eventOutbox.committed(sessionId, channel, "lobby-delta", delta, false);
+
+            log.info("📡 [LOBBY-DELTA] Queued {} via SSE - sessionId: {}, version: {}, uid: {}",
+                    delta.type(), sessionId, delta.version(), delta.uid());
+        } catch (Exception e) {
+            log.error("❌ [LOBBY-DELTA] Failed for sessionId: " + sessionId, e);
+        }
+    }
+
+    /**
+     * 전체 로비 스냅샷을 한 사용자에게만 전송합니다 (최초 구독, 버전 누락 보고 시).
+     * 같은 세션에서 동시에 들어온 요청은 스냅샷 조회 한 번으로 합쳐집니다.
+     */
+    public void sendSnapshot(Long sessionId, String userUid, SseChannel channel) {
+        snapshotRequestedCounter.increment();
+        SessionLane lane = lane(sessionId);
+        lane.requestSnapshot(userUid, channel);
+        schedule(sessionId, lane);
+    }
+
+    private void sendSnapshot(Long sessionId, Set<SnapshotTarget> requesters) {
+        LobbyQueryService.LobbySnapshot snapshot;
+        try {
+            snapshot = lobbyQueryService.getLobbySnapshot(sessionId);
+            snapshotBuiltCounter.increment();
+        } catch (Exception e) {
+            log.warn("[LOBBY-SNAPSHOT] Failed to build snapshot for session {}: {}", sessionId, e.getMessage());
+            return;
+        }
+
+        for (SnapshotTarget target : requesters) {
+            try {
+                eventOutbox.committedToUser(sessionId, target.userUid(), target.channel(), "lobby-update", snapshot);
+            } catch (Exception e) {
+                log.warn("[LOBBY-SNAPSHOT] Failed to send snapshot to user {} in session {}: {}", target.userUid(), sessionId, e.getMessage());
+            }
+        }
+
+        log.info("📡 [LOBBY-SNAPSHOT] Queued lobby-update to {} user(s) - sessionId: {}, version: {}, count: {}",
+                requesters.size(), sessionId, snapshot.version(), snapshot.count());
+    }
+
+    /**
+     * 세션 종료 시 세션별 대기열과 로비 버전을 정리합니다.
+     * 이미 대기 중인 델타가 모두 전송된 뒤에 정리되도록 같은 대기열에 넣어 처리합니다.
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onSessionEnded(SessionEndedEvent event) {
+        Long sessionId = event.sessionId();
+        SessionLane lane = lanes.get(sessionId);
+        if (lane == null) {
+            lobbyQueryService.evictVersion(sessionId);
+            return;
+        }
+        lane.deltas.offer(() -> {
+            lanes.remove(sessionId, lane);
+            lobbyQueryService.evictVersion(sessionId);
+            log.debug("[LOBBY] Evicted lobby state for ended session {}", sessionId);
+        });
+        schedule(sessionId, lane);
+    }
+
     /**
-     * 즉시 로비 스냅샷을 브로드캐스트합니다.
-     * GameSessionService에서 직접 호출하여 실시간 동기화를 보장합니다.
+     * 현재 트랜잭션이 커밋된 뒤 세션 대기열에 작업을 넣습니다 (롤백 시 폐기, 트랜잭션이 없으면 바로).
      */
-    public void broadcastLobbySnapshot(Long sessionId, String gameType) {
+    private void afterCommit(Long sessionId, Runnable task) {
+        TransactionCallbacks.afterCommit(() -> submit(sessionId, task));
+    }
+
+    private void submit(Long sessionId, Runnable task) {
+        SessionLane lane = lane(sessionId);
+        lane.deltas.offer(task);
+        schedule(sessionId, lane);
+    }
+
+    private SessionLane lane(Long sessionId) {
+        return lanes.computeIfAbsent(sessionId, id -> new SessionLane());
+    }
+
+    private void schedule(Long sessionId, SessionLane lane) {
+        if (!lane.scheduled.compareAndSet(false, true)) {
+            return; // 이미 처리 예정 - 같은 실행에서 함께 처리된다
+        }
+        try {
+            executor.execute(() -> drain(sessionId, lane));
+        } catch (RejectedExecutionException e) {
+            lane.scheduled.set(false);
+            log.warn("[LOBBY] Broadcast executor rejected session {}: {}", sessionId, e.getMessage());
+        }
+    }
+
+    private void drain(Long sessionId, SessionLane lane) {
         try {
-            log.info("🚨 [FORCE-BROADCAST] Starting immediate lobby broadcast - sessionId: {}, gameType: {}", 
-                    sessionId, gameType);
-            
-            // 최신 스냅샷 조회
-            LobbyQueryService.LobbySnapshot snapshot = lobbyQueryService.getLobbySnapshot(sessionId);
-            
-            // 버전 체크: 이미 더 최신 버전을 브로드캐스트했다면 건너뛰기
-            Long lastVersion = lastBroadcastVersions.get(sessionId);
-            if (lastVersion != null && snapshot.version() <= lastVersion) {
-                log.info("⏭️ [FORCE-BROADCAST] Skipping stale version {} (last: {}) for sessionId: {}", 
-                        snapshot.version(), lastVersion, sessionId);
-                return;
+            Runnable task;
+            while ((task = lane.deltas.poll()) != null) {
+                try {
+                    task.run();
+                } catch (Exception e) {
+                    log.error("[LOBBY] Broadcast task failed for session {}", sessionId, e);
+                }
             }
-            
-            // SSE로 브로드캐스트
-            if ("quiz".equals(gameType.toLowerCase())) {
-                sseService.broadcastToQuizGame(sessionId, "lobby-update", snapshot);
-            } else if ("reaction".equals(gameType.toLowerCase())) {
-                sseService.broadcastToReactionGame(sessionId, "lobby-update", snapshot);
-            } else {
-                sseService.broadcastToSession(sessionId, "lobby-update", snapshot);
+
+            // 델타를 모두 보낸 뒤 스냅샷을 만들어야 버전이 어긋나지 않는다
+            Set<SnapshotTarget> requesters = lane.takeSnapshotRequests();
+            if (!requesters.isEmpty()) {
+                sendSnapshot(sessionId, requesters);
+            }
+        } finally {
+            lane.scheduled.set(false);
+            if (lane.hasPending()) {
+                schedule(sessionId, lane);
             }
-            
-            // 브로드캐스트한 버전 기록
-            lastBroadcastVersions.put(sessionId, snapshot.version());
-            
-            log.info("📡 [FORCE-BROADCAST] Sent lobby-update via SSE - sessionId: {}, version: {}, members: {}, count: {}", 
-                    sessionId, snapshot.version(), snapshot.members().size(), snapshot.count());
-            
-        } catch (Exception e) {
-            log.error("❌ [FORCE-BROADCAST] Failed for sessionId: " + sessionId, e);
         }
     }
-    
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
     /**
-     * 지연된 브로드캐스트 - 트랜잭션 완료 후 확실하게 전송
+     * 세션별 전송 대기열 - 한 번에 한 스레드만 처리하므로 세션 안의 델타 순서가 유지된다.
      */
-    public void delayedBroadcast(Long sessionId, String gameType) {
-        new Thread(() -> {
-            try {
-                Thread.sleep(200); // 트랜잭션 완료 대기
-                broadcastLobbySnapshot(sessionId, gameType);
-            } catch (InterruptedException e) {
-                Thread.currentThread().interrupt();
+    private static final class SessionLane {
+        private final ConcurrentLinkedQueue<Runnable> deltas = new ConcurrentLinkedQueue<>();
+        private final AtomicBoolean scheduled = new AtomicBoolean();
+        // guarded by this
+        private Set<SnapshotTarget> snapshotRequests = new LinkedHashSet<>();
+
+        synchronized void requestSnapshot(String userUid, SseChannel channel) {
+            snapshotRequests.add(new SnapshotTarget(userUid, channel));
+        }
+
+        synchronized Set<SnapshotTarget> takeSnapshotRequests() {
+            if (snapshotRequests.isEmpty()) {
+                return Set.of();
             }
-        }).start();
+            Set<SnapshotTarget> taken = snapshotRequests;
+            snapshotRequests = new LinkedHashSet<>();
+            return taken;
+        }
+
+        synchronized boolean hasPending() {
+            return !deltas.isEmpty() || !snapshotRequests.isEmpty();
+        }
     }
-}
\ No newline at end of file
+
+    private record SnapshotTarget(String userUid, SseChannel channel) {}
+}
@@ -1,5 +1,6 @@
 package su.kdt.minigame.service;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.HttpStatus;
@@ -12,6 +13,8 @@ import su.kdt.minigame.repository.GameSessionMemberRepo;
 
 import java.time.LocalDateTime;
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.stream.Collectors;
 
 /**
@@ -26,9 +29,9 @@ public class LobbyQueryService {
     private final GameRepo gameRepo;
     private final GameSessionMemberRepo memberRepo;
     
-    // 단조 증가 버전을 위한 AtomicLong
-    private static final java.util.concurrent.atomic.AtomicLong VERSION_COUNTER = 
-            new java.util.concurrent.atomic.AtomicLong(System.currentTimeMillis());
+    // 세션별 로비 버전 - 델타 이벤트마다 1씩 증가하고, 스냅샷은 현재 버전을 담는다
+    // (재시작 후에도 이전 버전보다 커지도록 시각으로 시작)
+    private final Map<Long, AtomicLong> sessionVersions = new ConcurrentHashMap<>();
     
     /**
      * Creates a unified lobby snapshot with guaranteed consistency:
@@ -37,6 +40,11 @@ public class LobbyQueryService {
      * - count always equals members.size()
      */
     public LobbySnapshot getLobbySnapshot(Long sessionId) {
+        // DB 조회 전에 버전을 읽는다 - 조회 중 발생한 변경의 델타는 이 버전보다 크므로 클라이언트가 놓치지 않음.
+        // 버전은 커밋 후 세션 대기열에서 매겨지므로, 이미 커밋되어 스냅샷에 보이는 변경의 델타가 이 버전 뒤에 다시 올 수 있다.
+        // 그래서 델타는 멱등하게 적용해야 한다 (LobbyDelta 참고). 버전을 조회 뒤에 읽으면 반대로 변경을 놓칠 수 있다.
+        long version = currentVersion(sessionId);
+
         GameSession session = gameRepo.findById(sessionId)
                 .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "Session not found"));
         
@@ -89,9 +97,6 @@ public class LobbyQueryService {
             throw new IllegalStateException("Lobby snapshot consistency error: count != members.size()");
         }
         
-        // Generate new version for this snapshot
-        long version = VERSION_COUNTER.incrementAndGet();
-        
         return new LobbySnapshot(
                 "LOBBY_SNAPSHOT", // Unified event type
                 sessionId,
@@ -102,6 +107,39 @@ public class LobbyQueryService {
         );
     }
     
+    /**
+     * 세션의 현재 로비 버전
+     */
+    public long currentVersion(Long sessionId) {
+        return versionOf(sessionId).get();
+    }
+
+    /**
+     * 로비 변경(델타)마다 호출 - 다음 버전을 발급한다
+     */
+    public long nextVersion(Long sessionId) {
+        return versionOf(sessionId).incrementAndGet();
+    }
+
+    /**
+     * 종료된 세션의 버전 카운터 제거
+     */
+    public void evictVersion(Long sessionId) {
+        sessionVersions.remove(sessionId);
+    }
+
+    private AtomicLong versionOf(Long sessionId) {
+        return sessionVersions.computeIfAbsent(sessionId, id -> new AtomicLong(System.currentTimeMillis()));
+    }
+
+    /**
+     * 단일 멤버의 로비 표시 정보 (델타 이벤트용)
+     */
+    public MemberInfo toMemberInfo(GameSession session, GameSessionMember member) {
+        String role = member.getUserUid().equals(session.getHostUid()) ? "HOST" : "MEMBER";
+        return new MemberInfo(member.getUserUid(), role, 0, member.getJoinedAt());
+    }
+
     /**
      * Unified lobby snapshot format matching frontend expectations
      */
@@ -118,6 +156,38 @@ public class LobbyQueryService {
         public int capacity() { return 10; } // Max players from SessionConfig, hardcoded for now
     }
     
+    /**
+     * 로비 변경 델타 - 전체 스냅샷 대신 바뀐 멤버 하나만 전송
+     * 클라이언트는 version이 마지막으로 적용한 버전 + 1이 아니면 스냅샷을 다시 요청한다.
+     *
+     * 스냅샷 직후의 델타는 이미 스냅샷에 반영된 변경일 수 있으므로 클라이언트는 델타를 멱등하게 적용해야 한다:
+     * MEMBER_ADDED는 같은 uid가 있으면 덮어쓰고(추가하지 않음), MEMBER_REMOVED는 없는 uid면 무시하고,
+     * READY_CHANGED는 값을 그대로 설정한다. 이렇게 적용하면 같은 델타를 두 번 받아도 결과가 같다.
+     */
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    public record LobbyDelta(
+            String type, // "MEMBER_ADDED", "MEMBER_REMOVED", "READY_CHANGED"
+            Long sessionId,
+            long version,
+            String uid,
+            MemberInfo member, // MEMBER_ADDED 전용
+            Boolean ready,     // READY_CHANGED 전용
+            String reason,     // MEMBER_REMOVED 전용 ("LEFT", "KICKED")
+            long timestamp
+    ) {
+        public static LobbyDelta memberAdded(Long sessionId, long version, MemberInfo member) {
+            return new LobbyDelta("MEMBER_ADDED", sessionId, version, member.uid(), member, null, null, System.currentTimeMillis());
+        }
+
+        public static LobbyDelta memberRemoved(Long sessionId, long version, String uid, String reason) {
+            return new LobbyDelta("MEMBER_REMOVED", sessionId, version, uid, null, null, reason, System.currentTimeMillis());
+        }
+
+        public static LobbyDelta readyChanged(Long sessionId, long version, String uid, boolean ready) {
+            return new LobbyDelta("READY_CHANGED", sessionId, version, uid, null, ready, null, System.currentTimeMillis());
+        }
+    }
+
     /**
      * Member info with role and score for lobby display
      */
@@ -0,0 +1,173 @@
+package su.kdt.minigame.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+import su.kdt.minigame.config.QuizConfig;
+import su.kdt.minigame.event.GameEventOutbox;
+import su.kdt.minigame.quiz.QuizScoreboard;
+import su.kdt.minigame.quiz.QuizScoreboardStore;
+import su.kdt.minigame.sse.SseChannel;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 세션별 퀴즈 점수판 발행기
+ *
+ * 답변마다 점수판 전체를 다시 계산해 보내지 않고, 시간 창(scoreboardWindowMs) 안에 들어온
+ * 갱신 요청을 하나로 합쳐 창이 끝날 때 최신 상태로 한 번만 전송한다.
+ * 라운드 종료/게임 종료처럼 즉시 보여야 하는 시점에는 flush로 대기 중인 요청을 바로 처리한다.
+ * 점수는 메모리 점수판(QuizScoreboardStore)에서 읽으므로 전송 시 DB 조회가 없다.
+ * 전송은 아웃박스의 세션 대기열을 거치므로 같은 세션의 라운드/게임 이벤트와 순서가 섞이지 않는다.
+ */
+@Slf4j
+@Component
+public class QuizScoreboardPublisher {
+
+    private final QuizScoreboardStore scoreboards;
+    private final GameEventOutbox eventOutbox;
+    private final QuizConfig quizConfig;
+    private final ScheduledExecutorService scheduler;
+    private final Map<Long, SessionState> sessions = new ConcurrentHashMap<>();
+
+    private final Counter requestedCounter;
+    private final Counter mergedCounter;
+    private final Counter publishedCounter;
+
+    public QuizScoreboardPublisher(QuizScoreboardStore scoreboards, GameEventOutbox eventOutbox,
+                                   QuizConfig quizConfig, MeterRegistry meterRegistry) {
+        this.scoreboards = scoreboards;
+        this.eventOutbox = eventOutbox;
+        this.quizConfig = quizConfig;
+
+        CustomizableThreadFactory threadFactory = new CustomizableThreadFactory("quiz-scoreboard-");
+        threadFactory.setDaemon(true);
+        this.scheduler = Executors.newScheduledThreadPool(Math.max(1, quizConfig.getScoreboardThreads()), threadFactory);
+
+        this.requestedCounter = Counter.builder("quiz.scoreboard.requests")
+                .description("점수판 갱신 요청 수")
+                .register(meterRegistry);
+        this.mergedCounter = Counter.builder("quiz.scoreboard.merged")
+                .description("대기 중인 전송에 합쳐진 점수판 갱신 요청 수")
+                .register(meterRegistry);
+        this.publishedCounter = Counter.builder("quiz.scoreboard.published")
+                .description("실제로 전송된 점수판 수")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 점수판 갱신을 요청합니다. 시간 창 안의 요청은 한 번의 전송으로 합쳐집니다.
+     */
+    public void request(Long sessionId) {
+        requestedCounter.increment();
+        while (true) {
+            SessionState state = sessions.computeIfAbsent(sessionId, id -> new SessionState());
+            synchronized (state) {
+                if (state.retired) {
+                    continue; // 방금 정리된 상태 - 새로 만든다
+                }
+                if (state.pending != null) {
+                    mergedCounter.increment();
+                    return;
+                }
+                state.pending = scheduler.schedule(() -> publish(sessionId, state),
+                        quizConfig.getScoreboardWindowMs(), TimeUnit.MILLISECONDS);
+                return;
+            }
+        }
+    }
+
+    /**
+     * 대기 중인 갱신을 기다리지 않고 지금 최신 점수판을 전송합니다 (라운드 종료/게임 종료).
+     */
+    public void flush(Long sessionId) {
+        requestedCounter.increment();
+        while (true) {
+            SessionState state = sessions.computeIfAbsent(sessionId, id -> new SessionState());
+            synchronized (state) {
+                if (state.retired) {
+                    continue;
+                }
+                if (state.pending != null && state.pending.cancel(false)) {
+                    mergedCounter.increment();
+                }
+                state.pending = null;
+            }
+            publish(sessionId, state);
+            return;
+        }
+    }
+
+    private void publish(Long sessionId, SessionState state) {
+        synchronized (state) {
+            // 여기서부터 들어오는 요청은 이번 전송 이후의 상태를 반영하도록 새로 예약된다
+            state.pending = null;
+        }
+        synchronized (state.publishLock) {
+            broadcastScoreboard(sessionId);
+        }
+        synchronized (state) {
+            if (state.pending == null && !state.retired) {
+                state.retired = true;
+                sessions.remove(sessionId, state);
+            }
+        }
+    }
+
+    private void broadcastScoreboard(Long sessionId) {
+        try {
+            List<QuizScoreboard.Entry> ranked = scoreboards.scoreboard(sessionId)
+                .map(QuizScoreboard::ranked)
+                .orElse(List.of());
+            if (ranked.isEmpty()) {
+                log.info("No members found for session: sessionId={}", sessionId);
+                return;
+            }
+
+            List<Map<String, Object>> scoreboard = ranked.stream()
+                .map(entry -> {
+                    Map<String, Object> row = new HashMap<>();
+                    String userId = String.valueOf(entry.userId());
+                    String displayName = entry.nickname() != null ? entry.nickname() : userId.substring(0, Math.min(8, userId.length()));
+                    row.put("userId", entry.userId()); // 프론트엔드 호환성을 위해 userId 사용
+                    row.put("uid", entry.userId()); // 기존 호환성 유지
+                    row.put("nickname", displayName); // 실제 닉네임 사용
+                    row.put("nick", displayName); // 기존 호환성 유지
+                    row.put("displayName", displayName); // 결과 페이지 호환성
+                    row.put("score", entry.correctCount());
+                    return row;
+                })
+                .toList(); // 점수판이 이미 순위순
+
+            // 프론트엔드 호환성을 위해 직접 배열로 전송 (아직 나가지 않은 이전 점수판은 최신 것으로 대체)
+            eventOutbox.committed(sessionId, SseChannel.QUIZ, "scoreboard", scoreboard, true);
+            publishedCounter.increment();
+
+            log.debug("[QUIZ] Scoreboard broadcast: sessionId={}, members={}", sessionId, scoreboard.size());
+        } catch (Exception e) {
+            // 점수판 브로드캐스트 실패는 게임 진행을 막지 않음
+            log.error("[QUIZ] Failed to broadcast scoreboard for session {}: {}", sessionId, e.getMessage());
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        scheduler.shutdownNow();
+    }
+
+    private static final class SessionState {
+        private final Object publishLock = new Object();
+        private ScheduledFuture<?> pending; // guarded by this
+        private boolean retired;             // guarded by this
+    }
+}
@@ -3,13 +3,27 @@ package su.kdt.minigame.service;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
-import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.transaction.annotation.Transactional;
-import org.springframework.transaction.support.TransactionSynchronization;
-import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import su.kdt.minigame.config.QuizConfig;
 import su.kdt.minigame.domain.*;
+import su.kdt.minigame.event.GameEventOutbox;
+import su.kdt.minigame.event.SessionEndedEvent;
+import su.kdt.minigame.quiz.QuizAnswerKey;
+import su.kdt.minigame.quiz.QuizAnswerWriteBehind;
+import su.kdt.minigame.quiz.QuizQuestionBank;
+import su.kdt.minigame.quiz.QuizQuestionDeckStore;
+import su.kdt.minigame.quiz.QuizQuestionSampler;
+import su.kdt.minigame.quiz.QuizRoundState;
+import su.kdt.minigame.quiz.QuizRoundStateStore;
+import su.kdt.minigame.quiz.QuizScoreboard;
+import su.kdt.minigame.quiz.QuizScoreboardStore;
+import su.kdt.minigame.support.GameDeadlineService;
+import su.kdt.minigame.support.SessionSerialExecutor;
+import su.kdt.minigame.support.TransactionCallbacks;
 import su.kdt.minigame.dto.request.CreateRoundReq;
 import su.kdt.minigame.dto.request.CreateSessionReq;
 import su.kdt.minigame.dto.request.SubmitAnswerReq;
@@ -21,10 +35,10 @@ import su.kdt.minigame.dto.response.ScoreboardItem;
 import su.kdt.minigame.dto.response.SessionResp;
 import su.kdt.minigame.repository.*;
 
+import java.time.Duration;
 import java.time.LocalDateTime;
 import java.time.ZoneOffset;
 import java.time.temporal.ChronoUnit;
-import java.text.Normalizer;
 import java.util.*;
 import java.util.stream.Collectors;
 
@@ -35,15 +49,33 @@ public class QuizService {
 
     private record UserScore(Long userId, long correctAnswers, long totalTime) {}
 
+    private static final Duration ROUND_FORCE_PROGRESS_DELAY = Duration.ofSeconds(35); // 클라이언트 30초 + 5초 여유
+    private static final Duration ROUND_TIMEOUT_DELAY = Duration.ofSeconds(30);
+    private static final Duration NEXT_ROUND_RETRY_DELAY = Duration.ofSeconds(2);
+    private static final int FIRST_ROUND_MAX_ATTEMPTS = 3;
+    private static final Duration ROUND_REVEAL_PAUSE = Duration.ofSeconds(1); // 클라이언트가 정답/결과를 볼 시간
+
     private final GameRepo gameRepo;
     private final QuizRoundRepo roundRepo;
     private final QuizAnswerRepository answerRepo;
+    private final QuizAnswerWriteBehind answerWriteBehind;
     private final QuizQuestionRepo questionRepo;
     private final QuizQuestionOptionRepo optionRepo;
+    private final QuizQuestionBank questionBank;
+    private final QuizQuestionSampler questionSampler;
+    private final QuizQuestionDeckStore questionDecks;
     private final GamePenaltyRepository gamePenaltyRepository;
     private final PenaltyRepository penaltyRepository;
     private final GameSessionMemberRepo memberRepo;
-    private final SSEService sseService;
+    private final GameEventOutbox eventOutbox;
+    private final ApplicationEventPublisher eventPublisher;
+    private final QuizScoreboardPublisher scoreboardPublisher;
+    private final QuizScoreboardStore scoreboards;
+    private final QuizRoundStateStore roundStates;
+    private final SessionSerialExecutor sessionExecutor;
+    private final GameDeadlineService deadlines;
+    private final TransactionTemplate transactionTemplate;
+    private final QuizConfig quizConfig;
     private final su.kdt.minigame.util.PinUtil pinUtil;
 
     @Transactional
@@ -61,6 +93,11 @@ public class QuizService {
         GameSession session = new GameSession(req.appointmentId(), GameSession.GameType.QUIZ, userId, selectedPenalty.getPenaltyId(), selectedPenalty.getText(), totalRounds, category);
         
         log.info("[SESSION] create id=will_be_generated, category={}, rounds={}", category, totalRounds);
+
+        // 라운드별 문제를 미리 섞어 덱으로 저장 (라운드 시작 시에는 덱에서 꺼내기만 함)
+        List<QuizQuestionResp> deck = buildQuestionDeck(category, totalRounds);
+        session.assignQuestionDeck(QuizQuestionDeckStore.encode(deck));
+        log.info("[SESSION] question deck prepared: category={}, size={}", category, deck.size());
         
         // 비공개방 설정
         if (Boolean.TRUE.equals(req.isPrivate())) {
@@ -81,7 +118,22 @@ public class QuizService {
         return SessionResp.from(savedSession);
     }
 
-    @Transactional
+    /**
+     * 세션 문제 덱을 만듭니다. 카테고리 문제가 라운드 수보다 적으면 한 바퀴를 다 쓴 뒤 다시 섞어 이어 붙입니다.
+     */
+    private List<QuizQuestionResp> buildQuestionDeck(String category, int totalRounds) {
+        List<QuizQuestionResp> deck = new ArrayList<>(totalRounds);
+        while (deck.size() < totalRounds) {
+            List<QuizQuestionResp> pass = questionSampler.sample(category, totalRounds - deck.size(), Set.of());
+            if (pass.isEmpty()) {
+                log.warn("[SESSION] No questions available for deck: category={}", category);
+                break;
+            }
+            deck.addAll(pass);
+        }
+        return deck;
+    }
+
     public RoundResp startFirstRound(Long sessionId) {
         log.info("[QUIZ] Starting first round for sessionId: {}", sessionId);
         GameSession session = findSession(sessionId);
@@ -104,9 +156,10 @@ public class QuizService {
 
         session.start();
 
-        QuizQuestion question = findQuestion(req.questionId());
-        QuizRound round = new QuizRound(sessionId, question);
+        QuizQuestionResp question = findQuestion(req.questionId());
+        QuizRound round = new QuizRound(sessionId, questionRef(question));
         QuizRound savedRound = roundRepo.save(round);
+        openRoundState(savedRound);
 
         // Send WebSocket notification - 통일된 topic 패턴 사용
         String roundTopic = "/topic/quiz/" + sessionId + "/round";
@@ -115,15 +168,15 @@ public class QuizService {
                 "data", Map.of(
                     "roundId", savedRound.getRoundId(),
                     "roundNo", savedRound.getRoundNo(), 
-                    "question", QuizQuestionResp.from(question)
+                    "question", question
                 )
         );
-        sseService.broadcastToQuizGame(sessionId, "round-start", roundPayload);
+        eventOutbox.quiz(sessionId, "round-start", roundPayload);
         
         // 점수판 초기화 브로드캐스트 (afterCommit 패턴)
-        afterCommit(() -> broadcastScoreboard(sessionId));
+        TransactionCallbacks.afterCommit(() -> scoreboardPublisher.request(sessionId));
 
-        return RoundResp.from(savedRound);
+        return RoundResp.from(savedRound, question);
     }
 
     @Transactional(readOnly = true)
@@ -141,8 +194,7 @@ public class QuizService {
         }
 
         // 랜덤 질문 조회 (카테고리 지정 시 해당 카테고리에서, 아니면 전체에서)
-        QuizQuestion question = findQuestion(null, category);
-        return QuizQuestionResp.from(question);
+        return findQuestion(null, category);
     }
 
     @Transactional
@@ -154,20 +206,19 @@ public class QuizService {
         QuizRound round = roundRepo.findById(roundId)
                 .orElseThrow(() -> new NoSuchElementException("Round not found: " + roundId));
         log.debug("[QUIZ] Found round - sessionId: {}, questionId: {}", round.getSessionId(), round.getQuestion().getId());
+
+        // 라운드 메모리 상태 (참여 예정자 + 답변 비트셋) - 없으면 DB에서 복구
+        QuizRoundState roundState = roundStates.getOrLoad(round);
         
         // [VALIDATION 2] Round not closed
-        if (round.getEndedAt() != null) {
+        if (round.getEndedAt() != null || roundState.isCompleted()) {
             log.warn("[QUIZ] Round already closed - roundId: {}, endedAt: {}", roundId, round.getEndedAt());
-            // 라운드 정보를 가져와서 RoundGoneException으로 던짐
-            List<GameSessionMember> activeMembers = memberRepo.findBySessionId(round.getSessionId());
-            int totalPlayers = activeMembers.size();
-            long answeredPlayers = answerRepo.countDistinctUserUidsByRound(round);
             throw new su.kdt.minigame.exception.RoundGoneException(
                 round.getSessionId(), 
                 roundId, 
                 "FINISHED", 
-                (int) answeredPlayers, 
-                totalPlayers
+                roundState.answeredCount(), 
+                roundState.expectedCount()
             );
         }
         
@@ -178,17 +229,8 @@ public class QuizService {
                 ", but request specified " + req.sessionId());
         }
         
-        // [VALIDATION 4] Duplicate submission check
-        boolean existingAnswer = answerRepo.existsByRoundAndUserId(round, req.userId());
-        if (existingAnswer) {
-            log.warn("[QUIZ] Duplicate submission - roundId: {}, userId: {}", roundId, req.userId());
-            throw new IllegalStateException("Answer already submitted - duplicate");
-        }
-
-        GameSession session = gameRepo.findById(round.getSessionId())
-                .orElseThrow(() -> new NoSuchElementException("Session not found: " + round.getSessionId()));
-
-        // [VALIDATION 5] Option ID validation (will throw IllegalArgumentException if invalid)
+        // [VALIDATION 4] Option ID validation (will throw IllegalArgumentException if invalid)
+        // 답변 접수(비트셋 기록) 전에 채점까지 끝내 둔다 - 접수 후에 실패하면 기록 대기 수가 남지 않도록
         QuizAnswer answer = new QuizAnswer(round, req.userId(), req.answerText());
 
         boolean correct = isCorrect(round.getQuestion(), req.answerText());
@@ -201,7 +243,31 @@ public class QuizService {
         } else {
             answer.grade(false, 0L);
         }
-        answerRepo.save(answer);
+
+        // [VALIDATION 5] Duplicate submission check (메모리 비트셋 CAS - DB 조회 없음)
+        QuizRoundState.Mark mark = roundState.tryMarkAnswered(req.userId());
+        if (mark == QuizRoundState.Mark.CLOSED) {
+            throw new su.kdt.minigame.exception.RoundGoneException(round.getSessionId(), roundId, "FINISHED",
+                    roundState.answeredCount(), roundState.expectedCount());
+        }
+        boolean duplicate = mark == QuizRoundState.Mark.DUPLICATE
+                // 참여 예정자 목록에 없는 사용자는 기존처럼 DB로 확인
+                || (mark == QuizRoundState.Mark.NOT_PARTICIPANT && answerRepo.existsByRoundAndUserId(round, req.userId()));
+        if (duplicate) {
+            log.warn("[QUIZ] Duplicate submission - roundId: {}, userId: {}", roundId, req.userId());
+            throw new IllegalStateException("Answer already submitted - duplicate");
+        }
+        if (mark == QuizRoundState.Mark.ACCEPTED) {
+            TransactionCallbacks.afterRollback(() -> roundState.unmarkAnswered(req.userId()));
+            TransactionCallbacks.afterCompletion(roundState::settle); // 이후 어디서 실패해도 기록 대기 수를 되돌린다
+        }
+
+        // 라운드를 끝내는 답변인지 먼저 정한다 - 종료 처리는 먼저 도착한 한 요청만 맡고, 그 요청의 답변은 바로 저장한다
+        boolean roundComplete = roundState.isAllAnswered() && roundState.tryComplete();
+        if (roundComplete) {
+            TransactionCallbacks.afterRollback(roundState::reopen);
+        }
+        persistAnswer(round.getSessionId(), answer, mark, roundComplete);
         
         // 🔥 [ANSWERS-AFTER] 구조화된 로그 추가
         log.info("[ANSWERS-AFTER] sid={}, rid={}, uid={}, isCorrect={}, rtMs={}, score={}, answerId={}", 
@@ -212,24 +278,31 @@ public class QuizService {
         
         log.info("[QUIZ] Answer submitted - User: {}, Correct: {}, Round: {}", req.userId(), correct, roundId);
 
-        // 실제 세션 참여자 수를 가져옴 (온라인 상태인 멤버만 카운팅)
-        List<GameSessionMember> activeMembers = memberRepo.findBySessionId(round.getSessionId());
-        int totalPlayers = activeMembers.size();
-        long answeredPlayers = answerRepo.countDistinctUserUidsByRound(round);
+        // 라운드 참여 예정자 수와 답변 수 (메모리 상태)
+        int totalPlayers = roundState.expectedCount();
+        long answeredPlayers = roundState.answeredCount();
         
-        log.info("[QUIZ] Round progress - Answered: {}/{}, Round: {}, Active members: {}", 
-                answeredPlayers, totalPlayers, roundId, activeMembers.stream().map(GameSessionMember::getUserId).toList());
+        log.info("[QUIZ] Round progress - Answered: {}/{}, Round: {}", answeredPlayers, totalPlayers, roundId);
         
-        // 🔥 답변 후 afterCommit으로 점수판 업데이트 브로드캐스트 (트랜잭션 커밋 후 실행)
-        log.info("[SCOREBOARD-PUB] sid={}, reason=ANSWER", round.getSessionId());
-        afterCommit(() -> broadcastScoreboard(round.getSessionId()));
+        // 🔥 답변 후 afterCommit으로 점수판 업데이트 요청 (짧은 시간 창 안의 답변은 한 번의 전송으로 병합)
+        // 라운드가 끝나는 답변이면 대기 없이 즉시 전송
+        log.info("[SCOREBOARD-PUB] sid={}, reason={}", round.getSessionId(), roundComplete ? "ROUND_END" : "ANSWER");
+        if (roundComplete) {
+            TransactionCallbacks.afterCommit(roundState::cancelDeadline);
+            TransactionCallbacks.afterCommit(() -> scoreboardPublisher.flush(round.getSessionId()));
+        } else {
+            TransactionCallbacks.afterCommit(() -> scoreboardPublisher.request(round.getSessionId()));
+        }
         
         // 라운드 종료 체크 (모든 플레이어가 답변하면 다음 라운드 시작)
         // 최소 1명의 플레이어라도 있어야 진행
-        if (totalPlayers > 0 && answeredPlayers >= totalPlayers) {
+        if (roundComplete) {
             log.info("[QUIZ] All players answered ({}/{}) - progressing to next round", answeredPlayers, totalPlayers);
             
             try {
+                GameSession session = gameRepo.findById(round.getSessionId())
+                        .orElseThrow(() -> new NoSuchElementException("Session not found: " + round.getSessionId()));
+
                 // ROUND_END 메시지 브로드캐스트 (정답 공개)
                 broadcastRoundEnd(round);
                 
@@ -238,6 +311,7 @@ public class QuizService {
                     round.getSessionId(), roundId, answeredPlayers, totalPlayers);
                 round.endRound(); // endedAt을 현재 시간으로 설정
                 roundRepo.save(round);
+                persistRoundAnswers(roundState, mark == QuizRoundState.Mark.ACCEPTED); // 라운드 종료 시 대기 중인 답변 저장
                 
                 // 다음 라운드 시작 또는 게임 종료 - 종료 조건 개선
                 long currentRoundCount = roundRepo.countBySessionId(round.getSessionId());
@@ -251,6 +325,7 @@ public class QuizService {
                     // 게임 종료
                     session.finish("Quiz game completed");
                     gameRepo.save(session);
+                    eventPublisher.publishEvent(new SessionEndedEvent(session.getId()));
                     
                     // 벌칙 할당
                     assignQuizPenalty(session);
@@ -262,7 +337,7 @@ public class QuizService {
                     
                     // 🔥 점수판 최종 브로드캐스트 (afterCommit 패턴)
                     log.info("[SCOREBOARD-PUB] sid={}, reason=GAME_END", session.getId());
-                    afterCommit(() -> broadcastScoreboard(session.getId()));
+                    TransactionCallbacks.afterCommit(() -> scoreboardPublisher.flush(session.getId()));
                 } else {
                     log.info("[QUIZ] Will create next round after commit - all players answered, completed round {}/{}", round.getRoundNo(), session.getTotalRounds());
                     
@@ -270,24 +345,9 @@ public class QuizService {
                     log.info("[NEXT-ROUND] Scheduling next round: sid={}, from={}, to={}, isLast=false", 
                         round.getSessionId(), round.getRoundNo(), round.getRoundNo() + 1);
                     
-                    // afterCommit 사용 - 트랜잭션 커밋 후 다음 라운드 직접 생성
+                    // afterCommit 사용 - 트랜잭션 커밋 후 정답 공개 시간을 두고 다음 라운드 생성 (요청 스레드는 기다리지 않음)
                     final Long sessionIdFinal = round.getSessionId();
-                    afterCommit(() -> {
-                        try {
-                            log.info("[AFTER-COMMIT] Creating next round for session: {}", sessionIdFinal);
-                            startRoundForSession(sessionIdFinal);
-                            log.info("[AFTER-COMMIT] Successfully created next round for session: {}", sessionIdFinal);
-                        } catch (Exception e) {
-                            log.warn("[AFTER-COMMIT] Failed to start next round: sessionId={}, error={}, will retry with scheduler", 
-                                    sessionIdFinal, e.getMessage());
-                            try {
-                                scheduleNextRound(sessionIdFinal);
-                            } catch (Exception retryError) {
-                                log.error("[AFTER-COMMIT] Failed to schedule next round as fallback: sessionId={}, error={}", 
-                                        sessionIdFinal, retryError.getMessage());
-                            }
-                        }
-                    });
+                    TransactionCallbacks.afterCommit(() -> scheduleNextRound(sessionIdFinal));
                     log.info("[NEXT-ROUND] Next round scheduled for session: {}", round.getSessionId());
                 }
             } catch (Exception e) {
@@ -302,7 +362,7 @@ public class QuizService {
         }
         
         // 전원 답변 여부 판단 (위에서 계산한 값 재사용)
-        boolean allSubmitted = (totalPlayers > 0 && answeredPlayers >= totalPlayers);
+        boolean allSubmitted = roundState.isAllAnswered();
         
         return new AnswerResp(
             correct, 
@@ -315,7 +375,14 @@ public class QuizService {
         );
     }
 
+    /**
+     * 종료된 세션의 벌칙 대상을 정하고 최종 결과를 브로드캐스트한다.
+     * 호출부가 세션을 종료하면서 SessionEndedEvent를 발행하므로 여기서는 다시 발행하지 않는다.
+     */
     private void assignQuizPenalty(GameSession session) {
+        // 쓰기 지연 버퍼에 남은 답변을 같은 트랜잭션에서 먼저 저장 (아래 집계 쿼리가 모든 답변을 보도록)
+        answerWriteBehind.persistSession(session.getId());
+
         // 실제 세션 멤버들을 가져옴
         List<GameSessionMember> members = memberRepo.findBySessionId(session.getId());
         List<Long> userIds = members.stream()
@@ -348,6 +415,7 @@ public class QuizService {
 
         session.finish(selectedPenalty.getDescription());
         gameRepo.save(session); // 세션 상태 저장 누락 수정
+        // SessionEndedEvent는 세션을 종료시킨 호출부에서 한 번만 발행한다 (벌칙 할당 실패 시에도 정리되도록)
 
         // GameResultsResp 생성
         GameResultsResp gameResults = buildGameResults(session.getId(), scores, loserUid, selectedPenalty);
@@ -357,7 +425,7 @@ public class QuizService {
                 loserUid, selectedPenalty.getDescription());
         
         // 1) 결과를 별도 SSE 이벤트로 브로드캐스트  
-        sseService.broadcastToQuizGame(session.getId(), "game-result", gameResults);
+        eventOutbox.quiz(session.getId(), "game-result", gameResults);
 
         // 2) 기존 게임 종료 메시지도 유지 (기존 클라이언트 호환성)
         String roundTopic = "/topic/quiz/" + session.getId() + "/round";
@@ -378,7 +446,7 @@ public class QuizService {
                     "gameResults", gameResults // 완전한 게임 결과도 포함
                 )
         );
-        sseService.broadcastToQuizGame(session.getId(), "game-end", gameEndPayload);
+        eventOutbox.quiz(session.getId(), "game-end", gameEndPayload);
         
         log.info("[QUIZ] SSE messages sent for session: {}", session.getId());
     }
@@ -388,73 +456,101 @@ public class QuizService {
                 .orElseThrow(() -> new IllegalArgumentException("Session not found: " + sessionId));
     }
 
-    private QuizQuestion findQuestion(Long questionId) {
+    private QuizQuestionResp findQuestion(Long questionId) {
         return findQuestion(questionId, null);
     }
 
-    private QuizQuestion findQuestion(Long questionId, String category) {
+    private QuizQuestionResp findQuestion(Long questionId, String category) {
         if (questionId == null) {
-            // 랜덤 문제를 가져올 때도 options를 함께 로딩
-            Page<QuizQuestion> page = questionRepo.search(null, category, PageRequest.of(0, 100));
-            List<QuizQuestion> questions = page.getContent();
-            
-            if (questions.isEmpty()) {
-                String errorMsg = category != null ? 
-                    "No quiz questions available for category: " + category : 
-                    "No quiz questions available";
-                throw new IllegalStateException(errorMsg);
-            }
-            
-            return questions.get(new Random().nextInt(questions.size()));
+            // 랜덤 문제는 문제 은행(메모리)에서 선택 - 옵션 포함
+            return questionBank.random(category).orElseThrow(() -> new IllegalStateException(
+                    category != null ?
+                        "No quiz questions available for category: " + category :
+                        "No quiz questions available"));
         }
-        // 특정 문제를 가져올 때도 options를 함께 로딩
-        return questionRepo.findByIdWithOptions(questionId)
+        // 은행 갱신 전에 추가된 문제일 수 있으므로 없으면 DB에서 옵션과 함께 조회
+        return questionBank.find(questionId)
+                .or(() -> questionRepo.findByIdWithOptions(questionId).map(QuizQuestionResp::from))
                 .orElseThrow(() -> new IllegalArgumentException("Question not found: " + questionId));
     }
 
+    /**
+     * 이번 라운드 문제: 세션 카테고리 라운드는 덱의 roundNo 번째 문제, 그 외에는 무작위 선택
+     */
+    private Optional<QuizQuestionResp> nextRoundQuestion(GameSession session, String category, int roundNo) {
+        if (Objects.equals(category, session.getCategory())) {
+            Optional<QuizQuestionResp> fromDeck = questionDecks.questionFor(session, roundNo);
+            if (fromDeck.isPresent()) {
+                return fromDeck;
+            }
+        }
+        return pickRoundQuestion(session.getId(), category);
+    }
+
+    /**
+     * 세션에서 아직 나오지 않은 문제를 카테고리 전체에서 균등하게 고릅니다.
+     * 카테고리 문제를 모두 사용했다면 중복을 허용해 아무 문제나 고릅니다.
+     */
+    private Optional<QuizQuestionResp> pickRoundQuestion(Long sessionId, String category) {
+        Set<Long> usedQuestionIds = new HashSet<>(roundRepo.findQuestionIdsBySessionId(sessionId));
+        return questionSampler.pick(category, usedQuestionIds)
+                .or(() -> questionBank.random(category));
+    }
+
+    /**
+     * 라운드에 연결할 문제 엔티티 참조 (프록시만 만들고 조회 쿼리는 실행하지 않음)
+     */
+    private QuizQuestion questionRef(QuizQuestionResp question) {
+        return questionRepo.getReferenceById(question.questionId());
+    }
+
     private boolean isCorrect(QuizQuestion question, String answerText) {
+        QuizAnswerKey answerKey = answerKey(question.getId());
         // Try optionId first if answerText is numeric
         try {
             Long optionId = Long.parseLong(answerText);
-            return isCorrectByOptionId(question, optionId);
+            return isCorrectByOptionId(answerKey, optionId);
         } catch (NumberFormatException e) {
-            // Fall back to text-based matching
-            String normalizedAnswer = normalize(answerText);
-            List<QuizQuestionOption> options = optionRepo.findByQuestion(question);
-
-            return options.stream()
-                    .filter(QuizQuestionOption::isCorrect)
-                    .map(o -> normalize(o.getOptionText()))
-                    .anyMatch(normalizedAnswer::equals);
+            // Fall back to text-based matching (정답 텍스트는 미리 정규화되어 있음)
+            return answerKey.isCorrectText(answerText);
         }
     }
     
     /**
      * Validates that the optionId belongs to the question and returns correctness
      */
-    private boolean isCorrectByOptionId(QuizQuestion question, Long optionId) {
-        List<QuizQuestionOption> options = optionRepo.findByQuestion(question);
-        
+    private boolean isCorrectByOptionId(QuizAnswerKey answerKey, Long optionId) {
         // First validate that optionId belongs to this question
-        QuizQuestionOption selectedOption = options.stream()
-                .filter(opt -> opt.getOptionId().equals(optionId))
-                .findFirst()
-                .orElseThrow(() -> new IllegalArgumentException(
-                    "Option ID " + optionId + " is not valid for this question"));
+        if (!answerKey.isValidOption(optionId)) {
+            throw new IllegalArgumentException("Option ID " + optionId + " is not valid for this question");
+        }
         
         // Return correctness
-        return selectedOption.isCorrect();
+        return answerKey.isCorrectOption(optionId);
     }
-    
-    private String normalize(String s) {
-        if (s == null) return "";
-        s = s.trim().replaceAll("\\s+", "").toLowerCase(Locale.ROOT);
-        return Normalizer.normalize(s, Normalizer.Form.NFKC);
+
+    /**
+     * 문제의 채점 기준 (문제 은행에 없으면 DB 옵션으로 만든다)
+     */
+    private QuizAnswerKey answerKey(Long questionId) {
+        return questionBank.answerKey(questionId).orElseGet(() -> {
+            List<QuizQuestionResp.Option> options = optionRepo.findByQuestion(questionRepo.getReferenceById(questionId))
+                    .stream()
+                    .map(QuizQuestionResp.Option::from)
+                    .toList();
+            return QuizAnswerKey.of(questionId, options);
+        });
     }
 
-    @Transactional
-    public synchronized RoundResp startRound(Long sessionId, String category) {
-        log.info("[QUIZ] Starting round for sessionId: {}, category: {} (synchronized)", sessionId, category);
+    /**
+     * 라운드 시작 - 같은 세션의 라운드 전환은 세션 메일박스에서 순서대로, 다른 세션과는 병렬로 실행됩니다.
+     */
+    public RoundResp startRound(Long sessionId, String category) {
+        return sessionExecutor.call(sessionId, () -> transactionTemplate.execute(status -> doStartRound(sessionId, category)));
+    }
+
+    private RoundResp doStartRound(Long sessionId, String category) {
+        log.info("[QUIZ] Starting round for sessionId: {}, category: {} (session serial)", sessionId, category);
         
         GameSession session = findSession(sessionId);
         if (session.getGameType() != GameSession.GameType.QUIZ) {
@@ -473,24 +569,18 @@ public class QuizService {
         session.start();
         log.info("[QUIZ] Session started for sessionId: {}", sessionId);
 
-        // Find a random question from the specified category
-        Page<QuizQuestion> questionsPage = questionRepo.search(null, category, PageRequest.of(0, 100));
-        List<QuizQuestion> questions = questionsPage.getContent();
-        log.info("[QUIZ] Found {} questions for category: {}", questions.size(), category);
-        
-        if (questions.isEmpty()) {
-            throw new IllegalStateException("No questions found for category: " + category);
-        }
-        
-        QuizQuestion question = questions.get(new Random().nextInt(questions.size()));
-        log.info("[QUIZ] Selected question id: {} for sessionId: {}", question.getId(), sessionId);
-        
         // 라운드 번호 계산
         long existingRoundCount = roundRepo.countBySessionId(sessionId);
         int nextRoundNo = (int) existingRoundCount + 1;
         
-        QuizRound round = new QuizRound(sessionId, nextRoundNo, question);
+        // 세션 덱의 다음 문제 (덱이 없거나 다른 카테고리면 카테고리에서 무작위 선택)
+        QuizQuestionResp question = nextRoundQuestion(session, category, nextRoundNo)
+                .orElseThrow(() -> new IllegalStateException("No questions found for category: " + category));
+        log.info("[QUIZ] Selected question id: {} for sessionId: {}", question.questionId(), sessionId);
+        
+        QuizRound round = new QuizRound(sessionId, nextRoundNo, questionRef(question));
         QuizRound savedRound = roundRepo.save(round);
+        openRoundState(savedRound);
         log.info("[QUIZ] Saved round id: {} (roundNo: {}) for sessionId: {}", savedRound.getRoundId(), nextRoundNo, sessionId);
 
         // Send WebSocket notification - 통일된 topic 패턴 사용
@@ -500,98 +590,71 @@ public class QuizService {
                 "data", Map.of(
                     "roundId", savedRound.getRoundId(),
                     "roundNo", savedRound.getRoundNo(),
-                    "question", QuizQuestionResp.from(question)
+                    "question", question
                 )
         );
         log.info("[QUIZ] Broadcasting round start via SSE for session: {}", sessionId);
-        sseService.broadcastToQuizGame(sessionId, "round-start", roundPayload);
+        eventOutbox.quiz(sessionId, "round-start", roundPayload);
         
         // 점수판 초기화 브로드캐스트 (afterCommit 패턴)
-        afterCommit(() -> broadcastScoreboard(sessionId));
+        TransactionCallbacks.afterCommit(() -> scoreboardPublisher.request(sessionId));
         log.info("[QUIZ] Round start completed for sessionId: {}, roundId: {}", sessionId, savedRound.getRoundId());
 
-        return RoundResp.from(savedRound);
+        return RoundResp.from(savedRound, question);
     }
     
     /**
-     * 트랜잭션 커밋 후 실행할 작업을 등록합니다.
+     * 새 라운드의 메모리 상태를 엽니다 (참여 예정자 = 현재 세션 멤버).
+     * 라운드 행이 보이는 커밋 이후에 열며, 그 사이 도착한 답변이 먼저 만든 상태가 있으면 그대로 사용합니다.
      */
-    private void afterCommit(Runnable action) {
-        if (TransactionSynchronizationManager.isSynchronizationActive()) {
-            TransactionSynchronizationManager.registerSynchronization(
-                new TransactionSynchronization() {
-                    @Override
-                    public void afterCommit() {
-                        try {
-                            action.run();
-                        } catch (Exception e) {
-                            log.error("[AFTER-COMMIT] Failed to execute afterCommit action: {}", e.getMessage(), e);
-                        }
-                    }
-                }
-            );
-        } else {
-            // 트랜잭션이 없는 경우 즉시 실행 (테스트 환경 등)
-            log.debug("[AFTER-COMMIT] No active transaction, executing immediately");
-            action.run();
+    private void openRoundState(QuizRound savedRound) {
+        List<Long> participants = memberRepo.findUserIdsBySessionId(savedRound.getSessionId());
+        TransactionCallbacks.afterCommit(() -> roundStates.open(savedRound, participants));
+    }
+
+    /**
+     * 라운드 종료 처리에서 대기 중인 답변을 저장합니다.
+     * 이미 접수되었지만 아직 커밋/저널 기록 전인 다른 요청의 답변을 먼저 기다려, 뒤따르는 집계(벌칙 계산)가 놓치지 않게 합니다.
+     * ownAnswerPending은 이 트랜잭션이 직접 접수한 답변이 있는지 (그 답변은 이 트랜잭션에서 저장되므로 기다리지 않는다).
+     */
+    private void persistRoundAnswers(QuizRoundState roundState, boolean ownAnswerPending) {
+        int allowed = ownAnswerPending ? 1 : 0;
+        if (!roundState.awaitSettled(allowed, quizConfig.getAnswerSettleTimeoutMs())) {
+            log.warn("[QUIZ-WRITE-BEHIND] Round ended before {} accepted answers were recorded: sid={}, rid={}",
+                    roundState.unsettledCount() - allowed, roundState.sessionId(), roundState.roundId());
         }
+        answerWriteBehind.persistSession(roundState.sessionId());
     }
 
     /**
-     * 점수판을 브로드캐스트합니다.
+     * 채점된 답변을 저장하고 커밋 후 메모리 점수판에 반영한다 (점수판 전송 요청보다 먼저 등록해야 최신 점수가 나간다).
+     * 메모리 비트셋으로 중복이 걸러졌고 라운드를 끝내지 않는 답변은 커밋 직전에 쓰기 지연 버퍼(저널)에 넣어 배치로 저장하고,
+     * 라운드를 끝내는 답변(종료 처리와 벌칙 계산이 같은 트랜잭션에서 읽는다)과 참여 예정자 밖의 답변은 바로 저장한다.
+     * 접수된 답변의 기록 완료(settle)는 접수 직후 호출부가 등록한다.
      */
-    private void broadcastScoreboard(Long sessionId) {
-        try {
-            List<GameSessionMember> members = memberRepo.findBySessionId(sessionId);
-            if (members.isEmpty()) {
-                log.info("No members found for session: sessionId={}", sessionId);
-                return;
-            }
-            
-            List<Map<String, Object>> scoreboard = members.stream()
-                .map(member -> {
-                    Long correctCount = answerRepo.countCorrectAnswersByUser(sessionId, member.getUserId());
-                    java.util.Map<String, Object> row = new java.util.HashMap<>();
-                    String displayName = member.getNickname() != null ? member.getNickname() : String.valueOf(member.getUserId()).substring(0, Math.min(8, String.valueOf(member.getUserId()).length()));
-                    row.put("userId", member.getUserId()); // 프론트엔드 호환성을 위해 userId 사용
-                    row.put("uid", member.getUserId()); // 기존 호환성 유지
-                    row.put("nickname", displayName); // 실제 닉네임 사용
-                    row.put("nick", displayName); // 기존 호환성 유지
-                    row.put("displayName", displayName); // 결과 페이지 호환성
-                    int scoreValue = correctCount != null ? correctCount.intValue() : 0;
-                    row.put("score", scoreValue);
-                    return row;
-                })
-                .sorted((a, b) -> Integer.compare((Integer) b.get("score"), (Integer) a.get("score"))) // 점수순 정렬
-                .toList();
-            
-            // 프론트엔드 호환성을 위해 직접 배열로 전송
-            sseService.broadcastToQuizGame(sessionId, "scoreboard", scoreboard);
-            
-            log.debug("[QUIZ] Scoreboard broadcast: sessionId={}, members={}", sessionId, scoreboard.size());
-        } catch (Exception e) {
-            // 점수판 브로드캐스트 실패는 게임 진행을 막지 않음
-            log.error("[QUIZ] Failed to broadcast scoreboard for session {}: {}", sessionId, e.getMessage());
+    private void persistAnswer(Long sessionId, QuizAnswer answer, QuizRoundState.Mark mark, boolean completesRound) {
+        boolean accepted = mark == QuizRoundState.Mark.ACCEPTED;
+        if (accepted && !completesRound) {
+            answerWriteBehind.enqueueBeforeCommit(sessionId, answer);
+        } else {
+            answerRepo.saveAndFlush(answer); // 시퀀스 id라 INSERT가 미뤄지므로 중복(유니크 제약)을 여기서 확인
         }
+        Long roundId = answer.getRound().getRoundId();
+        Long userId = answer.getUserId();
+        boolean correct = Boolean.TRUE.equals(answer.getIsCorrect());
+        int score = answer.getScore() != null ? answer.getScore() : 0;
+        long responseTimeMs = answer.getResponseTimeMs() != null ? answer.getResponseTimeMs() : 0L;
+        TransactionCallbacks.afterCommit(() -> scoreboards.recordAnswer(sessionId, roundId, userId, correct, score, responseTimeMs));
     }
-    
+
     /**
      * 라운드 종료 메시지를 브로드캐스트합니다.
      */
     private void broadcastRoundEnd(QuizRound round) {
         try {
-            // 정답 옵션 찾기
-            QuizQuestion question = round.getQuestion();
-            List<QuizQuestionOption> options = optionRepo.findByQuestion(question);
-            
-            // 정답 옵션 ID 찾기
-            Integer correctOptionId = null;
-            for (QuizQuestionOption option : options) {
-                if (option.getIsCorrect()) {
-                    correctOptionId = option.getOptionId().intValue();
-                    break;
-                }
-            }
+            // 정답 옵션 ID 찾기 (채점 기준에서 조회)
+            Long correctOption = answerKey(round.getQuestion().getId()).firstCorrectOptionId();
+            Integer correctOptionId = correctOption != null ? correctOption.intValue() : null;
             
             // ROUND_END 메시지 브로드캐스트
             String roundTopic = "/topic/quiz/" + round.getSessionId() + "/round";
@@ -600,7 +663,7 @@ public class QuizService {
                 "roundId", round.getRoundId(),
                 "correctOptionId", correctOptionId != null ? correctOptionId : -1
             );
-            sseService.broadcastToQuizGame(round.getSessionId(), "round-end", roundEndMessage);
+            eventOutbox.quiz(round.getSessionId(), "round-end", roundEndMessage);
             
             log.debug("[QUIZ] Round end broadcast: sessionId={}, roundId={}, correctOption={}", 
                 round.getSessionId(), round.getRoundId(), correctOptionId);
@@ -685,110 +748,157 @@ public class QuizService {
     }
     
     /**
-     * 다음 라운드를 스케줄링합니다. (3초 뒤레이 적용)
+     * 다음 라운드를 스케줄링합니다. (정답 공개 후 1초 뒤 세션 메일박스에서 생성)
+     * 대기하는 동안 어떤 스레드도 붙잡지 않으며, 호출한 스레드는 바로 반환됩니다.
      */
     public void scheduleNextRound(Long sessionId) {
         try {
-            log.info("[NEXT-ROUND] Scheduling next round via delay for session: {} (1s delay)", sessionId);
-            
-            // 즉시 다음 라운드 시작 (트랜잭션 컨텍스트 유지)
-            try {
-                Thread.sleep(1000); // 1초만 대기하여 클라이언트가 결과를 볼 시간 확보
-                startRoundForSession(sessionId);
-                log.info("[NEXT-ROUND] Scheduled round started successfully for session: {}", sessionId);
-            } catch (InterruptedException e) {
-                Thread.currentThread().interrupt();
-                log.warn("[NEXT-ROUND] Scheduling interrupted for session: {}", sessionId);
-            } catch (Exception e) {
-                log.error("[NEXT-ROUND] Failed to start scheduled round for session {}: {}", sessionId, e.getMessage(), e);
-                // 재시도 로직 추가
-                retryStartNextRound(sessionId);
-            }
-            
+            log.info("[NEXT-ROUND] Scheduling next round via delay for session: {} ({}ms delay)", sessionId, ROUND_REVEAL_PAUSE.toMillis());
+            deadlines.schedule(sessionId, ROUND_REVEAL_PAUSE, () -> startScheduledRound(sessionId));
         } catch (Exception e) {
             log.error("[NEXT-ROUND] Failed to schedule next round for session {}: {}", sessionId, e.getMessage(), e);
         }
     }
+
+    private void startScheduledRound(Long sessionId) {
+        try {
+            startRoundForSession(sessionId);
+            log.info("[NEXT-ROUND] Scheduled round started successfully for session: {}", sessionId);
+        } catch (Exception e) {
+            log.error("[NEXT-ROUND] Failed to start scheduled round for session {}: {}", sessionId, e.getMessage(), e);
+            // 재시도 로직 추가
+            retryStartNextRound(sessionId);
+        }
+    }
     
     /**
      * 다음 라운드 시작 재시도
      */
     private void retryStartNextRound(Long sessionId) {
-        new Thread(() -> {
+        deadlines.schedule(sessionId, NEXT_ROUND_RETRY_DELAY, () -> {
             try {
-                Thread.sleep(2000); // 2초 후 재시도
                 log.info("[NEXT-ROUND] Retrying to start next round for session: {}", sessionId);
                 startRoundForSession(sessionId);
             } catch (Exception e) {
                 log.error("[NEXT-ROUND] Retry failed to start next round for session {}: {}", sessionId, e.getMessage());
             }
-        }).start();
+        });
     }
     
     /**
-     * 라운드 강제 진행 타이머 (30초 후 자동 진행)
+     * 게임 시작이 커밋된 뒤 첫 라운드를 만든다 (세션 메일박스에서 실행).
+     * 실패하면 NEXT_ROUND_RETRY_DELAY 간격으로 FIRST_ROUND_MAX_ATTEMPTS번까지 다시 시도하고,
+     * 끝내 만들지 못하면 onGiveUp을 호출해 라운드 없는 진행 중 세션이 남지 않게 한다.
+     */
+    public void startFirstRound(Long sessionId, Runnable onGiveUp) {
+        attemptFirstRound(sessionId, 1, onGiveUp);
+    }
+
+    private void attemptFirstRound(Long sessionId, int attempt, Runnable onGiveUp) {
+        try {
+            startRoundForSession(sessionId);
+            log.info("[FIRST-ROUND] First quiz round created for session {} (attempt {})", sessionId, attempt);
+        } catch (org.springframework.dao.DataIntegrityViolationException e) {
+            // 중복 라운드 생성 시도 → 멱등성 처리
+            log.warn("[FIRST-ROUND] Duplicate round creation detected for session {} - proceeding as idempotent success", sessionId);
+        } catch (Exception e) {
+            if (attempt >= FIRST_ROUND_MAX_ATTEMPTS) {
+                log.error("[FIRST-ROUND] Giving up creating first round for session {} after {} attempts: {}",
+                        sessionId, attempt, e.getMessage(), e);
+                onGiveUp.run();
+                return;
+            }
+            log.warn("[FIRST-ROUND] Failed to create first round for session {} (attempt {}), retrying in {}ms: {}",
+                    sessionId, attempt, NEXT_ROUND_RETRY_DELAY.toMillis(), e.getMessage());
+            deadlines.schedule(sessionId, NEXT_ROUND_RETRY_DELAY, () -> attemptFirstRound(sessionId, attempt + 1, onGiveUp));
+        }
+    }
+
+    /**
+     * 라운드 강제 진행 타이머 (35초 후 자동 진행)
+     * 마감은 라운드 상태에 연결되어, 전원 제출로 라운드가 끝나면 커밋 후 취소됩니다.
      */
     private void scheduleRoundForceProgress(Long roundId, Long sessionId) {
-        new Thread(() -> {
-            try {
-                Thread.sleep(35000); // 35초 후 강제 진행 (클라이언트 30초 + 5초 여유)
-                
-                // 라운드가 아직 진행 중인지 확인
-                QuizRound round = roundRepo.findById(roundId).orElse(null);
-                if (round != null && round.getEndedAt() == null) {
-                    log.info("[QUIZ] Forcing round progress due to timeout - roundId: {}, sessionId: {}", roundId, sessionId);
-                    
-                    try {
-                        GameSession session = findSession(sessionId);
-                        
-                        // ROUND_END 메시지 브로드캐스트
-                        broadcastRoundEnd(round);
-                        
-                        // 라운드 종료 처리  
-                        long timeoutAnsweredPlayers = answerRepo.countByRoundRoundId(roundId);
-                        int timeoutTotalPlayers = memberRepo.findBySessionId(sessionId).size();
-                        log.info("[ROUND-END] sid={}, rid={}, submitted={}/{}, reason=TIMEOUT", 
-                            sessionId, roundId, timeoutAnsweredPlayers, timeoutTotalPlayers);
-                        round.endRound();
-                        roundRepo.save(round);
-                        
-                        // 다음 라운드 시작 또는 게임 종료 - 타이머 강제 진행
-                        long currentRoundCount = roundRepo.countBySessionId(sessionId);
-                        log.info("[QUIZ] Force progress check - current rounds: {}, total rounds: {}, current round no: {}", 
-                                currentRoundCount, session.getTotalRounds(), round.getRoundNo());
-                        
-                        if (session.getTotalRounds() != null && round.getRoundNo() >= session.getTotalRounds()) {
-                            log.info("[QUIZ] Game ending due to force progress - completed round {}/{}", round.getRoundNo(), session.getTotalRounds());
-                            session.finish("Quiz game completed due to force progress");
-                            gameRepo.save(session);
-                            assignQuizPenalty(session);
-                        } else {
-                            log.info("[QUIZ] Starting next round due to force progress - completed round {}/{}", round.getRoundNo(), session.getTotalRounds());
-                            scheduleNextRound(sessionId);
-                        }
-                        
-                    } catch (Exception e) {
-                        log.error("[QUIZ] Error during force progress for roundId {}: {}", roundId, e.getMessage(), e);
-                    }
-                } else {
-                    log.debug("[QUIZ] Round already completed, no need for force progress - roundId: {}", roundId);
-                }
-                
-            } catch (InterruptedException e) {
-                Thread.currentThread().interrupt();
-                log.warn("[QUIZ] Force progress timer interrupted for roundId: {}", roundId);
-            } catch (Exception e) {
-                log.error("[QUIZ] Error in force progress timer for roundId {}: {}", roundId, e.getMessage());
+        TransactionCallbacks.afterCommit(() -> {
+            GameDeadlineService.Handle handle = deadlines.schedule(sessionId, ROUND_FORCE_PROGRESS_DELAY,
+                    () -> forceRoundProgress(roundId, sessionId));
+            QuizRoundState state = roundStates.find(roundId);
+            if (state != null) {
+                state.attachDeadline(handle);
             }
-        }).start();
+        });
+    }
+
+    /**
+     * 라운드 제한 시간 마감 처리 (세션 메일박스의 새 트랜잭션에서 실행)
+     * 라운드 종료, 남은 답변 저장, 벌칙 집계가 한 트랜잭션으로 묶이며, 실패하면 롤백되고 라운드를 다시 열어 둡니다.
+     */
+    private void forceRoundProgress(Long roundId, Long sessionId) {
+        try {
+            transactionTemplate.executeWithoutResult(status -> doForceRoundProgress(roundId, sessionId));
+        } catch (Exception e) {
+            log.error("[QUIZ] Error during force progress for roundId {}: {}", roundId, e.getMessage(), e);
+        }
+    }
+
+    private void doForceRoundProgress(Long roundId, Long sessionId) {
+        // 라운드가 아직 진행 중인지 확인
+        QuizRound round = roundRepo.findById(roundId).orElse(null);
+        if (round == null || round.getEndedAt() != null) {
+            log.debug("[QUIZ] Round already completed, no need for force progress - roundId: {}", roundId);
+            return;
+        }
+        // 전원 제출로 이미 종료 처리가 시작된 라운드는 건너뜀
+        QuizRoundState roundState = roundStates.getOrLoad(round);
+        if (!roundState.tryComplete()) {
+            log.debug("[QUIZ] Round already completed, no need for force progress - roundId: {}", roundId);
+            return;
+        }
+        TransactionCallbacks.afterRollback(roundState::reopen);
+        log.info("[QUIZ] Forcing round progress due to timeout - roundId: {}, sessionId: {}", roundId, sessionId);
+
+        GameSession session = findSession(sessionId);
+
+        // ROUND_END 메시지 브로드캐스트
+        broadcastRoundEnd(round);
+        scoreboardPublisher.flush(sessionId);
+
+        // 라운드 종료 처리
+        long timeoutAnsweredPlayers = answerRepo.countByRoundRoundId(roundId);
+        int timeoutTotalPlayers = memberRepo.findBySessionId(sessionId).size();
+        log.info("[ROUND-END] sid={}, rid={}, submitted={}/{}, reason=TIMEOUT",
+            sessionId, roundId, timeoutAnsweredPlayers, timeoutTotalPlayers);
+        round.endRound();
+        roundRepo.save(round);
+        persistRoundAnswers(roundState, false); // 라운드 종료 시 대기 중인 답변 저장
+
+        // 다음 라운드 시작 또는 게임 종료 - 타이머 강제 진행
+        long currentRoundCount = roundRepo.countBySessionId(sessionId);
+        log.info("[QUIZ] Force progress check - current rounds: {}, total rounds: {}, current round no: {}",
+                currentRoundCount, session.getTotalRounds(), round.getRoundNo());
+
+        if (session.getTotalRounds() != null && round.getRoundNo() >= session.getTotalRounds()) {
+            log.info("[QUIZ] Game ending due to force progress - completed round {}/{}", round.getRoundNo(), session.getTotalRounds());
+            session.finish("Quiz game completed due to force progress");
+            gameRepo.save(session);
+            eventPublisher.publishEvent(new SessionEndedEvent(session.getId()));
+            assignQuizPenalty(session);
+        } else {
+            log.info("[QUIZ] Starting next round due to force progress - completed round {}/{}", round.getRoundNo(), session.getTotalRounds());
+            TransactionCallbacks.afterCommit(() -> scheduleNextRound(sessionId)); // 마감 처리가 커밋된 뒤에만 다음 라운드를 예약
+        }
     }
 
     /**
      * 세션 기반 라운드 시작 - 세션에 저장된 카테고리만 사용
+     * 세션 메일박스의 새 트랜잭션에서 실행되므로 afterCommit 콜백에서 호출해도 안전합니다.
      */
-    @Transactional
-    public synchronized RoundResp startRoundForSession(Long sessionId) {
-        log.info("[NEXT-ROUND] Starting next round creation for session: {} (synchronized)", sessionId);
+    public RoundResp startRoundForSession(Long sessionId) {
+        return sessionExecutor.call(sessionId, () -> transactionTemplate.execute(status -> doStartRoundForSession(sessionId)));
+    }
+
+    private RoundResp doStartRoundForSession(Long sessionId) {
+        log.info("[NEXT-ROUND] Starting next round creation for session: {} (session serial)", sessionId);
         
         GameSession session = findSession(sessionId);
         if (session.getGameType() != GameSession.GameType.QUIZ) {
@@ -819,21 +929,6 @@ public class QuizService {
         String categoryToUse = session.getCategory();
         log.info("[ROUND] start session={}, category={}", sessionId, categoryToUse);
 
-        // 카테고리에 따라 문제 선택
-        Page<QuizQuestion> questionsPage = questionRepo.search(null, categoryToUse, PageRequest.of(0, 100));
-        List<QuizQuestion> questions = questionsPage.getContent();
-        
-        if (questions.isEmpty()) {
-            String errorMsg = categoryToUse != null ? 
-                "No questions found for category: " + categoryToUse : 
-                "No quiz questions available";
-            log.error("[ROUND] {}", errorMsg);
-            throw new IllegalStateException(errorMsg);
-        }
-        
-        QuizQuestion question = questions.get(new Random().nextInt(questions.size()));
-        log.info("[ROUND] start session={}, category={} questionId={}", sessionId, categoryToUse, question.getId());
-        
         // 라운드 번호 계산 (기존 라운드 수 + 1)
         long existingRounds = roundRepo.countBySessionId(sessionId);
         
@@ -846,50 +941,45 @@ public class QuizService {
         
         int nextRoundNo = (int) existingRounds + 1;
         
-        QuizRound round = new QuizRound(sessionId, nextRoundNo, question);
+        // 세션 덱에서 이번 라운드 문제를 꺼냄 (덱이 없으면 카테고리에서 무작위 선택)
+        QuizQuestionResp question = nextRoundQuestion(session, categoryToUse, nextRoundNo).orElse(null);
+        if (question == null) {
+            String errorMsg = categoryToUse != null ? 
+                "No questions found for category: " + categoryToUse : 
+                "No quiz questions available";
+            log.error("[ROUND] {}", errorMsg);
+            throw new IllegalStateException(errorMsg);
+        }
+        log.info("[ROUND] start session={}, category={} questionId={}", sessionId, categoryToUse, question.questionId());
+        
+        QuizRound round = new QuizRound(sessionId, nextRoundNo, questionRef(question));
         QuizRound savedRound = roundRepo.save(round);
+        openRoundState(savedRound);
         
         log.info("[NEXT-ROUND] SUCCESS - Created new round: sid={}, rid={}, roundNo={}/{}, questionId={}", 
                 sessionId, savedRound.getRoundId(), nextRoundNo, 
-                session.getTotalRounds(), question.getId());
+                session.getTotalRounds(), question.questionId());
         
         // 30초 후 강제로 다음 라운드 진행하는 타이머 시작
         scheduleRoundForceProgress(savedRound.getRoundId(), sessionId);
 
-        // Send WebSocket notification - 지시사항에 따른 ROUND_START 메시지 형식
+        // Send WebSocket notification - 지시사항에 따른 ROUND_START 메시지 형식 (옵션 포함 문제는 은행에 준비되어 있음)
         String roundTopic = "/topic/quiz/" + sessionId + "/round";
         
-        // 옵션 정보 포함한 질문 데이터 구성
-        List<QuizQuestionOption> options = optionRepo.findByQuestion(question);
-        List<Map<String, Object>> optionList = options.stream()
-            .map(option -> {
-                Map<String, Object> optionData = new HashMap<>();
-                optionData.put("id", option.getOptionId());
-                optionData.put("text", option.getOptionText());
-                return optionData;
-            })
-            .toList();
-        
-        Map<String, Object> questionData = Map.of(
-            "id", question.getId(),
-            "text", question.getQuestionText(),
-            "options", optionList
-        );
-        
         Map<String, Object> roundPayload = Map.of(
             "type", "ROUND_START",
             "data", Map.of(
                 "roundId", savedRound.getRoundId(),
                 "roundNo", savedRound.getRoundNo(),
-                "question", QuizQuestionResp.from(question)
+                "question", question
             )
         );
-        sseService.broadcastToQuizGame(sessionId, "round-start", roundPayload);
+        eventOutbox.quiz(sessionId, "round-start", roundPayload);
         
         // 점수판 초기화 브로드캐스트 (afterCommit 패턴)
-        afterCommit(() -> broadcastScoreboard(sessionId));
+        TransactionCallbacks.afterCommit(() -> scoreboardPublisher.request(sessionId));
 
-        return RoundResp.from(savedRound);
+        return RoundResp.from(savedRound, question);
     }
 
     /**
@@ -919,70 +1009,24 @@ public class QuizService {
                 return List.of(); // 빈 리스트 반환
             }
 
-            // 세션 존재 확인
-            if (!gameRepo.existsById(sessionId)) {
+            // 메모리 점수판 (세션이 없으면 빈 리스트 - 404는 컨트롤러에서 처리)
+            Optional<QuizScoreboard> board = scoreboards.scoreboard(sessionId);
+            if (board.isEmpty()) {
                 log.warn("Session not found: sessionId={}", sessionId);
-                return List.of(); // 빈 리스트 반환 (404는 컨트롤러에서 처리)
-            }
-
-            // 세션 멤버 조회 (LEFT JOIN 방식으로 방탄 처리)
-            List<GameSessionMember> members = memberRepo.findBySessionId(sessionId);
-            if (members == null || members.isEmpty()) {
-                log.info("No members found for session: sessionId={}", sessionId);
-                return List.of(); // 빈 리스트 반환
-            }
-
-            List<ScoreboardItem> scoreboard = new ArrayList<>();
-            int rank = 1;
-
-            for (GameSessionMember member : members) {
-                try {
-                    Long userId = member.getUserId();
-                    if (userId == null) {
-                        continue; // 잘못된 멤버는 건너뛰기
-                    }
-
-                    // 정답 수 조회 (null safe)
-                    Long correctCount = answerRepo.countCorrectAnswersByUser(sessionId, userId);
-                    int score = correctCount != null ? correctCount.intValue() : 0;
-
-                    // 총 답변 수 조회 (null safe)
-                    Long totalAnswered = answerRepo.countAnswersByUser(sessionId, userId);
-                    int totalAnsweredInt = totalAnswered != null ? totalAnswered.intValue() : 0;
-
-                    scoreboard.add(new ScoreboardItem(
-                            String.valueOf(userId),
-                            score,
-                            score, // correctCount와 동일
-                            totalAnsweredInt,
-                            rank++
-                    ));
-
-                } catch (Exception e) {
-                    log.warn("Failed to process member in scoreboard: sessionId={}, member={}", 
-                            sessionId, member.getUserId(), e);
-                    // 개별 멤버 처리 실패는 전체 결과에 영향주지 않음
-                }
+                return List.of();
             }
 
-            // 점수 기준 정렬 (높은 점수부터)
-            scoreboard.sort((a, b) -> Integer.compare(b.score(), a.score()));
-
-            // 순위 재계산
-            List<ScoreboardItem> rankedScoreboard = new ArrayList<>();
-            for (int i = 0; i < scoreboard.size(); i++) {
-                ScoreboardItem item = scoreboard.get(i);
-                rankedScoreboard.add(new ScoreboardItem(
-                        item.userId(),
-                        item.score(),
-                        item.correctCount(),
-                        item.totalAnswered(),
-                        i + 1 // 1부터 시작하는 순위
-                ));
-            }
+            List<ScoreboardItem> scoreboard = board.get().ranked().stream()
+                    .map(entry -> new ScoreboardItem(
+                            String.valueOf(entry.userId()),
+                            entry.correctCount(),
+                            entry.correctCount(),
+                            entry.totalAnswered(),
+                            entry.rank()))
+                    .toList();
 
-            log.info("Generated scoreboard for sessionId={}, members={}", sessionId, rankedScoreboard.size());
-            return rankedScoreboard;
+            log.debug("Generated scoreboard for sessionId={}, members={}", sessionId, scoreboard.size());
+            return scoreboard;
 
         } catch (Exception e) {
             log.error("Critical error in getScoreboard: sessionId={}", sessionId, e);
@@ -1002,21 +1046,10 @@ public class QuizService {
             throw new IllegalStateException("Game not finished yet: " + sessionId);
         }
         
-        // 세션 멤버들과 점수 계산 (assignQuizPenalty와 동일한 로직)
-        List<GameSessionMember> members = memberRepo.findBySessionId(sessionId);
-        List<Long> userIds = members.stream()
-                .map(GameSessionMember::getUserId)
-                .toList();
-
+        // 점수 계산 (assignQuizPenalty와 같은 기준 - 종료된 세션이므로 점수판이 모든 답변을 반영한다)
         List<UserScore> scores = new ArrayList<>();
-        for (Long uid : userIds) {
-            Long correctCount = answerRepo.countCorrectAnswersByUser(sessionId, uid);
-            Long totalTime = answerRepo.findTotalCorrectResponseTimeByUser(sessionId, uid);
-            scores.add(new UserScore(
-                    uid,
-                    correctCount != null ? correctCount : 0L,
-                    totalTime != null ? totalTime : 0L
-            ));
+        for (QuizScoreboard.Entry entry : scoreboards.scoreboard(sessionId).map(QuizScoreboard::ranked).orElse(List.of())) {
+            scores.add(new UserScore(entry.userId(), (long) entry.correctCount(), entry.correctTimeMs()));
         }
 
         scores.sort(Comparator
@@ -1210,25 +1243,20 @@ public class QuizService {
      * 30초 후 라운드 자동 종료 스케줄링
      */
     private void scheduleRoundTimeout(Long roundId, Long sessionId) {
-        new Thread(() -> {
+        deadlines.schedule(sessionId, ROUND_TIMEOUT_DELAY, () -> {
             try {
-                Thread.sleep(30000); // 30초 대기
-                
                 // 라운드가 아직 진행 중인지 확인
                 QuizRound round = roundRepo.findById(roundId).orElse(null);
-                if (round != null && round.getEndedAt() == null) {
+                if (round != null && round.getEndedAt() == null && roundStates.getOrLoad(round).tryComplete()) {
                     log.info("[QUIZ] Round timeout - auto ending round: {}", roundId);
                     
                     // 라운드 종료 처리
                     handleRoundTimeout(round);
                 }
-            } catch (InterruptedException e) {
-                Thread.currentThread().interrupt();
-                log.warn("[QUIZ] Round timeout scheduling interrupted: {}", roundId);
             } catch (Exception e) {
                 log.error("[QUIZ] Error in round timeout handling: {}", roundId, e);
             }
-        }).start();
+        });
     }
     
     /**
@@ -1245,6 +1273,7 @@ public class QuizService {
             // 라운드 종료 처리
             round.endRound();
             roundRepo.save(round);
+            persistRoundAnswers(roundStates.getOrLoad(round), false); // 라운드 종료 시 대기 중인 답변 저장
             
             // 다음 라운드 시작 또는 게임 종료
             long currentRoundCount = roundRepo.countBySessionId(round.getSessionId());
@@ -1253,6 +1282,7 @@ public class QuizService {
                 log.info("[GAME-COMPLETE] 🎯 Starting game completion for session: {} (TIMEOUT)", session.getId());
                 session.finish("Quiz game completed due to timeout");
                 gameRepo.save(session);
+                eventPublisher.publishEvent(new SessionEndedEvent(session.getId()));
                 log.info("[GAME-COMPLETE] ✅ Session finished and saved: {} (TIMEOUT)", session.getId());
                 assignQuizPenalty(session);
                 log.info("[GAME-COMPLETE] 🏆 Quiz penalty assigned for session: {} (TIMEOUT)", session.getId());
@@ -1345,18 +1375,21 @@ public class QuizService {
             throw new IllegalArgumentException("Round belongs to different session");
         }
         
-        // 3. 옵션이 이 라운드에 속하는지 확인 → 422 Unprocessable Entity
-        if (!optionRepo.existsByRoundIdAndOptionId(roundId, optionId)) {
+        // 3. 옵션이 이 라운드에 속하는지 확인 → 422 Unprocessable Entity (채점 기준 메모리 조회)
+        QuizAnswerKey answerKey = answerKey(round.getQuestion().getId());
+        if (optionId == null || !answerKey.isValidOption(optionId)) {
             throw new su.kdt.minigame.exception.InvalidOptionException(roundId, optionId);
         }
         
+        // 라운드 메모리 상태 (참여 예정자 + 답변 비트셋) - 없으면 DB에서 복구
+        QuizRoundState roundState = roundStates.getOrLoad(round);
+
         // 4. 라운드가 이미 종료되었는지 확인 → 410 Gone
-        if (round.getEndedAt() != null) {
+        if (round.getEndedAt() != null || roundState.isCompleted()) {
             log.info("[QUIZ-IDEM] Round already ended: roundId={}, endedAt={}", roundId, round.getEndedAt());
             
-            List<GameSessionMember> members = memberRepo.findBySessionId(sessionId);
-            int totalPlayers = members.size();
-            long answeredPlayers = answerRepo.countDistinctUserUidsByRound(round);
+            int totalPlayers = roundState.expectedCount();
+            long answeredPlayers = roundState.answeredCount();
             
             GameSession session = gameRepo.findById(sessionId).orElse(null);
             String phase = (session != null && session.getStatus() == GameSession.Status.FINISHED) 
@@ -1367,29 +1400,32 @@ public class QuizService {
         }
         
         // 5. 새로운 답변 저장 및 처리 (완전 멱등성 보장)
-        QuizQuestionOption option = optionRepo.findById(optionId)
-            .orElseThrow(() -> new su.kdt.minigame.exception.InvalidOptionException(roundId, optionId));
-            
-        boolean isCorrect = option.getIsCorrect();
+        boolean isCorrect = answerKey.isCorrectOption(optionId);
         int score = isCorrect ? 1 : 0;
+        boolean completesRound = false;
+        boolean ownAnswerAccepted = false;
         
         try {
-            // 중복 제출 체크 후 저장 (race condition 방지)
-            if (answerRepo.existsByRoundAndUserId(round, userId)) {
+            // 중복 제출 체크 (메모리 비트셋 CAS - 동시 요청 중 하나만 통과)
+            QuizRoundState.Mark mark = roundState.tryMarkAnswered(userId);
+            boolean alreadySubmitted = mark == QuizRoundState.Mark.DUPLICATE
+                    || mark == QuizRoundState.Mark.CLOSED
+                    // 참여 예정자 목록에 없는 사용자는 기존처럼 DB로 확인
+                    || (mark == QuizRoundState.Mark.NOT_PARTICIPANT && answerRepo.existsByRoundAndUserId(round, userId));
+            if (alreadySubmitted) {
                 log.info("[QUIZ-IDEM] Answer already submitted: roundId={}, userId={}", roundId, userId);
                 
                 // 현재 상태 정보 반환
-                List<GameSessionMember> members = memberRepo.findBySessionId(sessionId);
-                int totalPlayers = members.size();
-                long answeredPlayers = answerRepo.countDistinctUserUidsByRound(round);
-                
                 return AnswerResp.createAlreadySubmitted()
-                    .withSubmittedCount((int) answeredPlayers)
-                    .withExpectedParticipants(totalPlayers);
+                    .withSubmittedCount(roundState.answeredCount())
+                    .withExpectedParticipants(roundState.expectedCount());
+            }
+            if (mark == QuizRoundState.Mark.ACCEPTED) {
+                TransactionCallbacks.afterRollback(() -> roundState.unmarkAnswered(userId));
+                TransactionCallbacks.afterCompletion(roundState::settle); // 이후 어디서 실패해도 기록 대기 수를 되돌린다
             }
             
-            // 정답 텍스트를 옵션에서 가져와서 설정 + 응답시간 계산
-            String answerText = option.getOptionText();
+            // 답변 생성 + 응답시간 계산
             QuizAnswer answer = new QuizAnswer(round, userId, optionId.intValue()); // choiceIndex 사용
             
             // 🔥 응답시간: 클라이언트가 제공한 responseTimeMs 사용 (더 정확)
@@ -1397,7 +1433,13 @@ public class QuizService {
             
             // 채점 (응답시간 포함)
             answer.grade(isCorrect, clientResponseTimeMs);
-            answerRepo.save(answer);
+            // 라운드를 끝내는 답변인지 먼저 정한다 - 종료 처리는 먼저 도착한 한 요청만 맡고, 그 요청의 답변은 바로 저장한다
+            completesRound = roundState.isAllAnswered() && roundState.tryComplete();
+            if (completesRound) {
+                TransactionCallbacks.afterRollback(roundState::reopen);
+            }
+            persistAnswer(sessionId, answer, mark, completesRound);
+            ownAnswerAccepted = mark == QuizRoundState.Mark.ACCEPTED;
             
             log.info("[ANSWERS-AFTER] sid={}, rid={}, uid={}, isCorrect={}, rtMs={}, answerId={}",
                 sessionId, roundId, userId, isCorrect, clientResponseTimeMs, answer.getId());
@@ -1409,28 +1451,35 @@ public class QuizService {
             // 유니크 제약 충돌 - 이미 제출된 상태 (멱등 처리)
             log.info("[QUIZ-IDEM] Data integrity violation (already submitted): roundId={}, userId={}", 
                 roundId, userId);
-            
-            List<GameSessionMember> members = memberRepo.findBySessionId(sessionId);
-            int totalPlayers = members.size();
-            long answeredPlayers = answerRepo.countDistinctUserUidsByRound(round);
+            if (completesRound) {
+                roundState.reopen(); // 종료 처리를 맡지 못했으므로 다른 요청/시간 초과가 맡게 한다
+            }
             
             return AnswerResp.createAlreadySubmitted()
-                .withSubmittedCount((int) answeredPlayers)
-                .withExpectedParticipants(totalPlayers);
+                .withSubmittedCount(roundState.answeredCount())
+                .withExpectedParticipants(roundState.expectedCount());
         }
         
-        // 7. 제출 상태 확인 및 라운드 완료 처리
-        List<GameSessionMember> members = memberRepo.findBySessionId(sessionId);
-        int totalPlayers = members.size();
-        long answeredPlayers = answerRepo.countDistinctUserUidsByRound(round);
-        boolean allSubmitted = (totalPlayers > 0 && answeredPlayers >= totalPlayers);
+        // 7. 제출 상태 확인 및 라운드 완료 처리 (메모리 상태)
+        int totalPlayers = roundState.expectedCount();
+        long answeredPlayers = roundState.answeredCount();
+        boolean allSubmitted = roundState.isAllAnswered();
         
         log.info("[QUIZ-IDEM] Round completion check: sessionId={}, roundId={}, totalPlayers={}, answeredPlayers={}, allSubmitted={}", 
             sessionId, roundId, totalPlayers, answeredPlayers, allSubmitted);
         
-        if (allSubmitted) {
+        // 점수판 갱신 요청 (라운드가 끝나면 대기 없이 즉시 전송)
+        if (completesRound) {
+            TransactionCallbacks.afterCommit(roundState::cancelDeadline);
+            TransactionCallbacks.afterCommit(() -> scoreboardPublisher.flush(sessionId));
+        } else {
+            TransactionCallbacks.afterCommit(() -> scoreboardPublisher.request(sessionId));
+        }
+        
+        if (completesRound) {
             round.endRound();
             roundRepo.save(round);
+            persistRoundAnswers(roundState, ownAnswerAccepted); // 라운드 종료 시 대기 중인 답변 저장
             
             // Check if this was the last round
             GameSession session = gameRepo.findById(sessionId).orElse(null);
@@ -1445,6 +1494,7 @@ public class QuizService {
                     log.info("[GAME-COMPLETE] 🎯 Starting game completion for session: {}", sessionId);
                     session.finish("Quiz game completed");
                     gameRepo.save(session);
+                    eventPublisher.publishEvent(new SessionEndedEvent(session.getId()));
                     log.info("[GAME-COMPLETE] ✅ Session finished and saved: {}", sessionId);
                     assignQuizPenalty(session);
                     log.info("[GAME-COMPLETE] 🏆 Quiz penalty assigned for session: {}", sessionId);
@@ -1453,24 +1503,9 @@ public class QuizService {
                     log.info("[NEXT-ROUND] Scheduling next round: sid={}, from={}, to={}, isLast=false", 
                         sessionId, round.getRoundNo(), round.getRoundNo() + 1);
                     
-                    // afterCommit 사용 - 트랜잭션 커밋 후 다음 라운드 직접 생성
+                    // afterCommit 사용 - 트랜잭션 커밋 후 정답 공개 시간을 두고 다음 라운드 생성 (요청 스레드는 기다리지 않음)
                     final Long sessionIdFinal = sessionId;
-                    afterCommit(() -> {
-                        try {
-                            log.info("[AFTER-COMMIT] Creating next round for session: {}", sessionIdFinal);
-                            startRoundForSession(sessionIdFinal);
-                            log.info("[AFTER-COMMIT] Successfully created next round for session: {}", sessionIdFinal);
-                        } catch (Exception e) {
-                            log.warn("[AFTER-COMMIT] Failed to start next round: sessionId={}, error={}, will retry with scheduler", 
-                                    sessionIdFinal, e.getMessage());
-                            try {
-                                scheduleNextRound(sessionIdFinal);
-                            } catch (Exception retryError) {
-                                log.error("[AFTER-COMMIT] Failed to schedule next round as fallback: sessionId={}, error={}", 
-                                        sessionIdFinal, retryError.getMessage());
-                            }
-                        }
-                    });
+                    TransactionCallbacks.afterCommit(() -> scheduleNextRound(sessionIdFinal));
                     log.info("[NEXT-ROUND] Next round scheduled for session: {}", sessionId);
                 }
             }
@@ -1506,8 +1541,8 @@ public class QuizService {
         
         List<RoundResp> createdRounds = new ArrayList<>();
         
-        // 카테고리별 문제 조회
-        List<QuizQuestion> questions = findRandomQuestions(category, totalRounds);
+        // 세션 덱 순서대로 문제 배정 (덱이 없거나 다른 카테고리면 카테고리에서 무작위 선택)
+        List<QuizQuestionResp> questions = deckQuestions(session, category, totalRounds);
         if (questions.size() < totalRounds) {
             throw new IllegalStateException("Not enough questions available. Found: " + questions.size() + ", needed: " + totalRounds);
         }
@@ -1515,20 +1550,20 @@ public class QuizService {
         LocalDateTime baseTime = LocalDateTime.now();
         
         for (int i = 0; i < totalRounds; i++) {
-            QuizQuestion question = questions.get(i);
+            QuizQuestionResp question = questions.get(i);
             
             // 각 라운드는 30초씩 진행 (첫 번째 라운드는 즉시 시작)
             LocalDateTime startTime = baseTime.plusSeconds(i * 30L);
             LocalDateTime expiresAt = startTime.plusSeconds(30);
             
             // 생성자 기반으로 교체 (엔티티는 QuizQuestion 자체를 받습니다)
-            QuizRound round = new QuizRound(sessionId, i + 1, question, startTime, expiresAt);
+            QuizRound round = new QuizRound(sessionId, i + 1, questionRef(question), startTime, expiresAt);
             
             round = roundRepo.save(round);
-            createdRounds.add(RoundResp.from(round));
+            createdRounds.add(RoundResp.from(round, question));
             
             log.info("[PRE-GENERATE] Created round {}/{} for session: {}, questionId: {}, starts: {}", 
-                    i + 1, totalRounds, sessionId, question.getId(), startTime);
+                    i + 1, totalRounds, sessionId, question.questionId(), startTime);
         }
         
         log.info("[PRE-GENERATE] Successfully created {} rounds for session: {}", totalRounds, sessionId);
@@ -1558,32 +1593,34 @@ public class QuizService {
         return sortedRounds;
     }
     
+    private List<QuizQuestionResp> deckQuestions(GameSession session, String category, int totalRounds) {
+        if (Objects.equals(category, session.getCategory())) {
+            List<QuizQuestionResp> fromDeck = new ArrayList<>(totalRounds);
+            for (int roundNo = 1; roundNo <= totalRounds; roundNo++) {
+                Optional<QuizQuestionResp> question = questionDecks.questionFor(session, roundNo);
+                if (question.isEmpty()) {
+                    break;
+                }
+                fromDeck.add(question.get());
+            }
+            if (fromDeck.size() == totalRounds) {
+                return fromDeck;
+            }
+        }
+        return findRandomQuestions(category, totalRounds);
+    }
+
     /**
      * 카테고리별 랜덤 문제 조회 헬퍼 메서드
      */
-    private List<QuizQuestion> findRandomQuestions(String category, int count) {
-        Page<QuizQuestion> questionsPage = questionRepo.search(null, category, PageRequest.of(0, Math.max(count * 2, 100)));
-        List<QuizQuestion> allQuestions = questionsPage.getContent();
+    private List<QuizQuestionResp> findRandomQuestions(String category, int count) {
+        List<QuizQuestionResp> allQuestions = questionBank.questions(category);
         
         if (allQuestions.isEmpty()) {
             throw new IllegalStateException("No questions found for category: " + category);
         }
         
-        // 기존 코드와 같은 방식으로 랜덤 선택
-        List<QuizQuestion> selectedQuestions = new ArrayList<>();
-        Random random = new Random();
-        Set<Integer> usedIndices = new HashSet<>();
-        
-        for (int i = 0; i < count && i < allQuestions.size(); i++) {
-            int randomIndex;
-            do {
-                randomIndex = random.nextInt(allQuestions.size());
-            } while (usedIndices.contains(randomIndex));
-            
-            usedIndices.add(randomIndex);
-            selectedQuestions.add(allQuestions.get(randomIndex));
-        }
-        
-        return selectedQuestions;
+        // 카테고리 전체에서 서로 다른 문제를 균등하게 선택 (부분 Fisher–Yates)
+        return questionSampler.sample(category, count, Set.of());
     }
 }
\ No newline at end of file
@@ -2,20 +2,31 @@ package su.kdt.minigame.service;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.scheduling.TaskScheduler;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 import su.kdt.minigame.domain.ReactionRound;
 import su.kdt.minigame.domain.ReactionResult;
 import su.kdt.minigame.domain.Penalty;
 import su.kdt.minigame.domain.GameSession;
 import su.kdt.minigame.dto.request.CreateSessionReq;
 import su.kdt.minigame.dto.response.SessionResp;
+import su.kdt.minigame.event.GameEventOutbox;
+import su.kdt.minigame.event.SessionEndedEvent;
+import su.kdt.minigame.reaction.ReactionLeaderboard;
+import su.kdt.minigame.reaction.ReactionReadyRegistry;
+import su.kdt.minigame.reaction.ReactionRoundState;
+import su.kdt.minigame.reaction.ReactionRoundStateStore;
 import su.kdt.minigame.repository.ReactionRoundRepo;
 import su.kdt.minigame.repository.ReactionResultRepo;
 import su.kdt.minigame.repository.GameRepo;
 import su.kdt.minigame.repository.GameSessionMemberRepo;
 import su.kdt.minigame.repository.UserRepository;
+import su.kdt.minigame.sse.SseChannel;
+import su.kdt.minigame.support.GameDeadlineService;
+import su.kdt.minigame.support.SessionSerialExecutor;
 import su.kdt.minigame.domain.User;
 import su.kdt.minigame.domain.GameSessionMember;
 
@@ -23,7 +34,8 @@ import su.kdt.minigame.domain.GameSessionMember;
 import java.time.Duration;
 import java.time.Instant;
 import java.util.*;
-import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
 
 @Slf4j
 @Service
@@ -33,16 +45,19 @@ public class ReactionGameService {
 
     private final ReactionRoundRepo reactionRoundRepo;
     private final ReactionResultRepo reactionResultRepo;
-    private final SSEService sseService;
+    private final GameEventOutbox eventOutbox;
+    private final ApplicationEventPublisher eventPublisher;
     private final TaskScheduler taskScheduler;
     private final GameRepo gameRepo;
     private final GameSessionMemberRepo memberRepo;
     private final UserRepository userRepository;
+    private final ReactionRoundStateStore roundStates;
+    private final ReactionReadyRegistry readyRegistry;
+    private final SessionSerialExecutor sessionExecutor;
+    private final GameDeadlineService deadlineService;
+    private final TransactionTemplate transactionTemplate;
 
     private final su.kdt.minigame.util.PinUtil pinUtil;
-    
-    private final Map<Long, ScheduledFuture<?>> scheduledTasks = new HashMap<>();
-    private final Map<Long, List<Long>> readyPlayers = new HashMap<>(); // sessionId -> List of ready userIds
 
     public SessionResp createReactionSession(CreateSessionReq request, Long userId, Penalty selectedPenalty) {
         GameSession session = new GameSession(
@@ -100,561 +115,381 @@ public class ReactionGameService {
         ReactionRound round = new ReactionRound(sessionId);
         round.setStatus("WAITING");  // 프론트엔드가 기대하는 초기 상태
         round = reactionRoundRepo.save(round);
+        roundStates.open(round);
         
         // 상태 변경은 broadcastSimultaneousStart에서 처리됨
         
         return round;
     }
 
-    private void schedulePreparingPhase(Long roundId, long delayMs) {
-        ScheduledFuture<?> task = taskScheduler.schedule(() -> {
+    /**
+     * WAITING → PREPARING 전이 예약. 타이머 스레드에서는 메모리 상태만 바꾸고 바로 브로드캐스트하며,
+     * DB 반영은 세션 메일박스로 넘겨 RED 신호 타이밍이 DB 지연에 끌려가지 않게 한다.
+     */
+    private void schedulePreparingPhase(ReactionRoundState state, long delayMs) {
+        state.attachPhaseTimer(taskScheduler.schedule(() -> {
             try {
-                Optional<ReactionRound> roundOpt = reactionRoundRepo.findById(roundId);
-                if (roundOpt.isPresent() && "WAITING".equals(roundOpt.get().getStatus())) {
-                    ReactionRound round = roundOpt.get();
-                    round.setStatus("PREPARING");
-                    reactionRoundRepo.save(round);
-    
-                    // PREPARING 상태 브로드캐스트
-                    Map<String, Object> payload = new HashMap<>();
-                    payload.put("type", "ROUND_STATE");
-                    payload.put("status", "PREPARING");
-                    payload.put("roundId", roundId);
-    
-                    sseService.broadcastToReactionGame(round.getSessionId(), "round-update", payload);
-    
-                    // 랜덤한 시간 후 RED 신호 발생 (1500~4000ms)
-                    long redDelay = 1500 + new Random().nextInt(2500);
-                    scheduleRedSignal(roundId, redDelay);
+                if (!state.tryPrepare()) {
+                    return;
                 }
+                Map<String, Object> payload = new HashMap<>();
+                payload.put("type", "ROUND_STATE");
+                payload.put("status", "PREPARING");
+                payload.put("roundId", state.roundId());
+
+                eventOutbox.reaction(state.sessionId(), "round-update", payload);
+                persistPhase(state);
+
+                // 랜덤한 시간 후 RED 신호 발생 (1500~4000ms)
+                long redDelay = 1500 + ThreadLocalRandom.current().nextInt(2500);
+                scheduleRedSignal(state, redDelay);
             } catch (Exception e) {
                 log.error("Error in schedulePreparingPhase", e);
             }
-        }, Instant.now().plusMillis(delayMs));
-        scheduledTasks.put(roundId, task);
+        }, Instant.now().plusMillis(delayMs)));
     }
 
-    private void scheduleRedSignal(Long roundId, long delayMs) {
-        ScheduledFuture<?> task = taskScheduler.schedule(() -> {
+    private void scheduleRedSignal(ReactionRoundState state, long delayMs) {
+        state.attachPhaseTimer(taskScheduler.schedule(() -> {
             try {
-                Optional<ReactionRound> roundOpt = reactionRoundRepo.findById(roundId);
-                if (roundOpt.isPresent() && "PREPARING".equals(roundOpt.get().getStatus())) {
-                    ReactionRound round = roundOpt.get();
-                    round.setRedSignal();
-                    reactionRoundRepo.save(round);
-    
-                    // 🔴 수정: 세션 단위 토픽 + 일관된 이벤트 스키마
-                    Map<String, Object> payload = new HashMap<>();
-                    payload.put("type", "ROUND_STATE");
-                    payload.put("status", "RED");
-                    payload.put("roundId", roundId);
-                    payload.put("redAt", round.getRedAt().toEpochMilli());
-    
-                    sseService.broadcastToReactionGame(round.getSessionId(), "round-update", payload);
-    
-                    scheduleTimeout(roundId, 10000);
+                // 전이에 성공한 이 시각이 반응 시간 계산의 기준이 된다
+                if (!state.tryRed(System.nanoTime(), System.currentTimeMillis())) {
+                    return;
                 }
+                // 🔴 수정: 세션 단위 토픽 + 일관된 이벤트 스키마
+                Map<String, Object> payload = new HashMap<>();
+                payload.put("type", "ROUND_STATE");
+                payload.put("status", "RED");
+                payload.put("roundId", state.roundId());
+                payload.put("redAt", state.redAtEpochMs());
+
+                eventOutbox.reaction(state.sessionId(), "round-update", payload);
+                persistPhase(state);
+
+                scheduleTimeout(state, 10000);
             } catch (Exception e) {
                 log.error("Error in scheduleRedSignal", e);
             }
-        }, Instant.now().plusMillis(delayMs));
-        scheduledTasks.put(roundId, task);
+        }, Instant.now().plusMillis(delayMs)));
+    }
+
+    /**
+     * 현재 메모리 상태를 DB에 반영한다 (세션 메일박스에서 순서대로 실행).
+     */
+    private void persistPhase(ReactionRoundState state) {
+        String status = state.status();
+        Instant redAt = state.redAt();
+        sessionExecutor.execute(state.sessionId(), () -> {
+            try {
+                reactionRoundRepo.updatePhase(state.roundId(), status, redAt);
+            } catch (Exception e) {
+                log.error("[REACTION-STATE] Failed to persist round {} status {}", state.roundId(), status, e);
+            }
+        });
+    }
+
+    /**
+     * 조회용 라운드 엔티티에 메모리 상태(DB보다 앞서 있을 수 있음)를 덮어쓴다.
+     * 읽기 전용 트랜잭션에서만 호출하므로 DB에는 반영되지 않는다.
+     */
+    private ReactionRound withLiveState(ReactionRound round) {
+        ReactionRoundState state = round != null ? roundStates.find(round.getRoundId()) : null;
+        if (state != null) {
+            round.setStatus(state.status());
+            if (state.redAt() != null) {
+                round.setRedAt(state.redAt());
+            }
+        }
+        return round;
     }
     
 
-    public ReactionResult registerSessionClick(Long sessionId, Long userId) {
+    /**
+     * 세션의 현재 라운드에 클릭을 기록한다.
+     *
+     * @param clickNanos 요청이 서버에 도착한 시각 (System.nanoTime, {@link su.kdt.minigame.support.RequestIngressTimeFilter})
+     */
+    public ReactionResult registerSessionClick(Long sessionId, Long userId, long clickNanos) {
         log.info("[REACTION-CLICK] Session-based click: sessionId={}, userId={}", sessionId, userId);
         
-        // 세션의 라운드들을 조회하여 해당 사용자가 이미 클릭했는지 확인
-        List<ReactionRound> rounds = reactionRoundRepo.findBySessionId(sessionId);
-        if (rounds.isEmpty()) {
-            throw new IllegalStateException("No rounds found for session: " + sessionId);
-        }
+        // 세션의 현재 라운드 상태 (중복 클릭은 라운드 상태에서 쿼리 없이 걸러짐)
+        ReactionRoundState state = currentRoundState(sessionId);
         
-        // 모든 라운드에서 해당 사용자의 결과를 확인
-        for (ReactionRound round : rounds) {
-            Optional<ReactionResult> existingResult = reactionResultRepo.findByRoundIdAndUserId(round.getRoundId(), userId);
-            if (existingResult.isPresent()) {
-                log.warn("[REACTION-CLICK] User {} already clicked for session {} in round {}", userId, sessionId, round.getRoundId());
-                return existingResult.get(); // 중복 클릭 방지
-            }
+        ReactionResult result = measureClick(state, userId, clickNanos);
+        ReactionResult recorded = acceptClick(state, result);
+        if (recorded != result) {
+            log.warn("[REACTION-CLICK] User {} already clicked for session {} in round {}", userId, sessionId, state.roundId());
+            return recorded; // 중복 클릭 방지
         }
         
-        // 현재 활성 라운드 찾기 (가장 최근 라운드 사용)
-        ReactionRound currentRound = rounds.stream()
-            .filter(r -> "WAITING".equals(r.getStatus()) || "PREPARING".equals(r.getStatus()) || "RED".equals(r.getStatus()))
-            .findFirst()
-            .orElse(rounds.get(rounds.size() - 1)); // 활성 라운드가 없으면 마지막 라운드 사용
-        
-        // 새로운 결과 생성 (라운드 기반)
-        ReactionResult result = new ReactionResult(currentRound.getRoundId(), userId);
-        Instant clickTime = Instant.now();
-        
-        // 단판 게임이므로 즉시 결과 계산 (간단한 랜덤 지연시간)
-        int deltaMs = 200 + new java.util.Random().nextInt(800); // 200-1000ms 랜덤
-        result.recordClick(clickTime, deltaMs, false);
-        
-        ReactionResult saved = reactionResultRepo.save(result);
+        log.info("[REACTION-CLICK] Click registered: sessionId={}, userId={}, deltaMs={}ms, falseStart={}", 
+                sessionId, userId, result.getDeltaMs(), result.getFalseStart());
         
-        // 모든 플레이어가 클릭했는지 확인하고 순위 계산
-        checkAndCalculateRanks(sessionId);
-        
-        log.info("[REACTION-CLICK] Click registered: sessionId={}, userId={}, deltaMs={}ms", 
-                sessionId, userId, deltaMs);
-        
-        return saved;
+        return recorded;
     }
 
     /**
-     * 세션 기반 단판 게임의 순위 계산 및 게임 종료 처리
+     * 세션의 현재 라운드 상태. 노드 재시작 등으로 메모리에 없으면 DB의 라운드로 복구한다.
      */
-    @Transactional
-    public void checkAndCalculateRanks(Long sessionId) {
-        log.info("[RANK-CALC] Checking ranks for session: {}", sessionId);
-        
-        GameSession session = gameRepo.findById(sessionId).orElse(null);
-        if (session == null) {
-            log.warn("[RANK-CALC] Session {} not found", sessionId);
-            return;
+    private ReactionRoundState currentRoundState(Long sessionId) {
+        ReactionRoundState state = roundStates.current(sessionId);
+        if (state != null) {
+            return state;
         }
         
-        // 세션의 전체 멤버 수 확인
-        List<GameSessionMember> allMembers = memberRepo.findBySessionId(sessionId);
-        
-        // 세션의 모든 라운드에서 결과 조회
         List<ReactionRound> rounds = reactionRoundRepo.findBySessionId(sessionId);
-        List<ReactionResult> results = new ArrayList<>();
-        if (!rounds.isEmpty()) {
-            List<Long> roundIds = rounds.stream().map(ReactionRound::getRoundId).toList();
-            results = reactionResultRepo.findByRoundIdIn(roundIds);
-            // 성능 기준으로 정렬 (falseStart 우선, 그 다음 deltaMs)
-            results.sort((a, b) -> {
-                if (a.getFalseStart() && !b.getFalseStart()) return 1;
-                if (!a.getFalseStart() && b.getFalseStart()) return -1;
-                if (a.getFalseStart() && b.getFalseStart()) {
-                    return a.getUserId().compareTo(b.getUserId());
-                }
-                if (a.getDeltaMs() == null && b.getDeltaMs() == null) {
-                    return a.getUserId().compareTo(b.getUserId());
-                }
-                if (a.getDeltaMs() == null) return 1;
-                if (b.getDeltaMs() == null) return -1;
-                return a.getDeltaMs().compareTo(b.getDeltaMs());
-            });
+        if (rounds.isEmpty()) {
+            throw new IllegalStateException("No rounds found for session: " + sessionId);
         }
         
-        log.info("[RANK-CALC] Session {} - members: {}, results: {}", 
-                sessionId, allMembers.size(), results.size());
-        
-        // 모든 플레이어가 클릭했는지 확인
-        if (results.size() >= allMembers.size() && allMembers.size() >= 2) {
-            log.info("[RANK-CALC] All players clicked for session {}, calculating final ranks", sessionId);
-            
-            // 순위 계산 (false start 우선 패널티, deltaMs 기준 정렬)
-            calculateSessionRanks(results);
-            
-            // 게임 종료 처리
-            finalizeSessionGame(sessionId);
-        } else {
-            log.debug("[RANK-CALC] Session {} not ready for finalization - waiting for more clicks", sessionId);
-        }
+        // 현재 활성 라운드 찾기 (가장 최근 라운드 사용)
+        ReactionRound currentRound = rounds.stream()
+            .filter(r -> "WAITING".equals(r.getStatus()) || "PREPARING".equals(r.getStatus()) || "RED".equals(r.getStatus()))
+            .findFirst()
+            .orElse(rounds.get(rounds.size() - 1)); // 활성 라운드가 없으면 마지막 라운드 사용
+        return roundStates.getOrLoad(currentRound);
     }
 
     /**
-     * 세션 기반 단판 게임의 최종 순위 계산
+     * 클릭 결과를 라운드 상태와 세션 순위표에 기록한다. 이미 클릭했으면 기존 결과를 반환한다.
+     * 결과는 종료 처리 때 한 번에 저장되며, 전원의 결과가 모였으면 순위 계산/종료 처리를 한 번만 예약한다.
      */
-    private void calculateSessionRanks(List<ReactionResult> results) {
-        // 정상 클릭 사용자들 먼저 순위 매기기
-        List<ReactionResult> validClicks = results.stream()
-            .filter(r -> !r.getFalseStart())
-            .sorted((a, b) -> {
-                if (a.getDeltaMs() == null && b.getDeltaMs() == null) {
-                    return a.getUserId().compareTo(b.getUserId());
-                }
-                if (a.getDeltaMs() == null) return 1;
-                if (b.getDeltaMs() == null) return -1;
-                int deltaCompare = a.getDeltaMs().compareTo(b.getDeltaMs());
-                return deltaCompare != 0 ? deltaCompare : a.getUserId().compareTo(b.getUserId());
-            })
-            .toList();
-
-        for (int i = 0; i < validClicks.size(); i++) {
-            validClicks.get(i).setRank(i + 1);
+    private ReactionResult acceptClick(ReactionRoundState state, ReactionResult result) {
+        long userId = result.getUserId();
+        ReactionResult existing = state.clickOf(userId);
+        if (existing != null) {
+            return existing;
         }
-
-        // False start 사용자들 하위 순위 매기기
-        List<ReactionResult> falseStarts = results.stream()
-            .filter(ReactionResult::getFalseStart)
-            .sorted((a, b) -> a.getUserId().compareTo(b.getUserId()))
-            .toList();
-
-        int falseStartRank = validClicks.size() + 1;
-        for (ReactionResult falseStart : falseStarts) {
-            falseStart.setRank(falseStartRank++);
+        if (state.isClosed()) {
+            throw new IllegalStateException("Round is closed: " + state.roundId());
         }
-
-        reactionResultRepo.saveAll(results);
+        existing = state.tryClick(userId, result);
+        if (existing != null) {
+            return existing;
+        }
+        
+        roundStates.leaderboard(state.sessionId()).record(result);
+        finishRoundWhenAllClicked(state);
+        return result;
     }
 
     /**
-     * 세션 기반 단판 게임 종료 처리
+     * 전원의 결과가 모였으면 세션 메일박스에서 순위 계산/종료 처리를 실행한다 (라운드당 한 번).
+     * 메모리 상태는 트랜잭션이 커밋된 뒤에만 FINISHED로 바꾸고, 실패하면 진행 상태로 되돌린 뒤
+     * 시간 초과 마감을 다시 예약해 종료 처리를 재시도한다 (재시도는 라운드 상태에서 새 결과 엔티티를 받아 저장한다).
      */
-    @Transactional
-    public void finalizeSessionGame(Long sessionId) {
-        log.info("[SESSION-FINALIZE] Finalizing session-based game: {}", sessionId);
-        
-        GameSession session = gameRepo.findById(sessionId).orElse(null);
-        if (session == null || session.getStatus() == GameSession.Status.FINISHED) {
-            log.warn("[SESSION-FINALIZE] Session {} already finished or not found", sessionId);
+    private void finishRoundWhenAllClicked(ReactionRoundState state) {
+        if (!state.isAllClicked() || !state.tryComplete()) {
             return;
         }
-        
-        // 세션의 모든 라운드에서 결과 조회
-        List<ReactionRound> rounds = reactionRoundRepo.findBySessionId(sessionId);
-        List<ReactionResult> allResults = new ArrayList<>();
-        if (!rounds.isEmpty()) {
-            List<Long> roundIds = rounds.stream().map(ReactionRound::getRoundId).toList();
-            allResults = reactionResultRepo.findByRoundIdIn(roundIds);
-            // 성능 기준으로 정렬 (falseStart 우선, 그 다음 deltaMs)
-            allResults.sort((a, b) -> {
-                if (a.getFalseStart() && !b.getFalseStart()) return 1;
-                if (!a.getFalseStart() && b.getFalseStart()) return -1;
-                if (a.getFalseStart() && b.getFalseStart()) {
-                    return a.getUserId().compareTo(b.getUserId());
-                }
-                if (a.getDeltaMs() == null && b.getDeltaMs() == null) {
-                    return a.getUserId().compareTo(b.getUserId());
+        sessionExecutor.execute(state.sessionId(), () -> {
+            try {
+                Boolean finished = transactionTemplate.execute(status -> finishRoundIfReady(state));
+                if (Boolean.TRUE.equals(finished)) {
+                    state.finish();
+                } else {
+                    state.reopen();
                 }
-                if (a.getDeltaMs() == null) return 1;
-                if (b.getDeltaMs() == null) return -1;
-                return a.getDeltaMs().compareTo(b.getDeltaMs());
-            });
-        }
-        
-        if (allResults.isEmpty()) {
-            log.warn("[SESSION-FINALIZE] No results found for session {}", sessionId);
-            return;
-        }
-        
-        // 사용자 표시명 조회
-        List<Long> userIds = allResults.stream().map(ReactionResult::getUserId).toList();
-        Map<Long, String> displayNameMap = userRepository.findByIdIn(userIds)
-                .stream().collect(java.util.stream.Collectors.toMap(User::getId, User::getUsername));
-        
-        // 랭킹 구성
-        List<Map<String, Object>> overallRanking = new ArrayList<>();
-        for (int i = 0; i < allResults.size(); i++) {
-            ReactionResult r = allResults.get(i);
-            Map<String, Object> rankData = new HashMap<>();
-            rankData.put("userId", r.getUserId());
-            rankData.put("displayName", displayNameMap.getOrDefault(r.getUserId(), String.valueOf(r.getUserId())));
-            rankData.put("deltaMs", r.getDeltaMs() != null ? r.getDeltaMs() : -1);
-            rankData.put("falseStart", r.getFalseStart());
-            rankData.put("rank", r.getRankOrder() != null ? r.getRankOrder() : i + 1);
-            overallRanking.add(rankData);
-        }
-        
-        Long winnerUid = allResults.get(0).getUserId();
-        Long loserUid = allResults.get(allResults.size() - 1).getUserId();
-        
-        // 벌칙 정보 조회
-        Map<String, Object> penaltyData = new HashMap<>();
-        if (session.getSelectedPenaltyId() != null) {
-            penaltyData.put("code", "P" + session.getSelectedPenaltyId());
-            penaltyData.put("text", session.getPenaltyDescription());
-        }
-        
-        // 최종 결과 페이로드 구성
-        Map<String, Object> finalPayload = new HashMap<>();
-        finalPayload.put("sessionId", sessionId);
-        finalPayload.put("overallRanking", overallRanking);
-        finalPayload.put("winnerUid", winnerUid);
-        finalPayload.put("loserUid", loserUid);
-        finalPayload.put("penalty", penaltyData);
-        
-        log.info("[SESSION-FINALIZE] Broadcasting final results for session {} with {} participants", 
-                sessionId, overallRanking.size());
-        
-        // SSE 브로드캐스트
-        try {
-            sseService.broadcastToReactionGame(sessionId, "final-results", finalPayload);
-            log.info("[SESSION-FINALIZE] Successfully broadcasted final results for session {}", sessionId);
-        } catch (Exception e) {
-            log.error("[SESSION-FINALIZE] Failed to broadcast final results for session {}", sessionId, e);
-        }
-        
-        // 세션 상태를 FINISHED로 변경
-        try {
-            session.finish(session.getPenaltyDescription());
-            gameRepo.save(session);
-            log.info("[SESSION-FINALIZE] Session {} marked as FINISHED", sessionId);
-            
-            // 메모리 정리
-            readyPlayers.remove(sessionId);
-            
-            // 방 닫힘 브로드캐스트
-            taskScheduler.schedule(() -> {
-                try {
-                    sseService.broadcastToReactionGame(sessionId, "session-closed", 
-                        Map.of("message", "게임이 종료되었습니다."));
-                    log.info("[SESSION-FINALIZE] Broadcasted session closed message for session {}", sessionId);
-                } catch (Exception e) {
-                    log.error("[SESSION-FINALIZE] Failed to broadcast session closed message for session {}", sessionId, e);
+            } catch (Exception e) {
+                state.reopen();
+                log.error("[FINISH-ROUND] Failed to finish round {} - retrying after timeout", state.roundId(), e);
+                if (state.isActive()) {
+                    scheduleTimeout(state, 10000);
                 }
-            }, Instant.now().plusSeconds(3));
-        } catch (Exception e) {
-            log.error("[SESSION-FINALIZE] Failed to mark session {} as FINISHED", sessionId, e);
-        }
+            }
+        });
     }
 
-    public ReactionResult registerClick(Long roundId, Long userId) {
-        Instant clickTime = Instant.now();
-        
-        ReactionRound round = reactionRoundRepo.findById(roundId)
-                .orElseThrow(() -> new IllegalArgumentException("Round not found: " + roundId));
+    /**
+     * 라운드에 클릭을 기록한다.
+     *
+     * @param clickNanos 요청이 서버에 도착한 시각 (System.nanoTime, {@link su.kdt.minigame.support.RequestIngressTimeFilter})
+     */
+    public ReactionResult registerClick(Long roundId, Long userId, long clickNanos) {
+        ReactionRoundState state = roundStates.find(roundId);
+        if (state == null) {
+            ReactionRound round = reactionRoundRepo.findById(roundId)
+                    .orElseThrow(() -> new IllegalArgumentException("Round not found: " + roundId));
+            state = roundStates.getOrLoad(round);
+        }
         
-        Long sessionId = round.getSessionId();
+        ReactionResult result = measureClick(state, userId, clickNanos);
         
         // 이미 클릭한 사용자인지 확인 (중복 클릭 무시)
-        Optional<ReactionResult> existing = reactionResultRepo.findByRoundIdAndUserId(roundId, userId);
-        if (existing.isPresent()) {
+        ReactionResult recorded = acceptClick(state, result);
+        if (recorded != result) {
             log.info("User {} already clicked for round {}, returning existing result", userId, roundId);
-            return existing.get();
         }
+        return recorded;
+    }
+
+    /**
+     * 요청 도착 시각으로 반응 시간을 잰다. RED 시각과 같은 단조 시계(nanoTime)로 비교하므로
+     * 서버 대기열/DB 지연과 벽시계 보정의 영향을 받지 않는다. RED 전에 도착한 클릭은 부정출발.
+     */
+    private ReactionResult measureClick(ReactionRoundState state, Long userId, long clickNanos) {
+        ReactionResult result = new ReactionResult(state.roundId(), userId);
+        Instant clickTime = Instant.now().minusNanos(Math.max(0L, System.nanoTime() - clickNanos));
         
-        ReactionResult result = new ReactionResult(roundId, userId);
-        
-        // FALSE START vs 정상 클릭 판정
-        if (round.getRedAt() == null || clickTime.isBefore(round.getRedAt())) {
+        // nanoTime은 두 값의 차이만 의미가 있으므로 직접 비교하지 않고 차이의 부호로 판정한다
+        long sinceRedNanos = clickNanos - state.redAtNanos();
+        if (!state.hasRedSignal() || sinceRedNanos < 0) {
             result.recordClick(clickTime, null, true);
         } else {
-            long deltaMs = Duration.between(round.getRedAt(), clickTime).toMillis();
+            long deltaMs = TimeUnit.NANOSECONDS.toMillis(sinceRedNanos);
             result.recordClick(clickTime, (int) deltaMs, false);
         }
-        
-        result = reactionResultRepo.save(result);
-        finishRoundIfReady(roundId);
         return result;
     }
 
-    private void scheduleTimeout(Long roundId, long timeoutMs) {
-        taskScheduler.schedule(() -> {
+    /**
+     * 미제출자 시간 초과 처리 예약. DB 작업이므로 타이머 스레드가 아닌 세션 메일박스에서 실행된다.
+     */
+    private void scheduleTimeout(ReactionRoundState state, long timeoutMs) {
+        long roundId = state.roundId();
+        state.attachDeadline(deadlineService.schedule(state.sessionId(), Duration.ofMillis(timeoutMs), () -> {
             try {
                 handleTimeoutAndFinalize(roundId);
             } catch (Exception e) {
                 log.error("Error in scheduleTimeout", e);
             }
-        }, Instant.now().plusMillis(timeoutMs));
+        }));
     }
     
     private void handleTimeoutAndFinalize(Long roundId) {
         try {
             log.info("[TIMEOUT] Handling timeout for round {}", roundId);
             
-            ReactionRound round = reactionRoundRepo.findById(roundId).orElse(null);
-            if (round == null || "FINISHED".equals(round.getStatus())) {
-                log.debug("[TIMEOUT] Round {} already finished or not found", roundId);
+            ReactionRoundState state = roundStates.find(roundId);
+            if (state == null) {
+                ReactionRound round = reactionRoundRepo.findById(roundId).orElse(null);
+                if (round == null || "FINISHED".equals(round.getStatus())) {
+                    log.debug("[TIMEOUT] Round {} already finished or not found", roundId);
+                    return;
+                }
+                state = roundStates.getOrLoad(round);
+            }
+            if (!state.isActive()) {
+                log.debug("[TIMEOUT] Round {} already finished", roundId);
                 return;
             }
             
-            // 세션의 전체 멤버 수와 현재 제출자 수 확인
-            Long sessionId = round.getSessionId();
-            List<GameSessionMember> allMembers = memberRepo.findBySessionId(sessionId);
-            List<ReactionResult> existingResults = reactionResultRepo.findByRoundIdOrderByPerformance(roundId);
+            // 세션의 전체 멤버와 현재 제출 상태 확인
+            List<Long> memberIds = memberRepo.findUserIdsBySessionId(state.sessionId());
+            state.updateExpectedCount(memberIds.size());
             
             log.info("[TIMEOUT] Round {} - members: {}, existing results: {}", 
-                    roundId, allMembers.size(), existingResults.size());
+                    roundId, memberIds.size(), state.clickCount());
             
             // 미제출자들에게 타임아웃 결과 추가 (falseStart가 아닌 timeout으로 처리)
-            Set<Long> submittedUids = existingResults.stream()
-                    .map(ReactionResult::getUserId)
-                    .collect(java.util.stream.Collectors.toSet());
-            
-            for (GameSessionMember member : allMembers) {
-                if (!submittedUids.contains(member.getUserId())) {
-                    try {
-                        ReactionResult missedResult = new ReactionResult(roundId, member.getUserId());
-                        // 타임아웃은 falseStart가 아니라 반응 시간 없음으로 처리
-                        missedResult.recordClick(Instant.now(), null, false); 
-                        reactionResultRepo.save(missedResult);
-                        log.debug("[TIMEOUT] Added timeout result for user {} in round {}", member.getUserId(), roundId);
-                    } catch (Exception e) {
-                        log.error("[TIMEOUT] Failed to add timeout result for user {} in round {}", member.getUserId(), roundId, e);
-                    }
+            // 참가자별 기록은 클릭과 같은 putIfAbsent로 하므로 동시에 도착한 클릭과 겹치지 않는다
+            Instant now = Instant.now();
+            ReactionLeaderboard board = roundStates.leaderboard(state.sessionId());
+            int missed = 0;
+            for (Long memberId : memberIds) {
+                ReactionResult missedResult = new ReactionResult(roundId, memberId);
+                // 타임아웃은 falseStart가 아니라 반응 시간 없음으로 처리
+                missedResult.recordClick(now, null, false);
+                if (state.tryClick(memberId, missedResult) == null) {
+                    board.record(missedResult);
+                    missed++;
                 }
             }
+            log.debug("[TIMEOUT] Added {} timeout results in round {}", missed, roundId);
             
             // 이제 모든 참가자 결과가 있으므로 마감 처리
-            finishRoundIfReady(roundId);
+            finishRoundWhenAllClicked(state);
             
         } catch (Exception e) {
             log.error("[TIMEOUT] Error handling timeout for round {}", roundId, e);
         }
     }
 
-    private void finishRoundIfReady(Long roundId) {
-        try {
-            log.debug("[FINISH-ROUND] Checking if round {} is ready to finish", roundId);
-            
-            ReactionRound round = reactionRoundRepo.findById(roundId).orElse(null);
-            if (round == null || "FINISHED".equals(round.getStatus())) {
-                log.debug("[FINISH-ROUND] Round {} already finished or not found", roundId);
-                return;
+    /**
+     * 모든 참가자 결과가 모였으면 순위표 순서대로 순위를 매겨 결과를 한 번에 저장하고 라운드/세션을 종료한다.
+     *
+     * 저장 실패 등 예외는 그대로 던져 트랜잭션이 롤백되게 한다.
+     *
+     * @return 종료했거나 이미 종료된 라운드면 true
+     */
+    private boolean finishRoundIfReady(ReactionRoundState state) {
+        long roundId = state.roundId();
+        log.debug("[FINISH-ROUND] Checking if round {} is ready to finish", roundId);
+        
+        ReactionRound round = reactionRoundRepo.findById(roundId).orElse(null);
+        if (round == null || "FINISHED".equals(round.getStatus())) {
+            log.debug("[FINISH-ROUND] Round {} already finished or not found", roundId);
+            return true;
+        }
+        
+        // 세션의 전체 멤버 수 확인
+        Long sessionId = round.getSessionId();
+        int expectedParticipants = (int) memberRepo.countBySessionId(sessionId);
+        
+        // 리액션 게임은 최소 2명 이상 참여해야 함
+        if (expectedParticipants < 2) {
+            log.info("[FINISH-ROUND] Round {} cannot finish - insufficient participants: {} (minimum 2 required)", 
+                    roundId, expectedParticipants);
+            return false;
+        }
+        
+        List<ReactionResult> results = state.results();
+        
+        log.info("[FINISH-ROUND] Round {} status check - expected: {}, results: {}", roundId, expectedParticipants, results.size());
+        
+        // 모든 참가자가 제출했거나 타임아웃된 경우에만 마감
+        if (results.size() >= expectedParticipants) {
+            // 라운드 상태에는 들어갔지만 아직 순위표에 반영 중인 클릭이 있을 수 있어 다시 넣는다 (중복은 무시됨)
+            ReactionLeaderboard board = roundStates.leaderboard(sessionId);
+            results.forEach(board::record);
+            Map<Long, Integer> ranks = board.roundRanks(roundId);
+            for (ReactionResult result : results) {
+                result.setRank(ranks.get(result.getUserId()));
             }
+            reactionResultRepo.saveAll(results);
             
-            // 세션의 전체 멤버 수 확인
-            Long sessionId = round.getSessionId();
-            int expectedParticipants = (int) memberRepo.countBySessionId(sessionId);
-            
-            // 리액션 게임은 최소 2명 이상 참여해야 함
-            if (expectedParticipants < 2) {
-                log.info("[FINISH-ROUND] Round {} cannot finish - insufficient participants: {} (minimum 2 required)", 
-                        roundId, expectedParticipants);
-                return;
+            // 비동기 반영 전의 엔티티로 RED 시각을 덮어쓰지 않도록 메모리 값을 옮긴다 (메모리 상태 종료는 커밋 후)
+            if (state.redAt() != null) {
+                round.setRedAt(state.redAt());
             }
+            round.finish();
+            reactionRoundRepo.save(round);
             
-            List<ReactionResult> results = reactionResultRepo.findByRoundIdOrderByPerformance(roundId);
-            
-            log.info("[FINISH-ROUND] Round {} status check - expected: {}, results: {}", roundId, expectedParticipants, results.size());
-            
-            // 모든 참가자가 제출했거나 타임아웃된 경우에만 마감
-            if (results.size() >= expectedParticipants) {
-                calculateRanks(results);
-                round.finish();
-                reactionRoundRepo.save(round);
-                
-                log.info("[FINISH-ROUND] Round {} finished with {} participants - broadcasting final results", roundId, results.size());
-                
-                // 세션 단위 최종 결과 브로드캐스트 (동기/비동기 모두 처리)
-                finalizeAndBroadcast(round.getSessionId());
-                
-                ScheduledFuture<?> task = scheduledTasks.remove(roundId);
-                if (task != null) {
-                    task.cancel(false);
-                }
-            } else {
-                log.debug("[FINISH-ROUND] Round {} not ready to finish - waiting for more results", roundId);
-            }
+            log.info("[FINISH-ROUND] Round {} finished with {} participants - broadcasting final results", roundId, results.size());
             
-        } catch (Exception e) {
-            log.error("[FINISH-ROUND] Error finishing round {}", roundId, e);
+            // 세션 단위 최종 결과 브로드캐스트 (동기/비동기 모두 처리)
+            finalizeAndBroadcast(round.getSessionId());
+            return true;
         }
+        
+        // 중간 입장 등으로 멤버가 늘었으면 남은 참가자의 클릭이나 시간 초과를 기다린다
+        state.updateExpectedCount(expectedParticipants);
+        log.debug("[FINISH-ROUND] Round {} not ready to finish - waiting for more results", roundId);
+        return false;
     }
 
-    private void calculateRanks(List<ReactionResult> results) {
-        // 정상 클릭 사용자들 먼저 순위 매기기
-        List<ReactionResult> validClicks = results.stream()
-            .filter(r -> !r.getFalseStart())
-            .sorted((a, b) -> {
-                if (a.getDeltaMs() == null && b.getDeltaMs() == null) {
-                    return a.getUserId().compareTo(b.getUserId());
-                }
-                if (a.getDeltaMs() == null) return 1;
-                if (b.getDeltaMs() == null) return -1;
-                int deltaCompare = a.getDeltaMs().compareTo(b.getDeltaMs());
-                return deltaCompare != 0 ? deltaCompare : a.getUserId().compareTo(b.getUserId());
-            })
-            .toList();
-
-        for (int i = 0; i < validClicks.size(); i++) {
-            validClicks.get(i).setRank(i + 1);
-        }
-
-        // False start 사용자들 하위 순위 매기기
-        List<ReactionResult> falseStarts = results.stream()
-            .filter(ReactionResult::getFalseStart)
-            .sorted((a, b) -> a.getUserId().compareTo(b.getUserId()))
-            .toList();
-
-        int falseStartRank = validClicks.size() + 1;
-        for (ReactionResult falseStart : falseStarts) {
-            falseStart.setRank(falseStartRank++);
-        }
-
-        reactionResultRepo.saveAll(results);
-    }
-    
     public void finalizeAndBroadcast(Long sessionId) {
         try {
             log.info("[FINALIZE] Starting finalization for session {}", sessionId);
             
-            // 해당 세션의 모든 라운드 결과를 조회
-            List<ReactionRound> rounds = reactionRoundRepo.findBySessionId(sessionId);
-            if (rounds.isEmpty()) {
-                log.warn("[FINALIZE] No rounds found for session {} - cannot finalize", sessionId);
-                return;
-            }
-            
-            List<ReactionResult> allResults = reactionResultRepo.findByRoundIdIn(
-                rounds.stream().map(ReactionRound::getRoundId).toList()
-            );
-            
-            if (allResults.isEmpty()) {
+            // 클릭마다 갱신된 세션 순위표에서 바로 최종 결과를 만든다
+            ReactionLeaderboard board = roundStates.leaderboard(sessionId);
+            if (board.isEmpty()) {
                 log.warn("[FINALIZE] No results found for session {} - cannot finalize", sessionId);
                 return;
             }
         
-        log.info("Finalizing session {} with {} results", sessionId, allResults.size());
-        
-        // 정렬: falseStart 우선 패널티, 그 외 deltaMs 오름차순
-        allResults.sort((a, b) -> {
-            if (a.getFalseStart() && !b.getFalseStart()) return 1;
-            if (!a.getFalseStart() && b.getFalseStart()) return -1;
-            if (a.getFalseStart() && b.getFalseStart()) {
-                return a.getUserId().compareTo(b.getUserId());
-            }
-            // 둘 다 정상 클릭인 경우 deltaMs 비교
-            if (a.getDeltaMs() == null && b.getDeltaMs() == null) {
-                return a.getUserId().compareTo(b.getUserId());
-            }
-            if (a.getDeltaMs() == null) return 1;
-            if (b.getDeltaMs() == null) return -1;
-            return a.getDeltaMs().compareTo(b.getDeltaMs());
-        });
-        
-        // 사용자 표시명 조회
-        List<Long> userIds = allResults.stream().map(ReactionResult::getUserId).toList();
-        Map<Long, String> displayNameMap = userRepository.findByIdIn(userIds)
-                .stream().collect(java.util.stream.Collectors.toMap(User::getId, User::getUsername));
-        
-        // 랭크 계산
-        List<Map<String, Object>> overallRanking = new ArrayList<>();
-        for (int i = 0; i < allResults.size(); i++) {
-            ReactionResult r = allResults.get(i);
-            Map<String, Object> rankData = new HashMap<>();
-            rankData.put("userId", r.getUserId());
-            rankData.put("displayName", displayNameMap.getOrDefault(r.getUserId(), String.valueOf(r.getUserId())));
-            rankData.put("deltaMs", r.getDeltaMs() != null ? r.getDeltaMs() : -1);
-            rankData.put("falseStart", r.getFalseStart());
-            rankData.put("rank", i + 1);
-            overallRanking.add(rankData);
-        }
-        
-        Long winnerUid = allResults.get(0).getUserId();
-        Long loserUid = allResults.get(allResults.size() - 1).getUserId();
+        log.info("Finalizing session {} with {} results", sessionId, board.size());
         
-        // 벌칙 정보 조회 (세션에 저장된 값 사용)
         GameSession session = gameRepo.findById(sessionId).orElse(null);
-        Map<String, Object> penaltyData = new HashMap<>();
-        if (session != null && session.getSelectedPenaltyId() != null) {
-            penaltyData.put("code", "P" + session.getSelectedPenaltyId());
-            penaltyData.put("text", session.getPenaltyDescription());
-        }
-        
-        // 단일 페이로드 구성
-        Map<String, Object> finalPayload = new HashMap<>();
-        finalPayload.put("sessionId", sessionId);
-        finalPayload.put("overallRanking", overallRanking);
-        finalPayload.put("winnerUid", winnerUid);
-        finalPayload.put("loserUid", loserUid);
-        finalPayload.put("penalty", penaltyData);
+        Map<String, Object> finalPayload = resultPayload(board, session);
         
         log.info("Broadcasting final results to /topic/reaction/{}/final with {} rankings", 
-                sessionId, overallRanking.size());
+                sessionId, board.size());
         
         // SSE 브로드캐스트 (동기적으로 확실히 전송)
         try {
-            sseService.broadcastToReactionGame(sessionId, "final-results", finalPayload);
+            eventOutbox.reaction(sessionId, "final-results", finalPayload);
             log.info("Successfully broadcasted final results for session {}", sessionId);
         } catch (Exception e) {
             log.error("Failed to broadcast final results for session {}", sessionId, e);
@@ -665,15 +500,13 @@ public class ReactionGameService {
                 try {
                     session.finish(session.getPenaltyDescription());
                     gameRepo.save(session);
+                    eventPublisher.publishEvent(new SessionEndedEvent(session.getId()));
                     log.info("[FINALIZE] Session {} marked as FINISHED", sessionId);
                     
-                    // 메모리 정리
-                    readyPlayers.remove(sessionId);
-                    
                     // 방 닫힘 브로드캐스트 (약간의 지연 후)
                     taskScheduler.schedule(() -> {
                         try {
-                            sseService.broadcastToReactionGame(sessionId, "session-closed", 
+                            eventOutbox.reaction(sessionId, "session-closed", 
                                 Map.of("message", "게임이 종료되었습니다."));
                             log.info("[FINALIZE] Broadcasted session closed message for session {}", sessionId);
                         } catch (Exception e) {
@@ -695,6 +528,7 @@ public class ReactionGameService {
                 if (session != null && session.getStatus() != GameSession.Status.FINISHED) {
                     session.finish(session.getPenaltyDescription());
                     gameRepo.save(session);
+                    eventPublisher.publishEvent(new SessionEndedEvent(session.getId()));
                     log.info("[FINALIZE] Emergency session {} marked as FINISHED", sessionId);
                 }
             } catch (Exception emergencyE) {
@@ -703,18 +537,41 @@ public class ReactionGameService {
         }
     }
 
+    /**
+     * 순위표로 최종 결과 페이로드를 만든다. 표시 이름은 아직 모르는 참가자만 한 번 조회해 순위표에 보관한다.
+     */
+    private Map<String, Object> resultPayload(ReactionLeaderboard board, GameSession session) {
+        List<Long> missing = board.missingDisplayNames();
+        if (!missing.isEmpty()) {
+            board.putDisplayNames(userRepository.findByIdIn(missing).stream()
+                    .collect(java.util.stream.Collectors.toMap(User::getId, User::getUsername)));
+        }
+        return board.toPayload(
+                session != null ? session.getSelectedPenaltyId() : null,
+                session != null ? session.getPenaltyDescription() : null);
+    }
+
     @Transactional(readOnly = true)
     public ReactionRound getRoundStatus(Long roundId) {
-        return reactionRoundRepo.findById(roundId)
-                .orElseThrow(() -> new IllegalArgumentException("Round not found: " + roundId));
+        return withLiveState(reactionRoundRepo.findById(roundId)
+                .orElseThrow(() -> new IllegalArgumentException("Round not found: " + roundId)));
     }
 
     @Transactional(readOnly = true)
     public List<ReactionResult> getRoundResults(Long roundId) {
+        // 메모리에 있는 라운드는 종료 시점에야 저장되므로 기록된 결과를 순위표 순서(순위 포함)로 돌려준다
+        ReactionRoundState state = roundStates.find(roundId);
+        if (state != null) {
+            List<ReactionResult> results = state.results();
+            results.sort(ReactionLeaderboard.RESULT_ORDER);
+            Map<Long, Integer> ranks = roundStates.leaderboard(state.sessionId()).roundRanks(roundId);
+            results.forEach(result -> result.setRank(ranks.get(result.getUserId())));
+            return results;
+        }
         return reactionResultRepo.findByRoundIdOrderByRankOrderAsc(roundId);
     }
 
-    @Transactional
+    @Transactional(readOnly = true)
     public ReactionRound getCurrentRound(Long sessionId) {
         GameSession session = gameRepo.findById(sessionId).orElse(null);
         if (session == null) {
@@ -745,6 +602,7 @@ public class ReactionGameService {
                     .orElse(null);
             
             if (currentRound != null) {
+                withLiveState(currentRound);
                 log.info("[CURRENT-ROUND] Session {} found active round {} status {}", sessionId, currentRound.getRoundId(), currentRound.getStatus());
                 return currentRound;
             } else {
@@ -783,7 +641,7 @@ public class ReactionGameService {
         newRound = reactionRoundRepo.save(newRound);
         
         // PREPARING 신호 스케줄링
-        schedulePreparingPhase(newRound.getRoundId(), 2000);
+        schedulePreparingPhase(roundStates.open(newRound), 2000);
         
         log.info("Ensured active round {} (WAITING) for session {}, will start PREPARING in 2000ms", 
                 newRound.getRoundId(), sessionId);
@@ -802,13 +660,14 @@ public class ReactionGameService {
         rule.put("maxDelayMs", 4000);
         startPayload.put("rule", rule);
         
-        sseService.broadcastToReactionGame(sessionId, "game-start", startPayload);
+        eventOutbox.reaction(sessionId, "game-start", startPayload);
         
         // 실제 게임 상태 변경 트리거 - 전달받은 라운드로 상태 변경 스케줄링
-        if (round != null && "WAITING".equals(round.getStatus())) {
+        ReactionRoundState state = round != null ? roundStates.getOrLoad(round) : null;
+        if (state != null && state.phase() == ReactionRoundState.Phase.WAITING) {
             log.info("🚀 [BROADCAST-START] Triggering game state transition for round {} with delay {}ms", 
                     round.getRoundId(), startDelayMs);
-            schedulePreparingPhase(round.getRoundId(), startDelayMs);
+            schedulePreparingPhase(state, startDelayMs);
         } else {
             log.warn("⚠️ [BROADCAST-START] Invalid round for session {}, round: {}", 
                     sessionId, round);
@@ -830,7 +689,7 @@ public class ReactionGameService {
         log.info("[REACTION-BROADCAST] 🎯 Broadcasting ROUND_START to {} with payload: {}", topicPath, roundStartPayload);
         
         // 세션 단위 브로드캐스트 (늦게 조인한 사용자도 수신)
-        sseService.broadcastToReactionGame(sessionId, "round-start", roundStartPayload);
+        eventOutbox.reaction(sessionId, "round-start", roundStartPayload);
         log.info("[REACTION-BROADCAST] ✅ ROUND_START broadcasted successfully to session {}", sessionId);
     }
 
@@ -847,76 +706,19 @@ public class ReactionGameService {
         
         log.info("[RESULTS] Session {} found: {}", sessionId, session.getStatus());
 
-        // 해당 세션의 모든 라운드 ID 조회
-        List<ReactionRound> rounds = reactionRoundRepo.findBySessionId(sessionId);
-        log.info("[RESULTS] Found {} rounds for session {}", rounds.size(), sessionId);
-        
-        if (rounds.isEmpty()) {
-            log.warn("[RESULTS] No rounds found for session {}", sessionId);
-            return Map.of();
+        // 진행 중인 세션은 메모리 순위표, 종료되어 정리된 세션은 저장된 결과로 순위표를 만든다
+        ReactionLeaderboard board = roundStates.findLeaderboard(sessionId);
+        if (board == null) {
+            board = roundStates.loadLeaderboard(sessionId);
         }
+        log.info("[RESULTS] Found {} results for session {}", board.size(), sessionId);
         
-        List<Long> roundIds = rounds.stream().map(ReactionRound::getRoundId).toList();
-        log.info("[RESULTS] Round IDs: {}", roundIds);
-        
-        // 해당 세션의 모든 라운드 결과를 조회 (roundIds 기반으로 조회)
-        List<ReactionResult> allResults = reactionResultRepo.findByRoundIdIn(roundIds);
-        log.info("[RESULTS] Found {} results for session {} across {} rounds", allResults.size(), sessionId, roundIds.size());
-        
-        if (allResults.isEmpty()) {
+        if (board.isEmpty()) {
             log.warn("[RESULTS] No results found - returning empty map for session {}", sessionId);
             return Map.of();
         }
         
-        log.info("[RESULTS] Processing {} results for session {}", allResults.size(), sessionId);
-        
-        // 결과 정렬
-        allResults.sort((a, b) -> {
-            if (a.getFalseStart() && !b.getFalseStart()) return 1;
-            if (!a.getFalseStart() && b.getFalseStart()) return -1;
-            if (a.getFalseStart() && b.getFalseStart()) {
-                return a.getUserId().compareTo(b.getUserId());
-            }
-            if (a.getDeltaMs() == null && b.getDeltaMs() == null) {
-                return a.getUserId().compareTo(b.getUserId());
-            }
-            if (a.getDeltaMs() == null) return 1;
-            if (b.getDeltaMs() == null) return -1;
-            return a.getDeltaMs().compareTo(b.getDeltaMs());
-        });
-        
-        // 사용자 정보 조회
-        List<Long> userIds = allResults.stream().map(ReactionResult::getUserId).toList();
-        Map<Long, String> displayNameMap = userRepository.findByIdIn(userIds)
-                .stream().collect(java.util.stream.Collectors.toMap(User::getId, User::getUsername));
-        
-        // 결과 구성
-        List<Map<String, Object>> overallRanking = new ArrayList<>();
-        for (int i = 0; i < allResults.size(); i++) {
-            ReactionResult r = allResults.get(i);
-            Map<String, Object> rankData = new HashMap<>();
-            rankData.put("userId", r.getUserId());
-            rankData.put("displayName", displayNameMap.getOrDefault(r.getUserId(), String.valueOf(r.getUserId())));
-            rankData.put("deltaMs", r.getDeltaMs() != null ? r.getDeltaMs() : -1);
-            rankData.put("falseStart", r.getFalseStart());
-            rankData.put("rank", i + 1);
-            overallRanking.add(rankData);
-        }
-        
-        // 벌칙 정보
-        Map<String, Object> penaltyData = new HashMap<>();
-        if (session.getSelectedPenaltyId() != null) {
-            penaltyData.put("code", "P" + session.getSelectedPenaltyId());
-            penaltyData.put("text", session.getPenaltyDescription());
-        }
-        
-        return Map.of(
-            "sessionId", sessionId,
-            "overallRanking", overallRanking,
-            "winnerUid", allResults.get(0).getUserId(),
-            "loserUid", allResults.get(allResults.size() - 1).getUserId(),
-            "penalty", penaltyData
-        );
+        return resultPayload(board, session);
     }
 
     /**
@@ -968,12 +770,13 @@ public class ReactionGameService {
                 );
             }
             
-            // 정상 라운드 동기화 처리
+            // 정상 라운드 동기화 처리 (상태/RED 시각은 DB보다 앞서 있는 메모리 상태 기준)
+            ReactionRoundState state = roundStates.getOrLoad(currentRound);
             Map<String, Object> roundInfo = Map.of(
                 "roundId", currentRound.getRoundId(),
-                "status", currentRound.getStatus(),
+                "status", state.status(),
                 "createdAt", currentRound.getCreatedAt().toEpochMilli(),
-                "redAt", currentRound.getRedAt() != null ? currentRound.getRedAt().toEpochMilli() : 0
+                "redAt", state.redAtEpochMs()
             );
             
             // 브로드캐스트로 다른 클라이언트들에게도 상태 전달
@@ -1028,32 +831,33 @@ public class ReactionGameService {
         );
 
         // 세션 상태 브로드캐스트
-        sseService.broadcastToSession(sessionId, "session-state", sessionStateMsg);
+        eventOutbox.session(sessionId, "session-state", sessionStateMsg);
 
         // IN_PROGRESS 상태인 경우에만 라운드 동기화
         if (session.getStatus() == GameSession.Status.IN_PROGRESS) {
             // 현재 활성 라운드 확인 및 생성
             ReactionRound currentRound = ensureActiveRound(sessionId);
+            ReactionRoundState state = roundStates.getOrLoad(currentRound);
             
             Map<String, Object> syncPayload = new HashMap<>();
             syncPayload.put("type", "ROUND_SYNC");
             syncPayload.put("sessionId", sessionId);
             syncPayload.put("roundId", currentRound.getRoundId());
-            syncPayload.put("status", currentRound.getStatus());
+            syncPayload.put("status", state.status());
             syncPayload.put("createdAt", currentRound.getCreatedAt().toEpochMilli());
             
-            if (currentRound.getRedAt() != null) {
-                syncPayload.put("redAt", currentRound.getRedAt().toEpochMilli());
+            if (state.hasRedSignal()) {
+                syncPayload.put("redAt", state.redAtEpochMs());
             }
             
             // 참가자 수 정보
             syncPayload.put("participants", members.size());
             
             // 라운드 동기화 브로드캐스트
-            sseService.broadcastToReactionGame(sessionId, "round-sync", syncPayload);
+            eventOutbox.reaction(sessionId, "round-sync", syncPayload);
             
             log.info("Broadcasted sync for session {} round {} status {}", 
-                    sessionId, currentRound.getRoundId(), currentRound.getStatus());
+                    sessionId, currentRound.getRoundId(), state.status());
         } else {
             log.info("Broadcasted session state sync for session {} status {}", sessionId, session.getStatus());
         }
@@ -1072,31 +876,16 @@ public class ReactionGameService {
             throw new IllegalStateException("Session is already finished");
         }
         
-        // 해당 세션의 멤버인지 확인
-        boolean isMember = memberRepo.findBySessionId(sessionId).stream()
-                .anyMatch(member -> member.getUserId().equals(userId));
-        
-        if (!isMember) {
-            throw new IllegalArgumentException("User is not a member of this session");
-        }
-        
-        // Ready 플레이어 목록 업데이트 (in-memory와 database 동기화)
-        List<Long> currentReadyPlayers = readyPlayers.computeIfAbsent(sessionId, k -> new ArrayList<>());
-        
-        if (ready) {
-            if (!currentReadyPlayers.contains(userId)) {
-                currentReadyPlayers.add(userId);
-            }
-        } else {
-            currentReadyPlayers.remove(userId);
-        }
-        
-        // 🔧 데이터베이스의 GameSessionMember.isReady 필드도 업데이트
+        // 해당 세션의 멤버인지 확인하고 GameSessionMember.isReady 필드 업데이트
         GameSessionMember member = memberRepo.findBySessionIdAndUserId(sessionId, userId)
-                .orElseThrow(() -> new IllegalArgumentException("Member not found"));
+                .orElseThrow(() -> new IllegalArgumentException("User is not a member of this session"));
         member.setReady(ready);
         memberRepo.save(member);
         
+        // Ready 플레이어 집합 업데이트 (동시 요청에도 유실 없음)
+        readyRegistry.mark(sessionId, userId, ready);
+        List<Long> currentReadyPlayers = readyRegistry.readyUserIds(sessionId);
+        
         int totalMembers = (int) memberRepo.countBySessionId(sessionId);
         
         log.info("[REACTION] Player {} marked as {} for session {}. Ready: {}/{}", 
@@ -1110,7 +899,7 @@ public class ReactionGameService {
                 "allReady", currentReadyPlayers.size() >= totalMembers && totalMembers >= 2
         );
         
-        sseService.broadcastToReactionGame(sessionId, "ready-status", readyStatus);
+        eventOutbox.latest(sessionId, SseChannel.REACTION, "ready-status", readyStatus);
         
         log.info("[REACTION] Broadcasted ready status to /topic/reaction/{}/ready: {}", sessionId, readyStatus);
         
@@ -1132,8 +921,7 @@ public class ReactionGameService {
      * 도착한 플레이어 수 반환
      */
     public int countArrived(Long sessionId) {
-        List<Long> currentReadyPlayers = readyPlayers.getOrDefault(sessionId, new ArrayList<>());
-        return currentReadyPlayers.size();
+        return readyRegistry.count(sessionId);
     }
 
     /**
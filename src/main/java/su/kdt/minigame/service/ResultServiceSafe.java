@@ -10,6 +10,8 @@ import su.kdt.minigame.dto.response.PlayerScore;
 import su.kdt.minigame.dto.response.ScoreboardDto;
 import su.kdt.minigame.exception.NotFoundException;
 import su.kdt.minigame.exception.UnprocessableEntityException;
+import su.kdt.minigame.quiz.QuizScoreboard;
+import su.kdt.minigame.quiz.QuizScoreboardStore;
 import su.kdt.minigame.repository.GameRepo;
 import su.kdt.minigame.repository.QuizAnswerRepository;
 import su.kdt.minigame.repository.GamePenaltyRepository;
@@ -32,6 +34,7 @@ public class ResultServiceSafe {
     private final GameRepo sessionRepository;
     private final QuizAnswerRepository answerRepository;
     private final GamePenaltyRepository gamePenaltyRepository;
+    private final QuizScoreboardStore quizScoreboards;
     private final EntityManager em;
     
     /**
@@ -238,17 +241,7 @@ public class ResultServiceSafe {
                     ORDER BY totalScore DESC, correctCnt DESC
                     """;
             } else {
-                sql = """
-                    SELECT CAST(a.user_id AS CHAR) AS userUid,
-                           COALESCE(SUM(a.score), 0) AS totalScore,
-                           COALESCE(SUM(CASE WHEN a.is_correct = true THEN 1 ELSE 0 END), 0) AS correctCnt
-                    FROM quiz_answer a
-                    JOIN quiz_round r ON r.round_id = a.round_id
-                    WHERE r.session_id = :sessionId
-                      AND a.user_id IS NOT NULL
-                    GROUP BY a.user_id
-                    ORDER BY totalScore DESC, correctCnt DESC
-                    """;
+                return quizScoreboard(sessionId);
             }
             
             Query query = em.createNativeQuery(sql);
@@ -293,6 +286,34 @@ public class ResultServiceSafe {
         }
     }
     
+    /**
+     * 퀴즈 점수판은 메모리 점수판에서 만든다 (답변한 참가자만, 점수 → 정답 수 순)
+     */
+    private ScoreboardDto quizScoreboard(Long sessionId) {
+        List<QuizScoreboard.Entry> ranked = quizScoreboards.scoreboard(sessionId)
+            .map(QuizScoreboard::ranked)
+            .orElse(List.of());
+        
+        List<ScoreboardDto.ScoreEntry> entries = new ArrayList<>();
+        for (QuizScoreboard.Entry entry : ranked) {
+            if (entry.totalAnswered() == 0) {
+                continue;
+            }
+            entries.add(ScoreboardDto.ScoreEntry.builder()
+                .rank(entries.size() + 1)
+                .userUid(String.valueOf(entry.userId()))
+                .score(entry.score())
+                .correctCount(entry.correctCount())
+                .build());
+        }
+        
+        return ScoreboardDto.builder()
+            .sessionId(sessionId)
+            .timestamp(System.currentTimeMillis())
+            .scores(entries)
+            .build();
+    }
+    
     /**
      * 안전한 문자열 변환 (null 방어)
      */
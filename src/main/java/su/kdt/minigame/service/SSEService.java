@@ -1,208 +1,280 @@
 package su.kdt.minigame.service;
 
+import jakarta.annotation.PostConstruct;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import su.kdt.minigame.sse.SessionEvent;
+import su.kdt.minigame.sse.SessionEventBus;
+import su.kdt.minigame.sse.SseChannel;
+import su.kdt.minigame.sse.SseDispatcher;
+import su.kdt.minigame.sse.SseFrame;
+import su.kdt.minigame.sse.SseEventIds;
+import su.kdt.minigame.sse.SseHeartbeatWheel;
+import su.kdt.minigame.sse.SseReplayBuffer;
+import su.kdt.minigame.sse.SseReplayLog;
+import su.kdt.minigame.sse.SseSubscriber;
+import su.kdt.minigame.sse.SseSubscriberRegistry;
 
-import java.io.IOException;
 import java.time.Instant;
 import java.util.Map;
-import java.util.concurrent.ConcurrentHashMap;
 
 @Slf4j
 @Service
 @RequiredArgsConstructor
 public class SSEService {
 
-    private final ObjectMapper objectMapper = new ObjectMapper();
-    
-    // 세션별 일반 구독자
-    private final Map<Long, Map<String, SseEmitter>> sessionSubscribers = new ConcurrentHashMap<>();
-    
-    // 반응속도 게임 전용 구독자
-    private final Map<Long, Map<String, SseEmitter>> reactionSubscribers = new ConcurrentHashMap<>();
-    
-    // 퀴즈 게임 전용 구독자
-    private final Map<Long, Map<String, SseEmitter>> quizSubscribers = new ConcurrentHashMap<>();
-
-    public void addSubscriber(Long sessionId, String userUid, SseEmitter emitter) {
-        sessionSubscribers.computeIfAbsent(sessionId, k -> new ConcurrentHashMap<>())
-                          .put(userUid, emitter);
+    // JacksonConfig의 공용 ObjectMapper (JavaTimeModule 등록됨)
+    private final ObjectMapper objectMapper;
+
+    // 구독자별 송신 큐 + writer 풀 (발행 스레드는 네트워크 I/O를 기다리지 않음)
+    private final SseDispatcher dispatcher;
+
+    // 세션 단위 통합 레지스트리 (채널 비트마스크 + 사용자 인덱스)
+    private final SseSubscriberRegistry registry;
+
+    // 세션별 최근 이벤트 (Last-Event-ID 재전송)
+    private final SseReplayLog replayLog;
+
+    // 연결 유지용 하트비트 (슬롯 단위로 나눠 전송)
+    private final SseHeartbeatWheel heartbeatWheel;
+
+    // 노드 간 이벤트 버스 (각 노드는 받은 이벤트를 자기 구독자에게만 전달)
+    private final SessionEventBus eventBus;
+
+    // 브로드캐스트 이벤트 id는 발행 노드에서 한 번만 부여해 버스로 함께 보낸다
+    private final SseEventIds eventIds = new SseEventIds();
+
+    @PostConstruct
+    public void subscribeToEventBus() {
+        eventBus.subscribe(this::deliverLocally);
+    }
+
+    public void addSubscriber(Long sessionId, String userUid, SseEmitter emitter, String lastEventId) {
+        register(sessionId, userUid, SseChannel.SESSION, emitter, lastEventId);
         log.info("[SSE] Added subscriber {} to session {}", userUid, sessionId);
     }
 
     public void removeSubscriber(Long sessionId, String userUid) {
-        Map<String, SseEmitter> subscribers = sessionSubscribers.get(sessionId);
-        if (subscribers != null) {
-            subscribers.remove(userUid);
-            if (subscribers.isEmpty()) {
-                sessionSubscribers.remove(sessionId);
-            }
-        }
+        unregister(sessionId, userUid, SseChannel.SESSION);
         log.info("[SSE] Removed subscriber {} from session {}", userUid, sessionId);
     }
 
-    public void addReactionSubscriber(Long sessionId, String userUid, SseEmitter emitter) {
-        reactionSubscribers.computeIfAbsent(sessionId, k -> new ConcurrentHashMap<>())
-                          .put(userUid, emitter);
+    public void addReactionSubscriber(Long sessionId, String userUid, SseEmitter emitter, String lastEventId) {
+        register(sessionId, userUid, SseChannel.REACTION, emitter, lastEventId);
         log.info("[SSE] Added reaction subscriber {} to session {}", userUid, sessionId);
     }
 
     public void removeReactionSubscriber(Long sessionId, String userUid) {
-        Map<String, SseEmitter> subscribers = reactionSubscribers.get(sessionId);
-        if (subscribers != null) {
-            subscribers.remove(userUid);
-            if (subscribers.isEmpty()) {
-                reactionSubscribers.remove(sessionId);
-            }
-        }
+        unregister(sessionId, userUid, SseChannel.REACTION);
         log.info("[SSE] Removed reaction subscriber {} from session {}", userUid, sessionId);
     }
 
-    public void addQuizSubscriber(Long sessionId, String userUid, SseEmitter emitter) {
-        quizSubscribers.computeIfAbsent(sessionId, k -> new ConcurrentHashMap<>())
-                      .put(userUid, emitter);
+    public void addQuizSubscriber(Long sessionId, String userUid, SseEmitter emitter, String lastEventId) {
+        register(sessionId, userUid, SseChannel.QUIZ, emitter, lastEventId);
         log.info("[SSE] Added quiz subscriber {} to session {}", userUid, sessionId);
     }
 
     public void removeQuizSubscriber(Long sessionId, String userUid) {
-        Map<String, SseEmitter> subscribers = quizSubscribers.get(sessionId);
-        if (subscribers != null) {
-            subscribers.remove(userUid);
-            if (subscribers.isEmpty()) {
-                quizSubscribers.remove(sessionId);
-            }
-        }
+        unregister(sessionId, userUid, SseChannel.QUIZ);
         log.info("[SSE] Removed quiz subscriber {} from session {}", userUid, sessionId);
     }
 
-    public void broadcastToSession(Long sessionId, String eventName, Object data) {
-        Map<String, SseEmitter> subscribers = sessionSubscribers.get(sessionId);
-        if (subscribers != null && !subscribers.isEmpty()) {
-            broadcastToSubscribers(subscribers, eventName, data, "session-" + sessionId);
+    private void register(Long sessionId, String userUid, SseChannel channel, SseEmitter emitter, String lastEventId) {
+        SseSubscriber subscriber = new SseSubscriber(sessionId, userUid, channel, emitter);
+        // 퇴출/전송 실패 시 자기 자신만 제거 (재접속으로 교체된 새 구독자는 유지)
+        subscriber.onClose(() -> registry.unregister(subscriber));
+
+        // 등록과 누락분 재전송을 발행과 같은 모니터에서 처리 (누락/중복 없음)
+        SseSubscriber[] previous = new SseSubscriber[1];
+        boolean replayed = replayLog.buffer(sessionId).attach(channel, parseEventId(lastEventId),
+                () -> previous[0] = registry.register(subscriber),
+                frame -> dispatcher.enqueue(subscriber, frame));
+
+        if (previous[0] != null) {
+            dispatcher.close(previous[0]);
+        }
+        heartbeatWheel.track(subscriber);
+
+        if (!replayed) {
+            // 버퍼 범위를 벗어난 재접속 - 클라이언트가 전체 상태를 한 번 다시 조회하도록 안내
+            log.info("[SSE] Last-Event-ID {} out of replay range for user {} in session {}, requesting resync",
+                    lastEventId, userUid, sessionId);
+            sendToSubscriber(subscriber, "resync", Map.of("sessionId", sessionId, "type", channel.label()));
         }
     }
 
-    public void broadcastToReactionGame(Long sessionId, String eventName, Object data) {
-        Map<String, SseEmitter> subscribers = reactionSubscribers.get(sessionId);
-        if (subscribers != null && !subscribers.isEmpty()) {
-            broadcastToSubscribers(subscribers, eventName, data, "reaction-" + sessionId);
+    private static Long parseEventId(String lastEventId) {
+        if (lastEventId == null || lastEventId.isBlank()) {
+            return null;
+        }
+        try {
+            return Long.parseLong(lastEventId.trim());
+        } catch (NumberFormatException e) {
+            return -1L; // 알 수 없는 id - 전체 동기화
+        }
+    }
+
+    private void unregister(Long sessionId, String userUid, SseChannel channel) {
+        SseSubscriber removed = registry.find(sessionId, userUid, channel);
+        if (removed != null) {
+            registry.unregister(removed);
+            dispatcher.close(removed);
         }
     }
 
+    public void broadcastToSession(Long sessionId, String eventName, Object data) {
+        broadcast(sessionId, SseChannel.SESSION, eventName, data);
+    }
+
+    public void broadcastToReactionGame(Long sessionId, String eventName, Object data) {
+        broadcast(sessionId, SseChannel.REACTION, eventName, data);
+    }
+
     public void broadcastToQuizGame(Long sessionId, String eventName, Object data) {
-        Map<String, SseEmitter> subscribers = quizSubscribers.get(sessionId);
-        if (subscribers != null && !subscribers.isEmpty()) {
-            broadcastToSubscribers(subscribers, eventName, data, "quiz-" + sessionId);
-        }
-    }
-
-    private void broadcastToSubscribers(Map<String, SseEmitter> subscribers, String eventName, Object data, String logPrefix) {
-        subscribers.entrySet().removeIf(entry -> {
-            String userUid = entry.getKey();
-            SseEmitter emitter = entry.getValue();
-            
-            try {
-                String jsonData = objectMapper.writeValueAsString(data);
-                emitter.send(SseEmitter.event()
-                        .name(eventName)
-                        .data(jsonData));
-                return false; // 성공시 제거하지 않음
-            } catch (IOException e) {
-                log.warn("[SSE] Failed to send {} event to user {}: {}", logPrefix, userUid, e.getMessage());
-                try {
-                    emitter.completeWithError(e);
-                } catch (Exception ignored) {}
-                return true; // 실패시 제거
-            }
-        });
-        
-        log.debug("[SSE] Broadcasted {} event to {} subscribers", logPrefix, subscribers.size());
+        broadcast(sessionId, SseChannel.QUIZ, eventName, data);
     }
 
-    public void sendToUser(Long sessionId, String userUid, String eventName, Object data) {
-        // 일반 세션 구독자에서 찾기
-        Map<String, SseEmitter> subscribers = sessionSubscribers.get(sessionId);
-        SseEmitter emitter = subscribers != null ? subscribers.get(userUid) : null;
-        
-        if (emitter != null) {
-            sendToEmitter(emitter, userUid, eventName, data);
+    /**
+     * 세션의 한 채널 구독자 전체에 이벤트를 전송합니다.
+     */
+    public void broadcast(Long sessionId, SseChannel channel, String eventName, Object data) {
+        // 단일 노드에서 구독자도, 재접속을 기다리는 버퍼도 없는 세션은 기록/전송할 대상이 없음
+        if (eventBus.isLocalOnly() && registry.session(sessionId).size() == 0 && replayLog.find(sessionId) == null) {
             return;
         }
-        
-        // 반응속도 게임 구독자에서 찾기
-        subscribers = reactionSubscribers.get(sessionId);
-        emitter = subscribers != null ? subscribers.get(userUid) : null;
-        
-        if (emitter != null) {
-            sendToEmitter(emitter, userUid, eventName, data);
+
+        // 구독자 수/노드 수와 관계없이 이벤트당 한 번만 직렬화
+        byte[] json = serialize(eventName, data, channel.label());
+        if (json == null) {
             return;
         }
-        
-        // 퀴즈 게임 구독자에서 찾기
-        subscribers = quizSubscribers.get(sessionId);
-        emitter = subscribers != null ? subscribers.get(userUid) : null;
-        
-        if (emitter != null) {
-            sendToEmitter(emitter, userUid, eventName, data);
-        } else {
-            log.warn("[SSE] User {} not found in session {}", userUid, sessionId);
+
+        eventBus.publish(SessionEvent.broadcast(sessionId, eventIds.next(), channel, eventName, json));
+    }
+
+    /**
+     * 이벤트 버스에서 받은 이벤트를 이 노드의 구독자에게 전달합니다.
+     */
+    private void deliverLocally(SessionEvent event) {
+        if (!event.isBroadcast()) {
+            SseSubscriber subscriber = event.channel() != null
+                    ? registry.find(event.sessionId(), event.userUid(), event.channel())
+                    : registry.findAny(event.sessionId(), event.userUid());
+            if (subscriber != null) {
+                dispatcher.enqueue(subscriber, SseFrame.event((Long) null, event.eventName(), event.json()));
+            }
+            return;
+        }
+
+        // 전달 여부는 구독자 기준으로 정한다. 구독자가 있는데 버퍼가 없으면 다시 만들고,
+        // 버퍼만 남은 세션은 잠시 끊긴 구독자를 위해 구독자가 없어도 기록한다.
+        SseReplayBuffer buffer = replayLog.find(event.sessionId());
+        if (buffer == null) {
+            if (registry.session(event.sessionId()).size() == 0) {
+                return;
+            }
+            buffer = replayLog.buffer(event.sessionId());
         }
+        buffer.publish(event.eventId(), event.channel(), event.eventName(), event.json(),
+                frame -> fanOut(event.sessionId(), event.channel(), frame));
     }
 
-    private void sendToEmitter(SseEmitter emitter, String userUid, String eventName, Object data) {
+    private void fanOut(Long sessionId, SseChannel channel, SseFrame frame) {
+        SseSubscriberRegistry.SessionSnapshot snapshot = registry.session(sessionId);
+        int recipients = snapshot.count(channel);
+        if (recipients == 0) {
+            return;
+        }
+
+        // 큐에 넣기만 하고 즉시 반환 - 실제 전송은 writer 풀에서 처리
+        int mask = channel.mask();
+        int queued = 0;
+        for (int i = 0; i < snapshot.size(); i++) {
+            SseSubscriber subscriber = snapshot.get(i);
+            if (subscriber.matches(mask) && dispatcher.enqueue(subscriber, frame)) {
+                queued++;
+            }
+        }
+
+        log.debug("[SSE] Queued {} event to {}/{} {} subscribers in session {} ({} bytes)",
+                frame.eventName(), queued, recipients, channel.label(), sessionId, frame.size());
+    }
+
+    /**
+     * 이벤트 데이터를 JSON으로 직렬화합니다.
+     * 직렬화 실패는 구독자 연결 문제가 아니므로 구독자를 제거하지 않고 null을 반환합니다.
+     */
+    private byte[] serialize(String eventName, Object data, String scope) {
         try {
-            String jsonData = objectMapper.writeValueAsString(data);
-            emitter.send(SseEmitter.event()
-                    .name(eventName)
-                    .data(jsonData));
-        } catch (IOException e) {
-            log.warn("[SSE] Failed to send event to user {}: {}", userUid, e.getMessage());
-            try {
-                emitter.completeWithError(e);
-            } catch (Exception ignored) {}
-        }
-    }
-
-    public Map<String, Object> getSessionStatus(Long sessionId) {
-        int generalCount = sessionSubscribers.getOrDefault(sessionId, Map.of()).size();
-        int reactionCount = reactionSubscribers.getOrDefault(sessionId, Map.of()).size();
-        int quizCount = quizSubscribers.getOrDefault(sessionId, Map.of()).size();
-        
-        return Map.of(
-            "sessionId", sessionId,
-            "subscribers", Map.of(
-                "general", generalCount,
-                "reaction", reactionCount,
-                "quiz", quizCount,
-                "total", generalCount + reactionCount + quizCount
-            ),
-            "timestamp", Instant.now().toEpochMilli()
-        );
-    }
-
-    // 하트비트 전송
-    public void sendHeartbeat() {
-        sendHeartbeatToSubscribers(sessionSubscribers, "general");
-        sendHeartbeatToSubscribers(reactionSubscribers, "reaction");
-        sendHeartbeatToSubscribers(quizSubscribers, "quiz");
-    }
-
-    private void sendHeartbeatToSubscribers(Map<Long, Map<String, SseEmitter>> allSubscribers, String type) {
-        allSubscribers.forEach((sessionId, subscribers) -> {
-            subscribers.entrySet().removeIf(entry -> {
-                try {
-                    entry.getValue().send(SseEmitter.event()
-                            .name("heartbeat")
-                            .data("{ \"type\": \"" + type + "\", \"timestamp\": " + Instant.now().toEpochMilli() + " }"));
-                    return false;
-                } catch (IOException e) {
-                    log.debug("[SSE] Heartbeat failed for user {} in {} session {}", entry.getKey(), type, sessionId);
-                    return true;
-                }
-            });
-        });
-    }
-}
\ No newline at end of file
+            return objectMapper.writeValueAsBytes(data);
+        } catch (JsonProcessingException e) {
+            log.error("[SSE] Failed to serialize {} event '{}': {}", scope, eventName, e.getMessage());
+            return null;
+        }
+    }
+
+    public void sendToUser(Long sessionId, String userUid, String eventName, Object data) {
+        // 사용자 인덱스에서 바로 조회 (일반 -> 반응속도 -> 퀴즈 순으로 우선)
+        SseSubscriber subscriber = registry.findAny(sessionId, userUid);
+        if (subscriber != null) {
+            sendToSubscriber(subscriber, eventName, data);
+        } else {
+            sendToRemoteUser(sessionId, userUid, null, eventName, data);
+        }
+    }
+
+    /**
+     * 특정 채널에 구독 중인 사용자에게만 전송합니다.
+     */
+    public void sendToUser(Long sessionId, String userUid, SseChannel channel, String eventName, Object data) {
+        SseSubscriber subscriber = registry.find(sessionId, userUid, channel);
+        if (subscriber != null) {
+            sendToSubscriber(subscriber, eventName, data);
+        } else {
+            sendToRemoteUser(sessionId, userUid, channel, eventName, data);
+        }
+    }
+
+    /**
+     * 이 노드에 연결되지 않은 사용자 - 다른 노드에 연결되어 있을 수 있으므로 버스로 전달합니다.
+     */
+    private void sendToRemoteUser(Long sessionId, String userUid, SseChannel channel, String eventName, Object data) {
+        if (eventBus.isLocalOnly()) {
+            log.warn("[SSE] User {} not subscribed to {} of session {}", userUid,
+                    channel != null ? channel.label() + " channel" : "any channel", sessionId);
+            return;
+        }
+        byte[] json = serialize(eventName, data, "user");
+        if (json != null) {
+            eventBus.publish(SessionEvent.toUser(sessionId, channel, userUid, eventName, json));
+        }
+    }
+
+    private void sendToSubscriber(SseSubscriber subscriber, String eventName, Object data) {
+        byte[] json = serialize(eventName, data, "user");
+        if (json != null) {
+            dispatcher.enqueue(subscriber, SseFrame.event((Long) null, eventName, json));
+        }
+    }
+
+    public SessionStatus getSessionStatus(Long sessionId) {
+        SseSubscriberRegistry.SessionSnapshot snapshot = registry.session(sessionId);
+        return new SessionStatus(
+                sessionId,
+                new SubscriberCounts(
+                        snapshot.count(SseChannel.SESSION),
+                        snapshot.count(SseChannel.REACTION),
+                        snapshot.count(SseChannel.QUIZ),
+                        snapshot.size()),
+                Instant.now().toEpochMilli());
+    }
+
+    // SSE 구독 현황 (폴링/상태 조회 응답)
+    public record SessionStatus(Long sessionId, SubscriberCounts subscribers, long timestamp) {}
+
+    public record SubscriberCounts(int general, int reaction, int quiz, int total) {}
+}
@@ -0,0 +1,138 @@
+package su.kdt.minigame.sse;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.function.Consumer;
+
+/**
+ * long 키 전용 해시 맵 (open addressing + linear probing)
+ * 읽기는 락 없이 박싱/할당 없이 수행되고, 쓰기는 단일 모니터로 직렬화된다.
+ * 구독 등록/해제처럼 쓰기가 드물고 브로드캐스트 조회가 잦은 용도에 맞춘 구조이다.
+ * 삭제는 값만 비우는 tombstone 방식이라 동시 조회 중인 probe 체인이 끊기지 않는다.
+ */
+final class ConcurrentLongMap<V> {
+
+    private static final long FREE = Long.MIN_VALUE;
+    private static final int MIN_CAPACITY = 16;
+
+    private volatile Table table = new Table(MIN_CAPACITY);
+    private int live;  // guarded by this
+    private int used;  // guarded by this (live + tombstone)
+
+    @SuppressWarnings("unchecked")
+    V get(long key) {
+        Table t = table;
+        int mask = t.mask;
+        int i = spread(key) & mask;
+        while (true) {
+            long k = t.keys.get(i);
+            if (k == FREE) {
+                return null;
+            }
+            if (k == key) {
+                return (V) t.values.get(i);
+            }
+            i = (i + 1) & mask;
+        }
+    }
+
+    synchronized void put(long key, V value) {
+        if (key == FREE) {
+            throw new IllegalArgumentException("Reserved key: " + key);
+        }
+        if (value == null) {
+            remove(key);
+            return;
+        }
+        Table t = table;
+        int i = slot(t, key);
+        if (t.keys.get(i) == key) {
+            if (t.values.get(i) == null) {
+                live++;
+            }
+            t.values.set(i, value);
+            return;
+        }
+        // 값을 먼저 기록한 뒤 키를 공개 - 키를 본 리더는 반드시 값을 본다
+        t.values.set(i, value);
+        t.keys.set(i, key);
+        live++;
+        used++;
+        if (used * 2 > t.keys.length()) {
+            rehash();
+        }
+    }
+
+    synchronized void remove(long key) {
+        Table t = table;
+        int i = slot(t, key);
+        if (t.keys.get(i) == key && t.values.get(i) != null) {
+            t.values.set(i, null);
+            live--;
+        }
+    }
+
+    synchronized int size() {
+        return live;
+    }
+
+    @SuppressWarnings("unchecked")
+    void forEachValue(Consumer<V> action) {
+        Table t = table;
+        for (int i = 0; i < t.keys.length(); i++) {
+            Object value = t.values.get(i);
+            if (value != null) {
+                action.accept((V) value);
+            }
+        }
+    }
+
+    private int slot(Table t, long key) {
+        int mask = t.mask;
+        int i = spread(key) & mask;
+        while (true) {
+            long k = t.keys.get(i);
+            if (k == FREE || k == key) {
+                return i;
+            }
+            i = (i + 1) & mask;
+        }
+    }
+
+    private void rehash() {
+        Table old = table;
+        int capacity = Math.max(MIN_CAPACITY, Integer.highestOneBit(Math.max(1, live) * 4) * 2);
+        Table fresh = new Table(capacity);
+        for (int i = 0; i < old.keys.length(); i++) {
+            Object value = old.values.get(i);
+            if (value != null) {
+                long key = old.keys.get(i);
+                int j = slot(fresh, key);
+                fresh.values.set(j, value);
+                fresh.keys.set(j, key);
+            }
+        }
+        used = live;
+        table = fresh;
+    }
+
+    private static int spread(long key) {
+        long h = key * 0x9E3779B97F4A7C15L;
+        return (int) (h ^ (h >>> 32));
+    }
+
+    private static final class Table {
+        final AtomicLongArray keys;
+        final AtomicReferenceArray<Object> values;
+        final int mask;
+
+        Table(int capacity) {
+            keys = new AtomicLongArray(capacity);
+            for (int i = 0; i < capacity; i++) {
+                keys.set(i, FREE);
+            }
+            values = new AtomicReferenceArray<>(capacity);
+            mask = capacity - 1;
+        }
+    }
+}
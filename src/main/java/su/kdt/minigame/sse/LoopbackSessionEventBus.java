@@ -0,0 +1,31 @@
+package su.kdt.minigame.sse;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.function.Consumer;
+
+/**
+ * 단일 노드용 이벤트 버스 - 발행 스레드에서 바로 로컬 구독자에게 전달한다 (기본값, 테스트용).
+ */
+@Component
+@ConditionalOnProperty(prefix = "app.sse", name = "bus", havingValue = "local", matchIfMissing = true)
+public class LoopbackSessionEventBus implements SessionEventBus {
+
+    private volatile Consumer<SessionEvent> listener = event -> {};
+
+    @Override
+    public void publish(SessionEvent event) {
+        listener.accept(event);
+    }
+
+    @Override
+    public void subscribe(Consumer<SessionEvent> listener) {
+        this.listener = listener;
+    }
+
+    @Override
+    public boolean isLocalOnly() {
+        return true;
+    }
+}
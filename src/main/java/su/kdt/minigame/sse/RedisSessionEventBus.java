@@ -0,0 +1,154 @@
+package su.kdt.minigame.sse;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.springframework.stereotype.Component;
+import su.kdt.minigame.config.SseConfig;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.util.UUID;
+import java.util.function.Consumer;
+
+/**
+ * Redis pub/sub 기반 이벤트 버스 (다중 노드)
+ * 발행 노드는 자기 구독자에게 바로 전달하고 Redis 토픽에 한 번 발행한다.
+ * 다른 노드는 토픽에서 받은 이벤트를 자기 구독자에게 전달하며, 자기가 발행한 메시지는 무시한다.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(prefix = "app.sse", name = "bus", havingValue = "redis")
+public class RedisSessionEventBus implements SessionEventBus {
+
+    private static final byte NO_CHANNEL = -1;
+
+    private final String nodeId = UUID.randomUUID().toString();
+    private final String topic;
+    private final RedisTemplate<String, byte[]> redisTemplate;
+    private final RedisMessageListenerContainer container;
+    private volatile Consumer<SessionEvent> listener = event -> {};
+
+    private final Counter publishedCounter;
+    private final Counter receivedCounter;
+    private final Counter failedCounter;
+
+    public RedisSessionEventBus(RedisConnectionFactory connectionFactory, SseConfig sseConfig, MeterRegistry meterRegistry) {
+        this.topic = sseConfig.getBusTopic();
+
+        this.redisTemplate = new RedisTemplate<>();
+        redisTemplate.setConnectionFactory(connectionFactory);
+        redisTemplate.setKeySerializer(RedisSerializer.string());
+        redisTemplate.setValueSerializer(RedisSerializer.byteArray());
+        redisTemplate.afterPropertiesSet();
+
+        this.container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(connectionFactory);
+        container.addMessageListener(this::onMessage, new ChannelTopic(topic));
+        container.afterPropertiesSet();
+        container.start();
+
+        this.publishedCounter = Counter.builder("sse.bus.published")
+                .description("Redis로 발행한 SSE 이벤트 수")
+                .register(meterRegistry);
+        this.receivedCounter = Counter.builder("sse.bus.received")
+                .description("다른 노드에서 받은 SSE 이벤트 수")
+                .register(meterRegistry);
+        this.failedCounter = Counter.builder("sse.bus.failed")
+                .description("발행/수신 처리에 실패한 SSE 이벤트 수")
+                .register(meterRegistry);
+
+        log.info("[SSE-BUS] Redis event bus started - node: {}, topic: {}", nodeId, topic);
+    }
+
+    @Override
+    public void publish(SessionEvent event) {
+        // 이 노드의 구독자는 Redis 왕복 없이 바로 전달
+        listener.accept(event);
+        try {
+            redisTemplate.convertAndSend(topic, encode(nodeId, event));
+            publishedCounter.increment();
+        } catch (Exception e) {
+            failedCounter.increment();
+            log.warn("[SSE-BUS] Failed to publish {} event for session {}: {}",
+                    event.eventName(), event.sessionId(), e.getMessage());
+        }
+    }
+
+    @Override
+    public void subscribe(Consumer<SessionEvent> listener) {
+        this.listener = listener;
+    }
+
+    private void onMessage(Message message, byte[] pattern) {
+        try (DataInputStream in = new DataInputStream(new ByteArrayInputStream(message.getBody()))) {
+            if (nodeId.equals(in.readUTF())) {
+                return; // 자기가 발행한 이벤트는 이미 전달됨
+            }
+            SessionEvent event = decode(in);
+            receivedCounter.increment();
+            listener.accept(event);
+        } catch (Exception e) {
+            failedCounter.increment();
+            log.warn("[SSE-BUS] Failed to handle message from topic {}: {}", topic, e.getMessage());
+        }
+    }
+
+    /**
+     * 노드 id, 세션 id, 이벤트 id, 채널, 대상 사용자, 이벤트 이름, JSON 순서의 바이너리 형식 (JSON은 다시 직렬화하지 않음)
+     * 이벤트 id는 발행 노드가 부여한 값을 그대로 실어 모든 노드의 재전송 버퍼가 같은 id를 쓰게 한다.
+     */
+    static byte[] encode(String nodeId, SessionEvent event) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(event.json().length + 64);
+        try (DataOutputStream out = new DataOutputStream(bytes)) {
+            out.writeUTF(nodeId);
+            out.writeLong(event.sessionId());
+            out.writeBoolean(event.eventId() != null);
+            if (event.eventId() != null) {
+                out.writeLong(event.eventId());
+            }
+            out.writeByte(event.channel() != null ? event.channel().ordinal() : NO_CHANNEL);
+            out.writeBoolean(event.userUid() != null);
+            if (event.userUid() != null) {
+                out.writeUTF(event.userUid());
+            }
+            out.writeUTF(event.eventName());
+            out.writeInt(event.json().length);
+            out.write(event.json());
+        }
+        return bytes.toByteArray();
+    }
+
+    static SessionEvent decode(DataInputStream in) throws IOException {
+        long sessionId = in.readLong();
+        Long eventId = in.readBoolean() ? in.readLong() : null;
+        byte channel = in.readByte();
+        String userUid = in.readBoolean() ? in.readUTF() : null;
+        String eventName = in.readUTF();
+        byte[] json = new byte[in.readInt()];
+        in.readFully(json);
+        return new SessionEvent(sessionId, eventId, channel != NO_CHANNEL ? SseChannel.values()[channel] : null,
+                userUid, eventName, json);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        try {
+            container.stop();
+            container.destroy();
+        } catch (Exception e) {
+            log.debug("[SSE-BUS] Listener container shutdown failed: {}", e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,30 @@
+package su.kdt.minigame.sse;
+
+/**
+ * 노드 간에 전달되는 SSE 이벤트 (JSON은 발행 노드에서 한 번만 직렬화)
+ *
+ * @param eventId 발행 노드가 부여한 재전송용 이벤트 id (사용자 대상 이벤트는 null)
+ * @param userUid null이면 채널 구독자 전체, 아니면 해당 사용자에게만 전송
+ * @param channel 사용자 대상 이벤트에서 null이면 사용자가 구독한 아무 채널
+ */
+public record SessionEvent(
+    long sessionId,
+    Long eventId,
+    SseChannel channel,
+    String userUid,
+    String eventName,
+    byte[] json
+) {
+
+    public static SessionEvent broadcast(long sessionId, long eventId, SseChannel channel, String eventName, byte[] json) {
+        return new SessionEvent(sessionId, eventId, channel, null, eventName, json);
+    }
+
+    public static SessionEvent toUser(long sessionId, SseChannel channel, String userUid, String eventName, byte[] json) {
+        return new SessionEvent(sessionId, null, channel, userUid, eventName, json);
+    }
+
+    public boolean isBroadcast() {
+        return userUid == null;
+    }
+}
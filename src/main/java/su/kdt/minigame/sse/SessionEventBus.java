@@ -0,0 +1,28 @@
+package su.kdt.minigame.sse;
+
+import java.util.function.Consumer;
+
+/**
+ * 세션 이벤트 버스
+ * 각 노드는 이벤트를 한 번만 발행하고, 모든 노드(자기 자신 포함)는 받은 이벤트를 자기 노드의 구독자에게만 전달한다.
+ * 구현은 app.sse.bus 설정으로 선택한다 (local: 단일 노드, redis: Redis pub/sub).
+ */
+public interface SessionEventBus {
+
+    /**
+     * 이벤트를 모든 노드에 발행한다.
+     */
+    void publish(SessionEvent event);
+
+    /**
+     * 이 노드에 도착한 이벤트를 받을 리스너 (로컬 구독자 전달용, 노드당 하나)
+     */
+    void subscribe(Consumer<SessionEvent> listener);
+
+    /**
+     * 다른 노드가 없는 구현인지 - true면 로컬 구독자가 없는 세션의 이벤트는 발행하지 않아도 된다.
+     */
+    default boolean isLocalOnly() {
+        return false;
+    }
+}
@@ -0,0 +1,29 @@
+package su.kdt.minigame.sse;
+
+/**
+ * SSE 구독 채널 - 구독자마다 채널 비트마스크를 가진다.
+ */
+public enum SseChannel {
+    SESSION("general"),
+    REACTION("reaction"),
+    QUIZ("quiz");
+
+    /** 모든 채널 */
+    public static final int ALL = (1 << values().length) - 1;
+
+    private final String label;
+    private final int mask;
+
+    SseChannel(String label) {
+        this.label = label;
+        this.mask = 1 << ordinal();
+    }
+
+    public String label() {
+        return label;
+    }
+
+    public int mask() {
+        return mask;
+    }
+}
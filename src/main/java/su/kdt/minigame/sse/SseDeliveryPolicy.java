@@ -0,0 +1,13 @@
+package su.kdt.minigame.sse;
+
+/**
+ * 구독자 송신 큐가 밀릴 때 이벤트 타입별 처리 정책
+ */
+public enum SseDeliveryPolicy {
+    /** 순서대로 모두 전달 - 큐 한도 초과 시 구독자 퇴출 */
+    QUEUE,
+    /** 아직 전송되지 않은 같은 이벤트를 최신 프레임으로 교체하고 큐 맨 뒤로 옮김 (점수판, 로비 상태 등) */
+    COALESCE,
+    /** high-water mark 이상이면 버림 (하트비트 등) */
+    DROP
+}
@@ -0,0 +1,118 @@
+package su.kdt.minigame.sse;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+import su.kdt.minigame.config.SseConfig;
+
+import java.io.IOException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * SSE 비동기 송신기
+ * 발행 스레드(HTTP 요청, 타이머, afterCommit 훅)는 구독자 큐에 프레임을 넣고 바로 반환하며,
+ * 전용 writer 풀이 구독자별로 순서를 지키면서 큐를 비운다.
+ * 계속 밀리는 구독자는 퇴출하여 다른 구독자의 전송을 막지 않는다.
+ */
+@Slf4j
+@Component
+public class SseDispatcher {
+
+    private final SseConfig sseConfig;
+    private final ExecutorService writers;
+    private final ExecutorService evictor;
+
+    public SseDispatcher(SseConfig sseConfig) {
+        this.sseConfig = sseConfig;
+        this.writers = Executors.newFixedThreadPool(sseConfig.getWriterThreads(), daemonThreads("sse-writer-"));
+        // 퇴출 시 emitter.complete()가 막힌 writer와 락을 다툴 수 있으므로 별도 스레드에서 처리
+        this.evictor = Executors.newSingleThreadExecutor(daemonThreads("sse-evictor-"));
+    }
+
+    /**
+     * 프레임을 구독자 큐에 넣는다. 네트워크 I/O를 기다리지 않는다.
+     *
+     * @return 전송 대기열에 반영되었으면 true (드롭/퇴출/닫힘이면 false)
+     */
+    public boolean enqueue(SseSubscriber subscriber, SseFrame frame) {
+        SseSubscriber.Offer result = subscriber.offer(frame, sseConfig.policyFor(frame.eventName()), sseConfig, System.nanoTime());
+        switch (result) {
+            case QUEUED, COALESCED -> {
+                schedule(subscriber);
+                return true;
+            }
+            case DROPPED -> log.debug("[SSE] Dropped {} frame for lagging user {} in session {}",
+                    frame.eventName(), subscriber.userUid(), subscriber.sessionId());
+            case OVERFLOW, LAGGING -> evict(subscriber, result);
+            case CLOSED -> { }
+        }
+        return false;
+    }
+
+    /**
+     * 구독자를 즉시 닫는다 (명시적 구독 해제).
+     */
+    public void close(SseSubscriber subscriber) {
+        subscriber.markClosed();
+    }
+
+    private void schedule(SseSubscriber subscriber) {
+        if (subscriber.tryMarkScheduled()) {
+            writers.execute(() -> drain(subscriber));
+        }
+    }
+
+    private void drain(SseSubscriber subscriber) {
+        try {
+            int batch = sseConfig.getDrainBatchSize();
+            SseFrame frame;
+            while (batch-- > 0 && (frame = subscriber.poll(sseConfig.getHighWaterMark())) != null) {
+                try {
+                    frame.writeTo(subscriber.emitter());
+                } catch (IOException | IllegalStateException e) {
+                    log.warn("[SSE] Failed to send {} event to user {} in session {}: {}",
+                            frame.eventName(), subscriber.userUid(), subscriber.sessionId(), e.getMessage());
+                    if (subscriber.markClosed()) {
+                        try {
+                            subscriber.emitter().completeWithError(e);
+                        } catch (Exception ignored) {}
+                    }
+                    return;
+                }
+            }
+        } finally {
+            subscriber.clearScheduled();
+            // 배치 한도로 남았거나, 비우는 사이 새로 들어온 프레임 처리
+            if (subscriber.hasPending()) {
+                schedule(subscriber);
+            }
+        }
+    }
+
+    private void evict(SseSubscriber subscriber, SseSubscriber.Offer reason) {
+        if (!subscriber.markClosed()) {
+            return;
+        }
+        log.warn("[SSE] Evicting slow consumer {} from session {} (reason={})",
+                subscriber.userUid(), subscriber.sessionId(), reason);
+        evictor.execute(() -> {
+            try {
+                subscriber.emitter().completeWithError(new IOException("SSE slow consumer evicted: " + reason));
+            } catch (Exception ignored) {}
+        });
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        writers.shutdownNow();
+        evictor.shutdownNow();
+    }
+
+    private static CustomizableThreadFactory daemonThreads(String prefix) {
+        CustomizableThreadFactory factory = new CustomizableThreadFactory(prefix);
+        factory.setDaemon(true);
+        return factory;
+    }
+}
@@ -0,0 +1,20 @@
+package su.kdt.minigame.sse;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 세션 브로드캐스트 이벤트 id 발급기 (노드당 하나)
+ *
+ * id는 이벤트를 발행하는 노드에서 한 번만 부여되어 이벤트 버스로 함께 전달되므로,
+ * 모든 노드의 재전송 버퍼가 같은 이벤트를 같은 id로 보관한다 (다른 노드로 재접속해도 이어 받을 수 있다).
+ * 시각(ms × 1000)에서 시작해 단조 증가하므로 서버 재시작 전의 id와 겹치지 않는다.
+ */
+public final class SseEventIds {
+
+    private final AtomicLong lastId = new AtomicLong();
+
+    public long next() {
+        long floor = System.currentTimeMillis() * 1000;
+        return lastId.updateAndGet(last -> Math.max(last + 1, floor));
+    }
+}
@@ -0,0 +1,101 @@
+package su.kdt.minigame.sse;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.http.MediaType;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Set;
+
+/**
+ * 미리 인코딩된 SSE 프레임 (불변)
+ * 이벤트를 한 번만 직렬화해 "event:/data:" 형식의 바이트로 만들어 두고,
+ * 같은 바이트 배열을 세션의 모든 구독자에게 그대로 전송한다.
+ * 세션 브로드캐스트 프레임에는 재전송용 이벤트 id("id:" 라인)가 붙는다.
+ */
+public final class SseFrame {
+
+    private static final byte[] ID_PREFIX = "id:".getBytes(StandardCharsets.UTF_8);
+    private static final byte[] EVENT_PREFIX = "event:".getBytes(StandardCharsets.UTF_8);
+    private static final byte[] DATA_PREFIX = "data:".getBytes(StandardCharsets.UTF_8);
+    private static final byte LF = '\n';
+
+    private final String eventName;
+    private final byte[] bytes;
+    private final Set<ResponseBodyEmitter.DataWithMediaType> payload;
+
+    private SseFrame(String eventName, byte[] bytes) {
+        this.eventName = eventName;
+        this.bytes = bytes;
+        // 바이트 배열은 ByteArrayHttpMessageConverter가 추가 변환 없이 그대로 기록한다
+        this.payload = Set.of(new ResponseBodyEmitter.DataWithMediaType(bytes, MediaType.TEXT_EVENT_STREAM));
+    }
+
+    /**
+     * 이벤트 이름과 데이터를 JSON으로 한 번 직렬화하여 프레임을 만든다.
+     */
+    public static SseFrame event(ObjectMapper objectMapper, String eventName, Object data) throws JsonProcessingException {
+        return event(eventName, objectMapper.writeValueAsBytes(data));
+    }
+
+    /**
+     * 이미 직렬화된 JSON 문자열로 프레임을 만든다.
+     */
+    public static SseFrame event(String eventName, String json) {
+        return event(eventName, json.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static SseFrame event(String eventName, byte[] json) {
+        return event((Long) null, eventName, json);
+    }
+
+    /**
+     * 이벤트 id를 포함한 프레임 - 클라이언트는 재접속 시 Last-Event-ID 헤더로 이 값을 돌려준다.
+     */
+    public static SseFrame event(Long id, String eventName, byte[] json) {
+        byte[] name = eventName.getBytes(StandardCharsets.UTF_8);
+        byte[] idBytes = id != null ? Long.toString(id).getBytes(StandardCharsets.UTF_8) : null;
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream((idBytes != null ? ID_PREFIX.length + idBytes.length + 1 : 0)
+                + EVENT_PREFIX.length + name.length + DATA_PREFIX.length + json.length + 3);
+        if (idBytes != null) {
+            out.writeBytes(ID_PREFIX);
+            out.writeBytes(idBytes);
+            out.write(LF);
+        }
+        out.writeBytes(EVENT_PREFIX);
+        out.writeBytes(name);
+        out.write(LF);
+        out.writeBytes(DATA_PREFIX);
+        out.writeBytes(json);
+        out.write(LF);
+        out.write(LF);
+        return new SseFrame(eventName, out.toByteArray());
+    }
+
+    /**
+     * SSE 주석 프레임 (": text") - 클라이언트 이벤트 핸들러에는 전달되지 않는다.
+     */
+    public static SseFrame comment(String text) {
+        return new SseFrame(null, (":" + text + "\n\n").getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * 인코딩된 바이트를 그대로 emitter에 기록한다.
+     */
+    public void writeTo(SseEmitter emitter) throws IOException {
+        emitter.send(payload);
+    }
+
+    public String eventName() {
+        return eventName;
+    }
+
+    public int size() {
+        return bytes.length;
+    }
+}
@@ -0,0 +1,120 @@
+package su.kdt.minigame.sse;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+import su.kdt.minigame.config.SseConfig;
+
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * SSE 하트비트 타이밍 휠
+ * 구독자를 등록 순서대로 슬롯에 나눠 담고, 틱마다 한 슬롯만 순회한다.
+ * 한 바퀴(heartbeatIntervalMs)에 모든 연결이 한 번씩 하트비트를 받으므로
+ * 연결 수가 늘어나도 틱 하나가 처리하는 양은 전체의 1/슬롯 수로 유지된다.
+ *
+ * 하트비트는 미리 인코딩된 SSE 주석 프레임(":heartbeat")을 모든 연결이 공유하며,
+ * 클라이언트 이벤트 핸들러에는 전달되지 않고 프록시/브라우저의 유휴 연결 종료만 막는다.
+ */
+@Slf4j
+@Component
+public class SseHeartbeatWheel {
+
+    static final SseFrame HEARTBEAT = SseFrame.comment("heartbeat");
+
+    private final SseDispatcher dispatcher;
+    private final Set<SseSubscriber>[] slots;
+    private final AtomicInteger nextSlot = new AtomicInteger();
+    private final AtomicInteger tracked = new AtomicInteger();
+    private final ScheduledExecutorService ticker;
+    private int cursor; // ticker 스레드 전용
+
+    private final Timer tickTimer;
+    private final Counter reapedCounter;
+
+    @SuppressWarnings("unchecked")
+    public SseHeartbeatWheel(SseConfig sseConfig, SseDispatcher dispatcher, MeterRegistry meterRegistry) {
+        this.dispatcher = dispatcher;
+        this.slots = new Set[Math.max(1, sseConfig.getHeartbeatSlots())];
+        for (int i = 0; i < slots.length; i++) {
+            slots[i] = ConcurrentHashMap.newKeySet();
+        }
+
+        this.tickTimer = Timer.builder("sse.heartbeat.tick")
+                .description("하트비트 휠 틱 1회 처리 시간")
+                .register(meterRegistry);
+        this.reapedCounter = Counter.builder("sse.heartbeat.reaped")
+                .description("하트비트 순회 중 정리된 끊긴 연결 수")
+                .register(meterRegistry);
+        Gauge.builder("sse.heartbeat.connections", tracked, AtomicInteger::get)
+                .description("하트비트 대상 연결 수")
+                .register(meterRegistry);
+
+        CustomizableThreadFactory threadFactory = new CustomizableThreadFactory("sse-heartbeat-");
+        threadFactory.setDaemon(true);
+        this.ticker = Executors.newSingleThreadScheduledExecutor(threadFactory);
+        long tickMs = sseConfig.getHeartbeatTickMs();
+        ticker.scheduleAtFixedRate(this::tick, tickMs, tickMs, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * 구독자를 하트비트 대상으로 등록한다. 닫힌 구독자는 다음 순회 때 정리된다.
+     */
+    public void track(SseSubscriber subscriber) {
+        int slot = Math.floorMod(nextSlot.getAndIncrement(), slots.length);
+        slots[slot].add(subscriber);
+        tracked.incrementAndGet();
+    }
+
+    /**
+     * 현재 슬롯의 구독자에게만 하트비트를 보내고, 닫힌 연결을 정리한다.
+     */
+    void tick() {
+        long start = System.nanoTime();
+        try {
+            Set<SseSubscriber> slot = slots[cursor];
+            cursor = (cursor + 1) % slots.length;
+
+            int reaped = 0;
+            for (SseSubscriber subscriber : slot) {
+                if (!subscriber.isClosed()) {
+                    dispatcher.enqueue(subscriber, HEARTBEAT);
+                }
+                // 이전 전송 실패, 지연 퇴출, 구독 해제로 닫힌 연결 정리
+                if (subscriber.isClosed() && slot.remove(subscriber)) {
+                    reaped++;
+                }
+            }
+
+            if (reaped > 0) {
+                tracked.addAndGet(-reaped);
+                reapedCounter.increment(reaped);
+                log.debug("[SSE] Heartbeat reaped {} closed connections", reaped);
+            }
+        } catch (Exception e) {
+            // 예외가 나도 다음 틱은 계속 실행되어야 함
+            log.warn("[SSE] Heartbeat tick failed: {}", e.getMessage());
+        } finally {
+            tickTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    public int trackedCount() {
+        return tracked.get();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        ticker.shutdownNow();
+    }
+}
@@ -0,0 +1,98 @@
+package su.kdt.minigame.sse;
+
+import java.util.function.Consumer;
+
+/**
+ * 세션별 최근 브로드캐스트 프레임 링 버퍼 (Last-Event-ID 재전송용)
+ *
+ * 이벤트 id는 발행 노드가 부여해 이벤트 버스로 전달된 값이며(SseEventIds), 모든 노드의 버퍼가 같은 id로 보관한다.
+ * 버퍼는 도착 순서대로 프레임을 보관하고, 재접속 시 클라이언트가 마지막으로 받은 id를 찾아 그 뒤의 프레임을 재전송한다.
+ * 발행(버퍼 기록 + 구독자 큐 적재)과 재접속 구독자 등록(누락분 재전송 + 등록)은 같은 모니터에서 수행된다.
+ * 따라서 재접속한 구독자는 누락 이벤트를 빠짐없이, 중복 없이, 순서대로 받는다.
+ */
+public final class SseReplayBuffer {
+
+    private final long sessionId;
+    private final SseFrame[] frames;
+    private final long[] ids;
+    private final int[] channelMasks;
+    private long published; // 지금까지 보관한 프레임 수 (다음 프레임의 순번)
+    private Long evictedId; // 마지막으로 밀려난 프레임의 id (그 id까지 받은 클라이언트는 남은 프레임 전체를 받으면 된다)
+    private volatile long lastTouchedMs = System.currentTimeMillis();
+
+    SseReplayBuffer(long sessionId, int capacity) {
+        this.sessionId = sessionId;
+        this.frames = new SseFrame[Math.max(1, capacity)];
+        this.ids = new long[frames.length];
+        this.channelMasks = new int[frames.length];
+    }
+
+    /**
+     * 발행 노드가 부여한 id로 프레임을 만들고 버퍼에 보관한 뒤, 같은 모니터 안에서 구독자에게 전달한다.
+     */
+    public synchronized SseFrame publish(long id, SseChannel channel, String eventName, byte[] json, Consumer<SseFrame> deliver) {
+        SseFrame frame = SseFrame.event(id, eventName, json);
+        int index = (int) (published++ % frames.length);
+        if (frames[index] != null) {
+            evictedId = ids[index];
+        }
+        frames[index] = frame;
+        ids[index] = id;
+        channelMasks[index] = channel.mask();
+        lastTouchedMs = System.currentTimeMillis();
+        deliver.accept(frame);
+        return frame;
+    }
+
+    /**
+     * 구독자를 등록하면서 lastEventId 이후의 누락 프레임(해당 채널)을 전달한다.
+     *
+     * @param lastEventId 클라이언트가 마지막으로 받은 id (null이면 최초 접속 - 재전송 없음)
+     * @return 누락분을 모두 재전송했으면 true, 버퍼에 그 id가 없어 전체 동기화가 필요하면 false
+     */
+    public synchronized boolean attach(SseChannel channel, Long lastEventId, Runnable register, Consumer<SseFrame> deliver) {
+        register.run();
+        lastTouchedMs = System.currentTimeMillis();
+        if (lastEventId == null) {
+            return true;
+        }
+
+        // 최신 프레임부터 거슬러 올라가며 클라이언트가 마지막으로 받은 프레임을 찾는다
+        long oldest = Math.max(0, published - frames.length);
+        long seen = -1;
+        for (long seq = published - 1; seq >= oldest; seq--) {
+            if (ids[(int) (seq % frames.length)] == lastEventId) {
+                seen = seq;
+                break;
+            }
+        }
+        if (seen < 0) {
+            if (!lastEventId.equals(evictedId)) {
+                return false; // 더 오래전에 밀려났거나 재시작 전의 id
+            }
+            seen = oldest - 1; // 막 밀려난 프레임까지 받았다 - 남은 프레임 전체가 누락분
+        }
+        for (long seq = seen + 1; seq < published; seq++) {
+            int index = (int) (seq % frames.length);
+            if ((channelMasks[index] & channel.mask()) != 0) {
+                deliver.accept(frames[index]);
+            }
+        }
+        return true;
+    }
+
+    /**
+     * 마지막으로 보관한 프레임의 id (보관한 프레임이 없으면 0)
+     */
+    public synchronized long lastId() {
+        return published > 0 ? ids[(int) ((published - 1) % frames.length)] : 0;
+    }
+
+    long sessionId() {
+        return sessionId;
+    }
+
+    long lastTouchedMs() {
+        return lastTouchedMs;
+    }
+}
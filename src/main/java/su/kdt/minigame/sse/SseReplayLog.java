@@ -0,0 +1,66 @@
+package su.kdt.minigame.sse;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import su.kdt.minigame.config.SseConfig;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 세션별 SSE 재전송 버퍼 모음
+ * 일정 시간 발행/재접속이 없고 이 노드에 남은 구독자도 없는 세션의 버퍼는 새 버퍼를 만들 때 함께 정리된다.
+ * (조용하지만 연결이 살아 있는 로비의 버퍼는 유지된다)
+ */
+@Component
+@RequiredArgsConstructor
+public class SseReplayLog {
+
+    private final SseConfig sseConfig;
+    private final SseSubscriberRegistry registry;
+    private final ConcurrentLongMap<SseReplayBuffer> buffers = new ConcurrentLongMap<>();
+
+    public SseReplayBuffer buffer(long sessionId) {
+        SseReplayBuffer buffer = buffers.get(sessionId);
+        return buffer != null ? buffer : create(sessionId);
+    }
+
+    /**
+     * 이미 만들어진 버퍼만 조회 (구독 이력이 없는 세션은 null)
+     */
+    public SseReplayBuffer find(long sessionId) {
+        return buffers.get(sessionId);
+    }
+
+    public void evict(long sessionId) {
+        buffers.remove(sessionId);
+    }
+
+    public int size() {
+        return buffers.size();
+    }
+
+    private synchronized SseReplayBuffer create(long sessionId) {
+        SseReplayBuffer buffer = buffers.get(sessionId);
+        if (buffer != null) {
+            return buffer;
+        }
+        evictIdle();
+        buffer = new SseReplayBuffer(sessionId, sseConfig.getReplayCapacity());
+        buffers.put(sessionId, buffer);
+        return buffer;
+    }
+
+    private void evictIdle() {
+        long cutoff = System.currentTimeMillis() - sseConfig.getReplayRetentionMs();
+        List<SseReplayBuffer> idle = new ArrayList<>();
+        buffers.forEachValue(buffer -> {
+            if (buffer.lastTouchedMs() < cutoff && registry.session(buffer.sessionId()).size() == 0) {
+                idle.add(buffer);
+            }
+        });
+        for (SseReplayBuffer buffer : idle) {
+            buffers.remove(buffer.sessionId());
+        }
+    }
+}
@@ -0,0 +1,179 @@
+package su.kdt.minigame.sse;
+
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import su.kdt.minigame.config.SseConfig;
+
+import java.util.ArrayDeque;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * SSE 구독자 1명 (emitter 1개)과 그 송신 큐
+ * 발행자는 큐에 넣기만 하고, 실제 전송은 SseDispatcher의 writer 스레드가 담당한다.
+ * 큐 조작은 짧은 모니터 구간에서만 이루어지며 네트워크 I/O는 락 밖에서 수행된다.
+ */
+public final class SseSubscriber {
+
+    public enum Offer { QUEUED, COALESCED, DROPPED, OVERFLOW, LAGGING, CLOSED }
+
+    private final Long sessionId;
+    private final String userUid;
+    private final long userKey;
+    private final SseChannel channel;
+    private final SseEmitter emitter;
+
+    // guarded by this
+    private final ArrayDeque<Slot> queue = new ArrayDeque<>();
+    private final Map<String, Slot> coalescable = new HashMap<>();
+    private long aboveHighWaterSince = -1L;
+
+    private final AtomicBoolean scheduled = new AtomicBoolean();
+    private final AtomicBoolean closed = new AtomicBoolean();
+    private volatile Runnable onClose = () -> {};
+
+    public SseSubscriber(Long sessionId, String userUid, SseChannel channel, SseEmitter emitter) {
+        this.sessionId = sessionId;
+        this.userUid = userUid;
+        this.userKey = SseSubscriberRegistry.userKey(userUid);
+        this.channel = channel;
+        this.emitter = emitter;
+    }
+
+    /**
+     * 프레임을 송신 큐에 넣는다. 정책과 큐 상태에 따라 병합/드롭/퇴출 신호를 반환한다.
+     */
+    synchronized Offer offer(SseFrame frame, SseDeliveryPolicy policy, SseConfig config, long nowNanos) {
+        if (closed.get()) {
+            return Offer.CLOSED;
+        }
+
+        int size = queue.size();
+        if (size >= config.getHighWaterMark()) {
+            if (aboveHighWaterSince < 0) {
+                aboveHighWaterSince = nowNanos;
+            } else if (nowNanos - aboveHighWaterSince > TimeUnit.MILLISECONDS.toNanos(config.getEvictAfterMs())) {
+                return Offer.LAGGING;
+            }
+        }
+
+        if (policy == SseDeliveryPolicy.COALESCE) {
+            Slot pending = coalescable.get(frame.eventName());
+            if (pending != null) {
+                // 새 프레임은 큐 맨 뒤로 옮긴다 - 이전 자리에 두면 더 큰 id가 그 사이의 작은 id보다 먼저 나간다
+                queue.removeFirstOccurrence(pending);
+                pending.frame = frame;
+                queue.addLast(pending);
+                return Offer.COALESCED;
+            }
+        } else if (policy == SseDeliveryPolicy.DROP && size >= config.getHighWaterMark()) {
+            return Offer.DROPPED;
+        }
+
+        if (size >= config.getQueueCapacity()) {
+            return Offer.OVERFLOW;
+        }
+
+        Slot slot = new Slot(frame);
+        queue.addLast(slot);
+        if (policy == SseDeliveryPolicy.COALESCE) {
+            coalescable.put(frame.eventName(), slot);
+        }
+        return Offer.QUEUED;
+    }
+
+    /**
+     * 다음 전송할 프레임을 꺼낸다 (writer 스레드 전용).
+     */
+    synchronized SseFrame poll(int highWaterMark) {
+        Slot slot = queue.pollFirst();
+        if (slot == null) {
+            aboveHighWaterSince = -1L;
+            return null;
+        }
+        if (slot.frame.eventName() != null) {
+            coalescable.remove(slot.frame.eventName(), slot);
+        }
+        if (queue.size() < highWaterMark) {
+            aboveHighWaterSince = -1L;
+        }
+        return slot.frame;
+    }
+
+    synchronized boolean hasPending() {
+        return !queue.isEmpty();
+    }
+
+    public synchronized int pendingCount() {
+        return queue.size();
+    }
+
+    boolean tryMarkScheduled() {
+        return scheduled.compareAndSet(false, true);
+    }
+
+    void clearScheduled() {
+        scheduled.set(false);
+    }
+
+    /**
+     * 구독자를 닫는다. 최초 1회만 true를 반환하며 남은 큐는 폐기된다.
+     */
+    boolean markClosed() {
+        if (!closed.compareAndSet(false, true)) {
+            return false;
+        }
+        synchronized (this) {
+            queue.clear();
+            coalescable.clear();
+        }
+        try {
+            onClose.run();
+        } catch (Exception ignored) {}
+        return true;
+    }
+
+    public void onClose(Runnable callback) {
+        this.onClose = callback;
+    }
+
+    public boolean isClosed() {
+        return closed.get();
+    }
+
+    public Long sessionId() {
+        return sessionId;
+    }
+
+    public String userUid() {
+        return userUid;
+    }
+
+    long userKey() {
+        return userKey;
+    }
+
+    public SseChannel channel() {
+        return channel;
+    }
+
+    /**
+     * 채널 비트마스크 중 하나라도 이 구독자의 채널에 해당하는지
+     */
+    public boolean matches(int channelMask) {
+        return (channel.mask() & channelMask) != 0;
+    }
+
+    public SseEmitter emitter() {
+        return emitter;
+    }
+
+    private static final class Slot {
+        private SseFrame frame; // guarded by owning subscriber
+
+        private Slot(SseFrame frame) {
+            this.frame = frame;
+        }
+    }
+}
@@ -0,0 +1,213 @@
+package su.kdt.minigame.sse;
+
+import org.springframework.stereotype.Component;
+
+import java.util.Arrays;
+import java.util.function.Consumer;
+
+/**
+ * 세션 단위 SSE 구독자 레지스트리 (일반/반응속도/퀴즈 채널 통합)
+ *
+ * - 세션 인덱스: sessionId(long) -> 불변 스냅샷 (구독자 배열 + 채널별 인원 수)
+ * - 사용자 인덱스: userKey(long) -> 해당 사용자의 구독자 배열 (보통 1~3개)
+ *
+ * 등록/해제는 드물기 때문에 레지스트리 모니터에서 스냅샷을 새로 만들어 교체하고(copy-on-write),
+ * 브로드캐스트/조회/카운트는 락 없이 현재 스냅샷을 읽기만 하므로 할당이 발생하지 않는다.
+ */
+@Component
+public class SseSubscriberRegistry {
+
+    private static final SseSubscriber[] NO_SUBSCRIBERS = new SseSubscriber[0];
+
+    private final ConcurrentLongMap<SessionSnapshot> sessions = new ConcurrentLongMap<>();
+    private final ConcurrentLongMap<SseSubscriber[]> users = new ConcurrentLongMap<>();
+
+    /**
+     * 구독자를 등록한다. 같은 세션/사용자/채널의 기존 구독자는 교체된다.
+     *
+     * @return 교체된 기존 구독자 (없으면 null) - 닫는 것은 호출자 책임
+     */
+    public synchronized SseSubscriber register(SseSubscriber subscriber) {
+        SseSubscriber previous = find(subscriber.sessionId(), subscriber.userUid(), subscriber.channel());
+        if (previous != null) {
+            unregister(previous);
+        }
+
+        long sessionId = subscriber.sessionId();
+        sessions.put(sessionId, session(sessionId).with(subscriber));
+
+        SseSubscriber[] owned = users.get(subscriber.userKey());
+        owned = owned == null ? NO_SUBSCRIBERS : owned;
+        SseSubscriber[] grown = Arrays.copyOf(owned, owned.length + 1);
+        grown[owned.length] = subscriber;
+        users.put(subscriber.userKey(), grown);
+        return previous;
+    }
+
+    /**
+     * 특정 구독자 인스턴스만 제거한다 (재접속으로 교체된 새 구독자는 영향 없음).
+     */
+    public synchronized boolean unregister(SseSubscriber subscriber) {
+        long sessionId = subscriber.sessionId();
+        SessionSnapshot snapshot = sessions.get(sessionId);
+        if (snapshot == null || snapshot.indexOf(subscriber) < 0) {
+            return false;
+        }
+        SessionSnapshot shrunk = snapshot.without(subscriber);
+        if (shrunk.size() == 0) {
+            sessions.remove(sessionId);
+        } else {
+            sessions.put(sessionId, shrunk);
+        }
+
+        SseSubscriber[] owned = users.get(subscriber.userKey());
+        int index = owned == null ? -1 : indexOf(owned, subscriber);
+        if (index >= 0) {
+            if (owned.length == 1) {
+                users.remove(subscriber.userKey());
+            } else {
+                users.put(subscriber.userKey(), removeAt(owned, index));
+            }
+        }
+        return true;
+    }
+
+    /**
+     * 세션의 현재 구독자 스냅샷 (구독자가 없으면 빈 스냅샷)
+     */
+    public SessionSnapshot session(long sessionId) {
+        SessionSnapshot snapshot = sessions.get(sessionId);
+        return snapshot != null ? snapshot : SessionSnapshot.EMPTY;
+    }
+
+    /**
+     * 세션/사용자/채널로 구독자를 찾는다.
+     */
+    public SseSubscriber find(long sessionId, String userUid, SseChannel channel) {
+        SseSubscriber[] owned = users.get(userKey(userUid));
+        if (owned == null) {
+            return null;
+        }
+        for (SseSubscriber subscriber : owned) {
+            if (subscriber.channel() == channel && subscriber.sessionId() == sessionId
+                    && subscriber.userUid().equals(userUid)) {
+                return subscriber;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * 세션 내 사용자의 구독자를 찾는다. 여러 채널에 구독 중이면 일반 -> 반응속도 -> 퀴즈 순으로 선택한다.
+     */
+    public SseSubscriber findAny(long sessionId, String userUid) {
+        SseSubscriber[] owned = users.get(userKey(userUid));
+        if (owned == null) {
+            return null;
+        }
+        SseSubscriber best = null;
+        for (SseSubscriber subscriber : owned) {
+            if (subscriber.sessionId() == sessionId && subscriber.userUid().equals(userUid)
+                    && (best == null || subscriber.channel().ordinal() < best.channel().ordinal())) {
+                best = subscriber;
+            }
+        }
+        return best;
+    }
+
+    /**
+     * 구독자가 있는 모든 세션의 스냅샷을 순회한다.
+     */
+    public void forEachSession(Consumer<SessionSnapshot> action) {
+        sessions.forEachValue(action);
+    }
+
+    public int sessionCount() {
+        return sessions.size();
+    }
+
+    /**
+     * 사용자 UID를 long 키로 변환한다. 숫자 UID는 그대로 쓰고, 그 외에는 해시를 쓴다.
+     * 해시 충돌은 조회 시 UID 문자열 비교로 걸러낸다.
+     */
+    static long userKey(String userUid) {
+        int length = userUid.length();
+        if (length > 0 && length <= 18) {
+            long value = 0;
+            int i = 0;
+            for (; i < length; i++) {
+                char c = userUid.charAt(i);
+                if (c < '0' || c > '9') {
+                    break;
+                }
+                value = value * 10 + (c - '0');
+            }
+            if (i == length) {
+                return value;
+            }
+        }
+        // 음수 영역은 해시 키 전용 (숫자 UID와 겹치지 않음)
+        return -1L - (userUid.hashCode() & 0xFFFFFFFFL);
+    }
+
+    private static int indexOf(SseSubscriber[] subscribers, SseSubscriber target) {
+        for (int i = 0; i < subscribers.length; i++) {
+            if (subscribers[i] == target) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private static SseSubscriber[] removeAt(SseSubscriber[] subscribers, int index) {
+        SseSubscriber[] shrunk = new SseSubscriber[subscribers.length - 1];
+        System.arraycopy(subscribers, 0, shrunk, 0, index);
+        System.arraycopy(subscribers, index + 1, shrunk, index, shrunk.length - index);
+        return shrunk;
+    }
+
+    /**
+     * 한 세션의 구독자 불변 스냅샷 - 채널별 인원 수를 미리 계산해 둔다.
+     */
+    public static final class SessionSnapshot {
+
+        static final SessionSnapshot EMPTY = new SessionSnapshot(NO_SUBSCRIBERS);
+
+        private final SseSubscriber[] subscribers;
+        private final int[] counts = new int[SseChannel.values().length];
+
+        private SessionSnapshot(SseSubscriber[] subscribers) {
+            this.subscribers = subscribers;
+            for (SseSubscriber subscriber : subscribers) {
+                counts[subscriber.channel().ordinal()]++;
+            }
+        }
+
+        public int size() {
+            return subscribers.length;
+        }
+
+        public SseSubscriber get(int index) {
+            return subscribers[index];
+        }
+
+        public int count(SseChannel channel) {
+            return counts[channel.ordinal()];
+        }
+
+        int indexOf(SseSubscriber subscriber) {
+            return SseSubscriberRegistry.indexOf(subscribers, subscriber);
+        }
+
+        SessionSnapshot with(SseSubscriber subscriber) {
+            SseSubscriber[] grown = Arrays.copyOf(subscribers, subscribers.length + 1);
+            grown[subscribers.length] = subscriber;
+            return new SessionSnapshot(grown);
+        }
+
+        SessionSnapshot without(SseSubscriber subscriber) {
+            int index = indexOf(subscriber);
+            return index < 0 ? this : new SessionSnapshot(removeAt(subscribers, index));
+        }
+    }
+}
@@ -0,0 +1,216 @@
+package su.kdt.minigame.support;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+import su.kdt.minigame.config.SessionConfig;
+
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 게임 마감 시각 서비스 (해시 타이밍 휠)
+ *
+ * 라운드 제한 시간, 강제 진행, 재시도 같은 마감 작업을 스레드 하나가 틱 단위로 관리한다.
+ * 라운드마다 잠든 스레드를 만들지 않으며, 반환된 핸들로 언제든 취소할 수 있다.
+ * 마감된 작업은 세션 메일박스(SessionSerialExecutor)에서 실행되어 같은 세션의 라운드 전환과 순서가 섞이지 않는다.
+ */
+@Slf4j
+@Component
+public class GameDeadlineService {
+
+    private static final int PENDING = 0;
+    private static final int CANCELLED = 1;
+    private static final int FIRED = 2;
+
+    /**
+     * 예약된 마감 작업 핸들
+     */
+    public interface Handle {
+        /**
+         * 아직 실행되지 않았으면 취소한다.
+         *
+         * @return 이번 호출로 취소되었으면 true
+         */
+        boolean cancel();
+
+        boolean isCancelled();
+
+        boolean isFired();
+    }
+
+    private final SessionSerialExecutor sessionExecutor;
+    private final long tickNanos;
+    private final int mask;
+    private final ArrayDeque<Deadline>[] wheel; // 틱 스레드 전용
+    private final ConcurrentLinkedQueue<Deadline> incoming = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger pendingCount = new AtomicInteger();
+    private final Thread ticker;
+    private final long startNanos;
+    private volatile boolean running = true;
+    private long tick; // 틱 스레드 전용
+
+    private final Timer lagTimer;
+    private final Counter firedCounter;
+    private final Counter cancelledCounter;
+
+    @SuppressWarnings("unchecked")
+    public GameDeadlineService(SessionConfig sessionConfig, SessionSerialExecutor sessionExecutor, MeterRegistry meterRegistry) {
+        this.sessionExecutor = sessionExecutor;
+        this.tickNanos = TimeUnit.MILLISECONDS.toNanos(Math.max(1, sessionConfig.getDeadlineTickMs()));
+
+        int size = Integer.highestOneBit(Math.max(2, sessionConfig.getDeadlineWheelSize()) - 1) << 1; // 2의 거듭제곱
+        this.mask = size - 1;
+        this.wheel = new ArrayDeque[size];
+        for (int i = 0; i < size; i++) {
+            wheel[i] = new ArrayDeque<>();
+        }
+
+        Gauge.builder("game.deadline.pending", pendingCount, AtomicInteger::get)
+                .description("예약되어 아직 실행/취소되지 않은 마감 작업 수")
+                .register(meterRegistry);
+        this.lagTimer = Timer.builder("game.deadline.lag")
+                .description("마감 시각부터 실제 실행 요청까지의 지연")
+                .register(meterRegistry);
+        this.firedCounter = Counter.builder("game.deadline.fired")
+                .description("실행된 마감 작업 수")
+                .register(meterRegistry);
+        this.cancelledCounter = Counter.builder("game.deadline.cancelled")
+                .description("실행 전에 취소된 마감 작업 수")
+                .register(meterRegistry);
+
+        CustomizableThreadFactory threadFactory = new CustomizableThreadFactory("game-deadline-");
+        threadFactory.setDaemon(true);
+        this.startNanos = System.nanoTime();
+        this.ticker = threadFactory.newThread(this::run);
+        ticker.start();
+    }
+
+    /**
+     * delay 후 세션 메일박스에서 task를 실행하도록 예약한다.
+     */
+    public Handle schedule(long sessionId, Duration delay, Runnable task) {
+        Deadline deadline = new Deadline(sessionId, System.nanoTime() + Math.max(0, delay.toNanos()), task);
+        pendingCount.incrementAndGet();
+        incoming.offer(deadline);
+        return deadline;
+    }
+
+    public int pendingCount() {
+        return pendingCount.get();
+    }
+
+    private void run() {
+        while (running) {
+            long nextTickAt = startNanos + (tick + 1) * tickNanos;
+            long sleepNanos = nextTickAt - System.nanoTime();
+            if (sleepNanos > 0) {
+                try {
+                    TimeUnit.NANOSECONDS.sleep(sleepNanos);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+            }
+            try {
+                tick();
+            } catch (Exception e) {
+                log.error("[DEADLINE] Tick failed", e);
+            }
+        }
+    }
+
+    /**
+     * 한 틱 처리: 새 예약을 휠에 배치하고, 현재 버킷에서 마감된 작업을 실행한다 (틱 스레드 전용).
+     */
+    void tick() {
+        long now = System.nanoTime();
+        transferIncoming();
+
+        ArrayDeque<Deadline> bucket = wheel[(int) (tick & mask)];
+        for (int n = bucket.size(); n > 0; n--) {
+            Deadline deadline = bucket.pollFirst();
+            if (deadline.state.get() != PENDING) {
+                continue; // 취소됨 - 버킷에서 제거만
+            }
+            if (deadline.remainingRounds > 0) {
+                deadline.remainingRounds--;
+                bucket.addLast(deadline);
+                continue;
+            }
+            fire(deadline, now);
+        }
+        tick++;
+    }
+
+    private void transferIncoming() {
+        Deadline deadline;
+        while ((deadline = incoming.poll()) != null) {
+            if (deadline.state.get() != PENDING) {
+                continue;
+            }
+            long ticks = Math.max(0, (deadline.deadlineNanos - startNanos + tickNanos - 1) / tickNanos);
+            long target = Math.max(ticks, tick); // 이미 지난 마감은 현재 틱에서 실행
+            deadline.remainingRounds = (target - tick) / wheel.length;
+            wheel[(int) (target & mask)].addLast(deadline);
+        }
+    }
+
+    private void fire(Deadline deadline, long now) {
+        if (!deadline.state.compareAndSet(PENDING, FIRED)) {
+            return;
+        }
+        pendingCount.decrementAndGet();
+        firedCounter.increment();
+        lagTimer.record(Math.max(0, now - deadline.deadlineNanos), TimeUnit.NANOSECONDS);
+        sessionExecutor.execute(deadline.sessionId, deadline.task);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        running = false;
+        ticker.interrupt();
+    }
+
+    private final class Deadline implements Handle {
+        private final long sessionId;
+        private final long deadlineNanos;
+        private final Runnable task;
+        private final AtomicInteger state = new AtomicInteger(PENDING);
+        private long remainingRounds; // 틱 스레드 전용
+
+        private Deadline(long sessionId, long deadlineNanos, Runnable task) {
+            this.sessionId = sessionId;
+            this.deadlineNanos = deadlineNanos;
+            this.task = task;
+        }
+
+        @Override
+        public boolean cancel() {
+            if (!state.compareAndSet(PENDING, CANCELLED)) {
+                return false;
+            }
+            pendingCount.decrementAndGet();
+            cancelledCounter.increment();
+            return true;
+        }
+
+        @Override
+        public boolean isCancelled() {
+            return state.get() == CANCELLED;
+        }
+
+        @Override
+        public boolean isFired() {
+            return state.get() == FIRED;
+        }
+    }
+}
@@ -0,0 +1,40 @@
+package su.kdt.minigame.support;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+
+/**
+ * 요청이 서버에 들어온 시각을 단조 시계(System.nanoTime)로 기록하는 필터
+ *
+ * 보안/UID 필터와 DB 작업보다 먼저 실행되어, 반응속도 측정에서 서버 내 대기열/DB 지연이 빠지도록 한다.
+ * RED 시각도 같은 nanoTime 축으로 기록되므로 두 값의 차이가 곧 서버 기준 반응 시간이다.
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+public class RequestIngressTimeFilter extends OncePerRequestFilter {
+
+    public static final String ATTR_INGRESS_NANOS = "X-INGRESS-NANOS";
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest req, HttpServletResponse res, FilterChain chain)
+            throws ServletException, IOException {
+        req.setAttribute(ATTR_INGRESS_NANOS, System.nanoTime());
+        chain.doFilter(req, res);
+    }
+
+    /**
+     * 요청 도착 시각 (nanoTime). 필터를 거치지 않은 요청이면 지금 시각.
+     */
+    public static long ingressNanos(HttpServletRequest req) {
+        Object nanos = req.getAttribute(ATTR_INGRESS_NANOS);
+        return nanos instanceof Long value ? value : System.nanoTime();
+    }
+}
@@ -0,0 +1,165 @@
+package su.kdt.minigame.support;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+import su.kdt.minigame.config.SessionConfig;
+
+import java.util.ArrayDeque;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * 세션별 직렬 실행기 (세션마다 메일박스 1개)
+ *
+ * 같은 세션의 작업은 제출 순서대로 한 번에 하나씩 실행되고, 다른 세션의 작업은 공유 풀에서 병렬로 실행된다.
+ * JVM 전체를 막는 synchronized 대신 세션 단위로만 순서를 보장하기 위해 사용한다.
+ * 비어 있는 메일박스는 바로 정리되므로 종료된 세션의 상태가 남지 않는다.
+ */
+@Slf4j
+@Component
+public class SessionSerialExecutor {
+
+    // 현재 스레드가 실행 중인 메일박스의 세션 (같은 세션 작업 안에서 다시 호출하면 바로 실행)
+    private static final ThreadLocal<Long> CURRENT_SESSION = new ThreadLocal<>();
+
+    private final ExecutorService pool;
+    private final Map<Long, Mailbox> mailboxes = new ConcurrentHashMap<>();
+
+    public SessionSerialExecutor(SessionConfig sessionConfig, MeterRegistry meterRegistry) {
+        CustomizableThreadFactory threadFactory = new CustomizableThreadFactory("session-exec-");
+        threadFactory.setDaemon(true);
+        this.pool = Executors.newFixedThreadPool(Math.max(1, sessionConfig.getSerialExecutorThreads()), threadFactory);
+
+        Gauge.builder("session.executor.mailboxes", mailboxes, Map::size)
+                .description("대기/실행 중인 작업이 있는 세션 수")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 세션 메일박스에 작업을 넣고 결과를 비동기로 받는다.
+     */
+    public <T> CompletableFuture<T> submit(long sessionId, Callable<T> task) {
+        CompletableFuture<T> result = new CompletableFuture<>();
+        enqueue(sessionId, () -> {
+            try {
+                result.complete(task.call());
+            } catch (Throwable e) {
+                result.completeExceptionally(e);
+            }
+        });
+        return result;
+    }
+
+    public void execute(long sessionId, Runnable task) {
+        enqueue(sessionId, () -> {
+            try {
+                task.run();
+            } catch (Exception e) {
+                log.error("[SESSION-EXEC] Task failed for session {}", sessionId, e);
+            }
+        });
+    }
+
+    /**
+     * 세션 메일박스에서 작업을 실행하고 끝날 때까지 기다린다.
+     * 이미 같은 세션의 작업을 실행 중인 스레드라면 대기열을 거치지 않고 바로 실행한다 (자기 자신 대기로 인한 교착 방지).
+     */
+    public <T> T call(long sessionId, Callable<T> task) {
+        Long current = CURRENT_SESSION.get();
+        if (current != null && current == sessionId) {
+            return callInline(task);
+        }
+        try {
+            return submit(sessionId, task).join();
+        } catch (CompletionException e) {
+            Throwable cause = e.getCause() != null ? e.getCause() : e;
+            if (cause instanceof RuntimeException runtime) {
+                throw runtime;
+            }
+            if (cause instanceof Error error) {
+                throw error;
+            }
+            throw new IllegalStateException(cause.getMessage(), cause);
+        }
+    }
+
+    private static <T> T callInline(Callable<T> task) {
+        try {
+            return task.call();
+        } catch (RuntimeException e) {
+            throw e;
+        } catch (Exception e) {
+            throw new IllegalStateException(e.getMessage(), e);
+        }
+    }
+
+    private void enqueue(long sessionId, Runnable task) {
+        while (true) {
+            Mailbox mailbox = mailboxes.computeIfAbsent(sessionId, Mailbox::new);
+            synchronized (mailbox) {
+                if (mailbox.retired) {
+                    continue; // 방금 정리된 메일박스 - 새로 만든다
+                }
+                mailbox.tasks.addLast(task);
+                if (mailbox.running) {
+                    return; // 실행 중인 drain이 이어서 처리
+                }
+                mailbox.running = true;
+            }
+            pool.execute(() -> drain(mailbox));
+            return;
+        }
+    }
+
+    private void drain(Mailbox mailbox) {
+        CURRENT_SESSION.set(mailbox.sessionId);
+        try {
+            while (true) {
+                Runnable task;
+                synchronized (mailbox) {
+                    task = mailbox.tasks.pollFirst();
+                    if (task == null) {
+                        // 더 이상 작업이 없으면 메일박스를 정리 (이후 제출은 새 메일박스로)
+                        mailbox.running = false;
+                        mailbox.retired = true;
+                        mailboxes.remove(mailbox.sessionId, mailbox);
+                        return;
+                    }
+                }
+                task.run();
+            }
+        } finally {
+            CURRENT_SESSION.remove();
+        }
+    }
+
+    public int mailboxCount() {
+        return mailboxes.size();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        pool.shutdownNow();
+    }
+
+    private static final class Mailbox {
+        private final long sessionId;
+        // guarded by this
+        private final ArrayDeque<Runnable> tasks = new ArrayDeque<>();
+        private boolean running;
+        private boolean retired;
+
+        private Mailbox(long sessionId) {
+            this.sessionId = sessionId;
+        }
+    }
+}
@@ -0,0 +1,113 @@
+package su.kdt.minigame.support;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.Ordered;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.function.Consumer;
+
+/**
+ * 현재 트랜잭션의 커밋/롤백에 맞춰 실행할 작업을 등록하는 공용 헬퍼
+ *
+ * - 커밋 후 작업도 afterCompletion(COMMITTED)에서 실행한다. 다른 커밋 후 작업 안에서 등록된 작업도 누락되지 않는다.
+ * - 트랜잭션이 없으면 커밋된 것으로 보고 바로 실행한다 (afterRollback만 아무것도 하지 않는다).
+ * - 작업에서 난 예외는 로그만 남기고 다음 작업으로 넘어간다 (이미 끝난 트랜잭션의 결과는 바뀌지 않는다).
+ * - 같은 단계의 작업은 order가 작은 것부터, order가 같으면 등록 순서대로 실행된다.
+ */
+@Slf4j
+public final class TransactionCallbacks {
+
+    /**
+     * 기본 순서의 작업보다 먼저 실행해야 하는 작업용 (버퍼 인계처럼 다른 콜백이 결과를 기다리는 경우)
+     */
+    public static final int FIRST = Ordered.HIGHEST_PRECEDENCE;
+
+    private TransactionCallbacks() {
+    }
+
+    /**
+     * 커밋 직전(트랜잭션 안)에 실행한다. 예외는 그대로 던져 트랜잭션을 롤백시킨다.
+     */
+    public static void beforeCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void beforeCommit(boolean readOnly) {
+                action.run();
+            }
+        });
+    }
+
+    /**
+     * 트랜잭션이 커밋된 뒤 실행한다 (롤백 시 폐기).
+     */
+    public static void afterCommit(Runnable action) {
+        afterCompletion(Ordered.LOWEST_PRECEDENCE, committed -> {
+            if (committed) {
+                action.run();
+            }
+        });
+    }
+
+    /**
+     * 트랜잭션이 커밋되지 않고 끝났을 때 실행한다 (메모리 상태 되돌리기).
+     */
+    public static void afterRollback(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            return;
+        }
+        afterCompletion(Ordered.LOWEST_PRECEDENCE, committed -> {
+            if (!committed) {
+                action.run();
+            }
+        });
+    }
+
+    /**
+     * 트랜잭션이 끝났을 때(커밋/롤백 모두) 실행한다.
+     */
+    public static void afterCompletion(Runnable action) {
+        afterCompletion(Ordered.LOWEST_PRECEDENCE, committed -> action.run());
+    }
+
+    /**
+     * 트랜잭션이 끝났을 때 커밋 여부와 함께 실행한다.
+     */
+    public static void afterCompletion(Consumer<Boolean> action) {
+        afterCompletion(Ordered.LOWEST_PRECEDENCE, action);
+    }
+
+    /**
+     * 트랜잭션이 끝났을 때 커밋 여부와 함께 실행한다. order가 작을수록 먼저 실행된다.
+     */
+    public static void afterCompletion(int order, Consumer<Boolean> action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            run(action, true);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public int getOrder() {
+                return order;
+            }
+
+            @Override
+            public void afterCompletion(int status) {
+                run(action, status == STATUS_COMMITTED);
+            }
+        });
+    }
+
+    private static void run(Consumer<Boolean> action, boolean committed) {
+        try {
+            action.accept(committed);
+        } catch (Exception e) {
+            log.error("[TX-CALLBACK] Failed to execute {} callback: {}",
+                    committed ? "after-commit" : "after-rollback", e.getMessage(), e);
+        }
+    }
+}
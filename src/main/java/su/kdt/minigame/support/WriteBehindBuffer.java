@@ -0,0 +1,304 @@
+package su.kdt.minigame.support;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.ToLongFunction;
+
+/**
+ * 쓰기 지연(write-behind) 버퍼
+ *
+ * 검증이 끝난 행을 세션별 메모리 대기열에 모아 두었다가 호출자가 배치로 꺼내 한 트랜잭션에 저장하게 한다.
+ * 행은 대기열에 넣기 전에 저널 세그먼트 파일에 한 줄로 먼저 덧붙이므로 프로세스가 죽어도 다음 기동 때 recover()로
+ * 저장되지 않은 행을 되살릴 수 있다. fsync를 켜면 행마다 디스크까지 동기화해 OS/전원 장애도 견디고,
+ * 끄면 OS 페이지 캐시까지만 쓰므로 프로세스 종료만 견딘다.
+ *
+ * 전체 배치를 꺼낼 때 현재 세그먼트를 봉인하고, 그 배치가 끝나면(저장 실패분은 새 세그먼트에 다시 기록) 봉인한 세그먼트를 지운다.
+ * 세션 배치가 아직 끝나지 않았거나 커밋을 기다리는(prepare) 행이 있으면 봉인을 미루므로,
+ * 지워지는 세그먼트의 행은 항상 저장되었거나 다시 기록되었거나 취소된 상태다.
+ * 트랜잭션 안에서 넣는 행은 prepare로 저널에만 먼저 쓰고 커밋 후 commit으로 대기열에 넣으며,
+ * 롤백되면 abort가 취소 줄을 남겨 recover()에서 빠진다.
+ * 재생되는 행이 이미 저장되어 있을 수 있으므로 저장 쪽은 중복을 건너뛸 수 있어야 한다.
+ */
+@Slf4j
+public final class WriteBehindBuffer<R> {
+
+    private static final AtomicLong INSTANCES = new AtomicLong();
+    private static final String TOMBSTONE = "!"; // 롤백된 행을 취소하는 저널 줄의 접두사
+
+    /**
+     * 저널 한 줄 ↔ 행 변환 (줄바꿈 없는 한 줄이어야 한다)
+     */
+    public interface Codec<R> {
+        String encode(R row);
+
+        R decode(String line);
+    }
+
+    private final Path directory; // null이면 저널 없이 메모리에만 보관
+    private final String name;
+    private final Codec<R> codec;
+    private final ToLongFunction<R> sessionOf;
+    private final int capacity;
+    private final boolean fsync;
+    private final String instanceId = System.currentTimeMillis() + "-" + INSTANCES.incrementAndGet(); // 세그먼트 이름 충돌 방지
+    private final List<Path> leftoverSegments;
+
+    // guarded by this
+    private final Map<Long, List<R>> pending = new LinkedHashMap<>();
+    private int size;
+    private int inflightSessionBatches;
+    private int prepared; // 저널에만 기록되고 커밋을 기다리는 행 수
+    private FileChannel segment;
+    private Path segmentPath;
+    private int segmentRows;
+    private long segmentSeq;
+
+    public WriteBehindBuffer(Path directory, String name, int capacity, Codec<R> codec, ToLongFunction<R> sessionOf) {
+        this(directory, name, capacity, false, codec, sessionOf);
+    }
+
+    public WriteBehindBuffer(Path directory, String name, int capacity, boolean fsync, Codec<R> codec,
+                             ToLongFunction<R> sessionOf) {
+        this.directory = directory;
+        this.name = name;
+        this.capacity = capacity;
+        this.fsync = fsync;
+        this.codec = codec;
+        this.sessionOf = sessionOf;
+        if (directory == null) {
+            this.leftoverSegments = List.of();
+            return;
+        }
+        try {
+            Files.createDirectories(directory);
+            this.leftoverSegments = listSegments();
+            openSegment();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to open write-behind journal: " + directory, e);
+        }
+    }
+
+    /**
+     * 행을 대기열에 넣는다. 가득 찼거나 저널에 기록하지 못했으면 false (호출자가 바로 저장해야 한다).
+     */
+    public synchronized boolean offer(R row) {
+        if (size + prepared >= capacity || !append(codec.encode(row))) {
+            return false;
+        }
+        pending.computeIfAbsent(sessionOf.applyAsLong(row), id -> new ArrayList<>()).add(row);
+        size++;
+        return true;
+    }
+
+    /**
+     * 트랜잭션 커밋 전에 행을 저널에만 기록하고 자리를 예약한다 (아직 꺼낼 수 없다).
+     * 커밋되면 commit, 아니면 abort를 반드시 호출해야 한다. 가득 찼거나 저널에 기록하지 못했으면 false.
+     */
+    public synchronized boolean prepare(R row) {
+        if (size + prepared >= capacity || !append(codec.encode(row))) {
+            return false;
+        }
+        prepared++;
+        return true;
+    }
+
+    /**
+     * prepare한 행을 대기열에 넣는다 (트랜잭션 커밋 후).
+     */
+    public synchronized void commit(R row) {
+        prepared--;
+        pending.computeIfAbsent(sessionOf.applyAsLong(row), id -> new ArrayList<>()).add(row);
+        size++;
+    }
+
+    /**
+     * prepare한 행을 버린다 (트랜잭션 롤백). 저널에 취소 줄을 남겨 recover()가 그 행을 되살리지 않게 한다.
+     */
+    public synchronized void abort(R row) {
+        prepared--;
+        if (!append(TOMBSTONE + codec.encode(row))) {
+            log.warn("[WRITE-BEHIND] Failed to journal tombstone, row may be replayed on recovery");
+        }
+    }
+
+    /**
+     * 아직 저장되지 않은 세션의 행 (복사본)
+     */
+    public synchronized List<R> pending(long sessionId) {
+        List<R> rows = pending.get(sessionId);
+        return rows != null ? List.copyOf(rows) : List.of();
+    }
+
+    public synchronized int size() {
+        return size;
+    }
+
+    /**
+     * 세션 하나의 행을 꺼낸다 (라운드 종료 등). 저장 후 반드시 complete를 호출해야 한다.
+     */
+    public synchronized Batch<R> drain(long sessionId) {
+        List<R> rows = pending.remove(sessionId);
+        if (rows == null) {
+            rows = List.of();
+        }
+        size -= rows.size();
+        inflightSessionBatches++;
+        return new Batch<>(rows, List.of(), true);
+    }
+
+    /**
+     * 모든 행을 꺼낸다 (주기적 flush). 저장 후 반드시 complete를 호출해야 한다.
+     */
+    public synchronized Batch<R> drainAll() {
+        List<R> rows = new ArrayList<>(size);
+        pending.values().forEach(rows::addAll);
+        pending.clear();
+        size = 0;
+        List<Path> sealed = inflightSessionBatches == 0 && prepared == 0 && segmentRows > 0 ? rotate() : List.of();
+        return new Batch<>(rows, sealed, false);
+    }
+
+    /**
+     * 기동 전에 남아 있던 세그먼트의 행 (직전 프로세스가 저장하지 못했을 수 있는 행). 저장 후 complete를 호출한다.
+     */
+    public Batch<R> recover() {
+        // 취소 줄은 앞서 기록된 같은 내용의 줄 하나를 지운다 (롤백된 트랜잭션의 행)
+        List<String> lines = new ArrayList<>();
+        for (Path path : leftoverSegments) {
+            try {
+                for (String line : Files.readAllLines(path, StandardCharsets.UTF_8)) {
+                    if (line.isBlank()) {
+                        continue;
+                    }
+                    if (line.startsWith(TOMBSTONE)) {
+                        lines.remove(line.substring(TOMBSTONE.length()));
+                    } else {
+                        lines.add(line);
+                    }
+                }
+            } catch (IOException e) {
+                throw new UncheckedIOException("Failed to read write-behind journal: " + path, e);
+            }
+        }
+        List<R> rows = new ArrayList<>(lines.size());
+        for (String line : lines) {
+            try {
+                rows.add(codec.decode(line));
+            } catch (RuntimeException e) {
+                // 기록 도중 죽어 잘린 마지막 줄 등
+                log.warn("[WRITE-BEHIND] Skipping unreadable journal line: {}", e.getMessage());
+            }
+        }
+        return new Batch<>(rows, leftoverSegments, false);
+    }
+
+    /**
+     * 배치 저장을 마친다. 저장하지 못한 행은 대기열과 저널에 다시 넣고, 봉인된 세그먼트를 지운다.
+     */
+    public synchronized void complete(Batch<R> batch, List<R> unsaved) {
+        for (R row : unsaved) {
+            append(codec.encode(row)); // 저널 기록에 실패해도 메모리 대기열에는 남겨 다음 주기에 다시 저장한다
+            pending.computeIfAbsent(sessionOf.applyAsLong(row), id -> new ArrayList<>()).add(row);
+            size++;
+        }
+        if (batch.sessionDrain()) {
+            inflightSessionBatches--;
+        }
+        for (Path path : batch.sealed()) {
+            try {
+                Files.deleteIfExists(path);
+            } catch (IOException e) {
+                log.warn("[WRITE-BEHIND] Failed to delete journal segment {}: {}", path.getFileName(), e.getMessage());
+            }
+        }
+    }
+
+    public synchronized void close() {
+        if (segment == null) {
+            return;
+        }
+        try {
+            segment.close();
+        } catch (IOException e) {
+            log.warn("[WRITE-BEHIND] Failed to close journal segment {}: {}", segmentPath.getFileName(), e.getMessage());
+        }
+        segment = null;
+    }
+
+    // guarded by this
+    private boolean append(String encoded) {
+        if (directory == null) {
+            return true;
+        }
+        try {
+            if (segment == null) {
+                openSegment();
+            }
+            ByteBuffer line = ByteBuffer.wrap((encoded + "\n").getBytes(StandardCharsets.UTF_8));
+            while (line.hasRemaining()) {
+                segment.write(line);
+            }
+            if (fsync) {
+                segment.force(false);
+            }
+            segmentRows++;
+            return true;
+        } catch (IOException | RuntimeException e) {
+            log.error("[WRITE-BEHIND] Failed to append to journal {}: {}", segmentPath, e.getMessage());
+            return false;
+        }
+    }
+
+    // guarded by this
+    private List<Path> rotate() {
+        Path sealed = segmentPath;
+        try {
+            if (segment != null) {
+                segment.close();
+            }
+            openSegment();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to rotate write-behind journal: " + sealed, e);
+        }
+        return List.of(sealed);
+    }
+
+    private void openSegment() throws IOException {
+        segmentPath = directory.resolve(name + "-" + instanceId + "-" + (segmentSeq++) + ".log");
+        segment = FileChannel.open(segmentPath, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.APPEND);
+        segmentRows = 0;
+    }
+
+    private List<Path> listSegments() throws IOException {
+        List<Path> segments = new ArrayList<>();
+        try (DirectoryStream<Path> stream = Files.newDirectoryStream(directory, name + "-*.log")) {
+            stream.forEach(segments::add);
+        }
+        segments.sort(null);
+        return List.copyOf(segments);
+    }
+
+    /**
+     * 꺼낸 행 묶음
+     */
+    public record Batch<R>(List<R> rows, List<Path> sealed, boolean sessionDrain) {
+        public boolean isEmpty() {
+            return rows.isEmpty();
+        }
+    }
+}
@@ -0,0 +1,4 @@
+-- Add pre-shuffled quiz question deck to game_session table
+-- 세션 생성 시 정해 둔 라운드별 문제 id 목록 (쉼표 구분, 1라운드부터 순서대로)
+ALTER TABLE game_session
+ADD COLUMN question_deck TEXT NULL;
@@ -0,0 +1,20 @@
+-- Batch-friendly ids for quiz_answer / reaction_result
+-- MySQL에는 시퀀스가 없어 Hibernate가 테이블(next_val 한 행)로 흉내낸다 (pooled-lo: 한 번에 50개씩 예약)
+-- 기존 AUTO_INCREMENT 값과 겹치지 않도록 현재 최대 id 다음 값에서 시작한다
+CREATE TABLE IF NOT EXISTS quiz_answer_seq (
+    next_val BIGINT NOT NULL
+);
+
+INSERT INTO quiz_answer_seq (next_val)
+SELECT t.next_val
+FROM (SELECT COALESCE(MAX(answer_id), 0) + 1 AS next_val FROM quiz_answer) t
+WHERE NOT EXISTS (SELECT 1 FROM quiz_answer_seq);
+
+CREATE TABLE IF NOT EXISTS reaction_result_seq (
+    next_val BIGINT NOT NULL
+);
+
+INSERT INTO reaction_result_seq (next_val)
+SELECT t.next_val
+FROM (SELECT COALESCE(MAX(result_id), 0) + 1 AS next_val FROM reaction_result) t
+WHERE NOT EXISTS (SELECT 1 FROM reaction_result_seq);
@@ -22,6 +22,7 @@ CREATE TABLE game_session (
     total_rounds        INT DEFAULT 5, -- ◀◀◀ 퀴즈 문항 수 필드 추가 (기본값 5)
     is_private         BOOLEAN DEFAULT FALSE,               -- 비공개방 여부
     pin_hash           VARCHAR(255),                        -- 비공개방 PIN 해시값
+    question_deck      TEXT NULL,                           -- 퀴즈 세션 생성 시 섞어 둔 라운드별 문제 id 목록 (쉼표 구분)
     FOREIGN KEY (selected_penalty_id) REFERENCES penalty(penalty_id)
 );
 
@@ -116,4 +117,15 @@ CREATE TABLE reaction_result (
     false_start  BOOLEAN NOT NULL DEFAULT FALSE,        -- 빨강 신호 전에 클릭했는지 여부
     rank_order   INT NULL,                              -- 최종 순위 (1등, 2등, ...)
     FOREIGN KEY (round_id) REFERENCES reaction_round(round_id)
-);
\ No newline at end of file
+);
+-- 테이블: quiz_answer_seq / reaction_result_seq
+-- 목적: quiz_answer / reaction_result id를 50개씩 미리 받아 INSERT를 배치로 보내기 위한 시퀀스 테이블입니다. (V7 마이그레이션과 동일)
+CREATE TABLE IF NOT EXISTS quiz_answer_seq (
+    next_val BIGINT NOT NULL                            -- 다음에 예약할 id입니다.
+);
+INSERT INTO quiz_answer_seq (next_val) VALUES (1);
+
+CREATE TABLE IF NOT EXISTS reaction_result_seq (
+    next_val BIGINT NOT NULL                            -- 다음에 예약할 id입니다.
+);
+INSERT INTO reaction_result_seq (next_val) VALUES (1);
@@ -0,0 +1,138 @@
+package su.kdt.minigame.event;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import su.kdt.minigame.config.OutboxConfig;
+import su.kdt.minigame.service.SSEService;
+import su.kdt.minigame.sse.SseChannel;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * 아웃박스 relay 세션별 순서 검증
+ *
+ * 수정 전 문제:
+ * - 트랜잭션 밖 이벤트는 호출 스레드에서 바로, 트랜잭션 이벤트는 relay 대기열로 나가 세션 안의 순서가 섞임
+ * - 발행 실패한 이벤트가 재시도 스케줄러로 빠져 뒤 이벤트보다 늦게 나감
+ */
+public class OutboxRelayTest {
+
+    private OutboxRelay relay;
+
+    @AfterEach
+    public void tearDown() {
+        if (relay != null) {
+            relay.shutdown();
+        }
+    }
+
+    @Test
+    @DisplayName("트랜잭션 이벤트와 트랜잭션 밖 이벤트가 세션마다 넣은 순서대로 발행된다")
+    public void testPerSessionOrderAcrossPaths() throws Exception {
+        RecordingSseService sse = new RecordingSseService(0);
+        relay = new OutboxRelay(sse, config(), new SimpleMeterRegistry());
+
+        int sessions = 8;
+        int perSession = 500;
+        for (int i = 0; i < perSession; i++) {
+            for (long sessionId = 1; sessionId <= sessions; sessionId++) {
+                OutboxEvent event = new OutboxEvent(sessionId, SseChannel.QUIZ, "e", i, null);
+                if (i % 2 == 0) {
+                    relay.submit(List.of(event), System.nanoTime());
+                } else {
+                    relay.publishNow(event);
+                }
+            }
+        }
+
+        sse.awaitDelivered(sessions * perSession);
+        List<Integer> expected = new ArrayList<>();
+        for (int i = 0; i < perSession; i++) {
+            expected.add(i);
+        }
+        for (long sessionId = 1; sessionId <= sessions; sessionId++) {
+            assertThat(sse.delivered(sessionId))
+                    .withFailMessage("session %d delivered out of order", sessionId)
+                    .containsExactlyElementsOf(expected);
+        }
+    }
+
+    @Test
+    @DisplayName("발행에 실패한 이벤트는 뒤 이벤트보다 먼저 다시 시도된다")
+    public void testRetryKeepsOrder() throws Exception {
+        RecordingSseService sse = new RecordingSseService(2);
+        relay = new OutboxRelay(sse, config(), new SimpleMeterRegistry());
+
+        relay.publishNow(new OutboxEvent(1L, SseChannel.SESSION, "e", 0, null));
+        relay.publishNow(new OutboxEvent(1L, SseChannel.SESSION, "e", 1, null));
+        relay.publishNow(new OutboxEvent(1L, "user-1", SseChannel.SESSION, "e", 2, null));
+
+        sse.awaitDelivered(3);
+        assertThat(sse.delivered(1L)).containsExactly(0, 1, 2);
+        assertThat(sse.attempts.get()).isEqualTo(5);
+    }
+
+    private static OutboxConfig config() {
+        OutboxConfig config = new OutboxConfig();
+        config.setRelayThreads(4);
+        config.setBatchSize(16);
+        config.setRetryBackoffMs(5);
+        return config;
+    }
+
+    /**
+     * 발행된 이벤트를 세션별로 기록하는 SSE 서비스 (처음 failures번의 발행은 실패시킨다)
+     */
+    private static final class RecordingSseService extends SSEService {
+        private final Map<Long, List<Object>> deliveries = new ConcurrentHashMap<>();
+        private final AtomicInteger remainingFailures;
+        private final AtomicInteger attempts = new AtomicInteger();
+        private final AtomicInteger delivered = new AtomicInteger();
+
+        RecordingSseService(int failures) {
+            super(null, null, null, null, null, null);
+            this.remainingFailures = new AtomicInteger(failures);
+        }
+
+        @Override
+        public void broadcast(Long sessionId, SseChannel channel, String eventName, Object data) {
+            record(sessionId, data);
+        }
+
+        @Override
+        public void sendToUser(Long sessionId, String userUid, SseChannel channel, String eventName, Object data) {
+            record(sessionId, data);
+        }
+
+        private void record(Long sessionId, Object data) {
+            attempts.incrementAndGet();
+            if (remainingFailures.getAndDecrement() > 0) {
+                throw new IllegalStateException("simulated failure");
+            }
+            deliveries.computeIfAbsent(sessionId, id -> new CopyOnWriteArrayList<>()).add(data);
+            delivered.incrementAndGet();
+        }
+
+        List<Object> delivered(long sessionId) {
+            return deliveries.getOrDefault(sessionId, List.of());
+        }
+
+        void awaitDelivered(int count) throws InterruptedException {
+            long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+            while (delivered.get() < count && System.nanoTime() < deadline) {
+                Thread.sleep(5);
+            }
+            assertThat(delivered.get()).isEqualTo(count);
+        }
+    }
+}
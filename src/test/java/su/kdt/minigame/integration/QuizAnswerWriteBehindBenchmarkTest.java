@@ -0,0 +1,132 @@
+package su.kdt.minigame.integration;
+
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.util.FileSystemUtils;
+import su.kdt.minigame.domain.QuizAnswer;
+import su.kdt.minigame.domain.QuizQuestion;
+import su.kdt.minigame.domain.QuizRound;
+import su.kdt.minigame.quiz.QuizAnswerWriteBehind;
+import su.kdt.minigame.repository.QuizAnswerRepository;
+import su.kdt.minigame.repository.QuizQuestionRepo;
+import su.kdt.minigame.repository.QuizRoundRepo;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * 답변 INSERT 처리량 비교
+ *
+ * 기존 경로: 답변마다 트랜잭션 1개 + INSERT 1번 (IDENTITY 시절과 같은 왕복 수)
+ * 쓰기 지연: 커밋 후 버퍼(저널 포함)에 넣고, 주기 flush와 같은 방식으로 JDBC 배치 저장
+ */
+@Slf4j
+@Tag("benchmark")
+@SpringBootTest
+@ActiveProfiles("test")
+public class QuizAnswerWriteBehindBenchmarkTest {
+
+    private static final int ROUNDS = 40;
+    private static final int PLAYERS = 50;
+    private static final Path JOURNAL_DIR = Path.of(System.getProperty("java.io.tmpdir"),
+            "quiz-answer-bench-" + System.nanoTime());
+
+    @DynamicPropertySource
+    static void writeBehindProperties(DynamicPropertyRegistry registry) {
+        // 주기 flush는 끄고 직접 flush해 저장 시간을 잰다
+        registry.add("app.quiz.answer-flush-ms", () -> "3600000");
+        registry.add("app.quiz.answer-journal-dir", JOURNAL_DIR::toString);
+    }
+
+    @AfterAll
+    static void deleteJournal() throws IOException {
+        FileSystemUtils.deleteRecursively(JOURNAL_DIR);
+    }
+
+    @Autowired
+    private QuizQuestionRepo questionRepo;
+
+    @Autowired
+    private QuizRoundRepo roundRepo;
+
+    @Autowired
+    private QuizAnswerRepository answerRepo;
+
+    @Autowired
+    private QuizAnswerWriteBehind answerWriteBehind;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Test
+    @DisplayName("건별 저장 대비 쓰기 지연 배치 저장의 초당 INSERT 수 - 답변 2,000건씩")
+    public void compareInsertThroughput() {
+        QuizQuestion question = new QuizQuestion();
+        question.setQuestionText("write-behind benchmark");
+        question.setCategory("BENCH");
+        questionRepo.save(question);
+
+        List<QuizRound> directRounds = createRounds(900_001L, question);
+        List<QuizRound> bufferedRounds = createRounds(900_002L, question);
+        int answers = ROUNDS * PLAYERS;
+
+        long directStart = System.nanoTime();
+        for (QuizRound round : directRounds) {
+            for (long userId = 1; userId <= PLAYERS; userId++) {
+                QuizAnswer answer = gradedAnswer(round, userId);
+                transactionTemplate.executeWithoutResult(status -> answerRepo.saveAndFlush(answer));
+            }
+        }
+        long directNs = System.nanoTime() - directStart;
+
+        long bufferedStart = System.nanoTime();
+        for (QuizRound round : bufferedRounds) {
+            for (long userId = 1; userId <= PLAYERS; userId++) {
+                answerWriteBehind.enqueue(round.getSessionId(), gradedAnswer(round, userId));
+            }
+        }
+        long acknowledgedNs = System.nanoTime() - bufferedStart;
+        answerWriteBehind.flush();
+        long bufferedNs = System.nanoTime() - bufferedStart;
+
+        assertThat(countAnswers(directRounds)).isEqualTo(answers);
+        assertThat(countAnswers(bufferedRounds)).isEqualTo(answers);
+        assertThat(answerWriteBehind.pending(900_002L)).isEmpty();
+
+        log.info("[BENCH] answers={}, direct={} inserts/s ({}ms)",
+                answers, Math.round(answers / (directNs / 1e9)), directNs / 1_000_000);
+        log.info("[BENCH] answers={}, write-behind={} inserts/s ({}ms, ack avg={}ns)",
+                answers, Math.round(answers / (bufferedNs / 1e9)), bufferedNs / 1_000_000, acknowledgedNs / answers);
+    }
+
+    private List<QuizRound> createRounds(Long sessionId, QuizQuestion question) {
+        List<QuizRound> rounds = new ArrayList<>(ROUNDS);
+        for (int roundNo = 1; roundNo <= ROUNDS; roundNo++) {
+            rounds.add(roundRepo.save(new QuizRound(sessionId, roundNo, question)));
+        }
+        return rounds;
+    }
+
+    private static QuizAnswer gradedAnswer(QuizRound round, long userId) {
+        QuizAnswer answer = new QuizAnswer(round, userId, 1);
+        answer.grade(userId % 2 == 0, 1_000L + userId);
+        return answer;
+    }
+
+    private long countAnswers(List<QuizRound> rounds) {
+        return rounds.stream().mapToLong(round -> answerRepo.countByRoundRoundId(round.getRoundId())).sum();
+    }
+}
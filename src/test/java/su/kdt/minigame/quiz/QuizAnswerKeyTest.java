@@ -0,0 +1,58 @@
+package su.kdt.minigame.quiz;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import su.kdt.minigame.dto.response.QuizQuestionResp;
+
+import java.text.Normalizer;
+import java.util.List;
+import java.util.Locale;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * 문제별 채점 기준 검증
+ */
+public class QuizAnswerKeyTest {
+
+    private final QuizAnswerKey key = QuizAnswerKey.of(1L, List.of(
+            new QuizQuestionResp.Option(10L, "마리아나 해구", true),
+            new QuizQuestionResp.Option(11L, "대서양", false),
+            new QuizQuestionResp.Option(12L, "인도양", false)));
+
+    @Test
+    @DisplayName("옵션 id 채점: 문제에 속한 옵션만 유효하고 정답 옵션만 맞다")
+    public void testOptionGrading() {
+        assertThat(key.isValidOption(10L)).isTrue();
+        assertThat(key.isValidOption(12L)).isTrue();
+        assertThat(key.isValidOption(99L)).isFalse();
+
+        assertThat(key.isCorrectOption(10L)).isTrue();
+        assertThat(key.isCorrectOption(11L)).isFalse();
+        assertThat(key.firstCorrectOptionId()).isEqualTo(10L);
+    }
+
+    @Test
+    @DisplayName("텍스트 채점: 공백/대소문자/전각 문자 차이는 무시한다")
+    public void testTextGrading() {
+        assertThat(key.isCorrectText("마리아나해구")).isTrue();
+        assertThat(key.isCorrectText("  마리아나 \t 해구\n")).isTrue();
+        assertThat(key.isCorrectText("대서양")).isFalse();
+        assertThat(key.isCorrectText(null)).isFalse();
+    }
+
+    @Test
+    @DisplayName("정규화 결과가 기존 정규식 기반 normalize와 같다")
+    public void testNormalizeMatchesLegacy() {
+        for (String input : List.of("Hello World", "  ＡＢＣ  ｄｅｆ ", "a\tb\nc\u000Bd\fe\rf", "\u0001 x \u0001",
+                "ﬁ ligature", "이미정규화됨", "", "Ⅻ")) {
+            assertThat(QuizAnswerKey.normalize(input)).as(input).isEqualTo(legacyNormalize(input));
+        }
+    }
+
+    private static String legacyNormalize(String s) {
+        if (s == null) return "";
+        s = s.trim().replaceAll("\\s+", "").toLowerCase(Locale.ROOT);
+        return Normalizer.normalize(s, Normalizer.Form.NFKC);
+    }
+}
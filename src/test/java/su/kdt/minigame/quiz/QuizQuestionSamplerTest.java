@@ -0,0 +1,94 @@
+package su.kdt.minigame.quiz;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * 부분 Fisher–Yates 문제 추출 검증
+ */
+public class QuizQuestionSamplerTest {
+
+    private static final List<Integer> ITEMS = IntStream.range(0, 1_000).boxed().toList();
+
+    @Test
+    @DisplayName("서로 다른 원소를 요청한 개수만큼 뽑고, 개수가 전체보다 많으면 전체를 뽑는다")
+    public void testDistinctAndBounded() {
+        SplittableRandom random = new SplittableRandom(42);
+
+        List<Integer> picked = QuizQuestionSampler.sample(ITEMS, 50, i -> false, random);
+        assertThat(picked).hasSize(50).doesNotHaveDuplicates();
+
+        List<Integer> all = QuizQuestionSampler.sample(ITEMS.subList(0, 10), 20, i -> false, random);
+        assertThat(all).containsExactlyInAnyOrderElementsOf(ITEMS.subList(0, 10));
+    }
+
+    @Test
+    @DisplayName("제외 대상은 뽑히지 않고, 남은 원소가 부족하면 남은 만큼만 뽑는다")
+    public void testExclusion() {
+        SplittableRandom random = new SplittableRandom(7);
+        List<Integer> items = ITEMS.subList(0, 20);
+
+        List<Integer> picked = QuizQuestionSampler.sample(items, 5, i -> i % 2 == 0, random);
+        assertThat(picked).hasSize(5).allMatch(i -> i % 2 == 1).doesNotHaveDuplicates();
+
+        List<Integer> rest = QuizQuestionSampler.sample(items, 15, i -> i < 17, random);
+        assertThat(rest).containsExactlyInAnyOrder(17, 18, 19);
+    }
+
+    @Test
+    @DisplayName("카테고리 앞부분에 치우치지 않고 모든 원소가 고르게 뽑힌다")
+    public void testUniformOverWholeList() {
+        SplittableRandom random = new SplittableRandom(1);
+        int[] hits = new int[ITEMS.size()];
+        int trials = 20_000;
+        for (int t = 0; t < trials; t++) {
+            for (int i : QuizQuestionSampler.sample(ITEMS, 5, x -> false, random)) {
+                hits[i]++;
+            }
+        }
+        double expected = trials * 5.0 / ITEMS.size(); // 100
+        assertThat(IntStream.of(hits).min().getAsInt()).isGreaterThan((int) (expected * 0.5));
+        assertThat(IntStream.of(hits).max().getAsInt()).isLessThan((int) (expected * 1.5));
+        // 앞 100개(기존 첫 페이지) 밖의 원소도 뽑힌다
+        assertThat(IntStream.range(100, hits.length).map(i -> hits[i]).sum()).isGreaterThan(trials * 4);
+    }
+
+    @Test
+    @DisplayName("목록이 커도 k개만 뽑으면 O(k) - 100만 개에서 10개 추출")
+    public void testIndependentOfListSize() {
+        List<Integer> huge = new IntRangeList(1_000_000);
+        SplittableRandom random = new SplittableRandom(3);
+
+        int draws = 10_000;
+        for (int t = 0; t < draws; t++) {
+            List<Integer> picked = QuizQuestionSampler.sample(huge, 10, i -> false, random);
+            assertThat(new HashSet<>(picked)).hasSize(10);
+        }
+    }
+
+    /** 원소를 만들지 않는 0..n-1 목록 (복사 비용 없이 큰 카테고리를 흉내) */
+    private static final class IntRangeList extends java.util.AbstractList<Integer> implements java.util.RandomAccess {
+        private final int size;
+
+        private IntRangeList(int size) {
+            this.size = size;
+        }
+
+        @Override
+        public Integer get(int index) {
+            return index;
+        }
+
+        @Override
+        public int size() {
+            return size;
+        }
+    }
+}
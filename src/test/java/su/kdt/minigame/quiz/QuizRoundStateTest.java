@@ -0,0 +1,60 @@
+package su.kdt.minigame.quiz;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * 퀴즈 라운드 메모리 상태 검증
+ *
+ * 수정 전 문제:
+ * - 쓰기 지연 답변이 커밋 후에야 버퍼에 들어가, 라운드 종료 처리가 그 답변을 빼고 벌칙을 집계할 수 있었음
+ */
+public class QuizRoundStateTest {
+
+    @Test
+    @DisplayName("라운드 종료 처리는 접수된 다른 답변이 기록될 때까지 기다린다")
+    public void testAwaitSettledAnswers() throws Exception {
+        QuizRoundState state = new QuizRoundState(1L, 1L, 1, Long.MAX_VALUE, List.of(10L, 20L));
+        assertThat(state.tryMarkAnswered(10L)).isEqualTo(QuizRoundState.Mark.ACCEPTED);
+        assertThat(state.tryMarkAnswered(20L)).isEqualTo(QuizRoundState.Mark.ACCEPTED);
+        assertThat(state.tryMarkAnswered(20L)).isEqualTo(QuizRoundState.Mark.DUPLICATE);
+        assertThat(state.unsettledCount()).isEqualTo(2);
+
+        // 20번이 라운드를 끝내는 요청 - 자기 답변 1건은 빼고 10번 답변의 기록을 기다린다
+        assertThat(state.isAllAnswered() && state.tryComplete()).isTrue();
+        assertThat(state.awaitSettled(1, 20)).isFalse();
+
+        Thread settler = new Thread(() -> {
+            try {
+                Thread.sleep(50);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            state.settle();
+        });
+        settler.start();
+        assertThat(state.awaitSettled(1, 5_000)).isTrue();
+        settler.join();
+
+        state.settle();
+        assertThat(state.unsettledCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("종료된 라운드의 답변은 CLOSED로 거절되고 기록 대기 수에 남지 않는다")
+    public void testClosedRoundLeavesNothingUnsettled() {
+        QuizRoundState state = new QuizRoundState(1L, 1L, 1, Long.MAX_VALUE, List.of(10L, 20L));
+        state.markRecorded(10L);
+        assertThat(state.tryComplete()).isTrue();
+
+        assertThat(state.tryMarkAnswered(20L)).isEqualTo(QuizRoundState.Mark.CLOSED);
+        assertThat(state.tryMarkAnswered(30L)).isEqualTo(QuizRoundState.Mark.CLOSED);
+        assertThat(state.hasAnswered(10L)).isTrue();
+        assertThat(state.unsettledCount()).isZero();
+        assertThat(state.awaitSettled(0, 0)).isTrue();
+    }
+}
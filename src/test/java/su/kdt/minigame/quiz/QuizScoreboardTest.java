@@ -0,0 +1,87 @@
+package su.kdt.minigame.quiz;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * 세션 점수판 증분 갱신 검증
+ */
+public class QuizScoreboardTest {
+
+    @Test
+    @DisplayName("정답 수 → 점수 → 정답 응답시간 합계 → 입장 순으로 순위를 매긴다")
+    public void testRanking() {
+        QuizScoreboard board = new QuizScoreboard(1L);
+        board.addSeat(1L, "a");
+        board.addSeat(2L, "b");
+        board.addSeat(3L, "c");
+
+        board.recordAnswer(10L, 1L, true, 10, 3_000);
+        board.recordAnswer(10L, 2L, true, 10, 1_000);
+        board.recordAnswer(10L, 3L, false, 0, 500);
+
+        List<QuizScoreboard.Entry> ranked = board.ranked();
+        assertThat(ranked).extracting(QuizScoreboard.Entry::userId).containsExactly(2L, 1L, 3L);
+        assertThat(ranked).extracting(QuizScoreboard.Entry::rank).containsExactly(1, 2, 3);
+        assertThat(ranked.get(2).totalAnswered()).isEqualTo(1);
+        assertThat(ranked.get(2).correctTimeMs()).isZero();
+    }
+
+    @Test
+    @DisplayName("같은 라운드의 같은 참가자 답변은 한 번만 반영되고, 좌석이 없는 참가자는 좌석을 새로 만든다")
+    public void testIdempotentRecord() {
+        QuizScoreboard board = new QuizScoreboard(1L);
+
+        assertThat(board.recordAnswer(1L, 7L, true, 10, 100)).isTrue();
+        assertThat(board.recordAnswer(1L, 7L, true, 10, 100)).isFalse();
+
+        assertThat(board.ranked()).singleElement()
+                .satisfies(entry -> {
+                    assertThat(entry.nickname()).isEqualTo("7");
+                    assertThat(entry.score()).isEqualTo(10);
+                    assertThat(entry.correctCount()).isEqualTo(1);
+                    assertThat(entry.totalAnswered()).isEqualTo(1);
+                });
+    }
+
+    @Test
+    @DisplayName("순위 목록은 바뀌었을 때만 다시 만든다")
+    public void testRankedViewRebuiltOnlyOnChange() {
+        QuizScoreboard board = new QuizScoreboard(1L);
+        for (long uid = 1; uid <= 20; uid++) {
+            board.addSeat(uid, "u" + uid);
+        }
+
+        List<QuizScoreboard.Entry> first = board.ranked();
+        assertThat(board.ranked()).isSameAs(first);
+
+        board.recordAnswer(1L, 20L, true, 10, 100);
+        List<QuizScoreboard.Entry> second = board.ranked();
+        assertThat(second).isNotSameAs(first);
+        assertThat(second.get(0).userId()).isEqualTo(20L);
+        assertThat(board.ranked()).isSameAs(second);
+    }
+
+    @Test
+    @DisplayName("답변 반영과 조회가 메모리에서 끝난다 - 20명, 답변 10,000건")
+    public void testThroughput() {
+        QuizScoreboard board = new QuizScoreboard(1L);
+        for (long uid = 1; uid <= 20; uid++) {
+            board.addSeat(uid, "u" + uid);
+        }
+
+        int answers = 10_000;
+        for (int i = 0; i < answers; i++) {
+            long uid = 1 + (i % 20);
+            board.recordAnswer(i / 20, uid, i % 3 == 0, i % 3 == 0 ? 10 : 0, 500 + i % 1000);
+            assertThat(board.ranked()).hasSize(20);
+        }
+
+        int total = board.ranked().stream().mapToInt(QuizScoreboard.Entry::totalAnswered).sum();
+        assertThat(total).isEqualTo(answers);
+    }
+}
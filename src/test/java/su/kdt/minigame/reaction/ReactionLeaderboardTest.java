@@ -0,0 +1,135 @@
+package su.kdt.minigame.reaction;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import su.kdt.minigame.domain.ReactionResult;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * 반응속도 세션 순위표 검증
+ *
+ * 수정 전 문제:
+ * - 라운드 종료/최종 결과/결과 조회마다 전체 결과를 다시 읽어 정렬하고 사용자 이름을 다시 조회함
+ */
+public class ReactionLeaderboardTest {
+
+    @Test
+    @DisplayName("정상 클릭은 반응시간 순, 시간 초과는 그 뒤, 부정출발은 맨 뒤에 온다")
+    public void testOrdering() {
+        ReactionLeaderboard board = new ReactionLeaderboard(1L);
+        board.record(falseStart(1L, 30L));
+        board.record(click(1L, 20L, 310));
+        board.record(timeout(1L, 40L));
+        board.record(click(1L, 10L, 250));
+        board.record(falseStart(1L, 5L));
+        board.record(click(1L, 50L, 250));
+
+        assertThat(board.ranked()).extracting(ReactionLeaderboard.Entry::userId)
+                .containsExactly(10L, 50L, 20L, 40L, 5L, 30L);
+        assertThat(board.roundRanks(1L)).containsEntry(10L, 1).containsEntry(30L, 6);
+        assertThat(board.record(click(1L, 10L, 250))).isFalse();
+    }
+
+    @Test
+    @DisplayName("순위/승자/벌칙 대상/벌칙 정보를 담은 최종 결과를 바로 만든다")
+    @SuppressWarnings("unchecked")
+    public void testPayload() {
+        ReactionLeaderboard board = new ReactionLeaderboard(7L);
+        board.record(click(1L, 10L, 180));
+        board.record(falseStart(1L, 20L));
+        board.record(timeout(1L, 30L));
+
+        assertThat(board.missingDisplayNames()).containsExactly(10L, 30L, 20L);
+        board.putDisplayNames(Map.of(10L, "alice", 20L, "bob"));
+        assertThat(board.missingDisplayNames()).containsExactly(30L);
+
+        Map<String, Object> payload = board.toPayload(3L, "커피 사기");
+        assertThat(payload).containsEntry("sessionId", 7L)
+                .containsEntry("winnerUid", 10L)
+                .containsEntry("loserUid", 20L)
+                .containsEntry("penalty", Map.of("code", "P3", "text", "커피 사기"));
+
+        List<Map<String, Object>> ranking = (List<Map<String, Object>>) payload.get("overallRanking");
+        assertThat(ranking).extracting(r -> r.get("displayName")).containsExactly("alice", "30", "bob");
+        assertThat(ranking).extracting(r -> r.get("deltaMs")).containsExactly(180, -1, -1);
+        assertThat(ranking).extracting(r -> r.get("rank")).containsExactly(1, 2, 3);
+
+        assertThat(new ReactionLeaderboard(8L).toPayload(null, null)).isEmpty();
+        assertThat(board.toPayload(null, null).get("penalty")).isEqualTo(Map.of());
+    }
+
+    @Test
+    @DisplayName("동시 기록: 클릭마다 정렬 상태가 유지되고 결과 엔티티 정렬과 같은 순서가 된다")
+    public void testConcurrentRecord() throws Exception {
+        int threads = 16;
+        int perThread = 2_000;
+        ReactionLeaderboard board = new ReactionLeaderboard(1L);
+        List<ReactionResult> all = new ArrayList<>();
+        for (int t = 0; t < threads; t++) {
+            for (int i = 0; i < perThread; i++) {
+                long userId = (long) t * perThread + i;
+                int kind = ThreadLocalRandom.current().nextInt(10);
+                all.add(kind == 0 ? falseStart(1L, userId) : kind == 1 ? timeout(1L, userId)
+                        : click(1L, userId, ThreadLocalRandom.current().nextInt(150, 1_000)));
+            }
+        }
+
+        ExecutorService pool = Executors.newFixedThreadPool(threads);
+        try {
+            CountDownLatch start = new CountDownLatch(1);
+            CountDownLatch done = new CountDownLatch(threads);
+            for (int t = 0; t < threads; t++) {
+                List<ReactionResult> slice = all.subList(t * perThread, (t + 1) * perThread);
+                pool.execute(() -> {
+                    try {
+                        start.await();
+                        slice.forEach(board::record);
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    } finally {
+                        done.countDown();
+                    }
+                });
+            }
+            start.countDown();
+            assertThat(done.await(10, TimeUnit.SECONDS)).isTrue();
+        } finally {
+            pool.shutdownNow();
+        }
+
+        List<ReactionResult> sorted = new ArrayList<>(all);
+        sorted.sort(ReactionLeaderboard.RESULT_ORDER);
+        assertThat(board.size()).isEqualTo(all.size());
+        assertThat(board.ranked()).extracting(ReactionLeaderboard.Entry::userId)
+                .containsExactlyElementsOf(sorted.stream().map(ReactionResult::getUserId).toList());
+    }
+
+    private static ReactionResult click(long roundId, long userId, int deltaMs) {
+        ReactionResult result = new ReactionResult(roundId, userId);
+        result.recordClick(Instant.now(), deltaMs, false);
+        return result;
+    }
+
+    private static ReactionResult timeout(long roundId, long userId) {
+        ReactionResult result = new ReactionResult(roundId, userId);
+        result.recordClick(Instant.now(), null, false);
+        return result;
+    }
+
+    private static ReactionResult falseStart(long roundId, long userId) {
+        ReactionResult result = new ReactionResult(roundId, userId);
+        result.recordClick(Instant.now(), null, true);
+        return result;
+    }
+}
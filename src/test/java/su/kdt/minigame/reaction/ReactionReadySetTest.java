@@ -0,0 +1,150 @@
+package su.kdt.minigame.reaction;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import su.kdt.minigame.config.SessionConfig;
+import su.kdt.minigame.event.LobbyEvents;
+import su.kdt.minigame.event.SessionEndedEvent;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * 반응속도 준비 완료 집합 동시성 검증
+ *
+ * 수정 전 문제:
+ * - HashMap + ArrayList를 요청 스레드들이 동시에 고쳐 준비 목록이 유실/중복되고, 종료된 세션도 남음
+ */
+public class ReactionReadySetTest {
+
+    private static final int THREADS = 16;
+    private static final int OPS_PER_THREAD = 50_000;
+
+    @Test
+    @DisplayName("좌석 순으로 목록을 만들고, 같은 상태로 다시 바꾸면 수가 변하지 않는다")
+    public void testMarkAndList() {
+        ReactionReadySet set = new ReactionReadySet(1L, 10);
+
+        assertThat(set.mark(30L, true)).isTrue();
+        assertThat(set.mark(10L, true)).isTrue();
+        assertThat(set.mark(30L, true)).isFalse();
+        assertThat(set.mark(20L, false)).isFalse();
+        assertThat(set.readyUserIds()).containsExactly(30L, 10L);
+
+        assertThat(set.mark(30L, false)).isTrue();
+        assertThat(set.isReady(30L)).isFalse();
+        assertThat(set.count()).isEqualTo(1);
+        assertThat(set.readyUserIds()).containsExactly(10L);
+    }
+
+    @Test
+    @DisplayName("준비/해제 폭주: 참가자별 마지막 요청대로 남고 인원 수가 목록과 일치한다 (좌석 초과 참가자 포함)")
+    public void testReadyStormWithoutLostUpdates() throws Exception {
+        int usersPerThread = 6; // 16 * 6 = 96명 → 좌석 64개 + 보조 집합 32명
+        ReactionReadySet set = new ReactionReadySet(1L, 10);
+        boolean[][] lastOp = new boolean[THREADS][usersPerThread];
+
+        runStorm(t -> {
+            ThreadLocalRandom random = ThreadLocalRandom.current();
+            for (int i = 0; i < OPS_PER_THREAD; i++) {
+                int slot = random.nextInt(usersPerThread);
+                boolean ready = random.nextBoolean();
+                set.mark(userId(t, slot, usersPerThread), ready);
+                lastOp[t][slot] = ready;
+            }
+        });
+
+        Set<Long> expected = new HashSet<>();
+        for (int t = 0; t < THREADS; t++) {
+            for (int slot = 0; slot < usersPerThread; slot++) {
+                if (lastOp[t][slot]) {
+                    expected.add(userId(t, slot, usersPerThread));
+                }
+            }
+        }
+        List<Long> actual = set.readyUserIds();
+        assertThat(actual).doesNotHaveDuplicates();
+        assertThat(actual).containsExactlyInAnyOrderElementsOf(expected);
+        assertThat(set.count()).isEqualTo(expected.size());
+    }
+
+    @Test
+    @DisplayName("같은 참가자를 여러 스레드가 동시에 준비/해제해도 인원 수가 실제 상태와 어긋나지 않는다")
+    public void testContendedUsersKeepCountConsistent() throws Exception {
+        ReactionReadySet set = new ReactionReadySet(1L, 10);
+        long[] users = {1L, 2L, 3L, 4L};
+
+        runStorm(t -> {
+            ThreadLocalRandom random = ThreadLocalRandom.current();
+            for (int i = 0; i < OPS_PER_THREAD; i++) {
+                set.mark(users[random.nextInt(users.length)], random.nextBoolean());
+            }
+        });
+
+        long readyUsers = java.util.Arrays.stream(users).filter(set::isReady).count();
+        assertThat(set.count()).isEqualTo((int) readyUsers);
+        assertThat(set.readyUserIds()).hasSize((int) readyUsers).doesNotHaveDuplicates();
+    }
+
+    @Test
+    @DisplayName("세션 종료 시 정리되고, 나간 참가자는 준비 목록에서 빠진다")
+    public void testLifecycleEviction() {
+        SessionConfig config = new SessionConfig();
+        ReactionReadyRegistry registry = new ReactionReadyRegistry(config, new SimpleMeterRegistry());
+
+        registry.mark(1L, 100L, true);
+        registry.mark(1L, 200L, true);
+        registry.mark(2L, 300L, true);
+        assertThat(registry.mark(3L, 400L, false)).isNull();
+
+        registry.onMemberLeft(new LobbyEvents.MemberLeftEvent(1L, "100", "REACTION"));
+        assertThat(registry.readyUserIds(1L)).containsExactly(200L);
+
+        registry.onSessionEnded(new SessionEndedEvent(1L));
+        assertThat(registry.count(1L)).isZero();
+        assertThat(registry.size()).isEqualTo(1);
+    }
+
+    private static long userId(int thread, int slot, int usersPerThread) {
+        return 1_000L + (long) thread * usersPerThread + slot;
+    }
+
+    private static void runStorm(ThreadTask task) throws Exception {
+        ExecutorService pool = Executors.newFixedThreadPool(THREADS);
+        try {
+            CountDownLatch start = new CountDownLatch(1);
+            CountDownLatch done = new CountDownLatch(THREADS);
+            for (int t = 0; t < THREADS; t++) {
+                int thread = t;
+                pool.execute(() -> {
+                    try {
+                        start.await();
+                        task.run(thread);
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    } finally {
+                        done.countDown();
+                    }
+                });
+            }
+            start.countDown();
+            assertThat(done.await(30, TimeUnit.SECONDS)).isTrue();
+        } finally {
+            pool.shutdownNow();
+        }
+    }
+
+    @FunctionalInterface
+    private interface ThreadTask {
+        void run(int thread);
+    }
+}
@@ -0,0 +1,169 @@
+package su.kdt.minigame.reaction;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import su.kdt.minigame.domain.ReactionResult;
+
+import java.time.Instant;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * 반응속도 라운드 메모리 상태 전이 검증
+ */
+public class ReactionRoundStateTest {
+
+    @Test
+    @DisplayName("WAITING → PREPARING → RED → FINISHED 순서로만 전이하고, 종료 후에도 RED 시각은 남는다")
+    public void testTransitions() {
+        ReactionRoundState state = new ReactionRoundState(1L, 10L, 2, ReactionRoundState.Phase.WAITING, 0L, 0L);
+
+        assertThat(state.tryRed(100L, 1_000L)).isFalse();
+        assertThat(state.tryPrepare()).isTrue();
+        assertThat(state.tryPrepare()).isFalse();
+        assertThat(state.hasRedSignal()).isFalse();
+        assertThat(state.redAt()).isNull();
+
+        assertThat(state.tryRed(100L, 1_000L)).isTrue();
+        assertThat(state.status()).isEqualTo("RED");
+        assertThat(state.redAtNanos()).isEqualTo(100L);
+        assertThat(state.redAt().toEpochMilli()).isEqualTo(1_000L);
+
+        state.finish();
+        assertThat(state.isActive()).isFalse();
+        assertThat(state.tryPrepare()).isFalse();
+        assertThat(state.hasRedSignal()).isTrue();
+        assertThat(state.redAtNanos()).isEqualTo(100L);
+    }
+
+    @Test
+    @DisplayName("RED 전이는 동시에 여러 타이머가 시도해도 한 번만 성공하고 그 시각이 유지된다")
+    public void testSingleRedFlipUnderContention() throws Exception {
+        int threads = 8;
+        int rounds = 2_000;
+        ExecutorService pool = Executors.newFixedThreadPool(threads);
+        try {
+            for (int r = 0; r < rounds; r++) {
+                ReactionRoundState state = new ReactionRoundState(r, 1L, 2, ReactionRoundState.Phase.PREPARING, 0L, 0L);
+                CountDownLatch start = new CountDownLatch(1);
+                CountDownLatch done = new CountDownLatch(threads);
+                AtomicInteger winners = new AtomicInteger();
+                AtomicInteger winnerStamp = new AtomicInteger();
+                for (int t = 1; t <= threads; t++) {
+                    int stamp = t;
+                    pool.execute(() -> {
+                        try {
+                            start.await();
+                            if (state.tryRed(stamp, stamp)) {
+                                winners.incrementAndGet();
+                                winnerStamp.set(stamp);
+                            }
+                        } catch (InterruptedException e) {
+                            Thread.currentThread().interrupt();
+                        } finally {
+                            done.countDown();
+                        }
+                    });
+                }
+                start.countDown();
+                assertThat(done.await(5, TimeUnit.SECONDS)).isTrue();
+                assertThat(winners.get()).isEqualTo(1);
+                assertThat(state.redAtNanos()).isEqualTo(winnerStamp.get());
+                assertThat(state.redAtEpochMs()).isEqualTo(winnerStamp.get());
+            }
+        } finally {
+            pool.shutdownNow();
+        }
+    }
+
+    @Test
+    @DisplayName("동시 클릭 폭주: 참가자별로 한 번만 기록되고, 전원 클릭 후 종료 처리는 한 곳에서만 맡는다")
+    public void testClickOncePerUserAndSingleCompletion() throws Exception {
+        int players = 8;
+        int threads = 16;
+        int clicksPerThread = 2_000;
+        ReactionRoundState state = new ReactionRoundState(1L, 10L, players, ReactionRoundState.Phase.RED, 1L, 1L);
+        AtomicInteger accepted = new AtomicInteger();
+        AtomicInteger completions = new AtomicInteger();
+
+        ExecutorService pool = Executors.newFixedThreadPool(threads);
+        try {
+            CountDownLatch start = new CountDownLatch(1);
+            CountDownLatch done = new CountDownLatch(threads);
+            for (int t = 0; t < threads; t++) {
+                pool.execute(() -> {
+                    try {
+                        start.await();
+                        for (int i = 0; i < clicksPerThread; i++) {
+                            long userId = 1 + (i % players);
+                            if (state.tryClick(userId, new ReactionResult(1L, userId)) == null) {
+                                accepted.incrementAndGet();
+                                if (state.isAllClicked() && state.tryComplete()) {
+                                    completions.incrementAndGet();
+                                }
+                            }
+                        }
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    } finally {
+                        done.countDown();
+                    }
+                });
+            }
+            start.countDown();
+            assertThat(done.await(10, TimeUnit.SECONDS)).isTrue();
+        } finally {
+            pool.shutdownNow();
+        }
+
+        assertThat(accepted.get()).isEqualTo(players);
+        assertThat(state.clickCount()).isEqualTo(players);
+        assertThat(completions.get()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("중복 클릭은 기존 결과를 돌려주고, 종료 처리가 시작되면 라운드가 닫힌다")
+    public void testDuplicateClickAndClose() {
+        ReactionRoundState state = new ReactionRoundState(1L, 10L, 2, ReactionRoundState.Phase.RED, 1L, 1L);
+        ReactionResult first = new ReactionResult(1L, 7L);
+        first.recordClick(Instant.ofEpochMilli(1_000L), 250, false);
+
+        assertThat(state.tryClick(7L, first)).isNull();
+        ReactionResult duplicate = state.tryClick(7L, new ReactionResult(1L, 7L));
+        assertThat(duplicate.getDeltaMs()).isEqualTo(250);
+        assertThat(duplicate.getClickedAt()).isEqualTo(first.getClickedAt());
+        assertThat(state.isAllClicked()).isFalse();
+        assertThat(state.isClosed()).isFalse();
+
+        assertThat(state.tryClick(8L, new ReactionResult(1L, 8L))).isNull();
+        assertThat(state.isAllClicked()).isTrue();
+        assertThat(state.tryComplete()).isTrue();
+        assertThat(state.isClosed()).isTrue();
+
+        state.reopen();
+        assertThat(state.isClosed()).isFalse();
+        assertThat(state.results()).hasSize(2);
+    }
+
+    @Test
+    @DisplayName("종료 처리를 다시 시도할 때마다 아직 저장되지 않은 새 결과 엔티티를 받는다")
+    public void testResultsAreFreshEntitiesPerAttempt() {
+        ReactionRoundState state = new ReactionRoundState(1L, 10L, 1, ReactionRoundState.Phase.RED, 1L, 1L);
+        state.tryClick(7L, new ReactionResult(1L, 7L));
+
+        ReactionResult firstAttempt = state.results().get(0);
+        firstAttempt.setResultId(101L); // 실패한 saveAll에서 시퀀스 id를 받은 엔티티
+        firstAttempt.setRank(1);
+        ReactionResult secondAttempt = state.results().get(0);
+
+        assertThat(secondAttempt).isNotSameAs(firstAttempt);
+        assertThat(secondAttempt.getResultId()).isNull();
+        assertThat(secondAttempt.getRankOrder()).isNull();
+        assertThat(secondAttempt.getUserId()).isEqualTo(7L);
+    }
+}
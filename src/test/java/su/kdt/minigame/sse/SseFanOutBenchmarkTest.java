@@ -0,0 +1,141 @@
+package su.kdt.minigame.sse;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import su.kdt.minigame.config.SseConfig;
+import su.kdt.minigame.service.SSEService;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * SSE 팬아웃 인코딩 비용 벤치마크
+ *
+ * 수정 전 문제:
+ * - broadcastToSubscribers가 구독자마다 writeValueAsString을 호출 (O(구독자 수))
+ *
+ * 수정 후 검증:
+ * - 구독자 수와 무관하게 브로드캐스트당 직렬화 1회 (O(1))
+ * - 구독자 수별 브로드캐스트당 인코딩 시간을 로그로 남김
+ */
+@Slf4j
+public class SseFanOutBenchmarkTest {
+
+    private static final long SESSION_ID = 1L;
+    private static final int BROADCASTS = 200;
+
+    @Test
+    @DisplayName("인코딩 횟수: 구독자 1/10/100명 모두 브로드캐스트당 직렬화 1회")
+    public void testEncodeOncePerBroadcast() {
+        for (int subscribers : new int[]{1, 10, 100}) {
+            CountingObjectMapper mapper = new CountingObjectMapper();
+            SseConfig config = new SseConfig();
+            SseDispatcher dispatcher = new SseDispatcher(config);
+            SseHeartbeatWheel heartbeatWheel = new SseHeartbeatWheel(config, dispatcher, new SimpleMeterRegistry());
+            SseSubscriberRegistry registry = new SseSubscriberRegistry();
+            SSEService sseService = new SSEService(mapper, dispatcher, registry, new SseReplayLog(config, registry),
+                    heartbeatWheel, new LoopbackSessionEventBus());
+            sseService.subscribeToEventBus();
+            for (int i = 0; i < subscribers; i++) {
+                sseService.addQuizSubscriber(SESSION_ID, "user-" + i, new SseEmitter(60_000L), null);
+            }
+
+            Object scoreboard = scoreboard(10);
+            long start = System.nanoTime();
+            for (int i = 0; i < BROADCASTS; i++) {
+                sseService.broadcastToQuizGame(SESSION_ID, "scoreboard", scoreboard);
+            }
+            long elapsed = System.nanoTime() - start;
+
+            log.info("[BENCH] subscribers={}, encodes/broadcast={}, encodeNs/broadcast={}, totalNs/broadcast={}",
+                    subscribers, (double) mapper.calls.get() / BROADCASTS,
+                    mapper.encodeNanos.get() / BROADCASTS, elapsed / BROADCASTS);
+
+            heartbeatWheel.shutdown();
+            dispatcher.shutdown();
+
+            assertThat(mapper.calls.get())
+                    .withFailMessage("구독자 %d명일 때 브로드캐스트당 직렬화가 1회가 아닙니다", subscribers)
+                    .isEqualTo(BROADCASTS);
+        }
+    }
+
+    @Test
+    @DisplayName("프레임 형식: event/data 라인과 빈 줄로 종료")
+    public void testFrameFormat() throws Exception {
+        SseFrame frame = SseFrame.event(new ObjectMapper(), "round-end", Map.of("roundId", 7));
+        String expected = "event:round-end\ndata:{\"roundId\":7}\n\n";
+
+        RecordingEmitter emitter = new RecordingEmitter();
+        frame.writeTo(emitter);
+
+        assertThat(frame.eventName()).isEqualTo("round-end");
+        assertThat(emitter.written.toString(StandardCharsets.UTF_8)).isEqualTo(expected);
+        assertThat(frame.size()).isEqualTo(expected.getBytes(StandardCharsets.UTF_8).length);
+    }
+
+    /**
+     * 실제 응답 대신 전송된 바이트를 모아 두는 emitter
+     */
+    private static class RecordingEmitter extends SseEmitter {
+        final ByteArrayOutputStream written = new ByteArrayOutputStream();
+
+        @Override
+        public void send(Set<ResponseBodyEmitter.DataWithMediaType> items) {
+            for (ResponseBodyEmitter.DataWithMediaType item : items) {
+                written.writeBytes((byte[]) item.getData());
+            }
+        }
+    }
+
+    private static Object scoreboard(int players) {
+        List<Map<String, Object>> rows = new ArrayList<>();
+        for (int i = 0; i < players; i++) {
+            Map<String, Object> row = new HashMap<>();
+            row.put("userId", 1000L + i);
+            row.put("nickname", "player-" + i);
+            row.put("score", i);
+            rows.add(row);
+        }
+        return rows;
+    }
+
+    /**
+     * 직렬화 호출 횟수와 소요 시간을 기록하는 ObjectMapper
+     */
+    private static class CountingObjectMapper extends ObjectMapper {
+        final AtomicLong calls = new AtomicLong();
+        final AtomicLong encodeNanos = new AtomicLong();
+
+        @Override
+        public byte[] writeValueAsBytes(Object value) throws JsonProcessingException {
+            long start = System.nanoTime();
+            try {
+                return super.writeValueAsBytes(value);
+            } finally {
+                encodeNanos.addAndGet(System.nanoTime() - start);
+                calls.incrementAndGet();
+            }
+        }
+
+        @Override
+        public String writeValueAsString(Object value) throws JsonProcessingException {
+            calls.incrementAndGet();
+            return super.writeValueAsString(value);
+        }
+    }
+}
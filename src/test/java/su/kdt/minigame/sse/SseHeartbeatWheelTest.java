@@ -0,0 +1,102 @@
+package su.kdt.minigame.sse;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import su.kdt.minigame.config.SseConfig;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * 하트비트 타이밍 휠 검증 (자동 틱은 꺼 두고 tick()을 직접 호출)
+ */
+public class SseHeartbeatWheelTest {
+
+    private static final int SLOTS = 5;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final RecordingDispatcher dispatcher = new RecordingDispatcher();
+    private final SseHeartbeatWheel wheel = new SseHeartbeatWheel(config(), dispatcher, meterRegistry);
+
+    @AfterEach
+    public void tearDown() {
+        wheel.shutdown();
+        dispatcher.shutdown();
+    }
+
+    @Test
+    @DisplayName("틱마다 한 슬롯만 처리하고, 한 바퀴에 모든 연결이 한 번씩 하트비트를 받는다")
+    public void testEachTickTouchesOneSlot() {
+        List<SseSubscriber> subscribers = track(20);
+
+        wheel.tick();
+        assertThat(dispatcher.received.values().stream().mapToInt(Integer::intValue).sum()).isEqualTo(20 / SLOTS);
+
+        for (int i = 1; i < SLOTS; i++) {
+            wheel.tick();
+        }
+        for (SseSubscriber subscriber : subscribers) {
+            assertThat(dispatcher.received.get(subscriber)).isEqualTo(1);
+        }
+        assertThat(meterRegistry.timer("sse.heartbeat.tick").count()).isEqualTo(SLOTS);
+    }
+
+    @Test
+    @DisplayName("닫힌 연결은 하트비트 없이 정리되고 reaped 카운터에 반영된다")
+    public void testReapsClosedConnections() {
+        List<SseSubscriber> subscribers = track(10);
+        subscribers.get(0).markClosed();
+        subscribers.get(7).markClosed();
+
+        for (int i = 0; i < SLOTS; i++) {
+            wheel.tick();
+        }
+
+        assertThat(dispatcher.received).doesNotContainKeys(subscribers.get(0), subscribers.get(7));
+        assertThat(wheel.trackedCount()).isEqualTo(8);
+        assertThat(meterRegistry.counter("sse.heartbeat.reaped").count()).isEqualTo(2.0);
+        assertThat(meterRegistry.get("sse.heartbeat.connections").gauge().value()).isEqualTo(8.0);
+    }
+
+    private List<SseSubscriber> track(int count) {
+        List<SseSubscriber> subscribers = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            SseSubscriber subscriber = new SseSubscriber(1L, String.valueOf(1000 + i), SseChannel.SESSION, new SseEmitter());
+            wheel.track(subscriber);
+            subscribers.add(subscriber);
+        }
+        return subscribers;
+    }
+
+    private static SseConfig config() {
+        SseConfig config = new SseConfig();
+        config.setHeartbeatSlots(SLOTS);
+        config.setHeartbeatIntervalMs(3_600_000); // 자동 틱 비활성화
+        return config;
+    }
+
+    /**
+     * 전송 대신 구독자별 하트비트 수만 기록하는 송신기
+     */
+    private static class RecordingDispatcher extends SseDispatcher {
+        final ConcurrentMap<SseSubscriber, Integer> received = new ConcurrentHashMap<>();
+
+        RecordingDispatcher() {
+            super(new SseConfig());
+        }
+
+        @Override
+        public boolean enqueue(SseSubscriber subscriber, SseFrame frame) {
+            assertThat(frame).isSameAs(SseHeartbeatWheel.HEARTBEAT);
+            received.merge(subscriber, 1, Integer::sum);
+            return true;
+        }
+    }
+}
@@ -0,0 +1,93 @@
+package su.kdt.minigame.sse;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import su.kdt.minigame.config.SseConfig;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * 구독자 송신 큐 정책 검증 (writer 없이 큐 동작만 확인)
+ */
+public class SseOutboundQueueTest {
+
+    private final SseConfig config = config();
+
+    @Test
+    @DisplayName("COALESCE: 전송 전인 같은 이벤트는 최신 프레임 하나로 병합")
+    public void testCoalesceKeepsLatestOnly() {
+        SseSubscriber subscriber = new SseSubscriber(1L, "1001", SseChannel.QUIZ, new SseEmitter());
+
+        assertThat(subscriber.offer(SseFrame.event("scoreboard", "[1]"), SseDeliveryPolicy.COALESCE, config, 0L))
+                .isEqualTo(SseSubscriber.Offer.QUEUED);
+        assertThat(subscriber.offer(SseFrame.event("scoreboard", "[1,2]"), SseDeliveryPolicy.COALESCE, config, 0L))
+                .isEqualTo(SseSubscriber.Offer.COALESCED);
+
+        assertThat(subscriber.pendingCount()).isEqualTo(1);
+        assertThat(subscriber.poll(config.getHighWaterMark()).size())
+                .isEqualTo(SseFrame.event("scoreboard", "[1,2]").size());
+    }
+
+    @Test
+    @DisplayName("COALESCE: 병합된 프레임은 큐 맨 뒤로 옮겨져 이벤트 id 순서가 유지된다")
+    public void testCoalescedFrameMovesToTail() {
+        SseSubscriber subscriber = new SseSubscriber(1L, "1001", SseChannel.QUIZ, new SseEmitter());
+        byte[] json = "{}".getBytes(StandardCharsets.UTF_8);
+        SseFrame scoreboard1 = SseFrame.event(1L, "scoreboard", json);
+        SseFrame roundEnd2 = SseFrame.event(2L, "round-end", json);
+        SseFrame scoreboard3 = SseFrame.event(3L, "scoreboard", json);
+
+        subscriber.offer(scoreboard1, SseDeliveryPolicy.COALESCE, config, 0L);
+        subscriber.offer(roundEnd2, SseDeliveryPolicy.QUEUE, config, 0L);
+        assertThat(subscriber.offer(scoreboard3, SseDeliveryPolicy.COALESCE, config, 0L))
+                .isEqualTo(SseSubscriber.Offer.COALESCED);
+
+        assertThat(subscriber.poll(config.getHighWaterMark())).isSameAs(roundEnd2);
+        assertThat(subscriber.poll(config.getHighWaterMark())).isSameAs(scoreboard3);
+        assertThat(subscriber.poll(config.getHighWaterMark())).isNull();
+    }
+
+    @Test
+    @DisplayName("DROP: high-water mark 이상이면 하트비트를 쌓지 않음")
+    public void testDropAboveHighWaterMark() {
+        SseSubscriber subscriber = new SseSubscriber(1L, "1001", SseChannel.QUIZ, new SseEmitter());
+        for (int i = 0; i < config.getHighWaterMark(); i++) {
+            subscriber.offer(SseFrame.event("round-start", "{}"), SseDeliveryPolicy.QUEUE, config, 0L);
+        }
+
+        assertThat(subscriber.offer(SseFrame.comment("hb"), SseDeliveryPolicy.DROP, config, 0L))
+                .isEqualTo(SseSubscriber.Offer.DROPPED);
+        assertThat(subscriber.pendingCount()).isEqualTo(config.getHighWaterMark());
+    }
+
+    @Test
+    @DisplayName("퇴출: high-water mark 이상이 evictAfterMs 넘게 지속되거나 큐 한도 초과 시")
+    public void testLaggingAndOverflowSignals() {
+        SseSubscriber lagging = new SseSubscriber(1L, "1001", SseChannel.QUIZ, new SseEmitter());
+        for (int i = 0; i <= config.getHighWaterMark(); i++) {
+            lagging.offer(SseFrame.event("round-start", "{}"), SseDeliveryPolicy.QUEUE, config, 0L);
+        }
+        long later = TimeUnit.MILLISECONDS.toNanos(config.getEvictAfterMs() + 1);
+        assertThat(lagging.offer(SseFrame.event("round-end", "{}"), SseDeliveryPolicy.QUEUE, config, later))
+                .isEqualTo(SseSubscriber.Offer.LAGGING);
+
+        SseSubscriber overflowing = new SseSubscriber(1L, "1002", SseChannel.QUIZ, new SseEmitter());
+        SseSubscriber.Offer last = null;
+        for (int i = 0; i <= config.getQueueCapacity(); i++) {
+            last = overflowing.offer(SseFrame.event("round-start", "{}"), SseDeliveryPolicy.QUEUE, config, 0L);
+        }
+        assertThat(last).isEqualTo(SseSubscriber.Offer.OVERFLOW);
+    }
+
+    private static SseConfig config() {
+        SseConfig config = new SseConfig();
+        config.setHighWaterMark(4);
+        config.setQueueCapacity(8);
+        config.setEvictAfterMs(1_000);
+        return config;
+    }
+}
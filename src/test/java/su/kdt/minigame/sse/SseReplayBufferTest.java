@@ -0,0 +1,126 @@
+package su.kdt.minigame.sse;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import su.kdt.minigame.config.SseConfig;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * Last-Event-ID 재전송 버퍼 검증
+ */
+public class SseReplayBufferTest {
+
+    private static final byte[] JSON = "{}".getBytes(StandardCharsets.UTF_8);
+
+    private long nextId = 1_000; // 한 노드에서 연속 발급된 id
+
+    @Test
+    @DisplayName("재접속: 마지막 id 이후의 같은 채널 이벤트만 순서대로 재전송")
+    public void testReplayMissedFramesForChannel() {
+        SseReplayBuffer buffer = new SseReplayBuffer(1L, 16);
+        List<SseFrame> published = new ArrayList<>();
+        for (int i = 0; i < 6; i++) {
+            SseChannel channel = i % 2 == 0 ? SseChannel.QUIZ : SseChannel.SESSION;
+            published.add(buffer.publish(nextId++, channel, "event-" + i, JSON, frame -> {}));
+        }
+        long lastSeen = buffer.lastId() - 4; // event-1까지 수신
+
+        List<SseFrame> replayed = new ArrayList<>();
+        boolean[] registered = new boolean[1];
+        boolean ok = buffer.attach(SseChannel.QUIZ, lastSeen, () -> registered[0] = true, replayed::add);
+
+        assertThat(ok).isTrue();
+        assertThat(registered[0]).isTrue();
+        assertThat(replayed).containsExactly(published.get(2), published.get(4));
+    }
+
+    @Test
+    @DisplayName("최초 접속(Last-Event-ID 없음)과 최신 id로 재접속하면 재전송 없음")
+    public void testNoReplayWhenUpToDate() {
+        SseReplayBuffer buffer = new SseReplayBuffer(1L, 16);
+        buffer.publish(nextId++, SseChannel.QUIZ, "scoreboard", JSON, frame -> {});
+
+        List<SseFrame> replayed = new ArrayList<>();
+        assertThat(buffer.attach(SseChannel.QUIZ, null, () -> {}, replayed::add)).isTrue();
+        assertThat(buffer.attach(SseChannel.QUIZ, buffer.lastId(), () -> {}, replayed::add)).isTrue();
+        assertThat(replayed).isEmpty();
+    }
+
+    @Test
+    @DisplayName("버퍼 범위를 벗어난 id(밀려난 이벤트, 재시작 전 id)는 전체 동기화 필요")
+    public void testOutOfRangeRequiresResync() {
+        SseReplayBuffer buffer = new SseReplayBuffer(1L, 4);
+        buffer.publish(nextId++, SseChannel.QUIZ, "e", JSON, frame -> {});
+        long first = buffer.lastId();
+        for (int i = 0; i < 8; i++) {
+            buffer.publish(nextId++, SseChannel.QUIZ, "e", JSON, frame -> {});
+        }
+
+        List<SseFrame> replayed = new ArrayList<>();
+        assertThat(buffer.attach(SseChannel.QUIZ, first, () -> {}, replayed::add)).isFalse();
+        assertThat(buffer.attach(SseChannel.QUIZ, buffer.lastId() + 100, () -> {}, replayed::add)).isFalse();
+        assertThat(buffer.attach(SseChannel.QUIZ, 42L, () -> {}, replayed::add)).isFalse();
+        assertThat(replayed).isEmpty();
+
+        // 버퍼에 남아 있는 범위(최근 4개)는 재전송 가능
+        assertThat(buffer.attach(SseChannel.QUIZ, buffer.lastId() - 4, () -> {}, replayed::add)).isTrue();
+        assertThat(replayed).hasSize(4);
+    }
+
+    @Test
+    @DisplayName("다른 노드에서 발행된 이벤트도 발행 노드가 부여한 id로 보관되어, 다른 노드로 재접속해도 이어 받는다")
+    public void testReplayAcrossNodesUsesPublisherIds() {
+        SseReplayBuffer nodeA = new SseReplayBuffer(1L, 16);
+        SseReplayBuffer nodeB = new SseReplayBuffer(1L, 16);
+        SseEventIds publisherA = new SseEventIds();
+        SseEventIds publisherB = new SseEventIds();
+        List<Long> ids = new ArrayList<>();
+        List<SseFrame> onB = new ArrayList<>();
+        for (int i = 0; i < 4; i++) {
+            // 이벤트마다 발행 노드가 다르고, 두 노드의 버퍼 모두 같은 id를 받는다
+            long id = (i % 2 == 0 ? publisherA : publisherB).next();
+            ids.add(id);
+            nodeA.publish(id, SseChannel.QUIZ, "event-" + i, JSON, frame -> {});
+            onB.add(nodeB.publish(id, SseChannel.QUIZ, "event-" + i, JSON, frame -> {}));
+        }
+        assertThat(nodeB.lastId()).isEqualTo(nodeA.lastId());
+
+        // 노드 A에서 event-1까지 받고 노드 B로 재접속
+        List<SseFrame> replayed = new ArrayList<>();
+        assertThat(nodeB.attach(SseChannel.QUIZ, ids.get(1), () -> {}, replayed::add)).isTrue();
+        assertThat(replayed).containsExactly(onB.get(2), onB.get(3));
+    }
+
+    @Test
+    @DisplayName("오래 조용한 세션이라도 구독자가 남아 있으면 버퍼를 정리하지 않는다")
+    public void testIdleEvictionKeepsSessionsWithSubscribers() {
+        SseConfig config = new SseConfig();
+        config.setReplayRetentionMs(-1); // 모든 버퍼를 유휴 상태로 간주
+        SseSubscriberRegistry registry = new SseSubscriberRegistry();
+        SseReplayLog replayLog = new SseReplayLog(config, registry);
+
+        SseReplayBuffer quietLobby = replayLog.buffer(1L);
+        replayLog.buffer(2L);
+        registry.register(new SseSubscriber(1L, "user-1", SseChannel.SESSION, new SseEmitter(60_000L)));
+
+        replayLog.buffer(3L); // 새 버퍼 생성 시 유휴 버퍼 정리
+
+        assertThat(replayLog.find(1L)).isSameAs(quietLobby);
+        assertThat(replayLog.find(2L)).isNull();
+        assertThat(replayLog.find(3L)).isNotNull();
+    }
+
+    @Test
+    @DisplayName("프레임에 id 라인이 포함된다")
+    public void testFrameCarriesId() {
+        SseFrame frame = SseFrame.event(42L, "round-end", JSON);
+        String expected = "id:42\nevent:round-end\ndata:{}\n\n";
+        assertThat(frame.size()).isEqualTo(expected.getBytes(StandardCharsets.UTF_8).length);
+    }
+}
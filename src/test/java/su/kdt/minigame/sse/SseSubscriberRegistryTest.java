@@ -0,0 +1,84 @@
+package su.kdt.minigame.sse;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * 통합 구독자 레지스트리 검증
+ */
+public class SseSubscriberRegistryTest {
+
+    private final SseSubscriberRegistry registry = new SseSubscriberRegistry();
+
+    @Test
+    @DisplayName("채널별 인원 수는 스냅샷에 미리 계산되어 있다")
+    public void testChannelCounts() {
+        registry.register(subscriber(1L, "1001", SseChannel.SESSION));
+        registry.register(subscriber(1L, "1001", SseChannel.QUIZ));
+        registry.register(subscriber(1L, "1002", SseChannel.QUIZ));
+        registry.register(subscriber(2L, "1003", SseChannel.REACTION));
+
+        SseSubscriberRegistry.SessionSnapshot snapshot = registry.session(1L);
+        assertThat(snapshot.size()).isEqualTo(3);
+        assertThat(snapshot.count(SseChannel.SESSION)).isEqualTo(1);
+        assertThat(snapshot.count(SseChannel.QUIZ)).isEqualTo(2);
+        assertThat(snapshot.count(SseChannel.REACTION)).isZero();
+        assertThat(registry.session(3L).size()).isZero();
+    }
+
+    @Test
+    @DisplayName("사용자 조회: 일반 -> 반응속도 -> 퀴즈 순으로 우선, 다른 세션은 제외")
+    public void testFindAnyPrefersSessionChannel() {
+        SseSubscriber quiz = subscriber(1L, "guest-a", SseChannel.QUIZ);
+        SseSubscriber general = subscriber(1L, "guest-a", SseChannel.SESSION);
+        registry.register(quiz);
+        registry.register(subscriber(2L, "guest-a", SseChannel.SESSION));
+
+        assertThat(registry.findAny(1L, "guest-a")).isSameAs(quiz);
+        registry.register(general);
+        assertThat(registry.findAny(1L, "guest-a")).isSameAs(general);
+        assertThat(registry.findAny(1L, "guest-b")).isNull();
+    }
+
+    @Test
+    @DisplayName("재접속: 기존 구독자를 교체하고, 이전 구독자의 해제는 새 구독자에 영향 없음")
+    public void testReplaceAndStaleUnregister() {
+        SseSubscriber first = subscriber(1L, "1001", SseChannel.SESSION);
+        SseSubscriber second = subscriber(1L, "1001", SseChannel.SESSION);
+
+        assertThat(registry.register(first)).isNull();
+        assertThat(registry.register(second)).isSameAs(first);
+        assertThat(registry.unregister(first)).isFalse();
+
+        assertThat(registry.find(1L, "1001", SseChannel.SESSION)).isSameAs(second);
+        assertThat(registry.session(1L).size()).isEqualTo(1);
+
+        assertThat(registry.unregister(second)).isTrue();
+        assertThat(registry.sessionCount()).isZero();
+        assertThat(registry.findAny(1L, "1001")).isNull();
+    }
+
+    @Test
+    @DisplayName("세션 수가 늘어나도 (리해시 이후) 모든 세션을 조회할 수 있다")
+    public void testManySessions() {
+        for (long sessionId = 1; sessionId <= 1_000; sessionId++) {
+            registry.register(subscriber(sessionId, String.valueOf(10_000 + sessionId), SseChannel.QUIZ));
+        }
+        for (long sessionId = 1; sessionId <= 1_000; sessionId += 2) {
+            registry.unregister(registry.find(sessionId, String.valueOf(10_000 + sessionId), SseChannel.QUIZ));
+        }
+
+        assertThat(registry.sessionCount()).isEqualTo(500);
+        for (long sessionId = 1; sessionId <= 1_000; sessionId++) {
+            int expected = sessionId % 2 == 0 ? 1 : 0;
+            assertThat(registry.session(sessionId).count(SseChannel.QUIZ)).isEqualTo(expected);
+        }
+    }
+
+    private static SseSubscriber subscriber(long sessionId, String userUid, SseChannel channel) {
+        return new SseSubscriber(sessionId, userUid, channel, new SseEmitter());
+    }
+}
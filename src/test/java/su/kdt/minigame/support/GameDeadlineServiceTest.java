@@ -0,0 +1,84 @@
+package su.kdt.minigame.support;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import su.kdt.minigame.config.SessionConfig;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * 게임 마감 타이밍 휠 검증 (틱 10ms, 버킷 8개)
+ */
+public class GameDeadlineServiceTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final SessionSerialExecutor executor = new SessionSerialExecutor(config(), meterRegistry);
+    private final GameDeadlineService deadlines = new GameDeadlineService(config(), executor, meterRegistry);
+
+    @AfterEach
+    public void tearDown() {
+        deadlines.shutdown();
+        executor.shutdown();
+    }
+
+    @Test
+    @DisplayName("휠 한 바퀴보다 긴 마감도 마감 시각 이후에 한 번만 실행된다")
+    public void testFiresAfterDeadline() throws Exception {
+        CountDownLatch fired = new CountDownLatch(1);
+        long start = System.nanoTime();
+        GameDeadlineService.Handle handle = deadlines.schedule(1L, Duration.ofMillis(200), fired::countDown);
+
+        assertThat(fired.await(2, TimeUnit.SECONDS)).isTrue();
+        assertThat(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start)).isGreaterThanOrEqualTo(200);
+        assertThat(handle.isFired()).isTrue();
+        assertThat(handle.cancel()).isFalse();
+        assertThat(deadlines.pendingCount()).isZero();
+        assertThat(meterRegistry.counter("game.deadline.fired").count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("취소된 마감은 실행되지 않고 pending 수에서 바로 빠진다")
+    public void testCancelledDeadlineNeverFires() throws Exception {
+        List<Long> fired = new CopyOnWriteArrayList<>();
+        GameDeadlineService.Handle cancelled = deadlines.schedule(1L, Duration.ofMillis(50), () -> fired.add(1L));
+        CountDownLatch other = new CountDownLatch(1);
+        deadlines.schedule(2L, Duration.ofMillis(100), other::countDown);
+
+        assertThat(cancelled.cancel()).isTrue();
+        assertThat(deadlines.pendingCount()).isEqualTo(1);
+
+        assertThat(other.await(2, TimeUnit.SECONDS)).isTrue();
+        assertThat(fired).isEmpty();
+        assertThat(cancelled.isCancelled()).isTrue();
+        assertThat(meterRegistry.counter("game.deadline.cancelled").count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("같은 세션의 마감 작업은 세션 메일박스에서 마감 순서대로 실행된다")
+    public void testRunsOnSessionMailboxInOrder() throws Exception {
+        List<Integer> order = new CopyOnWriteArrayList<>();
+        CountDownLatch done = new CountDownLatch(3);
+        deadlines.schedule(7L, Duration.ofMillis(90), () -> { order.add(3); done.countDown(); });
+        deadlines.schedule(7L, Duration.ofMillis(30), () -> { order.add(1); done.countDown(); });
+        deadlines.schedule(7L, Duration.ofMillis(60), () -> { order.add(2); done.countDown(); });
+
+        assertThat(done.await(2, TimeUnit.SECONDS)).isTrue();
+        assertThat(order).containsExactly(1, 2, 3);
+    }
+
+    private static SessionConfig config() {
+        SessionConfig config = new SessionConfig();
+        config.setDeadlineTickMs(10);
+        config.setDeadlineWheelSize(8);
+        config.setSerialExecutorThreads(2);
+        return config;
+    }
+}
@@ -0,0 +1,57 @@
+package su.kdt.minigame.support;
+
+import jakarta.servlet.http.HttpServlet;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * 요청 도착 시각 필터 검증
+ *
+ * 수정 전 문제:
+ * - 반응 시간을 DB 조회 뒤의 벽시계로 재서 서버 대기열/DB 지연이 반응 시간에 더해짐 (세션 클릭은 임의 값)
+ */
+public class RequestIngressTimeFilterTest {
+
+    @Test
+    @DisplayName("다음 필터/컨트롤러보다 먼저 도착 시각을 기록하고, 그 뒤의 지연은 포함하지 않는다")
+    public void testIngressRecordedBeforeChain() throws Exception {
+        RequestIngressTimeFilter filter = new RequestIngressTimeFilter();
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", "/api/reaction/sessions/1/click");
+        AtomicLong seenInChain = new AtomicLong();
+
+        long before = System.nanoTime();
+        filter.doFilter(request, new MockHttpServletResponse(), new MockFilterChain(new HttpServlet() {
+            @Override
+            protected void service(HttpServletRequest req, HttpServletResponse res) {
+                try {
+                    Thread.sleep(20); // DB 작업 모사
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                seenInChain.set(RequestIngressTimeFilter.ingressNanos(req));
+            }
+        }));
+        long after = System.nanoTime();
+
+        long ingress = RequestIngressTimeFilter.ingressNanos(request);
+        assertThat(ingress).isEqualTo(seenInChain.get()).isBetween(before, after);
+        assertThat(after - ingress).isGreaterThanOrEqualTo(20_000_000L);
+    }
+
+    @Test
+    @DisplayName("필터를 거치지 않은 요청은 호출 시각을 쓴다")
+    public void testFallbackWithoutFilter() {
+        long before = System.nanoTime();
+        long ingress = RequestIngressTimeFilter.ingressNanos(new MockHttpServletRequest());
+        assertThat(ingress).isBetween(before, System.nanoTime());
+    }
+}
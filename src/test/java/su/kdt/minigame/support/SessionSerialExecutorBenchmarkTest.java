@@ -0,0 +1,171 @@
+package su.kdt.minigame.support;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import su.kdt.minigame.config.SessionConfig;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * 세션별 직렬 실행기 처리량 벤치마크
+ *
+ * 수정 전 문제:
+ * - startRound / startRoundForSession이 싱글톤 서비스의 synchronized 메서드라
+ *   노드의 모든 퀴즈 세션 라운드 전환이 모니터 하나 뒤에 줄을 섬
+ *
+ * 수정 후 검증:
+ * - 같은 세션의 전환은 제출 순서대로, 겹치지 않고 실행
+ * - 세션 1/8/64개 동시 진행 시 전역 락 대비 처리량(전환/초)을 비교 (벽시계 기준이라 benchmark 태그로 분리,
+ *   기본 test에서는 제외되고 ./gradlew benchmarkTest로 실행)
+ */
+@Slf4j
+public class SessionSerialExecutorBenchmarkTest {
+
+    private static final int TRANSITIONS_PER_SESSION = 10;
+    private static final long WORK_MS = 1; // 라운드 전환 1회의 DB/브로드캐스트 시간 모사
+    private static final int POOL_THREADS = 16;
+
+    @Test
+    @DisplayName("세션별 순서 보장: 같은 세션의 전환은 제출 순서대로, 동시에 하나만 실행")
+    public void testPerSessionOrdering() throws Exception {
+        SessionSerialExecutor executor = newExecutor();
+        try {
+            int sessions = 8;
+            List<List<Integer>> observed = new ArrayList<>();
+            List<AtomicBoolean> inFlight = new ArrayList<>();
+            AtomicInteger overlaps = new AtomicInteger();
+            List<CompletableFuture<Integer>> futures = new ArrayList<>();
+
+            for (int s = 0; s < sessions; s++) {
+                observed.add(new CopyOnWriteArrayList<>());
+                inFlight.add(new AtomicBoolean());
+            }
+            for (int i = 0; i < 50; i++) {
+                for (int s = 0; s < sessions; s++) {
+                    int session = s;
+                    int seq = i;
+                    futures.add(executor.submit(session, () -> {
+                        if (!inFlight.get(session).compareAndSet(false, true)) {
+                            overlaps.incrementAndGet();
+                        }
+                        observed.get(session).add(seq);
+                        inFlight.get(session).set(false);
+                        return seq;
+                    }));
+                }
+            }
+            CompletableFuture.allOf(futures.toArray(CompletableFuture[]::new)).get(10, TimeUnit.SECONDS);
+
+            assertThat(overlaps.get()).isZero();
+            for (List<Integer> seqs : observed) {
+                assertThat(seqs).isSorted().hasSize(50);
+            }
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    @DisplayName("재진입: 같은 세션 작업 안에서 call을 다시 호출해도 교착 없이 바로 실행")
+    public void testReentrantCall() {
+        SessionSerialExecutor executor = newExecutor();
+        try {
+            int result = executor.call(1L, () -> executor.call(1L, () -> 42));
+            assertThat(result).isEqualTo(42);
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    @Tag("benchmark")
+    @DisplayName("처리량: 세션 1/8/64개 - 세션별 직렬 실행 vs JVM 전역 락")
+    public void testThroughputBySessionCount() throws Exception {
+        for (int sessions : new int[]{1, 8, 64}) {
+            double global = runGlobalLock(sessions);
+            double perSession = runPerSession(sessions);
+
+            log.info("[BENCH] sessions={}, globalLock={} transitions/s, perSession={} transitions/s, speedup={}x",
+                    sessions, Math.round(global), Math.round(perSession), String.format("%.1f", perSession / global));
+
+            if (sessions >= 8) {
+                assertThat(perSession)
+                        .withFailMessage("세션 %d개에서 세션별 실행이 전역 락보다 충분히 빠르지 않습니다", sessions)
+                        .isGreaterThan(global * 2);
+            }
+        }
+    }
+
+    private double runPerSession(int sessions) throws Exception {
+        SessionSerialExecutor executor = newExecutor();
+        try {
+            List<CompletableFuture<Void>> futures = new ArrayList<>();
+            long start = System.nanoTime();
+            for (int s = 0; s < sessions; s++) {
+                for (int i = 0; i < TRANSITIONS_PER_SESSION; i++) {
+                    futures.add(executor.submit(s, () -> {
+                        simulateTransition();
+                        return null;
+                    }));
+                }
+            }
+            CompletableFuture.allOf(futures.toArray(CompletableFuture[]::new)).get(60, TimeUnit.SECONDS);
+            return throughput(sessions, System.nanoTime() - start);
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    private double runGlobalLock(int sessions) throws Exception {
+        Object monitor = new Object();
+        ExecutorService callers = Executors.newFixedThreadPool(POOL_THREADS);
+        try {
+            List<CompletableFuture<Void>> futures = new ArrayList<>();
+            long start = System.nanoTime();
+            for (int s = 0; s < sessions; s++) {
+                for (int i = 0; i < TRANSITIONS_PER_SESSION; i++) {
+                    futures.add(CompletableFuture.runAsync(() -> {
+                        synchronized (monitor) {
+                            simulateTransition();
+                        }
+                    }, callers));
+                }
+            }
+            CompletableFuture.allOf(futures.toArray(CompletableFuture[]::new)).get(60, TimeUnit.SECONDS);
+            return throughput(sessions, System.nanoTime() - start);
+        } finally {
+            callers.shutdownNow();
+        }
+    }
+
+    private static double throughput(int sessions, long elapsedNanos) {
+        return sessions * TRANSITIONS_PER_SESSION / (elapsedNanos / 1_000_000_000.0);
+    }
+
+    private static void simulateTransition() {
+        try {
+            Thread.sleep(WORK_MS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static SessionSerialExecutor newExecutor() {
+        SessionConfig config = new SessionConfig();
+        config.setSerialExecutorThreads(POOL_THREADS);
+        return new SessionSerialExecutor(config, new SimpleMeterRegistry());
+    }
+}
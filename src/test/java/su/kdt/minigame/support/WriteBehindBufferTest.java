@@ -0,0 +1,146 @@
+package su.kdt.minigame.support;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * 쓰기 지연 버퍼 (세션별 대기열 + 저널) 검증
+ */
+public class WriteBehindBufferTest {
+
+    @TempDir
+    Path journalDir;
+
+    @Test
+    @DisplayName("세션별로 모아 두고 세션 단위로 꺼내며, 가득 차면 받지 않는다")
+    public void testSessionQueues() {
+        WriteBehindBuffer<Row> buffer = newBuffer(3);
+
+        assertThat(buffer.offer(new Row(1, "a"))).isTrue();
+        assertThat(buffer.offer(new Row(2, "b"))).isTrue();
+        assertThat(buffer.offer(new Row(1, "c"))).isTrue();
+        assertThat(buffer.offer(new Row(2, "d"))).isFalse();
+
+        assertThat(buffer.pending(1)).extracting(Row::value).containsExactly("a", "c");
+
+        WriteBehindBuffer.Batch<Row> session1 = buffer.drain(1);
+        assertThat(session1.rows()).extracting(Row::value).containsExactly("a", "c");
+        assertThat(buffer.size()).isEqualTo(1);
+        buffer.complete(session1, List.of());
+
+        WriteBehindBuffer.Batch<Row> rest = buffer.drainAll();
+        assertThat(rest.rows()).extracting(Row::value).containsExactly("b");
+        buffer.complete(rest, List.of());
+        assertThat(buffer.size()).isZero();
+    }
+
+    @Test
+    @DisplayName("저장 전에 프로세스가 죽으면 다음 기동 때 저널에서 되살린다")
+    public void testRecoverAfterCrash() {
+        WriteBehindBuffer<Row> crashed = newBuffer(100);
+        crashed.offer(new Row(1, "a"));
+        crashed.offer(new Row(2, "b"));
+        // close/complete 없이 버림
+
+        WriteBehindBuffer<Row> restarted = newBuffer(100);
+        WriteBehindBuffer.Batch<Row> recovered = restarted.recover();
+        assertThat(recovered.rows()).extracting(Row::value).containsExactlyInAnyOrder("a", "b");
+        restarted.complete(recovered, List.of());
+
+        assertThat(newBuffer(100).recover().rows()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("배치가 끝나면 봉인한 세그먼트를 지우고, 저장하지 못한 행만 새 세그먼트에 다시 남긴다")
+    public void testCompleteRejournalsUnsaved() {
+        WriteBehindBuffer<Row> buffer = newBuffer(100);
+        buffer.offer(new Row(1, "saved"));
+        buffer.offer(new Row(1, "failed"));
+
+        WriteBehindBuffer.Batch<Row> batch = buffer.drainAll();
+        assertThat(batch.sealed()).hasSize(1);
+        buffer.complete(batch, List.of(new Row(1, "failed")));
+
+        assertThat(buffer.pending(1)).extracting(Row::value).containsExactly("failed");
+        assertThat(newBuffer(100).recover().rows()).extracting(Row::value).containsExactly("failed");
+    }
+
+    @Test
+    @DisplayName("세션 배치가 진행 중이면 세그먼트 봉인을 미룬다")
+    public void testSealPostponedWhileSessionBatchInFlight() {
+        WriteBehindBuffer<Row> buffer = newBuffer(100);
+        buffer.offer(new Row(1, "a"));
+        buffer.offer(new Row(2, "b"));
+
+        WriteBehindBuffer.Batch<Row> inFlight = buffer.drain(1);
+        WriteBehindBuffer.Batch<Row> all = buffer.drainAll();
+        assertThat(all.sealed()).isEmpty();
+        buffer.complete(all, List.of());
+        buffer.complete(inFlight, List.of());
+
+        WriteBehindBuffer.Batch<Row> next = buffer.drainAll();
+        assertThat(next.sealed()).hasSize(1);
+        buffer.complete(next, List.of());
+        assertThat(newBuffer(100).recover().rows()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("트랜잭션 안에서 넣은 행은 커밋 후에만 꺼낼 수 있고, 롤백되면 저널에서도 취소된다")
+    public void testPrepareCommitAbort() {
+        WriteBehindBuffer<Row> buffer = new WriteBehindBuffer<>(journalDir, "rows", 2, true, new RowCodec(), Row::sessionId);
+        assertThat(buffer.prepare(new Row(1, "committed"))).isTrue();
+        assertThat(buffer.prepare(new Row(1, "rolled-back"))).isTrue();
+        assertThat(buffer.offer(new Row(1, "full"))).isFalse();
+        assertThat(buffer.pending(1)).isEmpty();
+
+        // 커밋을 기다리는 행이 있으면 봉인하지 않는다
+        WriteBehindBuffer.Batch<Row> early = buffer.drainAll();
+        assertThat(early.sealed()).isEmpty();
+        buffer.complete(early, List.of());
+
+        buffer.commit(new Row(1, "committed"));
+        buffer.abort(new Row(1, "rolled-back"));
+        assertThat(buffer.pending(1)).extracting(Row::value).containsExactly("committed");
+
+        // 저장 전에 죽으면 커밋된 행만 되살린다
+        assertThat(newBuffer(100).recover().rows()).extracting(Row::value).containsExactly("committed");
+    }
+
+    @Test
+    @DisplayName("저널 없이(메모리 전용)도 동작한다")
+    public void testMemoryOnly() {
+        WriteBehindBuffer<Row> buffer = new WriteBehindBuffer<>(null, "rows", 10, new RowCodec(), Row::sessionId);
+        buffer.offer(new Row(1, "a"));
+
+        WriteBehindBuffer.Batch<Row> batch = buffer.drainAll();
+        assertThat(batch.rows()).hasSize(1);
+        assertThat(batch.sealed()).isEmpty();
+        buffer.complete(batch, List.of());
+        assertThat(buffer.recover().rows()).isEmpty();
+    }
+
+    private WriteBehindBuffer<Row> newBuffer(int capacity) {
+        return new WriteBehindBuffer<>(journalDir, "rows", capacity, new RowCodec(), Row::sessionId);
+    }
+
+    private record Row(long sessionId, String value) {}
+
+    private static final class RowCodec implements WriteBehindBuffer.Codec<Row> {
+        @Override
+        public String encode(Row row) {
+            return row.sessionId() + ":" + row.value();
+        }
+
+        @Override
+        public Row decode(String line) {
+            int colon = line.indexOf(':');
+            return new Row(Long.parseLong(line.substring(0, colon)), line.substring(colon + 1));
+        }
+    }
+}